@@ -0,0 +1,50 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.ai.BeamSearch;
+import com.comp2042.ai.EvaluationWeights;
+import com.comp2042.ai.Placement;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one beam search decision with and without parallel expansion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BeamSearchBenchmark {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final List<PieceType> PREVIEW = List.of(PieceType.T, PieceType.S, PieceType.L, PieceType.O);
+
+    @Param({"32", "256"})
+    public int beamWidth;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private final Bitboard board = new Bitboard(ROWS, COLUMNS);
+    private BeamSearch search;
+
+    @Setup
+    public void setUp() {
+        board.loadFrom(BoardFixture.JAGGED.create(ROWS, COLUMNS));
+        search = new BeamSearch(EvaluationWeights.DEFAULT, beamWidth, BeamSearch.DEFAULT_DEPTH,
+                parallel ? ForkJoinPool.commonPool() : null);
+    }
+
+    @Benchmark
+    public Placement findBest() {
+        return search.findBest(board, PieceType.I, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y,
+                PieceType.Z, true, PREVIEW, 0);
+    }
+}
@@ -0,0 +1,66 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.model.BoardBatch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures bulk simulation with a {@link BoardBatch}.
+ * <p>
+ * Every invocation plays one placement on each board of the batch, so the
+ * reported throughput is in board placements per second. Placements are drawn
+ * from a fixed pool of seeded random rotations and columns; a rotation beyond
+ * a piece's rotation count wraps to a valid one. A board whose game is over
+ * starts a new game before the next placement, so every board places a piece
+ * in every invocation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBatchBenchmark {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final int BOARDS = 4096;
+    private static final int POOL = 64;
+    private static final long SEED = 2042L;
+
+    private final BoardBatch batch = new BoardBatch(BOARDS, ROWS, COLUMNS);
+    private final int[][] rotations = new int[POOL][BOARDS];
+    private final int[][] xs = new int[POOL][BOARDS];
+    private final int[] targetRotations = new int[BOARDS];
+    private long games;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < POOL; i++) {
+            for (int board = 0; board < BOARDS; board++) {
+                rotations[i][board] = random.nextInt(4);
+                xs[i][board] = random.nextInt(COLUMNS) - 1;
+            }
+        }
+        batch.newGames(games++);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOARDS)
+    public int placeAll() {
+        int[] rotationPool = rotations[next];
+        for (int board = 0; board < BOARDS; board++) {
+            if (batch.isGameOver(board)) {
+                batch.newGame(board, games++);
+            }
+            targetRotations[board] = rotationPool[board] % batch.getPieceType(board).getRotationCount();
+        }
+        int running = batch.placeAll(targetRotations, xs[next]);
+        next = (next + 1) % POOL;
+        return running;
+    }
+}
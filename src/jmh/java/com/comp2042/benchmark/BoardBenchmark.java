@@ -0,0 +1,87 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardType;
+import com.comp2042.model.LockResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures piece movement and lock sequences on both board engines.
+ * <p>
+ * Boards use a seeded piece generator and optional garbage rows, so the
+ * sequences are identical between runs. The hard drop benchmark restarts the
+ * game whenever the stack tops out.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final long SEED = 2042L;
+
+    @Param({"MATRIX", "BITBOARD"})
+    public BoardType boardType;
+
+    @Param({"0", "12"})
+    public int garbageRows;
+
+    private Board board;
+    private int dropCount;
+
+    @Setup
+    public void setUp() {
+        board = boardType.create(ROWS, COLUMNS, SEED);
+        restart();
+    }
+
+    /**
+     * Starts a new game and adds the configured garbage rows.
+     */
+    private void restart() {
+        board.newGame();
+        if (garbageRows > 0) {
+            board.addGarbageRows(garbageRows, 0);
+        }
+    }
+
+    @Benchmark
+    public boolean moveAndRotate() {
+        boolean moved = board.moveBrickLeft();
+        moved &= board.moveBrickLeft();
+        moved &= board.rotateLeftBrick();
+        moved &= board.moveBrickRight();
+        moved &= board.moveBrickRight();
+        moved &= board.rotateLeftBrick();
+        moved &= board.rotateLeftBrick();
+        moved &= board.rotateLeftBrick();
+        return moved;
+    }
+
+    @Benchmark
+    public int landingRow() {
+        return board.getLandingRow();
+    }
+
+    @Benchmark
+    public LockResult hardDrop() {
+        int shift = (dropCount++ % COLUMNS) - COLUMNS / 2;
+        for (int i = 0; i < shift; i++) {
+            board.moveBrickRight();
+        }
+        for (int i = 0; i > shift; i--) {
+            board.moveBrickLeft();
+        }
+        LockResult result = board.hardDropAndLock();
+        if (result.isGameOver()) {
+            restart();
+        }
+        return result;
+    }
+}
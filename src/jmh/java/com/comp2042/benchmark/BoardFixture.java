@@ -0,0 +1,86 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.logic.bricks.SplitMix64;
+
+/**
+ * Deterministic board matrices used as benchmark inputs.
+ * <p>
+ * Every fixture is generated from a fixed seed, so all benchmark runs and forks
+ * see exactly the same boards. No fixture contains a completed row, so the
+ * board is unchanged by row clearing and can be reused across invocations.
+ * <p>Available fixtures:
+ * <ul>
+ *   <li>EMPTY - an empty board, the cheapest case for collision checks</li>
+ *   <li>HALF_FULL - the lower half filled, with one hole per row</li>
+ *   <li>JAGGED - random column heights with scattered holes</li>
+ * </ul>
+ */
+public enum BoardFixture {
+    /**
+     * Empty board
+     */
+    EMPTY {
+        @Override
+        void fill(int[][] board, SplitMix64 random) {
+        }
+    },
+
+    /**
+     * Lower half filled, one hole per row
+     */
+    HALF_FULL {
+        @Override
+        void fill(int[][] board, SplitMix64 random) {
+            int columns = board[0].length;
+            for (int row = board.length / 2; row < board.length; row++) {
+                int hole = random.nextInt(columns);
+                for (int column = 0; column < columns; column++) {
+                    board[row][column] = column == hole ? 0 : 1 + random.nextInt(7);
+                }
+            }
+        }
+    },
+
+    /**
+     * Random column heights with scattered holes
+     */
+    JAGGED {
+        @Override
+        void fill(int[][] board, SplitMix64 random) {
+            int rows = board.length;
+            int columns = board[0].length;
+            for (int column = 0; column < columns; column++) {
+                int height = random.nextInt(rows * 2 / 3);
+                for (int row = rows - height; row < rows; row++) {
+                    board[row][column] = random.nextInt(5) == 0 ? 0 : 1 + random.nextInt(7);
+                }
+            }
+            for (int[] row : board) {
+                row[random.nextInt(columns)] = 0;
+            }
+        }
+    };
+
+    private static final long SEED = 0x5EED_2042L;
+
+    /**
+     * Fills an empty board with this fixture's cells.
+     *
+     * @param board  the empty board to fill
+     * @param random the generator to draw cells from
+     */
+    abstract void fill(int[][] board, SplitMix64 random);
+
+    /**
+     * Creates a new board matrix for this fixture.
+     *
+     * @param rows    the number of rows
+     * @param columns the number of columns
+     * @return a new board matrix, identical on every call
+     */
+    public int[][] create(int rows, int columns) {
+        int[][] board = new int[rows][columns];
+        fill(board, new SplitMix64(SEED + ordinal()));
+        return board;
+    }
+}
@@ -0,0 +1,44 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGeneratorState;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures piece generation, preview and state snapshots of the seeded
+ * {@link RandomBrickGenerator}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BrickGeneratorBenchmark {
+
+    private RandomBrickGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = new RandomBrickGenerator(2042L);
+    }
+
+    @Benchmark
+    public Brick getBrick() {
+        return generator.getBrick();
+    }
+
+    @Benchmark
+    public List<Brick> getNextBricks() {
+        return generator.getNextBricks(3);
+    }
+
+    @Benchmark
+    public BrickGeneratorState snapshot() {
+        return generator.snapshot();
+    }
+}
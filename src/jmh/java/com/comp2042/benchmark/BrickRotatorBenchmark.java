@@ -0,0 +1,42 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.BrickRotator;
+import com.comp2042.model.NextShapeInfo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rotation lookups of {@link BrickRotator} across every piece.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BrickRotatorBenchmark {
+
+    private static final int PIECE_COUNT = PieceType.values().length;
+
+    private final BrickRotator rotator = new BrickRotator();
+    private int piece;
+
+    @Setup
+    public void setUp() {
+        rotator.setBrick(PieceType.T.getBrick());
+    }
+
+    @Benchmark
+    public NextShapeInfo setBrickAndPreviewRotation() {
+        rotator.setBrick(PieceType.fromOrdinal(piece++ % PIECE_COUNT).getBrick());
+        return rotator.getNextShape();
+    }
+
+    @Benchmark
+    public int[][] rotateInPlace() {
+        rotator.setCurrentShape(rotator.getNextPosition());
+        return rotator.getCurrentShape();
+    }
+}
@@ -0,0 +1,85 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.MatrixOperations;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link MatrixOperations} primitives on realistic boards.
+ * <p>
+ * The collision benchmarks sweep a T piece in every rotation across every
+ * column at a fixed row, which mimics a bot enumerating placements. Run with
+ * {@code -prof gc} to see which operations allocate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixOperationsBenchmark {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final int PROBE_ROW = 8;
+
+    @Param({"EMPTY", "HALF_FULL", "JAGGED"})
+    public BoardFixture fixture;
+
+    private int[][] board;
+    private int[][][] shapes;
+
+    @Setup
+    public void setUp() {
+        board = fixture.create(ROWS, COLUMNS);
+        PieceType pieceType = PieceType.T;
+        shapes = new int[pieceType.getRotationCount()][][];
+        for (int rotation = 0; rotation < shapes.length; rotation++) {
+            shapes[rotation] = pieceType.getShape(rotation);
+        }
+    }
+
+    @Benchmark
+    public int intersectShapeMatrix() {
+        int collisions = 0;
+        for (int[][] shape : shapes) {
+            for (int x = -1; x < COLUMNS; x++) {
+                if (MatrixOperations.intersect(board, shape, x, PROBE_ROW)) {
+                    collisions++;
+                }
+            }
+        }
+        return collisions;
+    }
+
+    @Benchmark
+    public int intersectPieceTable() {
+        int collisions = 0;
+        for (int rotation = 0; rotation < shapes.length; rotation++) {
+            for (int x = -1; x < COLUMNS; x++) {
+                if (MatrixOperations.intersect(board, PieceType.T, rotation, x, PROBE_ROW)) {
+                    collisions++;
+                }
+            }
+        }
+        return collisions;
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(board, shapes[0], 3, 0);
+    }
+
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(board);
+    }
+
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(board);
+    }
+}
@@ -0,0 +1,46 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.ai.PerfectClearSolver;
+import com.comp2042.ai.Placement;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a four-row opening perfect clear search from an empty board, with
+ * and without parallel first-level branches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PerfectClearBenchmark {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final List<PieceType> QUEUE = List.of(PieceType.O, PieceType.L, PieceType.J, PieceType.S,
+            PieceType.Z, PieceType.T, PieceType.I, PieceType.L, PieceType.O, PieceType.S);
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private final Bitboard board = new Bitboard(ROWS, COLUMNS);
+    private PerfectClearSolver solver;
+
+    @Setup
+    public void setUp() {
+        solver = new PerfectClearSolver(parallel ? ForkJoinPool.commonPool() : null);
+    }
+
+    @Benchmark
+    public List<Placement> solve() {
+        return solver.solve(board, PieceType.I, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y, null, true, QUEUE,
+                PerfectClearSolver.DEFAULT_MAX_PIECES);
+    }
+}
@@ -0,0 +1,44 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.ai.Placement;
+import com.comp2042.ai.PlacementSearch;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one heuristic placement decision of {@link PlacementSearch} across
+ * every piece and board fixture.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlacementSearchBenchmark {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final int PIECE_COUNT = PieceType.values().length;
+
+    @Param({"EMPTY", "HALF_FULL", "JAGGED"})
+    public BoardFixture fixture;
+
+    private final PlacementSearch search = new PlacementSearch();
+    private final Bitboard board = new Bitboard(ROWS, COLUMNS);
+    private int piece;
+
+    @Setup
+    public void setUp() {
+        board.loadFrom(fixture.create(ROWS, COLUMNS));
+    }
+
+    @Benchmark
+    public Placement findBest() {
+        return search.findBest(board, PieceType.fromOrdinal(piece++ % PIECE_COUNT), 0,
+                PieceType.SPAWN_X, PieceType.SPAWN_Y);
+    }
+}
@@ -0,0 +1,161 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickGeneratorState;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.SplitMix64;
+
+import java.util.List;
+
+/**
+ * Samples plausible future piece sequences from what a player can know about
+ * a 7-bag generator.
+ * <p>
+ * A sampled sequence starts with the visible preview queue. The pieces left in
+ * the current bag follow in a random order, since a player knows which pieces
+ * are left but not their order, and then come freshly shuffled full bags. Only
+ * the pieces still in the bag are read from the generator, never their
+ * shuffled order, so searches using the samples do not peek at hidden pieces.
+ * <p>
+ * For generators other than {@link RandomBrickGenerator} the bag state is
+ * unknown and the pieces after the preview are drawn uniformly.
+ * <p>
+ * Instances are immutable and may be shared between threads; each thread
+ * passes its own random generator and sequence buffer.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Captures the preview queue and the pieces left in the bag</li>
+ *   <li>Fills caller-provided buffers with sampled piece ordinals</li>
+ * </ul>
+ */
+public final class BagSampler {
+
+    private static final int PIECE_COUNT = PieceType.values().length;
+    private static final int FULL_BAG = (1 << PIECE_COUNT) - 1;
+
+    private final int[] queue;
+    private final int bagMask;
+    private final boolean bagAware;
+
+    /**
+     * Constructs a sampler from a known queue and the pieces left in the bag.
+     *
+     * @param queue the visible upcoming pieces in spawn order
+     * @param bag   the pieces left in the current bag, in any order
+     */
+    public BagSampler(List<PieceType> queue, List<PieceType> bag) {
+        this(ordinals(queue), ordinals(bag), true);
+    }
+
+    /**
+     * Constructs a sampler.
+     *
+     * @param queue    the ordinals of the visible upcoming pieces
+     * @param bag      the ordinals of the pieces left in the current bag
+     * @param bagAware whether the pieces after the queue follow the 7-bag rule
+     */
+    private BagSampler(int[] queue, int[] bag, boolean bagAware) {
+        this.queue = queue;
+        int mask = 0;
+        for (int piece : bag) {
+            mask |= 1 << piece;
+        }
+        this.bagMask = mask;
+        this.bagAware = bagAware;
+    }
+
+    /**
+     * Creates a sampler for the upcoming pieces of a generator, as seen by a
+     * player with a preview of the given length.
+     * <p>
+     * Queued pieces beyond the preview are hidden from the player, so they
+     * are treated like the pieces left in the bag: known as a set but not in
+     * order. This is exact while the hidden part of the queue lies in one
+     * bag, which always holds when at most one queued piece is hidden.
+     *
+     * @param generator    the generator the game draws its pieces from
+     * @param visibleCount the number of upcoming pieces the player can see
+     * @return a sampler that starts with the visible preview
+     */
+    public static BagSampler of(BrickGenerator generator, int visibleCount) {
+        if (generator instanceof RandomBrickGenerator randomGenerator) {
+            BrickGeneratorState state = randomGenerator.snapshot();
+            int known = Math.min(visibleCount, state.getQueueSize());
+            int[] queue = new int[known];
+            for (int i = 0; i < known; i++) {
+                queue[i] = state.getQueuePiece(i).ordinal();
+            }
+            int[] bag = new int[state.getQueueSize() - known + state.getBagSize()];
+            for (int i = known; i < state.getQueueSize(); i++) {
+                bag[i - known] = state.getQueuePiece(i).ordinal();
+            }
+            for (int i = 0; i < state.getBagSize(); i++) {
+                bag[state.getQueueSize() - known + i] = state.getBagPiece(i).ordinal();
+            }
+            return new BagSampler(queue, bag, true);
+        }
+        List<Brick> preview = generator.getNextBricks(visibleCount);
+        int[] queue = new int[preview.size()];
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = preview.get(i).getType().ordinal();
+        }
+        return new BagSampler(queue, new int[0], false);
+    }
+
+    /**
+     * Converts pieces into ordinals.
+     *
+     * @param pieces the pieces
+     * @return their ordinals in the same order
+     */
+    private static int[] ordinals(List<PieceType> pieces) {
+        int[] ordinals = new int[pieces.size()];
+        for (int i = 0; i < ordinals.length; i++) {
+            ordinals[i] = pieces.get(i).ordinal();
+        }
+        return ordinals;
+    }
+
+    /**
+     * Fills a buffer with a sampled sequence of upcoming pieces.
+     * <p>
+     * Bag pieces are drawn without replacement from a bitmask of the pieces
+     * left, so no scratch array is needed.
+     *
+     * @param random   the source of randomness
+     * @param sequence the buffer receiving piece ordinals, filled completely
+     */
+    public void fill(SplitMix64 random, int[] sequence) {
+        int filled = Math.min(queue.length, sequence.length);
+        System.arraycopy(queue, 0, sequence, 0, filled);
+        int left = bagMask;
+        for (int i = filled; i < sequence.length; i++) {
+            if (!bagAware) {
+                sequence[i] = random.nextInt(PIECE_COUNT);
+                continue;
+            }
+            if (left == 0) {
+                left = FULL_BAG;
+            }
+            int pick = left;
+            for (int skip = random.nextInt(Integer.bitCount(left)); skip > 0; skip--) {
+                pick &= pick - 1;
+            }
+            int piece = Integer.numberOfTrailingZeros(pick);
+            sequence[i] = piece;
+            left &= ~(1 << piece);
+        }
+    }
+
+    /**
+     * Gets the number of pieces known for certain.
+     *
+     * @return the length of the preview queue
+     */
+    public int getKnownCount() {
+        return queue.length;
+    }
+}
@@ -0,0 +1,644 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+import com.comp2042.model.Board;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Looks several pieces ahead with a beam search over the preview queue and the
+ * hold slot.
+ * <p>
+ * Every layer of the search places one piece. Each node of the beam is
+ * expanded into all reachable placements of its current piece, and of the
+ * piece it would get by holding. Every child is scored with the accumulated
+ * line clear reward plus the heuristic evaluation of its board, and the best
+ * {@code width} children form the next layer. The move returned is the first
+ * move of the best node in the deepest layer.
+ * <p>
+ * Children are identified by a Zobrist hash of their board and piece state.
+ * The hash is updated with the piece cells on every placement, and only the
+ * rows above a cleared row are rehashed. Children that reach the same position
+ * are merged through a lock-free {@link TranspositionTable} that keeps the best
+ * of them, so the beam is not filled with transpositions of one position.
+ * <p>
+ * The expansion of a layer is split across a {@link ForkJoinPool}. Each worker
+ * thread uses its own scratch boards, and the children of a parent go to a
+ * fixed range of slots. Ties go to the child enumerated first, so the result
+ * does not depend on the number of threads. With a time budget the search
+ * widens the beam, doubling it while the next pass is expected to fit in the
+ * budget, so quality grows with both the budget and the number of cores.
+ * <p>
+ * An instance runs one search at a time and is not thread-safe.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Searches placements of the current piece, the preview queue and hold</li>
+ *   <li>Merges transpositions through incrementally hashed positions</li>
+ *   <li>Expands the beam in parallel with deterministic results</li>
+ *   <li>Widens the beam to fill a time budget</li>
+ * </ul>
+ */
+public final class BeamSearch {
+
+    /**
+     * Default number of nodes kept per layer.
+     */
+    public static final int DEFAULT_BEAM_WIDTH = 32;
+
+    /**
+     * Default number of pieces placed along every line of the search.
+     */
+    public static final int DEFAULT_DEPTH = 4;
+
+    /**
+     * Widest beam the time budget may grow the search to.
+     */
+    public static final int MAX_BEAM_WIDTH = 4096;
+
+    private static final int PARENTS_PER_TASK = 4;
+    private static final int NO_MOVE = PackedMove.NONE;
+    private static final int ABORTED = Integer.MIN_VALUE;
+    private static final int MAX_ROTATIONS = 4;
+    private static final int SHAPE_SIZE = 4;
+
+    private final EvaluationWeights weights;
+    private final float lineReward;
+    private final int beamWidth;
+    private final int depth;
+    private final ForkJoinPool pool;
+
+    private int rows;
+    private int columns;
+    private int slotsPerParent;
+    private ZobristKeys zobrist;
+    private ThreadLocal<Expander> expanders;
+    private Bitboard root;
+    private Layer current;
+    private Layer next;
+    private int childCapacity;
+    private float[] childScores;
+    private long[] childKeys;
+    private int[] childMoves;
+    private int[] childCounts;
+    private long[] ranking;
+    private TranspositionTable table;
+
+    private final int[] queue = new int[Long.SIZE];
+    private int queueLength;
+    private int startRotation;
+    private int startX;
+    private int startY;
+    private int lastBeamWidth;
+
+    /**
+     * Constructs a single-threaded search with the default weights, width and depth.
+     */
+    public BeamSearch() {
+        this(EvaluationWeights.DEFAULT, DEFAULT_BEAM_WIDTH, DEFAULT_DEPTH, null);
+    }
+
+    /**
+     * Constructs a search.
+     *
+     * @param weights   the weights of the board evaluation
+     * @param beamWidth the number of nodes kept per layer, the starting width
+     *                  when a time budget is given
+     * @param depth     the number of pieces to place along every line
+     * @param pool      the pool that expands the beam, or null to search on the
+     *                  calling thread
+     * @throws IllegalArgumentException if the width or depth is out of range
+     */
+    public BeamSearch(EvaluationWeights weights, int beamWidth, int depth, ForkJoinPool pool) {
+        if (beamWidth < 1 || beamWidth > MAX_BEAM_WIDTH || depth < 1) {
+            throw new IllegalArgumentException("Invalid beam: width " + beamWidth + ", depth " + depth);
+        }
+        this.weights = weights;
+        this.lineReward = (float) weights.get(BoardFeature.LINES_CLEARED);
+        this.beamWidth = beamWidth;
+        this.depth = depth;
+        this.pool = pool;
+    }
+
+    /**
+     * Finds the best move for the current piece of a board.
+     *
+     * @param board           the board whose current piece is placed
+     * @param heldPiece       the held piece, or null if the hold slot is empty
+     * @param canHold         whether hold may be used for the current piece
+     * @param preview         the upcoming pieces in spawn order
+     * @param timeBudgetNanos the time to spend widening the beam, or 0 for a
+     *                        single pass at the configured width
+     * @return the first move of the best line, or null if the piece is blocked
+     */
+    public Placement findBest(Board board, PieceType heldPiece, boolean canHold, List<PieceType> preview,
+                              long timeBudgetNanos) {
+        Brick brick = board.getCurrentBrick();
+        if (brick == null) {
+            return null;
+        }
+        int[][] matrix = board.getBoardMatrix();
+        prepare(matrix.length, matrix[0].length);
+        PlacementSearch.loadOccupancy(board, root);
+        return findBest(root, brick.getType(), board.getBrickRotation(), board.getBrickX(), board.getBrickY(),
+                heldPiece, canHold, preview, timeBudgetNanos);
+    }
+
+    /**
+     * Finds the best move for a piece on a bitboard.
+     *
+     * @param board           the occupancy to place on, left unchanged
+     * @param pieceType       the piece to place
+     * @param rotation        the rotation the piece starts in
+     * @param x               the column offset the piece starts at
+     * @param y               the row offset the piece starts at
+     * @param heldPiece       the held piece, or null if the hold slot is empty
+     * @param canHold         whether hold may be used for this piece
+     * @param preview         the upcoming pieces in spawn order
+     * @param timeBudgetNanos the time to spend widening the beam, or 0 for a
+     *                        single pass at the configured width
+     * @return the first move of the best line, or null if the piece is blocked
+     */
+    public Placement findBest(Bitboard board, PieceType pieceType, int rotation, int x, int y,
+                              PieceType heldPiece, boolean canHold, List<PieceType> preview, long timeBudgetNanos) {
+        long start = System.nanoTime();
+        prepare(board.getRows(), board.getColumns());
+        if (board != root) {
+            root.copyFrom(board);
+        }
+        queueLength = Math.min(preview.size(), queue.length);
+        for (int i = 0; i < queueLength; i++) {
+            queue[i] = preview.get(i).ordinal();
+        }
+        startRotation = rotation;
+        startX = x;
+        startY = y;
+        int held = heldPiece == null ? -1 : heldPiece.ordinal();
+
+        int width = beamWidth;
+        long passStart = start;
+        int bestMove = search(pieceType.ordinal(), held, canHold, width, Long.MAX_VALUE);
+        float bestScore = current.scores[0];
+        lastBeamWidth = width;
+        if (timeBudgetNanos > 0) {
+            long deadline = start + timeBudgetNanos;
+            while (bestMove != NO_MOVE && width < MAX_BEAM_WIDTH) {
+                long now = System.nanoTime();
+                if (now + 2 * (now - passStart) > deadline) {
+                    break;
+                }
+                passStart = now;
+                width = Math.min(MAX_BEAM_WIDTH, width * 2);
+                int move = search(pieceType.ordinal(), held, canHold, width, deadline);
+                if (move == ABORTED) {
+                    break;
+                }
+                bestMove = move;
+                bestScore = current.scores[0];
+                lastBeamWidth = width;
+            }
+        }
+        if (bestMove == NO_MOVE) {
+            return null;
+        }
+        return toPlacement(bestMove, bestScore, pieceType, heldPiece);
+    }
+
+    /**
+     * Gets the beam width of the last completed search pass.
+     *
+     * @return the width the returned move was found with
+     */
+    public int getLastBeamWidth() {
+        return lastBeamWidth;
+    }
+
+    /**
+     * Runs one pass of the beam search.
+     *
+     * @param currentPiece the ordinal of the piece to place first
+     * @param held         the ordinal of the held piece, or -1
+     * @param canHold      whether hold may be used for the first piece
+     * @param width        the number of nodes kept per layer
+     * @param deadline     the {@link System#nanoTime()} after which to abort
+     * @return the packed first move of the best node, {@link #NO_MOVE} if the
+     * first piece cannot be placed, or {@link #ABORTED}
+     */
+    private int search(int currentPiece, int held, boolean canHold, int width, long deadline) {
+        ensureWidth(width);
+        current.boards[0].copyFrom(root);
+        current.hashes[0] = zobrist.hash(root);
+        current.tops[0] = root.findTopFilledRow();
+        current.currents[0] = currentPiece;
+        current.helds[0] = held;
+        current.queueIndices[0] = 0;
+        current.canHold[0] = canHold;
+        current.rewards[0] = 0;
+        current.rootMoves[0] = NO_MOVE;
+        current.scores[0] = Float.NEGATIVE_INFINITY;
+        current.size = 1;
+
+        int bestMove = NO_MOVE;
+        for (int layer = 0; layer < depth; layer++) {
+            table.clear();
+            expandLayer(layer);
+            if (select(width, layer) == 0) {
+                break;
+            }
+            Layer swap = current;
+            current = next;
+            next = swap;
+            bestMove = current.rootMoves[0];
+            if (layer + 1 < depth && System.nanoTime() > deadline) {
+                return ABORTED;
+            }
+        }
+        return bestMove;
+    }
+
+    /**
+     * Expands every node of the current layer, in parallel when a pool is set.
+     *
+     * @param layer the index of the current layer, 0 for the root
+     */
+    private void expandLayer(int layer) {
+        if (pool == null || current.size <= PARENTS_PER_TASK) {
+            Expander expander = expanders.get();
+            for (int parent = 0; parent < current.size; parent++) {
+                expander.expand(parent, layer);
+            }
+        } else {
+            pool.invoke(new ExpandTask(0, current.size, layer));
+        }
+    }
+
+    /**
+     * Keeps the best child of every position, ranks the survivors and builds
+     * the next layer from the best of them.
+     *
+     * @param width the number of nodes to keep
+     * @param layer the index of the current layer
+     * @return the number of nodes in the next layer
+     */
+    private int select(int width, int layer) {
+        int candidates = 0;
+        for (int parent = 0; parent < current.size; parent++) {
+            int base = parent * slotsPerParent;
+            for (int slot = base; slot < base + childCounts[parent]; slot++) {
+                long value = rank(childScores[slot], slot);
+                long best = table.get(childKeys[slot]);
+                if (best == value || best == TranspositionTable.ABSENT) {
+                    ranking[candidates++] = value;
+                }
+            }
+        }
+        Arrays.sort(ranking, 0, candidates);
+        int kept = Math.min(width, candidates);
+        Expander expander = expanders.get();
+        for (int node = 0; node < kept; node++) {
+            int slot = slotOf(ranking[candidates - 1 - node]);
+            expander.materialize(slot, node, layer);
+        }
+        next.size = kept;
+        return kept;
+    }
+
+    /**
+     * Builds the ranking value of a child: its score in the high half, so
+     * values sort by score, and its inverted slot in the low half, so ties go
+     * to the child enumerated first.
+     *
+     * @param score the child's score
+     * @param slot  the child's slot index
+     * @return a value that orders children from worst to best
+     */
+    private static long rank(float score, int slot) {
+        int bits = Float.floatToRawIntBits(score);
+        int sortable = bits >= 0 ? bits : bits ^ Integer.MAX_VALUE;
+        return ((long) sortable << 32) | (Integer.MAX_VALUE - slot);
+    }
+
+    /**
+     * Recovers the slot index from a ranking value.
+     *
+     * @param rank the value built by {@link #rank(float, int)}
+     * @return the child's slot index
+     */
+    private static int slotOf(long rank) {
+        return Integer.MAX_VALUE - (int) rank;
+    }
+
+    /**
+     * Converts the packed first move into a placement with its inputs.
+     *
+     * @param move      the packed move
+     * @param score     the score of the best line
+     * @param pieceType the current piece
+     * @param heldPiece the held piece, or null
+     * @return the placement
+     */
+    private Placement toPlacement(int move, float score, PieceType pieceType, PieceType heldPiece) {
+        boolean hold = PackedMove.isHold(move);
+        int turns = PackedMove.turns(move);
+        int rotation = PackedMove.rotation(move);
+        int x = PackedMove.x(move);
+        int y = PackedMove.y(move);
+        PieceType placed = pieceType;
+        int fromX = startX;
+        if (hold) {
+            placed = heldPiece != null ? heldPiece : PieceType.fromOrdinal(queue[0]);
+            fromX = PieceType.SPAWN_X;
+        }
+        Expander expander = expanders.get();
+        expander.work.copyFrom(root);
+        expander.work.place(placed.getRowMasks(rotation), x, y);
+        int lines = expander.work.clearFullRows(expander.clearedRows);
+        return new Placement(placed, rotation, x, y, hold, turns, x - fromX, lines, score);
+    }
+
+    /**
+     * Allocates the per-size state, once per board size.
+     *
+     * @param rows    the number of rows
+     * @param columns the number of columns
+     */
+    private void prepare(int rows, int columns) {
+        if (root != null && this.rows == rows && this.columns == columns) {
+            return;
+        }
+        this.rows = rows;
+        this.columns = columns;
+        slotsPerParent = 2 * MAX_ROTATIONS * (columns + SHAPE_SIZE - 1);
+        zobrist = new ZobristKeys(rows, columns);
+        expanders = ThreadLocal.withInitial(Expander::new);
+        root = new Bitboard(rows, columns);
+        current = null;
+        next = null;
+        childCapacity = 0;
+    }
+
+    /**
+     * Grows the layer and child arrays to hold a beam width.
+     *
+     * @param width the beam width of the next pass
+     */
+    private void ensureWidth(int width) {
+        if (current == null || current.boards.length < width) {
+            current = new Layer(width, rows, columns);
+            next = new Layer(width, rows, columns);
+        }
+        int capacity = width * slotsPerParent;
+        if (capacity > childCapacity) {
+            childCapacity = capacity;
+            childScores = new float[capacity];
+            childKeys = new long[capacity];
+            childMoves = new int[capacity];
+            childCounts = new int[width];
+            ranking = new long[capacity];
+            table = new TranspositionTable(capacity);
+        }
+    }
+
+    /**
+     * Nodes of one search layer in structure-of-arrays form.
+     */
+    private static final class Layer {
+
+        final Bitboard[] boards;
+        final long[] hashes;
+        final int[] tops;
+        final int[] currents;
+        final int[] helds;
+        final int[] queueIndices;
+        final boolean[] canHold;
+        final float[] rewards;
+        final float[] scores;
+        final int[] rootMoves;
+        int size;
+
+        /**
+         * Allocates a layer.
+         *
+         * @param width   the number of nodes
+         * @param rows    the board height
+         * @param columns the board width
+         */
+        Layer(int width, int rows, int columns) {
+            boards = new Bitboard[width];
+            for (int i = 0; i < width; i++) {
+                boards[i] = new Bitboard(rows, columns);
+            }
+            hashes = new long[width];
+            tops = new int[width];
+            currents = new int[width];
+            helds = new int[width];
+            queueIndices = new int[width];
+            canHold = new boolean[width];
+            rewards = new float[width];
+            scores = new float[width];
+            rootMoves = new int[width];
+        }
+    }
+
+    /**
+     * Expands a range of parents, splitting it until it is small enough.
+     */
+    private final class ExpandTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final int layer;
+
+        /**
+         * Constructs a task for a range of parents.
+         *
+         * @param from  the first parent, inclusive
+         * @param to    the last parent, exclusive
+         * @param layer the index of the current layer
+         */
+        ExpandTask(int from, int to, int layer) {
+            this.from = from;
+            this.to = to;
+            this.layer = layer;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARENTS_PER_TASK) {
+                Expander expander = expanders.get();
+                for (int parent = from; parent < to; parent++) {
+                    expander.expand(parent, layer);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ExpandTask(from, middle, layer), new ExpandTask(middle, to, layer));
+        }
+    }
+
+    /**
+     * Per-thread scratch state for expanding and materializing nodes.
+     */
+    private final class Expander {
+
+        final Bitboard work = new Bitboard(rows, columns);
+        final PlacementList placements = new PlacementList();
+        final BoardEvaluator evaluator = new BoardEvaluator(weights);
+        final int[] clearedRows = new int[rows];
+        int piece;
+        int newHeld;
+        int queueIndex;
+        long hash;
+        int lines;
+
+        /**
+         * Writes every child of a parent into the parent's slot range and
+         * offers it to the transposition table.
+         *
+         * @param parent the parent node index
+         * @param layer  the index of the current layer
+         */
+        void expand(int parent, int layer) {
+            int slot = parent * slotsPerParent;
+            int end = slot;
+            if (resolve(parent, false)) {
+                end = expandPiece(parent, layer, false, end);
+            }
+            if (current.canHold[parent] && resolve(parent, true)) {
+                end = expandPiece(parent, layer, true, end);
+            }
+            childCounts[parent] = end - slot;
+        }
+
+        /**
+         * Writes the children of one piece choice of a parent.
+         *
+         * @param parent the parent node index
+         * @param layer  the index of the current layer
+         * @param hold   whether the piece comes from a hold
+         * @param slot   the first free slot
+         * @return the next free slot
+         */
+        private int expandPiece(int parent, int layer, boolean hold, int slot) {
+            PieceType pieceType = PieceType.fromOrdinal(piece);
+            boolean live = layer == 0 && !hold;
+            Bitboard parentBoard = current.boards[parent];
+            int count = placements.generate(parentBoard, pieceType, live ? startRotation : 0,
+                    live ? startX : PieceType.SPAWN_X, live ? startY : PieceType.SPAWN_Y);
+            int nextPiece = queueIndex < queueLength ? queue[queueIndex] : -1;
+            long stateKey = zobrist.hashState(nextPiece, newHeld, queueIndex + 1);
+            for (int i = 0; i < count; i++) {
+                int rotation = placements.getRotation(i);
+                int x = placements.getX(i);
+                int y = placements.getY(i);
+                play(parent, pieceType, rotation, x, y, work);
+                float reward = current.rewards[parent] + lineReward * lines;
+                childScores[slot] = reward + (float) evaluator.evaluate(work, 0);
+                childKeys[slot] = hash ^ stateKey;
+                childMoves[slot] = PackedMove.pack(hold, placements.getTurns(i), rotation, x, y);
+                table.offer(childKeys[slot], rank(childScores[slot], slot));
+                slot++;
+            }
+            return slot;
+        }
+
+        /**
+         * Works out which piece a parent plays with or without holding.
+         * <p>
+         * Sets {@link #piece}, {@link #newHeld} and {@link #queueIndex}.
+         *
+         * @param parent the parent node index
+         * @param hold   whether to hold first
+         * @return false if that choice has no piece to play, or holding would
+         * swap in an identical piece
+         */
+        private boolean resolve(int parent, boolean hold) {
+            int currentPiece = current.currents[parent];
+            int held = current.helds[parent];
+            queueIndex = current.queueIndices[parent];
+            if (!hold) {
+                piece = currentPiece;
+                newHeld = held;
+                return piece >= 0;
+            }
+            if (currentPiece < 0) {
+                return false;
+            }
+            newHeld = currentPiece;
+            if (held >= 0) {
+                piece = held;
+                return held != currentPiece;
+            }
+            if (queueIndex >= queueLength) {
+                return false;
+            }
+            piece = queue[queueIndex++];
+            return true;
+        }
+
+        /**
+         * Copies a parent board into a target, places a piece and clears the
+         * completed rows, updating the parent hash incrementally.
+         * <p>
+         * Sets {@link #hash} and {@link #lines}.
+         *
+         * @param parent    the parent node index
+         * @param pieceType the piece to place
+         * @param rotation  the rotation index
+         * @param x         the column offset
+         * @param y         the row offset
+         * @param target    the board receiving the result
+         */
+        private void play(int parent, PieceType pieceType, int rotation, int x, int y, Bitboard target) {
+            target.copyFrom(current.boards[parent]);
+            target.place(pieceType.getRowMasks(rotation), x, y);
+            hash = current.hashes[parent] ^ zobrist.hashPiece(pieceType, rotation, x, y);
+            lines = 0;
+            int lowestFull = -1;
+            for (int row = y + pieceType.getMinRow(rotation); row <= y + pieceType.getMaxRow(rotation); row++) {
+                if (target.isRowFull(row)) {
+                    lowestFull = row;
+                }
+            }
+            if (lowestFull >= 0) {
+                int top = Math.min(current.tops[parent], y + pieceType.getMinRow(rotation));
+                hash ^= zobrist.hashRows(target, top, lowestFull + 1);
+                lines = target.clearFullRows(clearedRows);
+                hash ^= zobrist.hashRows(target, top, lowestFull + 1);
+            }
+        }
+
+        /**
+         * Builds a node of the next layer from a selected child.
+         *
+         * @param slot  the child's slot index
+         * @param node  the node index in the next layer
+         * @param layer the index of the current layer
+         */
+        void materialize(int slot, int node, int layer) {
+            int parent = slot / slotsPerParent;
+            int move = childMoves[slot];
+            resolve(parent, PackedMove.isHold(move));
+            PieceType pieceType = PieceType.fromOrdinal(piece);
+            int rotation = PackedMove.rotation(move);
+            int x = PackedMove.x(move);
+            int y = PackedMove.y(move);
+            Bitboard board = next.boards[node];
+            play(parent, pieceType, rotation, x, y, board);
+            next.hashes[node] = hash;
+            next.tops[node] = board.findTopFilledRow();
+            next.currents[node] = queueIndex < queueLength ? queue[queueIndex] : -1;
+            next.helds[node] = newHeld;
+            next.queueIndices[node] = queueIndex + 1;
+            next.canHold[node] = true;
+            next.rewards[node] = current.rewards[parent] + lineReward * lines;
+            next.scores[node] = childScores[slot];
+            next.rootMoves[node] = layer == 0 ? move : current.rootMoves[parent];
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.comp2042.ai;
+
+import com.comp2042.model.Bitboard;
+import com.comp2042.model.BoardMetric;
+
+import java.util.Arrays;
+
+/**
+ * Computes the {@link BoardFeature} values of a bitboard and scores them with
+ * {@link EvaluationWeights}.
+ * <p>
+ * The features come out of a single pass over the occupancy words from the top
+ * row down, tracking which columns are already covered. The only scratch state
+ * is a column height array allocated once per board width, so evaluating a
+ * board does not allocate. An instance is not thread-safe.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Computes aggregate height, holes, bumpiness and wells</li>
+ *   <li>Scores a board after a placement</li>
+ *   <li>Scores the incrementally maintained metrics of a board</li>
+ * </ul>
+ */
+public final class BoardEvaluator {
+
+    private final EvaluationWeights weights;
+    private final int[] features = new int[BoardFeature.COUNT];
+    private int[] heights = new int[0];
+
+    /**
+     * Constructs an evaluator.
+     *
+     * @param weights the weights applied to the features
+     */
+    public BoardEvaluator(EvaluationWeights weights) {
+        this.weights = weights;
+    }
+
+    /**
+     * Scores a board.
+     *
+     * @param board        the board after the placement and its line clears
+     * @param linesCleared the number of rows the placement cleared
+     * @return the weighted feature sum, higher is better
+     */
+    public double evaluate(Bitboard board, int linesCleared) {
+        return weights.score(computeFeatures(board, linesCleared, features));
+    }
+
+    /**
+     * Scores a board from its {@link BoardMetric} values, as measured by
+     * {@link com.comp2042.model.BoardMetrics#measurePlacement} for a placement
+     * that clears no lines.
+     * <p>
+     * Gives the same score as {@link #evaluate(Bitboard, int)} on the board
+     * the metrics describe, without scanning it.
+     *
+     * @param metrics one value per {@link BoardMetric}
+     * @return the weighted feature sum, higher is better
+     */
+    public double evaluate(int[] metrics) {
+        features[BoardFeature.AGGREGATE_HEIGHT.ordinal()] = metrics[BoardMetric.AGGREGATE_HEIGHT.ordinal()];
+        features[BoardFeature.HOLES.ordinal()] = metrics[BoardMetric.HOLES.ordinal()];
+        features[BoardFeature.BUMPINESS.ordinal()] = metrics[BoardMetric.BUMPINESS.ordinal()];
+        features[BoardFeature.LINES_CLEARED.ordinal()] = 0;
+        features[BoardFeature.WELLS.ordinal()] = metrics[BoardMetric.WELLS.ordinal()];
+        return weights.score(features);
+    }
+
+    /**
+     * Computes the heuristic features of a board.
+     *
+     * @param board        the board after the placement and its line clears
+     * @param linesCleared the number of rows the placement cleared
+     * @param features     the array receiving one value per {@link BoardFeature}
+     * @return the filled {@code features} array
+     */
+    public int[] computeFeatures(Bitboard board, int linesCleared, int[] features) {
+        int rows = board.getRows();
+        int columns = board.getColumns();
+        if (heights.length != columns) {
+            heights = new int[columns];
+        }
+        Arrays.fill(heights, 0);
+        long covered = 0;
+        int holes = 0;
+        int aggregateHeight = 0;
+        for (int row = board.findTopFilledRow(); row < rows; row++) {
+            long bits = board.getRowBits(row);
+            holes += Long.bitCount(covered & ~bits);
+            long fresh = bits & ~covered;
+            aggregateHeight += Long.bitCount(fresh) * (rows - row);
+            while (fresh != 0) {
+                heights[Long.numberOfTrailingZeros(fresh)] = rows - row;
+                fresh &= fresh - 1;
+            }
+            covered |= bits;
+        }
+        int bumpiness = 0;
+        int wells = 0;
+        for (int column = 0; column < columns; column++) {
+            if (column > 0) {
+                bumpiness += Math.abs(heights[column] - heights[column - 1]);
+            }
+            int left = column > 0 ? heights[column - 1] : rows;
+            int right = column + 1 < columns ? heights[column + 1] : rows;
+            wells += Math.max(0, Math.min(left, right) - heights[column]);
+        }
+        features[BoardFeature.AGGREGATE_HEIGHT.ordinal()] = aggregateHeight;
+        features[BoardFeature.HOLES.ordinal()] = holes;
+        features[BoardFeature.BUMPINESS.ordinal()] = bumpiness;
+        features[BoardFeature.LINES_CLEARED.ordinal()] = linesCleared;
+        features[BoardFeature.WELLS.ordinal()] = wells;
+        return features;
+    }
+
+    /**
+     * Gets the weights this evaluator scores boards with.
+     *
+     * @return the evaluation weights
+     */
+    public EvaluationWeights getWeights() {
+        return weights;
+    }
+}
@@ -0,0 +1,44 @@
+package com.comp2042.ai;
+
+/**
+ * Enum representing the structural board features scored by the heuristic AI.
+ * <p>
+ * The ordinal of every feature is its index in an {@link EvaluationWeights}
+ * vector and in the feature arrays filled by {@link PlacementSearch}.
+ * <p>Available features:
+ * <ul>
+ *   <li>AGGREGATE_HEIGHT - sum of all column heights</li>
+ *   <li>HOLES - empty cells with a filled cell somewhere above them</li>
+ *   <li>BUMPINESS - sum of height differences between neighbouring columns</li>
+ *   <li>LINES_CLEARED - rows completed by the placement</li>
+ *   <li>WELLS - summed depth of columns lower than both neighbours</li>
+ * </ul>
+ */
+public enum BoardFeature {
+    /**
+     * Sum of all column heights
+     */
+    AGGREGATE_HEIGHT,
+    /**
+     * Empty cells covered by a filled cell in the same column
+     */
+    HOLES,
+    /**
+     * Sum of absolute height differences between neighbouring columns
+     */
+    BUMPINESS,
+    /**
+     * Rows completed by the placement
+     */
+    LINES_CLEARED,
+    /**
+     * Summed depth of columns lower than both neighbours, walls counting as
+     * full columns
+     */
+    WELLS;
+
+    /**
+     * Number of features, the length of every weight and feature vector.
+     */
+    public static final int COUNT = values().length;
+}
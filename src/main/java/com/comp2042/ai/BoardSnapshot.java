@@ -0,0 +1,174 @@
+package com.comp2042.ai;
+
+import com.comp2042.engine.GameEngine;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+import com.comp2042.model.Board;
+
+import java.util.List;
+
+/**
+ * Immutable copy of everything a search needs to know about a game at one
+ * moment.
+ * <p>
+ * A snapshot owns a private copy of the board's occupancy and records the
+ * current piece with its rotation and position, the hold slot and the
+ * preview queue. Nothing in it changes after construction, so it can be
+ * taken on the FX thread and read by a background search while the game goes
+ * on.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Copies the board and piece state of a running game</li>
+ *   <li>Hands copies of the occupancy to searches</li>
+ * </ul>
+ */
+public final class BoardSnapshot {
+
+    private final Bitboard board;
+    private final PieceType pieceType;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final PieceType heldPiece;
+    private final boolean canHold;
+    private final List<PieceType> preview;
+
+    /**
+     * Constructs a snapshot.
+     *
+     * @param board     the occupancy, copied
+     * @param pieceType the current piece
+     * @param rotation  the rotation of the current piece
+     * @param x         the column offset of the current piece
+     * @param y         the row offset of the current piece
+     * @param heldPiece the held piece, or null if the hold slot is empty
+     * @param canHold   whether hold may be used for the current piece
+     * @param preview   the upcoming pieces in spawn order, copied
+     */
+    public BoardSnapshot(Bitboard board, PieceType pieceType, int rotation, int x, int y, PieceType heldPiece,
+                         boolean canHold, List<PieceType> preview) {
+        this.board = new Bitboard(board.getRows(), board.getColumns());
+        this.board.copyFrom(board);
+        this.pieceType = pieceType;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.heldPiece = heldPiece;
+        this.canHold = canHold;
+        this.preview = List.copyOf(preview);
+    }
+
+    /**
+     * Takes a snapshot of a game.
+     *
+     * @param engine       the game
+     * @param previewCount the number of upcoming pieces to record
+     * @return the snapshot, or null if the game has no current piece
+     */
+    public static BoardSnapshot of(GameEngine engine, int previewCount) {
+        Board gameBoard = engine.getBoard();
+        Brick brick = gameBoard.getCurrentBrick();
+        if (brick == null) {
+            return null;
+        }
+        int[][] matrix = gameBoard.getBoardMatrix();
+        Bitboard occupancy = new Bitboard(matrix.length, matrix[0].length);
+        PlacementSearch.loadOccupancy(gameBoard, occupancy);
+        return new BoardSnapshot(occupancy, brick.getType(), gameBoard.getBrickRotation(), gameBoard.getBrickX(),
+                gameBoard.getBrickY(), engine.getHeldPiece(), engine.canHold(), engine.getNextPieces(previewCount));
+    }
+
+    /**
+     * Creates a copy of the occupancy that the caller may modify.
+     *
+     * @return a new bitboard equal to the snapshot's board
+     */
+    public Bitboard copyBoard() {
+        Bitboard copy = new Bitboard(board.getRows(), board.getColumns());
+        copy.copyFrom(board);
+        return copy;
+    }
+
+    /**
+     * Gets the number of board rows.
+     *
+     * @return the row count
+     */
+    public int getRows() {
+        return board.getRows();
+    }
+
+    /**
+     * Gets the number of board columns.
+     *
+     * @return the column count
+     */
+    public int getColumns() {
+        return board.getColumns();
+    }
+
+    /**
+     * Gets the current piece.
+     *
+     * @return the piece type
+     */
+    public PieceType getPieceType() {
+        return pieceType;
+    }
+
+    /**
+     * Gets the rotation of the current piece.
+     *
+     * @return the rotation index
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the column offset of the current piece.
+     *
+     * @return the column offset
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the row offset of the current piece.
+     *
+     * @return the row offset
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Gets the held piece.
+     *
+     * @return the held piece, or null if the hold slot is empty
+     */
+    public PieceType getHeldPiece() {
+        return heldPiece;
+    }
+
+    /**
+     * Checks whether hold may be used for the current piece.
+     *
+     * @return true if the piece may be held
+     */
+    public boolean canHold() {
+        return canHold;
+    }
+
+    /**
+     * Gets the upcoming pieces.
+     *
+     * @return the unmodifiable preview queue in spawn order
+     */
+    public List<PieceType> getPreview() {
+        return preview;
+    }
+}
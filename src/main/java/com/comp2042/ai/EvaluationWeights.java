@@ -0,0 +1,92 @@
+package com.comp2042.ai;
+
+import java.util.Arrays;
+
+/**
+ * Immutable weight vector of the heuristic board evaluation.
+ * <p>
+ * The score of a board is the dot product of its {@link BoardFeature} values
+ * with these weights; higher is better. Weights are stored in feature ordinal
+ * order, so a tuner can treat them as a plain {@code double[]}.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Holds one weight per board feature</li>
+ *   <li>Scores feature vectors</li>
+ *   <li>Converts to and from plain arrays</li>
+ * </ul>
+ */
+public final class EvaluationWeights {
+
+    /**
+     * Well-known hand-tuned weights for aggregate height, holes, bumpiness and
+     * lines cleared, which play without topping out for a long time without
+     * any lookahead. Wells are not weighted.
+     */
+    public static final EvaluationWeights DEFAULT =
+            new EvaluationWeights(-0.510066, -0.35663, -0.184483, 0.760666, 0);
+
+    private final double[] weights;
+
+    /**
+     * Constructs a weight vector.
+     *
+     * @param weights one weight per {@link BoardFeature}, in ordinal order
+     * @throws IllegalArgumentException if the number of weights does not match
+     *                                  the number of features
+     */
+    public EvaluationWeights(double... weights) {
+        if (weights.length != BoardFeature.COUNT) {
+            throw new IllegalArgumentException("Expected " + BoardFeature.COUNT + " weights, got " + weights.length);
+        }
+        this.weights = weights.clone();
+    }
+
+    /**
+     * Gets the weight of a feature.
+     *
+     * @param feature the feature
+     * @return the weight applied to the feature's value
+     */
+    public double get(BoardFeature feature) {
+        return weights[feature.ordinal()];
+    }
+
+    /**
+     * Scores a feature vector.
+     *
+     * @param features one value per {@link BoardFeature}, in ordinal order
+     * @return the weighted sum of the features
+     */
+    public double score(int[] features) {
+        double score = 0;
+        for (int i = 0; i < weights.length; i++) {
+            score += weights[i] * features[i];
+        }
+        return score;
+    }
+
+    /**
+     * Gets the weights as an array.
+     *
+     * @return a copy of the weights in feature ordinal order
+     */
+    public double[] toArray() {
+        return weights.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof EvaluationWeights other && Arrays.equals(weights, other.weights));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(weights);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(weights);
+    }
+}
@@ -0,0 +1,187 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+import com.comp2042.model.Board;
+import com.comp2042.view.EventType;
+
+/**
+ * Compares the keys a player pressed for each piece with the fewest keys that
+ * reach the same placement.
+ * <p>
+ * When a piece appears the tracker copies the board and the piece's start
+ * position. It then counts the shift and rotate keys the player presses; soft
+ * and hard drops are free, like gravity. When the piece locks, a
+ * {@link MoveGenerator} finds the fewest shifts and rotations from the start
+ * position to the lock position on the copied board. Every key beyond that is
+ * a finesse error. Errors are totalled per game and over the whole session.
+ * <p>
+ * The copy and the search reuse preallocated arrays, and the search stops at
+ * the lock position, so a lock costs a few microseconds. The tracker is cheap
+ * enough to run on the FX thread at every lock. It is not thread-safe.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Counts the shift and rotate keys pressed for each piece</li>
+ *   <li>Computes the fewest keys to the placement that was locked</li>
+ *   <li>Keeps per-piece, per-game and session error counts</li>
+ * </ul>
+ */
+public final class FinesseTracker {
+
+    private final MoveGenerator moveGenerator = new MoveGenerator();
+    private Bitboard board;
+    private PieceType pieceType;
+    private int startRotation;
+    private int startX;
+    private int startY;
+    private int pieceInputs;
+    private int lastInputs;
+    private int lastOptimal;
+    private int lastErrors;
+    private int gamePieces;
+    private int gameErrors;
+    private int sessionPieces;
+    private int sessionErrors;
+
+    /**
+     * Remembers the board and the start position of a new current piece and
+     * clears its key count.
+     * <p>
+     * Called when a piece spawns, including after a hold; keys pressed on a
+     * piece that was then held do not count.
+     *
+     * @param gameBoard the board whose current piece just appeared
+     */
+    public void startPiece(Board gameBoard) {
+        pieceInputs = 0;
+        Brick brick = gameBoard.getCurrentBrick();
+        if (brick == null) {
+            pieceType = null;
+            return;
+        }
+        int[][] matrix = gameBoard.getBoardMatrix();
+        if (board == null || board.getRows() != matrix.length || board.getColumns() != matrix[0].length) {
+            board = new Bitboard(matrix.length, matrix[0].length);
+        }
+        PlacementSearch.loadOccupancy(gameBoard, board);
+        pieceType = brick.getType();
+        startRotation = gameBoard.getBrickRotation();
+        startX = gameBoard.getBrickX();
+        startY = gameBoard.getBrickY();
+    }
+
+    /**
+     * Counts a key the player pressed for the current piece.
+     *
+     * @param input the dispatched input; only shifts and rotations count
+     */
+    public void recordInput(EventType input) {
+        if (input == EventType.LEFT || input == EventType.RIGHT || input == EventType.ROTATE) {
+            pieceInputs++;
+        }
+    }
+
+    /**
+     * Scores the current piece against the fewest keys to where it locked.
+     *
+     * @param rotation the rotation the piece locked in
+     * @param x        the column offset the piece locked at
+     * @param y        the row offset the piece locked at
+     * @return the finesse errors of the piece, 0 if it was placed optimally or
+     * no piece was started
+     */
+    public int lockPiece(int rotation, int x, int y) {
+        if (pieceType == null) {
+            return 0;
+        }
+        int optimal = moveGenerator.countMoves(board, pieceType, startRotation, startX, startY, rotation, x, y);
+        lastInputs = pieceInputs;
+        lastOptimal = Math.max(0, optimal);
+        lastErrors = optimal < 0 ? 0 : Math.max(0, pieceInputs - optimal);
+        gamePieces++;
+        gameErrors += lastErrors;
+        sessionPieces++;
+        sessionErrors += lastErrors;
+        pieceType = null;
+        pieceInputs = 0;
+        return lastErrors;
+    }
+
+    /**
+     * Clears the per-game counts; the session totals are kept.
+     */
+    public void newGame() {
+        gamePieces = 0;
+        gameErrors = 0;
+        lastInputs = 0;
+        lastOptimal = 0;
+        lastErrors = 0;
+        pieceInputs = 0;
+        pieceType = null;
+    }
+
+    /**
+     * Gets the shift and rotate keys pressed for the last locked piece.
+     *
+     * @return the key count
+     */
+    public int getLastInputs() {
+        return lastInputs;
+    }
+
+    /**
+     * Gets the fewest shift and rotate keys for the last locked piece.
+     *
+     * @return the optimal key count
+     */
+    public int getLastOptimal() {
+        return lastOptimal;
+    }
+
+    /**
+     * Gets the finesse errors of the last locked piece.
+     *
+     * @return the keys pressed beyond the optimum
+     */
+    public int getLastErrors() {
+        return lastErrors;
+    }
+
+    /**
+     * Gets the number of pieces scored in the current game.
+     *
+     * @return the piece count
+     */
+    public int getGamePieces() {
+        return gamePieces;
+    }
+
+    /**
+     * Gets the finesse errors of the current game.
+     *
+     * @return the error count
+     */
+    public int getGameErrors() {
+        return gameErrors;
+    }
+
+    /**
+     * Gets the number of pieces scored in this session.
+     *
+     * @return the piece count
+     */
+    public int getSessionPieces() {
+        return sessionPieces;
+    }
+
+    /**
+     * Gets the finesse errors of this session.
+     *
+     * @return the error count
+     */
+    public int getSessionErrors() {
+        return sessionErrors;
+    }
+}
@@ -0,0 +1,235 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Computes best-move hints for the player on a background thread.
+ * <p>
+ * Hints are searched on a single daemon thread, one request at a time. A new
+ * request or a call to {@link #cancel()} cancels the request in flight: its
+ * thread is interrupted, the search checks for the interrupt between
+ * candidates and gives up, and the result of a cancelled request is never
+ * delivered. Requests work on an immutable {@link BoardSnapshot}, so the game
+ * can carry on while the search runs.
+ * <p>
+ * The search enumerates every placement the player can reach, tucks and spins
+ * included, through a {@link MoveGenerator}. Each placement is scored with
+ * its line clear reward plus the best heuristic evaluation over the hard-drop
+ * placements of the next preview piece. The best placements that fill
+ * different cells are returned, best first, with the inputs that reach them.
+ * When an {@link OpeningBook} knows the position, its move comes first.
+ * <p>
+ * {@link #request} and {@link #cancel()} must be called from one thread, such
+ * as the FX thread. The listener is called on the search thread.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Runs hint searches off the caller's thread</li>
+ *   <li>Cancels the search in flight on demand</li>
+ *   <li>Ranks reachable placements with one piece of lookahead</li>
+ * </ul>
+ */
+public final class HintService implements AutoCloseable {
+
+    /**
+     * Default number of hints returned per request.
+     */
+    public static final int DEFAULT_HINT_COUNT = 3;
+
+    private final EvaluationWeights weights;
+    private final double lineReward;
+    private final int hintCount;
+    private final OpeningBook openingBook;
+    private final ExecutorService executor;
+    private Future<?> pending;
+
+    /**
+     * Constructs a hint service with the default weights and hint count.
+     */
+    public HintService() {
+        this(EvaluationWeights.DEFAULT, DEFAULT_HINT_COUNT, null);
+    }
+
+    /**
+     * Constructs a hint service.
+     *
+     * @param weights     the weights of the board evaluation
+     * @param hintCount   the maximum number of hints per request
+     * @param openingBook the book consulted before searching, or null
+     * @throws IllegalArgumentException if the hint count is not positive
+     */
+    public HintService(EvaluationWeights weights, int hintCount, OpeningBook openingBook) {
+        if (hintCount <= 0) {
+            throw new IllegalArgumentException("Hint count must be positive: " + hintCount);
+        }
+        this.weights = weights;
+        this.lineReward = weights.get(BoardFeature.LINES_CLEARED);
+        this.hintCount = hintCount;
+        this.openingBook = openingBook;
+        this.executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "hint-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts a hint search, cancelling the one in flight.
+     *
+     * @param snapshot the game to find hints for
+     * @param listener receives the hints, best first, unless the request is
+     *                 cancelled first
+     */
+    public void request(BoardSnapshot snapshot, Consumer<List<Placement>> listener) {
+        cancel();
+        pending = executor.submit(() -> {
+            List<Placement> hints = findHints(snapshot);
+            if (hints != null && !Thread.currentThread().isInterrupted()) {
+                listener.accept(hints);
+            }
+        });
+    }
+
+    /**
+     * Cancels the search in flight, if any.
+     */
+    public void cancel() {
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+    }
+
+    /**
+     * Finds the best placements of a snapshot's current piece on the calling
+     * thread.
+     *
+     * @param snapshot the game to find hints for
+     * @return the book move, if any, then the best placements that fill
+     * different cells, best first; empty if the piece cannot move, or null if
+     * the thread was interrupted
+     */
+    public List<Placement> findHints(BoardSnapshot snapshot) {
+        Bitboard board = snapshot.copyBoard();
+        PieceType pieceType = snapshot.getPieceType();
+        MoveGenerator moves = new MoveGenerator();
+        int count = moves.generate(board, pieceType, snapshot.getRotation(), snapshot.getX(), snapshot.getY());
+        PieceType nextPiece = snapshot.getPreview().isEmpty() ? null : snapshot.getPreview().get(0);
+
+        BoardEvaluator evaluator = new BoardEvaluator(weights);
+        PlacementList followUps = new PlacementList();
+        Bitboard work = new Bitboard(board.getRows(), board.getColumns());
+        Bitboard next = new Bitboard(board.getRows(), board.getColumns());
+        int[] clearedRows = new int[board.getRows()];
+        double[] scores = new double[count];
+        int[] lines = new int[count];
+        Integer[] ranking = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            if (Thread.currentThread().isInterrupted()) {
+                return null;
+            }
+            work.copyFrom(board);
+            work.place(pieceType.getRowMasks(moves.getRotation(i)), moves.getX(i), moves.getY(i));
+            lines[i] = work.clearFullRows(clearedRows);
+            double future = nextPiece == null ? evaluator.evaluate(work, 0) : Double.NEGATIVE_INFINITY;
+            if (nextPiece != null) {
+                int followUpCount = followUps.generate(work, nextPiece, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y);
+                for (int j = 0; j < followUpCount; j++) {
+                    next.copyFrom(work);
+                    next.place(nextPiece.getRowMasks(followUps.getRotation(j)), followUps.getX(j), followUps.getY(j));
+                    int nextLines = next.clearFullRows(clearedRows);
+                    future = Math.max(future, lineReward * nextLines + evaluator.evaluate(next, 0));
+                }
+            }
+            scores[i] = lineReward * lines[i] + future;
+            ranking[i] = i;
+        }
+        Arrays.sort(ranking, (a, b) -> Double.compare(scores[b], scores[a]));
+
+        List<Placement> hints = new ArrayList<>(hintCount);
+        long[] chosenCells = new long[hintCount];
+        Placement bookMove = openingBook == null ? null : openingBook.lookup(snapshot);
+        if (bookMove != null) {
+            chosenCells[0] = cellKey(bookMove.getPieceType(), bookMove.getRotation(), bookMove.getX(),
+                    bookMove.getY(), board.getColumns());
+            hints.add(bookMove);
+        }
+        for (int index : ranking) {
+            if (hints.size() == hintCount) {
+                break;
+            }
+            long cells = cellKey(pieceType, moves.getRotation(index), moves.getX(index), moves.getY(index),
+                    board.getColumns());
+            if (contains(chosenCells, hints.size(), cells)) {
+                continue;
+            }
+            chosenCells[hints.size()] = cells;
+            hints.add(new Placement(pieceType, moves.getRotation(index), moves.getX(index), moves.getY(index),
+                    false, moves.getPath(index), lines[index], scores[index]));
+        }
+        return hints;
+    }
+
+    /**
+     * Checks whether a key is among the first entries of an array.
+     *
+     * @param keys  the array
+     * @param count the number of entries in use
+     * @param key   the key to look for
+     * @return true if one of the first {@code count} entries equals the key
+     */
+    private static boolean contains(long[] keys, int count, long key) {
+        for (int i = 0; i < count; i++) {
+            if (keys[i] == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Encodes the board cells a placement fills.
+     * <p>
+     * Rotations of symmetric pieces can fill the same cells from different
+     * positions; they get the same key.
+     *
+     * @param pieceType the placed piece
+     * @param rotation  the rotation index
+     * @param x         the column offset
+     * @param y         the row offset
+     * @param columns   the number of board columns
+     * @return the sorted cell indices packed 16 bits each
+     */
+    private static long cellKey(PieceType pieceType, int rotation, int x, int y, int columns) {
+        int[] cellRows = pieceType.getCellRows(rotation);
+        int[] cellColumns = pieceType.getCellColumns(rotation);
+        int[] cells = new int[cellRows.length];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = (y + cellRows[i]) * columns + x + cellColumns[i];
+        }
+        Arrays.sort(cells);
+        long key = 0;
+        for (int cell : cells) {
+            key = key << 16 | cell;
+        }
+        return key;
+    }
+
+    /**
+     * Cancels the search in flight and stops the search thread.
+     */
+    @Override
+    public void close() {
+        cancel();
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,622 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.logic.bricks.SplitMix64;
+import com.comp2042.model.Bitboard;
+import com.comp2042.model.Board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Chooses moves with a Monte Carlo tree search over placements.
+ * <p>
+ * Every iteration samples the upcoming pieces with a {@link BagSampler},
+ * descends the tree with UCB1, expands one node and plays a short rollout from
+ * it. Rollouts mostly follow the heuristic placement, with an occasional
+ * random placement for variety. The value of an iteration is the line clear
+ * reward along the way plus the heuristic evaluation of the final board, or a
+ * fixed penalty if the stack tops out. Values are normalized by the range seen
+ * so far before UCB1 compares them.
+ * <p>
+ * The tree only extends while the pieces it plays are known from the preview
+ * queue, so every expanded node means the same position in every iteration.
+ * Below that the samples take over.
+ * <p>
+ * The search is root-parallel: each worker of the {@link ForkJoinPool} grows
+ * its own tree with its own preallocated tree arrays, scratch boards and random
+ * generator. The root visit counts of all workers are added up at the end.
+ * Nothing is allocated per iteration or per rollout placement. The search is
+ * anytime: it runs until a time budget expires or an iteration budget is used
+ * up. With an iteration budget and a fixed number of workers the result is
+ * reproducible.
+ * <p>
+ * An instance runs one search at a time and is not thread-safe.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Grows a UCB1 tree over the placements of the known pieces</li>
+ *   <li>Runs heuristic rollouts on bag-aware sampled piece sequences</li>
+ *   <li>Runs independent trees on several workers and merges their roots</li>
+ *   <li>Stops on a time or iteration budget</li>
+ * </ul>
+ */
+public final class MonteCarloSearch {
+
+    /**
+     * Default number of pieces placed by a rollout.
+     */
+    public static final int DEFAULT_ROLLOUT_DEPTH = 6;
+
+    /**
+     * Default UCB1 exploration constant, applied to values normalized to [0, 1].
+     */
+    public static final double DEFAULT_EXPLORATION = 0.5;
+
+    /**
+     * Default probability that a rollout places a piece at random.
+     */
+    public static final double DEFAULT_RANDOM_MOVE_RATE = 0.1;
+
+    private static final int TREE_CAPACITY = 1 << 16;
+    private static final int EXPANSION_VISITS = 2;
+    private static final double TOP_OUT_VALUE = -500;
+    private static final int CLOCK_CHECK_INTERVAL = 32;
+    private static final int SEQUENCE_LENGTH = 64;
+    private static final int MAX_ROTATIONS = 4;
+    private static final int ROOT = 0;
+
+    private final EvaluationWeights weights;
+    private final double lineReward;
+    private final int rolloutDepth;
+    private final double exploration;
+    private final double randomMoveRate;
+    private final ForkJoinPool pool;
+    private final SplitMix64 seeds;
+
+    private Worker[] workers;
+    private Bitboard root;
+    private BagSampler sampler;
+    private int knownCount;
+    private int rootPiece;
+    private int rootHeld;
+    private boolean rootCanHold;
+    private int startRotation;
+    private int startX;
+    private int startY;
+    private long deadline;
+    private long lastIterations;
+    private long lastPlacements;
+    private long lastElapsedNanos;
+
+    /**
+     * Constructs a single-threaded search with the default settings.
+     *
+     * @param seed the seed of the rollout randomness
+     */
+    public MonteCarloSearch(long seed) {
+        this(EvaluationWeights.DEFAULT, DEFAULT_ROLLOUT_DEPTH, DEFAULT_EXPLORATION, DEFAULT_RANDOM_MOVE_RATE,
+                null, seed);
+    }
+
+    /**
+     * Constructs a search.
+     *
+     * @param weights        the weights of the board evaluation
+     * @param rolloutDepth   the number of pieces placed by a rollout
+     * @param exploration    the UCB1 exploration constant
+     * @param randomMoveRate the probability that a rollout places a piece at random
+     * @param pool           the pool whose workers each grow a tree, or null to
+     *                       search on the calling thread
+     * @param seed           the seed of the rollout randomness
+     * @throws IllegalArgumentException if the rollout depth is negative
+     */
+    public MonteCarloSearch(EvaluationWeights weights, int rolloutDepth, double exploration, double randomMoveRate,
+                            ForkJoinPool pool, long seed) {
+        if (rolloutDepth < 0) {
+            throw new IllegalArgumentException("Rollout depth must not be negative: " + rolloutDepth);
+        }
+        this.weights = weights;
+        this.lineReward = weights.get(BoardFeature.LINES_CLEARED);
+        this.rolloutDepth = rolloutDepth;
+        this.exploration = exploration;
+        this.randomMoveRate = randomMoveRate;
+        this.pool = pool;
+        this.seeds = new SplitMix64(seed);
+    }
+
+    /**
+     * Finds the best move for the current piece of a board.
+     *
+     * @param board           the board whose current piece is placed
+     * @param heldPiece       the held piece, or null if the hold slot is empty
+     * @param canHold         whether hold may be used for the current piece
+     * @param sampler         the source of upcoming piece sequences
+     * @param timeBudgetNanos the time to search for, or 0 for no time limit
+     * @param maxIterations   the iterations to run over all workers, or 0 for
+     *                        no iteration limit
+     * @return the most visited first move, or null if the piece is blocked
+     * @throws IllegalArgumentException if neither budget is positive
+     */
+    public Placement findBest(Board board, PieceType heldPiece, boolean canHold, BagSampler sampler,
+                              long timeBudgetNanos, int maxIterations) {
+        Brick brick = board.getCurrentBrick();
+        if (brick == null) {
+            return null;
+        }
+        int[][] matrix = board.getBoardMatrix();
+        prepare(matrix.length, matrix[0].length);
+        PlacementSearch.loadOccupancy(board, root);
+        return findBest(root, brick.getType(), board.getBrickRotation(), board.getBrickX(), board.getBrickY(),
+                heldPiece, canHold, sampler, timeBudgetNanos, maxIterations);
+    }
+
+    /**
+     * Finds the best move for a piece on a bitboard.
+     *
+     * @param board           the occupancy to place on, left unchanged
+     * @param pieceType       the piece to place
+     * @param rotation        the rotation the piece starts in
+     * @param x               the column offset the piece starts at
+     * @param y               the row offset the piece starts at
+     * @param heldPiece       the held piece, or null if the hold slot is empty
+     * @param canHold         whether hold may be used for this piece
+     * @param sampler         the source of upcoming piece sequences
+     * @param timeBudgetNanos the time to search for, or 0 for no time limit
+     * @param maxIterations   the iterations to run over all workers, or 0 for
+     *                        no iteration limit
+     * @return the most visited first move, or null if the piece is blocked
+     * @throws IllegalArgumentException if neither budget is positive
+     */
+    public Placement findBest(Bitboard board, PieceType pieceType, int rotation, int x, int y,
+                              PieceType heldPiece, boolean canHold, BagSampler sampler,
+                              long timeBudgetNanos, int maxIterations) {
+        if (timeBudgetNanos <= 0 && maxIterations <= 0) {
+            throw new IllegalArgumentException("A time or iteration budget is required");
+        }
+        long start = System.nanoTime();
+        prepare(board.getRows(), board.getColumns());
+        if (board != root) {
+            root.copyFrom(board);
+        }
+        this.sampler = sampler;
+        knownCount = Math.min(sampler.getKnownCount(), SEQUENCE_LENGTH);
+        rootPiece = pieceType.ordinal();
+        rootHeld = heldPiece == null ? -1 : heldPiece.ordinal();
+        rootCanHold = canHold;
+        startRotation = rotation;
+        startX = x;
+        startY = y;
+        deadline = timeBudgetNanos > 0 ? start + timeBudgetNanos : Long.MAX_VALUE;
+
+        int workerCount = workers.length;
+        for (int i = 0; i < workerCount; i++) {
+            int quota = maxIterations <= 0 ? Integer.MAX_VALUE
+                    : maxIterations / workerCount + (i < maxIterations % workerCount ? 1 : 0);
+            workers[i].reset(seeds.nextLong(), quota);
+        }
+        if (workerCount == 1) {
+            workers[0].call();
+        } else {
+            List<Callable<Void>> tasks = new ArrayList<>(List.of(workers));
+            pool.invokeAll(tasks);
+        }
+
+        lastIterations = 0;
+        lastPlacements = 0;
+        for (Worker worker : workers) {
+            lastIterations += worker.iterations;
+            lastPlacements += worker.placementsPlayed;
+        }
+        lastElapsedNanos = System.nanoTime() - start;
+        return chooseRootMove(pieceType, heldPiece);
+    }
+
+    /**
+     * Picks the root move with the most visits over all workers.
+     *
+     * @param pieceType the current piece
+     * @param heldPiece the held piece, or null
+     * @return the chosen move, or null if the root has no moves
+     */
+    private Placement chooseRootMove(PieceType pieceType, PieceType heldPiece) {
+        Worker first = workers[0];
+        int children = first.childCounts[ROOT];
+        int best = -1;
+        long bestVisits = -1;
+        double bestValue = 0;
+        for (int i = 0; i < children; i++) {
+            long visits = 0;
+            double sum = 0;
+            for (Worker worker : workers) {
+                if (worker.expanded[ROOT] && worker.childCounts[ROOT] == children) {
+                    int child = worker.firstChild[ROOT] + i;
+                    visits += worker.visits[child];
+                    sum += worker.valueSums[child];
+                }
+            }
+            if (visits > bestVisits) {
+                bestVisits = visits;
+                best = i;
+                bestValue = visits == 0 ? 0 : sum / visits;
+            }
+        }
+        if (best < 0) {
+            return null;
+        }
+        int move = first.moves[first.firstChild[ROOT] + best];
+        boolean hold = PackedMove.isHold(move);
+        int rotation = PackedMove.rotation(move);
+        int x = PackedMove.x(move);
+        int y = PackedMove.y(move);
+        PieceType placed = pieceType;
+        int fromX = startX;
+        if (hold) {
+            placed = heldPiece != null ? heldPiece : PieceType.fromOrdinal(first.sequence[0]);
+            fromX = PieceType.SPAWN_X;
+        }
+        first.work.copyFrom(root);
+        first.work.place(placed.getRowMasks(rotation), x, y);
+        int lines = first.work.clearFullRows(first.clearedRows);
+        return new Placement(placed, rotation, x, y, hold, PackedMove.turns(move), x - fromX, lines, bestValue);
+    }
+
+    /**
+     * Gets the number of iterations of the last search, over all workers.
+     *
+     * @return the iteration count
+     */
+    public long getLastIterations() {
+        return lastIterations;
+    }
+
+    /**
+     * Gets the number of placements played in the tree and in rollouts during
+     * the last search, over all workers.
+     *
+     * @return the placement count
+     */
+    public long getLastPlacements() {
+        return lastPlacements;
+    }
+
+    /**
+     * Gets the wall-clock duration of the last search.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getLastElapsedNanos() {
+        return lastElapsedNanos;
+    }
+
+    /**
+     * Allocates the workers for a board size, once per size.
+     *
+     * @param rows    the number of rows
+     * @param columns the number of columns
+     */
+    private void prepare(int rows, int columns) {
+        if (root != null && root.getRows() == rows && root.getColumns() == columns) {
+            return;
+        }
+        root = new Bitboard(rows, columns);
+        int workerCount = pool == null ? 1 : pool.getParallelism();
+        workers = new Worker[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Worker(rows, columns);
+        }
+    }
+
+    /**
+     * One independent search tree with its own scratch state.
+     */
+    private final class Worker implements Callable<Void> {
+
+        final int[] firstChild = new int[TREE_CAPACITY];
+        final int[] childCounts = new int[TREE_CAPACITY];
+        final boolean[] expanded = new boolean[TREE_CAPACITY];
+        final int[] moves = new int[TREE_CAPACITY];
+        final int[] helds = new int[TREE_CAPACITY];
+        final int[] queueIndices = new int[TREE_CAPACITY];
+        final boolean[] canHold = new boolean[TREE_CAPACITY];
+        final int[] visits = new int[TREE_CAPACITY];
+        final double[] valueSums = new double[TREE_CAPACITY];
+        final int[] path = new int[SEQUENCE_LENGTH];
+        final int[] sequence = new int[SEQUENCE_LENGTH];
+        final Bitboard board;
+        final Bitboard work;
+        final PlacementList placements = new PlacementList();
+        final BoardEvaluator evaluator = new BoardEvaluator(weights);
+        final int[] clearedRows;
+        final int maxChildren;
+        SplitMix64 random;
+        int nodeCount;
+        int quota;
+        long iterations;
+        long placementsPlayed;
+        double minValue;
+        double maxValue;
+
+        /**
+         * Allocates a worker.
+         *
+         * @param rows    the board height
+         * @param columns the board width
+         */
+        Worker(int rows, int columns) {
+            board = new Bitboard(rows, columns);
+            work = new Bitboard(rows, columns);
+            clearedRows = new int[rows];
+            maxChildren = 2 * MAX_ROTATIONS * columns;
+        }
+
+        /**
+         * Clears the tree and sets up the root for a new search.
+         *
+         * @param seed  the seed of this worker's randomness
+         * @param quota the number of iterations to run at most
+         */
+        void reset(long seed, int quota) {
+            random = new SplitMix64(seed);
+            this.quota = quota;
+            iterations = 0;
+            placementsPlayed = 0;
+            minValue = Double.POSITIVE_INFINITY;
+            maxValue = Double.NEGATIVE_INFINITY;
+            nodeCount = 1;
+            expanded[ROOT] = false;
+            childCounts[ROOT] = 0;
+            helds[ROOT] = rootHeld;
+            queueIndices[ROOT] = 0;
+            canHold[ROOT] = rootCanHold;
+            visits[ROOT] = 0;
+            valueSums[ROOT] = 0;
+            sampler.fill(random, sequence);
+        }
+
+        @Override
+        public Void call() {
+            while (iterations < quota) {
+                if (iterations % CLOCK_CHECK_INTERVAL == 0 && System.nanoTime() > deadline && iterations > 0) {
+                    break;
+                }
+                iterate();
+                iterations++;
+            }
+            return null;
+        }
+
+        /**
+         * Runs one selection, expansion, rollout and backpropagation.
+         */
+        private void iterate() {
+            sampler.fill(random, sequence);
+            board.copyFrom(root);
+            int node = ROOT;
+            int depth = 0;
+            path[depth++] = node;
+            double value = 0;
+            boolean toppedOut = false;
+            while (true) {
+                if (!expanded[node]) {
+                    if (!canExpand(node)) {
+                        break;
+                    }
+                    expand(node);
+                }
+                if (childCounts[node] == 0) {
+                    toppedOut = true;
+                    break;
+                }
+                int child = select(node);
+                value += play(node, child);
+                node = child;
+                path[depth++] = node;
+                if (visits[node] == 0 || depth == path.length) {
+                    break;
+                }
+            }
+            if (!toppedOut) {
+                value = rollout(node, value);
+                toppedOut = Double.isNaN(value);
+            }
+            if (toppedOut) {
+                value = TOP_OUT_VALUE;
+            } else {
+                minValue = Math.min(minValue, value);
+                maxValue = Math.max(maxValue, value);
+            }
+            for (int i = 0; i < depth; i++) {
+                visits[path[i]]++;
+                valueSums[path[i]] += value;
+            }
+        }
+
+        /**
+         * Checks whether a node may be expanded: the tree has room, the node has
+         * been visited often enough and the pieces it plays are known.
+         *
+         * @param node the node
+         * @return true if the node can be expanded
+         */
+        private boolean canExpand(int node) {
+            if (node == ROOT) {
+                return true;
+            }
+            return visits[node] >= EXPANSION_VISITS
+                    && nodeCount + maxChildren <= TREE_CAPACITY
+                    && queueIndices[node] - 1 < knownCount;
+        }
+
+        /**
+         * Gets the piece a node plays without holding.
+         *
+         * @param node the node
+         * @return the piece ordinal
+         */
+        private int pieceOf(int node) {
+            return node == ROOT ? rootPiece : sequence[queueIndices[node] - 1];
+        }
+
+        /**
+         * Creates the children of a node for its piece and, if allowed and
+         * known, for the piece it would get by holding.
+         *
+         * @param node the node to expand
+         */
+        private void expand(int node) {
+            expanded[node] = true;
+            firstChild[node] = nodeCount;
+            int piece = pieceOf(node);
+            int held = helds[node];
+            int queueIndex = queueIndices[node];
+            addChildren(node, piece, false, held, queueIndex + 1);
+            if (canHold[node]) {
+                if (held >= 0 && held != piece) {
+                    addChildren(node, held, true, piece, queueIndex + 1);
+                } else if (held < 0 && queueIndex < knownCount) {
+                    addChildren(node, sequence[queueIndex], true, piece, queueIndex + 2);
+                }
+            }
+            childCounts[node] = nodeCount - firstChild[node];
+        }
+
+        /**
+         * Appends one child per placement of a piece on the current board.
+         *
+         * @param node       the parent node
+         * @param piece      the ordinal of the placed piece
+         * @param hold       whether the piece comes from a hold
+         * @param held       the held piece of the children
+         * @param queueIndex the queue index of the children
+         */
+        private void addChildren(int node, int piece, boolean hold, int held, int queueIndex) {
+            PieceType pieceType = PieceType.fromOrdinal(piece);
+            boolean live = node == ROOT && !hold;
+            int count = placements.generate(board, pieceType, live ? startRotation : 0,
+                    live ? startX : PieceType.SPAWN_X, live ? startY : PieceType.SPAWN_Y);
+            for (int i = 0; i < count; i++) {
+                int child = nodeCount++;
+                moves[child] = PackedMove.pack(hold, placements.getTurns(i), placements.getRotation(i),
+                        placements.getX(i), placements.getY(i));
+                helds[child] = held;
+                queueIndices[child] = queueIndex;
+                canHold[child] = true;
+                expanded[child] = false;
+                childCounts[child] = 0;
+                visits[child] = 0;
+                valueSums[child] = 0;
+            }
+        }
+
+        /**
+         * Picks the child with the highest UCB1 value; unvisited children come
+         * first, in enumeration order.
+         *
+         * @param node the parent node
+         * @return the chosen child
+         */
+        private int select(int node) {
+            int first = firstChild[node];
+            int end = first + childCounts[node];
+            double range = maxValue - minValue;
+            double scale = range > 0 ? 1 / range : 0;
+            double logVisits = Math.log(Math.max(1, visits[node]));
+            int best = first;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int child = first; child < end; child++) {
+                int childVisits = visits[child];
+                if (childVisits == 0) {
+                    return child;
+                }
+                double mean = (valueSums[child] / childVisits - minValue) * scale;
+                double score = mean + exploration * Math.sqrt(logVisits / childVisits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Plays the move of a child on the scratch board.
+         *
+         * @param node  the parent node
+         * @param child the child whose move is played
+         * @return the line clear reward of the move
+         */
+        private double play(int node, int child) {
+            int move = moves[child];
+            int piece = pieceOf(node);
+            if (PackedMove.isHold(move)) {
+                piece = helds[node] >= 0 ? helds[node] : sequence[queueIndices[node]];
+            }
+            board.place(PieceType.fromOrdinal(piece).getRowMasks(PackedMove.rotation(move)),
+                    PackedMove.x(move), PackedMove.y(move));
+            placementsPlayed++;
+            return lineReward * board.clearFullRows(clearedRows);
+        }
+
+        /**
+         * Plays pieces from a node's position with the rollout policy and adds
+         * the evaluation of the final board.
+         *
+         * @param node  the node to start from
+         * @param value the reward collected on the way to the node
+         * @return the value of the iteration, or NaN if the stack topped out
+         */
+        private double rollout(int node, double value) {
+            int piece = pieceOf(node);
+            int queueIndex = queueIndices[node];
+            boolean live = node == ROOT;
+            for (int step = 0; step < rolloutDepth; step++) {
+                PieceType pieceType = PieceType.fromOrdinal(piece);
+                int count = placements.generate(board, pieceType, live ? startRotation : 0,
+                        live ? startX : PieceType.SPAWN_X, live ? startY : PieceType.SPAWN_Y);
+                live = false;
+                if (count == 0) {
+                    return Double.NaN;
+                }
+                int chosen = random.nextInt(1 << 20) < randomMoveRate * (1 << 20)
+                        ? random.nextInt(count)
+                        : greedy(pieceType, count);
+                board.place(pieceType.getRowMasks(placements.getRotation(chosen)),
+                        placements.getX(chosen), placements.getY(chosen));
+                value += lineReward * board.clearFullRows(clearedRows);
+                placementsPlayed++;
+                if (queueIndex >= sequence.length) {
+                    break;
+                }
+                piece = sequence[queueIndex++];
+            }
+            return value + evaluator.evaluate(board, 0);
+        }
+
+        /**
+         * Finds the placement with the best heuristic score.
+         *
+         * @param pieceType the piece being placed
+         * @param count     the number of generated placements
+         * @return the index of the best placement
+         */
+        private int greedy(PieceType pieceType, int count) {
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                work.copyFrom(board);
+                work.place(pieceType.getRowMasks(placements.getRotation(i)), placements.getX(i), placements.getY(i));
+                int lines = work.clearFullRows(clearedRows);
+                double score = evaluator.evaluate(work, lines);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,456 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+import com.comp2042.view.EventType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Enumerates every lock position a piece can reach with the game's inputs,
+ * together with the shortest input sequence to each.
+ * <p>
+ * A breadth-first search runs over (rotation, column, row) states of the
+ * piece. From every state the piece can move left, move right, rotate
+ * counterclockwise in place or soft drop one row, exactly as
+ * {@link com.comp2042.model.Board} allows, with {@link Bitboard#intersects}
+ * as the collision check. Every state can also be hard dropped, which locks
+ * the piece where it lands. Because soft drops and sideways moves mix freely,
+ * the result includes tucks under overhangs and rotations in covered spaces
+ * that {@link PlacementList} cannot reach.
+ * <p>
+ * Breadth-first order makes the first state that drops onto a lock position
+ * the one with the fewest inputs, so each lock position keeps the shortest
+ * path. Ties go to the earlier input in the order left, right, rotate, down.
+ * <p>
+ * Visited states are tracked in a preallocated bitset. The queue and the
+ * parent links are preallocated too, and only the states touched by the last
+ * call are reset. Generating for a piece does not allocate; only
+ * {@link #getPath(int)} builds a list.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Finds every reachable lock position, including tucks and spins</li>
+ *   <li>Keeps the shortest input path to each lock position</li>
+ *   <li>Counts the fewest shifts and rotations to a lock position</li>
+ *   <li>Reuses its state arrays across pieces and boards of the same size</li>
+ * </ul>
+ */
+public final class MoveGenerator {
+
+    private static final int MAX_ROTATIONS = 4;
+    private static final int SHAPE_SIZE = 4;
+    private static final int X_OFFSET = SHAPE_SIZE - 1;
+    private static final int NO_PARENT = -1;
+    private static final EventType[] INPUTS = EventType.values();
+
+    private int rows;
+    private int columns;
+    private int xSpan;
+    private long[] visited;
+    private long[] locked;
+    private int[] queue;
+    private int[] parents;
+    private byte[] inputs;
+    private int[] distances;
+    private int visitedCount;
+    private int[] lockStates;
+    private int[] lockSources;
+    private int size;
+
+    /**
+     * Finds every lock position of a piece and the shortest path to each.
+     *
+     * @param board     the occupancy to move on, left unchanged
+     * @param pieceType the piece to move
+     * @param rotation  the rotation the piece starts in
+     * @param x         the column offset the piece starts at
+     * @param y         the row offset the piece starts at, not negative
+     * @return the number of lock positions, 0 if the piece is blocked at its start
+     * @throws IllegalArgumentException if the start row is negative
+     */
+    public int generate(Bitboard board, PieceType pieceType, int rotation, int x, int y) {
+        if (y < 0) {
+            throw new IllegalArgumentException("Start row must not be negative: " + y);
+        }
+        ensureCapacity(board.getRows(), board.getColumns());
+        reset();
+        if (board.intersects(pieceType.getRowMasks(rotation), x, y)) {
+            return 0;
+        }
+        int rotationCount = pieceType.getRotationCount();
+        int stackTop = board.findTopFilledRow();
+        int start = encode(rotation, x, y);
+        visit(start, NO_PARENT, null, 0);
+
+        for (int head = 0; head < visitedCount; head++) {
+            int state = queue[head];
+            int stateRotation = rotationOf(state);
+            int stateX = xOf(state);
+            int stateY = yOf(state);
+            long[] shapeRows = pieceType.getRowMasks(stateRotation);
+            int distance = distances[state];
+
+            if (inputs[state] != EventType.DOWN.ordinal()) {
+                int landing = Math.max(stateY, stackTop - pieceType.getMaxRow(stateRotation) - 1);
+                while (!board.intersects(shapeRows, stateX, landing + 1)) {
+                    landing++;
+                }
+                int lockState = encode(stateRotation, stateX, landing);
+                if (!isSet(locked, lockState)) {
+                    set(locked, lockState);
+                    lockStates[size] = lockState;
+                    lockSources[size] = state;
+                    size++;
+                }
+            }
+
+            tryMove(board, shapeRows, stateRotation, stateX - 1, stateY, state, EventType.LEFT, distance);
+            tryMove(board, shapeRows, stateRotation, stateX + 1, stateY, state, EventType.RIGHT, distance);
+            if (rotationCount > 1) {
+                int nextRotation = (stateRotation + 1) % rotationCount;
+                tryMove(board, pieceType.getRowMasks(nextRotation), nextRotation, stateX, stateY, state,
+                        EventType.ROTATE, distance);
+            }
+            tryMove(board, shapeRows, stateRotation, stateX, stateY + 1, state, EventType.DOWN, distance);
+        }
+        return size;
+    }
+
+    /**
+     * Counts the fewest shifts and rotations that bring a piece to a lock
+     * position, with soft drops and gravity free.
+     * <p>
+     * This is the finesse measure of a placement: the keys a player must press
+     * at least, since falling costs no key presses. The search is a
+     * breadth-first search in which every state is followed straight down at
+     * the same cost, and it stops as soon as the target is reached. It
+     * replaces the lock positions of the last call to generate.
+     *
+     * @param board          the occupancy to move on, left unchanged
+     * @param pieceType      the piece to move
+     * @param rotation       the rotation the piece starts in
+     * @param x              the column offset the piece starts at
+     * @param y              the row offset the piece starts at, not negative
+     * @param targetRotation the rotation of the lock position
+     * @param targetX        the column offset of the lock position
+     * @param targetY        the row offset of the lock position
+     * @return the number of shift and rotate inputs, or -1 if the lock
+     * position cannot be reached
+     * @throws IllegalArgumentException if the start row is negative
+     */
+    public int countMoves(Bitboard board, PieceType pieceType, int rotation, int x, int y,
+                          int targetRotation, int targetX, int targetY) {
+        if (y < 0) {
+            throw new IllegalArgumentException("Start row must not be negative: " + y);
+        }
+        ensureCapacity(board.getRows(), board.getColumns());
+        reset();
+        int rotationCount = pieceType.getRotationCount();
+        if (targetRotation < 0 || targetRotation >= rotationCount || targetX < -X_OFFSET || targetX >= columns
+                || targetY < 0 || targetY >= rows || board.intersects(pieceType.getRowMasks(rotation), x, y)) {
+            return -1;
+        }
+        int target = encode(targetRotation, targetX, targetY);
+        visitFalling(board, pieceType.getRowMasks(rotation), rotation, x, y, NO_PARENT, null, 0);
+
+        for (int head = 0; head < visitedCount && !isSet(visited, target); head++) {
+            int state = queue[head];
+            int stateRotation = rotationOf(state);
+            int stateX = xOf(state);
+            int stateY = yOf(state);
+            long[] shapeRows = pieceType.getRowMasks(stateRotation);
+            int distance = distances[state] + 1;
+            visitFalling(board, shapeRows, stateRotation, stateX - 1, stateY, state, EventType.LEFT, distance);
+            visitFalling(board, shapeRows, stateRotation, stateX + 1, stateY, state, EventType.RIGHT, distance);
+            if (rotationCount > 1) {
+                int nextRotation = (stateRotation + 1) % rotationCount;
+                visitFalling(board, pieceType.getRowMasks(nextRotation), nextRotation, stateX, stateY, state,
+                        EventType.ROTATE, distance);
+            }
+        }
+        return isSet(visited, target) ? distances[target] : -1;
+    }
+
+    /**
+     * Gets the number of lock positions found by the last call to generate.
+     *
+     * @return the number of lock positions
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the rotation of a lock position.
+     *
+     * @param index the lock position index
+     * @return the rotation index
+     */
+    public int getRotation(int index) {
+        return rotationOf(lockStates[checkIndex(index)]);
+    }
+
+    /**
+     * Gets the column offset of a lock position.
+     *
+     * @param index the lock position index
+     * @return the column offset
+     */
+    public int getX(int index) {
+        return xOf(lockStates[checkIndex(index)]);
+    }
+
+    /**
+     * Gets the row offset of a lock position.
+     *
+     * @param index the lock position index
+     * @return the row offset
+     */
+    public int getY(int index) {
+        return yOf(lockStates[checkIndex(index)]);
+    }
+
+    /**
+     * Gets the number of inputs of the shortest path to a lock position,
+     * including the final hard drop.
+     *
+     * @param index the lock position index
+     * @return the input count
+     */
+    public int getPathLength(int index) {
+        return distances[lockSources[checkIndex(index)]] + 1;
+    }
+
+    /**
+     * Checks whether the shortest path to a lock position uses a soft drop,
+     * as tucks and spins under overhangs do.
+     *
+     * @param index the lock position index
+     * @return true if the path contains a soft drop
+     */
+    public boolean needsSoftDrop(int index) {
+        for (int state = lockSources[checkIndex(index)]; parents[state] != NO_PARENT; state = parents[state]) {
+            if (inputs[state] == EventType.DOWN.ordinal()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the shortest input path to a lock position.
+     *
+     * @param index the lock position index
+     * @return the moves from the start state, ending with a hard drop
+     */
+    public List<EventType> getPath(int index) {
+        List<EventType> path = new ArrayList<>(getPathLength(index));
+        for (int state = lockSources[checkIndex(index)]; parents[state] != NO_PARENT; state = parents[state]) {
+            path.add(INPUTS[inputs[state]]);
+        }
+        Collections.reverse(path);
+        path.add(EventType.HARD_DROP);
+        return path;
+    }
+
+    /**
+     * Visits a neighbouring state if the piece fits there and it is new.
+     *
+     * @param board     the occupancy
+     * @param shapeRows the row masks of the piece in the target rotation
+     * @param rotation  the target rotation
+     * @param x         the target column offset
+     * @param y         the target row offset
+     * @param parent    the state moved from
+     * @param input     the input that moves there
+     * @param distance  the input count of the parent state
+     */
+    private void tryMove(Bitboard board, long[] shapeRows, int rotation, int x, int y, int parent, EventType input,
+                         int distance) {
+        if (x < -X_OFFSET || x >= columns || y >= rows) {
+            return;
+        }
+        int state = encode(rotation, x, y);
+        if (isSet(visited, state) || board.intersects(shapeRows, x, y)) {
+            return;
+        }
+        visit(state, parent, input, distance + 1);
+    }
+
+    /**
+     * Visits a state and every state straight below it that the piece can
+     * fall to, all at the same input count.
+     *
+     * @param board     the occupancy
+     * @param shapeRows the row masks of the piece in the target rotation
+     * @param rotation  the target rotation
+     * @param x         the target column offset
+     * @param y         the target row offset
+     * @param parent    the state moved from, or {@link #NO_PARENT}
+     * @param input     the input that moves there, or null for the start
+     * @param distance  the input count of the target state
+     */
+    private void visitFalling(Bitboard board, long[] shapeRows, int rotation, int x, int y, int parent,
+                              EventType input, int distance) {
+        if (x < -X_OFFSET || x >= columns) {
+            return;
+        }
+        int state = encode(rotation, x, y);
+        if (isSet(visited, state) || board.intersects(shapeRows, x, y)) {
+            return;
+        }
+        visit(state, parent, input, distance);
+        for (int row = y + 1; row < rows && !board.intersects(shapeRows, x, row); row++) {
+            int below = encode(rotation, x, row);
+            if (isSet(visited, below)) {
+                return;
+            }
+            visit(below, state, EventType.DOWN, distance);
+            state = below;
+        }
+    }
+
+    /**
+     * Marks a state visited and queues it.
+     *
+     * @param state    the state
+     * @param parent   the state it was reached from, or {@link #NO_PARENT}
+     * @param input    the input that reached it, or null for the start
+     * @param distance the number of inputs to reach it
+     */
+    private void visit(int state, int parent, EventType input, int distance) {
+        set(visited, state);
+        queue[visitedCount++] = state;
+        parents[state] = parent;
+        inputs[state] = (byte) (input == null ? -1 : input.ordinal());
+        distances[state] = distance;
+    }
+
+    /**
+     * Clears the visited and locked bits set by the last call.
+     */
+    private void reset() {
+        for (int i = 0; i < visitedCount; i++) {
+            clear(visited, queue[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            clear(locked, lockStates[i]);
+        }
+        visitedCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Allocates the state arrays for a board size, once per size.
+     *
+     * @param rows    the number of rows
+     * @param columns the number of columns
+     */
+    private void ensureCapacity(int rows, int columns) {
+        if (visited != null && this.rows == rows && this.columns == columns) {
+            return;
+        }
+        this.rows = rows;
+        this.columns = columns;
+        xSpan = columns + X_OFFSET;
+        int states = MAX_ROTATIONS * rows * xSpan;
+        visited = new long[(states + Long.SIZE - 1) / Long.SIZE];
+        locked = new long[visited.length];
+        queue = new int[states];
+        parents = new int[states];
+        inputs = new byte[states];
+        distances = new int[states];
+        lockStates = new int[states];
+        lockSources = new int[states];
+        visitedCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Checks a lock position index.
+     *
+     * @param index the index
+     * @return the index
+     * @throws IndexOutOfBoundsException if the index is not below {@link #size()}
+     */
+    private int checkIndex(int index) {
+        return Objects.checkIndex(index, size);
+    }
+
+    /**
+     * Packs a piece state into an index.
+     *
+     * @param rotation the rotation index
+     * @param x        the column offset, at least {@code -X_OFFSET}
+     * @param y        the row offset
+     * @return the state index
+     */
+    private int encode(int rotation, int x, int y) {
+        return (rotation * rows + y) * xSpan + x + X_OFFSET;
+    }
+
+    /**
+     * Gets the rotation of a state index.
+     *
+     * @param state the state index
+     * @return the rotation index
+     */
+    private int rotationOf(int state) {
+        return state / xSpan / rows;
+    }
+
+    /**
+     * Gets the column offset of a state index.
+     *
+     * @param state the state index
+     * @return the column offset
+     */
+    private int xOf(int state) {
+        return state % xSpan - X_OFFSET;
+    }
+
+    /**
+     * Gets the row offset of a state index.
+     *
+     * @param state the state index
+     * @return the row offset
+     */
+    private int yOf(int state) {
+        return state / xSpan % rows;
+    }
+
+    /**
+     * Tests a bit of a bitset.
+     *
+     * @param bits  the bitset words
+     * @param index the bit index
+     * @return true if the bit is set
+     */
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets a bit of a bitset.
+     *
+     * @param bits  the bitset words
+     * @param index the bit index
+     */
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Clears a bit of a bitset.
+     *
+     * @param bits  the bitset words
+     * @param index the bit index
+     */
+    private static void clear(long[] bits, int index) {
+        bits[index >>> 6] &= ~(1L << index);
+    }
+}
@@ -0,0 +1,334 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Read-only database of precomputed opening placements, memory-mapped from a
+ * binary file.
+ * <p>
+ * The book is built offline by {@link OpeningBookBuilder}, which plays the
+ * first bag of every 7-bag permutation with and without an initial hold and
+ * records the move of a wide beam search for every position it reaches. A
+ * position is identified by a 64-bit key: the Zobrist hash of the occupancy
+ * mixed with the current piece, the held piece, whether hold is available and
+ * the preview pieces the search saw. Since the book's moves depend on nothing
+ * else, any hit is exactly the move the offline search made with the same
+ * information.
+ * <p>
+ * The file holds a small header, the keys in ascending order and one value per
+ * key. Opening the book maps the file and checks the header; nothing else is
+ * read until a lookup binary-searches the keys in place, so opening costs the
+ * same for any book size and lookups copy no data. File layout, big-endian:
+ * <pre>
+ * int   magic "TBOK"
+ * int   version
+ * int   rows
+ * int   columns
+ * int   entry count
+ * int   reserved
+ * long  keys[entry count], ascending
+ * long  values[entry count]: packed move and lines in the high int, score bits in the low int
+ * </pre>
+ * <p>
+ * Instances are immutable and may be shared between threads.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Maps a book file without parsing it</li>
+ *   <li>Looks up the book move of a position in logarithmic time</li>
+ *   <li>Defines the position keys and the file format used by the builder</li>
+ * </ul>
+ */
+public final class OpeningBook {
+
+    /**
+     * System property naming the book file opened by {@link #openDefault()}.
+     */
+    public static final String FILE_PROPERTY = "tetris.openingBook";
+
+    /**
+     * Book file opened by {@link #openDefault()} when the property is not set,
+     * relative to the working directory.
+     */
+    public static final String DEFAULT_FILE = "opening-book.bin";
+
+    /**
+     * Number of pieces in a bag, and so the number of placements a book line
+     * covers.
+     */
+    public static final int BAG_SIZE = PieceType.values().length;
+
+    static final int MAGIC = 0x54424F4B;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 6 * Integer.BYTES;
+    static final int LINES_SHIFT = 21;
+
+    private static final int PIECE_BITS = 3;
+
+    private final ByteBuffer buffer;
+    private final int rows;
+    private final int columns;
+    private final int size;
+    private final ZobristKeys zobrist;
+
+    /**
+     * Constructs a book over a mapped file whose header has been checked.
+     *
+     * @param buffer  the mapped file
+     * @param rows    the board rows the book was built for
+     * @param columns the board columns the book was built for
+     * @param size    the number of entries
+     */
+    private OpeningBook(ByteBuffer buffer, int rows, int columns, int size) {
+        this.buffer = buffer;
+        this.rows = rows;
+        this.columns = columns;
+        this.size = size;
+        this.zobrist = new ZobristKeys(rows, columns);
+    }
+
+    /**
+     * Opens a book file.
+     * <p>
+     * The file is mapped read-only and stays mapped until the book is garbage
+     * collected; the channel is closed right away.
+     *
+     * @param file the book file
+     * @return the book
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid book
+     */
+    public static OpeningBook open(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IllegalArgumentException("Not an opening book: " + file);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalArgumentException("Not an opening book: " + file);
+        }
+        int rows = buffer.getInt(2 * Integer.BYTES);
+        int columns = buffer.getInt(3 * Integer.BYTES);
+        int size = buffer.getInt(4 * Integer.BYTES);
+        if (size < 0 || buffer.capacity() != HEADER_BYTES + 2L * Long.BYTES * size) {
+            throw new IllegalArgumentException("Truncated opening book: " + file);
+        }
+        return new OpeningBook(buffer, rows, columns, size);
+    }
+
+    /**
+     * Opens the book named by the {@value #FILE_PROPERTY} system property, or
+     * {@value #DEFAULT_FILE} in the working directory.
+     *
+     * @return the book, or null if the file does not exist or cannot be used
+     */
+    public static OpeningBook openDefault() {
+        Path file = Path.of(System.getProperty(FILE_PROPERTY, DEFAULT_FILE));
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return open(file);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Warning: opening book " + file + " not loaded: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Looks up the book move of a snapshot.
+     * <p>
+     * Book moves start from the spawn position, so only snapshots whose piece
+     * has not been rotated or shifted can be looked up.
+     *
+     * @param snapshot the position to look up
+     * @return the book move, or null if the position is not in the book
+     */
+    public Placement lookup(BoardSnapshot snapshot) {
+        if (snapshot.getRotation() != 0 || snapshot.getX() != PieceType.SPAWN_X) {
+            return null;
+        }
+        return lookup(snapshot.copyBoard(), snapshot.getPieceType(), snapshot.getHeldPiece(), snapshot.canHold(),
+                snapshot.getPreview());
+    }
+
+    /**
+     * Looks up the book move of a piece at its spawn position.
+     * <p>
+     * The book was built with the preview cut off at the end of the first
+     * bag, and the caller may not know where the bag ends. The lookup
+     * therefore tries the longest preview first and then every shorter
+     * prefix of it; each hit is a move searched with a prefix of what the
+     * caller knows.
+     *
+     * @param board     the occupancy
+     * @param pieceType the current piece
+     * @param heldPiece the held piece, or null if the hold slot is empty
+     * @param canHold   whether hold may be used for the current piece
+     * @param preview   the upcoming pieces in spawn order
+     * @return the book move, or null if the position is not in the book
+     */
+    public Placement lookup(Bitboard board, PieceType pieceType, PieceType heldPiece, boolean canHold,
+                            List<PieceType> preview) {
+        if (board.getRows() != rows || board.getColumns() != columns) {
+            return null;
+        }
+        long boardHash = zobrist.hash(board);
+        for (int length = Math.min(preview.size(), BAG_SIZE - 1); length >= 0; length--) {
+            int index = find(boardHash ^ stateKey(pieceType, heldPiece, canHold, preview, length));
+            if (index >= 0) {
+                return toPlacement(buffer.getLong(HEADER_BYTES + (size + index) * Long.BYTES), pieceType,
+                        heldPiece, preview);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Binary-searches the mapped keys.
+     *
+     * @param key the key to find
+     * @return the entry index, or -1 if the key is not in the book
+     */
+    private int find(long key) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long probe = buffer.getLong(HEADER_BYTES + middle * Long.BYTES);
+            if (probe < key) {
+                low = middle + 1;
+            } else if (probe > key) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Unpacks a book value into a placement.
+     *
+     * @param value     the stored value
+     * @param pieceType the current piece
+     * @param heldPiece the held piece, or null
+     * @param preview   the upcoming pieces
+     * @return the placement, with inputs relative to the spawn position
+     */
+    private static Placement toPlacement(long value, PieceType pieceType, PieceType heldPiece,
+                                         List<PieceType> preview) {
+        int move = (int) (value >>> Integer.SIZE);
+        float score = Float.intBitsToFloat((int) value);
+        boolean hold = PackedMove.isHold(move);
+        PieceType placed = pieceType;
+        if (hold) {
+            placed = heldPiece != null ? heldPiece : preview.get(0);
+        }
+        int x = PackedMove.x(move);
+        return new Placement(placed, PackedMove.rotation(move), x, PackedMove.y(move), hold, PackedMove.turns(move),
+                x - PieceType.SPAWN_X, move >>> LINES_SHIFT & 7, score);
+    }
+
+    /**
+     * Packs a placement into a book value.
+     *
+     * @param placement the placement, searched from the spawn position
+     * @return the value stored in the book
+     */
+    static long toValue(Placement placement) {
+        int move = PackedMove.pack(placement.isHold(), placement.getRotations(), placement.getRotation(),
+                placement.getX(), placement.getY()) | placement.getLinesCleared() << LINES_SHIFT;
+        return (long) move << Integer.SIZE | Float.floatToIntBits((float) placement.getScore()) & 0xFFFF_FFFFL;
+    }
+
+    /**
+     * Computes the key of a position.
+     *
+     * @param zobrist   the Zobrist keys of the board size
+     * @param board     the occupancy
+     * @param pieceType the current piece
+     * @param heldPiece the held piece, or null
+     * @param canHold   whether hold may be used
+     * @param preview   the upcoming pieces
+     * @return the position key
+     */
+    static long key(ZobristKeys zobrist, Bitboard board, PieceType pieceType, PieceType heldPiece,
+                    boolean canHold, List<PieceType> preview) {
+        return zobrist.hash(board) ^ stateKey(pieceType, heldPiece, canHold, preview, preview.size());
+    }
+
+    /**
+     * Mixes the piece state of a position into a key.
+     *
+     * @param pieceType the current piece
+     * @param heldPiece the held piece, or null
+     * @param canHold   whether hold may be used
+     * @param preview   the upcoming pieces
+     * @param length    the number of preview pieces to include
+     * @return the state key
+     */
+    private static long stateKey(PieceType pieceType, PieceType heldPiece, boolean canHold,
+                                 List<PieceType> preview, int length) {
+        long state = pieceType.ordinal()
+                | (long) (heldPiece == null ? 0 : heldPiece.ordinal() + 1) << PIECE_BITS
+                | (canHold ? 1L : 0L) << 2 * PIECE_BITS
+                | (long) length << 2 * PIECE_BITS + 1;
+        for (int i = 0; i < length; i++) {
+            state |= (long) preview.get(i).ordinal() << (3 + i) * PIECE_BITS + 1;
+        }
+        return mix(state);
+    }
+
+    /**
+     * Scrambles the bits of a packed state, so that states differing in one
+     * piece get unrelated keys.
+     *
+     * @param z the packed state
+     * @return the mixed value
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * Gets the number of board rows the book was built for.
+     *
+     * @return the row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of board columns the book was built for.
+     *
+     * @return the column count
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the number of positions in the book.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        return size;
+    }
+}
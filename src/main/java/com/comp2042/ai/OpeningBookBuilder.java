@@ -0,0 +1,289 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Builds {@link OpeningBook} files offline.
+ * <p>
+ * For each 7-bag permutation the builder plays the first bag twice, once
+ * starting normally and once holding the first piece. Every piece is placed
+ * with a {@link BeamSearch} that sees the preview up to the end of the bag,
+ * and the move of every position reached is recorded under the position's
+ * key. Permutations share their early positions, and a position that was
+ * searched once is never searched again, so the later permutations mostly
+ * replay known moves.
+ * <p>
+ * The builder runs on the calling thread. The search may use its own pool.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Enumerates 7-bag permutations by rank</li>
+ *   <li>Plays and records opening lines with and without an initial hold</li>
+ *   <li>Writes the sorted book file</li>
+ * </ul>
+ */
+public final class OpeningBookBuilder {
+
+    /**
+     * Number of 7-bag permutations.
+     */
+    public static final int PERMUTATIONS = factorial(OpeningBook.BAG_SIZE);
+
+    /**
+     * Number of preview pieces the searches see, as in the game.
+     */
+    public static final int PREVIEW_COUNT = 3;
+
+    private final int rows;
+    private final int columns;
+    private final BeamSearch search;
+    private final long timeBudgetNanos;
+    private final ZobristKeys zobrist;
+    private final Map<Long, Long> entries = new HashMap<>();
+    private final Bitboard board;
+    private final int[] clearedRows;
+    private long searches;
+
+    /**
+     * Constructs a builder.
+     *
+     * @param rows            the number of board rows
+     * @param columns         the number of board columns
+     * @param search          the search that picks the book moves
+     * @param timeBudgetNanos the time budget of every search, or 0 for a single
+     *                        pass at the search's configured width
+     */
+    public OpeningBookBuilder(int rows, int columns, BeamSearch search, long timeBudgetNanos) {
+        this.rows = rows;
+        this.columns = columns;
+        this.search = search;
+        this.timeBudgetNanos = timeBudgetNanos;
+        this.zobrist = new ZobristKeys(rows, columns);
+        this.board = new Bitboard(rows, columns);
+        this.clearedRows = new int[rows];
+    }
+
+    /**
+     * Computes n factorial.
+     *
+     * @param n the argument
+     * @return n!
+     */
+    private static int factorial(int n) {
+        int result = 1;
+        for (int i = 2; i <= n; i++) {
+            result *= i;
+        }
+        return result;
+    }
+
+    /**
+     * Gets a 7-bag permutation by its rank in lexicographic order of the piece
+     * ordinals.
+     *
+     * @param rank the rank, from 0 to {@link #PERMUTATIONS} - 1
+     * @return the pieces of the bag in draw order
+     * @throws IllegalArgumentException if the rank is out of range
+     */
+    public static PieceType[] permutation(int rank) {
+        if (rank < 0 || rank >= PERMUTATIONS) {
+            throw new IllegalArgumentException("Permutation rank out of range: " + rank);
+        }
+        PieceType[] remaining = PieceType.values();
+        int count = remaining.length;
+        PieceType[] bag = new PieceType[count];
+        int block = PERMUTATIONS;
+        for (int i = 0; i < bag.length; i++) {
+            block /= count - i;
+            int index = rank / block;
+            rank %= block;
+            bag[i] = remaining[index];
+            System.arraycopy(remaining, index + 1, remaining, index, count - i - index - 1);
+        }
+        return bag;
+    }
+
+    /**
+     * Plays and records the opening lines of a range of permutations.
+     *
+     * @param from the first permutation rank, inclusive
+     * @param to   the last permutation rank, exclusive
+     */
+    public void addPermutations(int from, int to) {
+        for (int rank = from; rank < to; rank++) {
+            PieceType[] bag = permutation(rank);
+            playLine(bag, false);
+            playLine(bag, true);
+        }
+    }
+
+    /**
+     * Plays the first bag of a permutation, recording the move of every
+     * position.
+     *
+     * @param bag       the pieces in draw order
+     * @param holdFirst whether the first piece is held before anything is placed
+     */
+    private void playLine(PieceType[] bag, boolean holdFirst) {
+        List<PieceType> pieces = Arrays.asList(bag);
+        board.clear();
+        int next = 0;
+        PieceType current = bag[next++];
+        PieceType held = null;
+        boolean canHold = true;
+        if (holdFirst) {
+            held = current;
+            current = bag[next++];
+            canHold = false;
+        }
+        while (current != null) {
+            List<PieceType> preview = pieces.subList(next, Math.min(bag.length, next + PREVIEW_COUNT));
+            long key = OpeningBook.key(zobrist, board, current, held, canHold, preview);
+            Long value = entries.get(key);
+            if (value == null) {
+                Placement placement = search.findBest(board, current, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y,
+                        held, canHold, preview, timeBudgetNanos);
+                searches++;
+                if (placement == null) {
+                    return;
+                }
+                value = OpeningBook.toValue(placement);
+                entries.put(key, value);
+            }
+            int move = (int) (value >>> Integer.SIZE);
+            PieceType placed = current;
+            if (PackedMove.isHold(move)) {
+                if (held == null) {
+                    held = current;
+                    placed = bag[next++];
+                } else {
+                    placed = held;
+                    held = current;
+                }
+            }
+            board.place(placed.getRowMasks(PackedMove.rotation(move)), PackedMove.x(move), PackedMove.y(move));
+            board.clearFullRows(clearedRows);
+            current = next < bag.length ? bag[next++] : null;
+            canHold = true;
+        }
+    }
+
+    /**
+     * Writes the recorded positions to a book file.
+     * <p>
+     * The file is written next to the target and then moved over it, so a
+     * running game never maps a half-written book.
+     *
+     * @param file the book file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        long[] keys = new long[entries.size()];
+        int count = 0;
+        for (long key : entries.keySet()) {
+            keys[count++] = key;
+        }
+        Arrays.sort(keys);
+
+        Path absolute = file.toAbsolutePath();
+        Path temporary = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(OpeningBook.MAGIC);
+            out.writeInt(OpeningBook.VERSION);
+            out.writeInt(rows);
+            out.writeInt(columns);
+            out.writeInt(keys.length);
+            out.writeInt(0);
+            for (long key : keys) {
+                out.writeLong(key);
+            }
+            for (long key : keys) {
+                out.writeLong(entries.get(key));
+            }
+        }
+        Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Gets the number of positions recorded so far.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the number of searches run so far; the other positions were
+     * replayed from earlier lines.
+     *
+     * @return the search count
+     */
+    public long getSearches() {
+        return searches;
+    }
+
+    /**
+     * Builds a book from the command line.
+     * <p>
+     * Options: {@code --out FILE}, {@code --permutations N} (the first N
+     * permutations, all by default), {@code --width N}, {@code --depth N},
+     * {@code --budget-ms N}, {@code --rows N} and {@code --columns N}.
+     *
+     * @param args the command-line options
+     * @throws IOException if the book cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path out = Path.of(OpeningBook.DEFAULT_FILE);
+        int permutations = PERMUTATIONS;
+        int width = 4 * BeamSearch.DEFAULT_BEAM_WIDTH;
+        int depth = BeamSearch.DEFAULT_DEPTH;
+        long budgetMillis = 0;
+        int rows = 25;
+        int columns = 10;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--out" -> out = Path.of(value);
+                case "--permutations" -> permutations = Math.min(PERMUTATIONS, Integer.parseInt(value));
+                case "--width" -> width = Integer.parseInt(value);
+                case "--depth" -> depth = Integer.parseInt(value);
+                case "--budget-ms" -> budgetMillis = Long.parseLong(value);
+                case "--rows" -> rows = Integer.parseInt(value);
+                case "--columns" -> columns = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+
+        OpeningBookBuilder builder = new OpeningBookBuilder(rows, columns,
+                new BeamSearch(EvaluationWeights.DEFAULT, width, depth, null), budgetMillis * 1_000_000L);
+        long start = System.nanoTime();
+        int step = Math.max(1, permutations / 20);
+        for (int from = 0; from < permutations; from += step) {
+            builder.addPermutations(from, Math.min(permutations, from + step));
+            System.out.printf(Locale.ROOT, "%d/%d permutations: %d positions, %d searches, %.1f s%n",
+                    Math.min(permutations, from + step), permutations, builder.size(), builder.getSearches(),
+                    (System.nanoTime() - start) / 1e9);
+        }
+        builder.write(out);
+        System.out.println("Wrote " + builder.size() + " positions to " + out);
+    }
+}
@@ -0,0 +1,88 @@
+package com.comp2042.ai;
+
+/**
+ * Packs the move of a search node into a single non-negative {@code int}.
+ * <p>
+ * Bits 0-7 hold the row offset and bits 8-15 the column offset, both shifted
+ * by {@link #OFFSET} so shapes hanging over the board edge stay positive. Bits
+ * 16-17 hold the final rotation, bits 18-19 the number of rotate inputs, and
+ * bit 20 is set when the move starts with a hold. Searches keep moves in
+ * {@code int[]} arrays instead of allocating a {@link Placement} per node.
+ */
+final class PackedMove {
+
+    /**
+     * Value used for "no move".
+     */
+    static final int NONE = -1;
+
+    private static final int OFFSET = 4;
+    private static final int HOLD_BIT = 1 << 20;
+
+    private PackedMove() {
+    }
+
+    /**
+     * Packs a move.
+     *
+     * @param hold     whether the move starts with a hold
+     * @param turns    the number of rotate inputs
+     * @param rotation the final rotation index
+     * @param x        the final column offset
+     * @param y        the final row offset
+     * @return the packed move, never negative
+     */
+    static int pack(boolean hold, int turns, int rotation, int x, int y) {
+        return (hold ? HOLD_BIT : 0) | turns << 18 | rotation << 16 | (x + OFFSET) << 8 | (y + OFFSET);
+    }
+
+    /**
+     * Checks whether a move starts with a hold.
+     *
+     * @param move the packed move
+     * @return true if the move holds first
+     */
+    static boolean isHold(int move) {
+        return (move & HOLD_BIT) != 0;
+    }
+
+    /**
+     * Gets the number of rotate inputs of a move.
+     *
+     * @param move the packed move
+     * @return the counterclockwise rotations
+     */
+    static int turns(int move) {
+        return (move >>> 18) & 3;
+    }
+
+    /**
+     * Gets the final rotation of a move.
+     *
+     * @param move the packed move
+     * @return the rotation index
+     */
+    static int rotation(int move) {
+        return (move >>> 16) & 3;
+    }
+
+    /**
+     * Gets the final column offset of a move.
+     *
+     * @param move the packed move
+     * @return the horizontal position of the shape matrix
+     */
+    static int x(int move) {
+        return ((move >>> 8) & 0xFF) - OFFSET;
+    }
+
+    /**
+     * Gets the final row offset of a move.
+     *
+     * @param move the packed move
+     * @return the vertical position of the shape matrix
+     */
+    static int y(int move) {
+        return (move & 0xFF) - OFFSET;
+    }
+}
@@ -0,0 +1,515 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+import com.comp2042.model.Board;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Decides whether a board can be cleared completely with the known pieces and
+ * finds a placement sequence that does it.
+ * <p>
+ * A perfect clear fills some number of bottom rows exactly: with {@code f}
+ * filled cells and a target height {@code h}, it takes
+ * {@code (h * columns - f) / 4} pieces, and no cell may ever be placed above
+ * the target rows. The solver tries the target heights from the lowest one
+ * upward, each as a depth-first search over placements of the current piece and
+ * of the piece gained by holding. Line clears lower the target by the number of
+ * rows cleared. At least one piece is placed, so on an empty board the solver
+ * looks for an opening perfect clear.
+ * <p>
+ * Each node is pruned when the remaining empty cells cannot be covered:
+ * <ul>
+ *   <li>Columns filled up to the target split the empty cells into regions that
+ *   no piece can cross, so every region needs a multiple of four cells.</li>
+ *   <li>Column parity: O, S, Z, flat I and flat T pieces cover as many even as
+ *   odd columns, while L, J, upright T and upright I pieces shift the balance by
+ *   two or four. The imbalance of the empty cells must not exceed what the
+ *   remaining pieces can correct. Column parity is unaffected by line clears,
+ *   unlike a checkerboard colouring.</li>
+ * </ul>
+ * Positions already searched are remembered in a shared
+ * {@link TranspositionTable} keyed by Zobrist hashes of the target rows and the
+ * piece state, so transpositions reached in a different order are only
+ * searched once.
+ * <p>
+ * With a {@link ForkJoinPool} the first-level placements are searched as
+ * parallel tasks, each with its own scratch boards and move lists, and the
+ * remaining tasks stop once one finds a solution. Whether a solution exists
+ * does not depend on the thread count. Which solution is returned can depend
+ * on it, because tasks share the table of searched positions.
+ * <p>
+ * Pieces are placed by hard drop after rotating and shifting at the top, the
+ * same moves {@link PlacementList} generates for the other searches.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Finds perfect clears within a piece limit, using hold</li>
+ *   <li>Prunes by target height, region sizes and column parity</li>
+ *   <li>Remembers searched positions across branches and threads</li>
+ *   <li>Searches the first-level branches in parallel</li>
+ * </ul>
+ */
+public final class PerfectClearSolver {
+
+    /**
+     * Default maximum number of pieces in a solution.
+     */
+    public static final int DEFAULT_MAX_PIECES = 10;
+
+    private static final int TABLE_CAPACITY = 1 << 20;
+    private static final int CELLS_PER_PIECE = 4;
+    private static final long EVEN_COLUMNS = 0x5555_5555_5555_5555L;
+    private static final int[] PARITY_RANGE = parityRanges();
+
+    private final ForkJoinPool pool;
+    private final TranspositionTable searched = new TranspositionTable(TABLE_CAPACITY);
+
+    private ZobristKeys keys;
+    private Bitboard root;
+    private int rows;
+    private int columns;
+    private int[] queue;
+    private int[] parityCapacity;
+    private int rootPiece;
+    private int rootHeld;
+    private boolean rootCanHold;
+    private int startRotation;
+    private int startX;
+    private int startY;
+    private int piecesNeeded;
+    private volatile boolean solved;
+    private long lastNodeCount;
+
+    /**
+     * Constructs a solver that searches on the calling thread.
+     */
+    public PerfectClearSolver() {
+        this(null);
+    }
+
+    /**
+     * Constructs a solver.
+     *
+     * @param pool the pool that searches the first-level branches, or null to
+     *             search on the calling thread
+     */
+    public PerfectClearSolver(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Searches for a perfect clear starting with the current piece of a board.
+     *
+     * @param board     the board whose current piece is placed first
+     * @param heldPiece the held piece, or null if the hold slot is empty
+     * @param canHold   whether hold may be used for the current piece
+     * @param preview   the upcoming pieces in spawn order
+     * @param maxPieces the largest number of pieces a solution may place
+     * @return the placements of a perfect clear in play order, or null if none
+     * is found within the limit
+     */
+    public List<Placement> solve(Board board, PieceType heldPiece, boolean canHold, List<PieceType> preview,
+                                 int maxPieces) {
+        Brick brick = board.getCurrentBrick();
+        if (brick == null) {
+            return null;
+        }
+        int[][] matrix = board.getBoardMatrix();
+        prepare(matrix.length, matrix[0].length);
+        PlacementSearch.loadOccupancy(board, root);
+        return solve(root, brick.getType(), board.getBrickRotation(), board.getBrickX(), board.getBrickY(),
+                heldPiece, canHold, preview, maxPieces);
+    }
+
+    /**
+     * Searches for a perfect clear starting with a piece on a bitboard.
+     *
+     * @param board     the occupancy to clear, left unchanged
+     * @param pieceType the piece placed first unless it is held
+     * @param rotation  the rotation the piece starts in
+     * @param x         the column offset the piece starts at
+     * @param y         the row offset the piece starts at
+     * @param heldPiece the held piece, or null if the hold slot is empty
+     * @param canHold   whether hold may be used for this piece
+     * @param preview   the upcoming pieces in spawn order
+     * @param maxPieces the largest number of pieces a solution may place
+     * @return the placements of a perfect clear in play order, or null if none
+     * is found within the limit
+     */
+    public List<Placement> solve(Bitboard board, PieceType pieceType, int rotation, int x, int y,
+                                 PieceType heldPiece, boolean canHold, List<PieceType> preview, int maxPieces) {
+        prepare(board.getRows(), board.getColumns());
+        if (board != root) {
+            root.copyFrom(board);
+        }
+        lastNodeCount = 0;
+        int filled = 0;
+        for (int row = 0; row < rows; row++) {
+            filled += Long.bitCount(root.getRowBits(row));
+        }
+        rootPiece = pieceType.ordinal();
+        rootHeld = heldPiece == null ? -1 : heldPiece.ordinal();
+        rootCanHold = canHold;
+        startRotation = rotation;
+        startX = x;
+        startY = y;
+        queue = new int[preview.size()];
+        parityCapacity = new int[queue.length + 1];
+        for (int i = queue.length - 1; i >= 0; i--) {
+            queue[i] = preview.get(i).ordinal();
+            parityCapacity[i] = parityCapacity[i + 1] + PARITY_RANGE[queue[i]];
+        }
+
+        int budget = Math.min(maxPieces, queue.length + 1);
+        int stackHeight = rows - root.findTopFilledRow();
+        for (int height = Math.max(1, stackHeight); height <= rows; height++) {
+            int emptyCells = height * columns - filled;
+            if (emptyCells / CELLS_PER_PIECE > budget) {
+                break;
+            }
+            if (emptyCells % CELLS_PER_PIECE == 0) {
+                List<Placement> solution = solveForHeight(height, emptyCells / CELLS_PER_PIECE);
+                if (solution != null) {
+                    return solution;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the number of search nodes visited by the last call to solve.
+     *
+     * @return the node count over all target heights and threads
+     */
+    public long getLastNodeCount() {
+        return lastNodeCount;
+    }
+
+    /**
+     * Searches for a perfect clear of a fixed number of bottom rows.
+     *
+     * @param height the number of rows to clear
+     * @param pieces the exact number of pieces that fill them
+     * @return the solution, or null if there is none
+     */
+    private List<Placement> solveForHeight(int height, int pieces) {
+        piecesNeeded = pieces;
+        solved = false;
+        searched.clear();
+        List<Branch> branches = new ArrayList<>();
+        Branch probe = new Branch();
+        addBranches(branches, probe, rootPiece, false);
+        if (rootCanHold) {
+            if (rootHeld >= 0 && rootHeld != rootPiece) {
+                addBranches(branches, probe, rootHeld, true);
+            } else if (rootHeld < 0 && queue.length > 0) {
+                addBranches(branches, probe, queue[0], true);
+            }
+        }
+        for (Branch branch : branches) {
+            branch.height = height;
+        }
+
+        if (pool == null || branches.size() < 2) {
+            for (Branch branch : branches) {
+                branch.call();
+                lastNodeCount += branch.nodes;
+                if (branch.solution != null) {
+                    return branch.solution;
+                }
+            }
+            return null;
+        }
+        pool.invokeAll(branches);
+        List<Placement> solution = null;
+        for (Branch branch : branches) {
+            lastNodeCount += branch.nodes;
+            if (solution == null) {
+                solution = branch.solution;
+            }
+        }
+        return solution;
+    }
+
+    /**
+     * Adds one branch per placement of a first piece.
+     *
+     * @param branches the list receiving the branches
+     * @param probe    a branch whose move list enumerates the placements
+     * @param piece    the ordinal of the first piece
+     * @param hold     whether the first piece comes from a hold
+     */
+    private void addBranches(List<Branch> branches, Branch probe, int piece, boolean hold) {
+        PieceType pieceType = PieceType.fromOrdinal(piece);
+        PlacementList placements = probe.placements[0];
+        int count = hold
+                ? placements.generate(root, pieceType, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y)
+                : placements.generate(root, pieceType, startRotation, startX, startY);
+        for (int i = 0; i < count; i++) {
+            Branch branch = new Branch();
+            branch.firstHold = hold;
+            branch.firstMove = PackedMove.pack(hold, placements.getTurns(i), placements.getRotation(i),
+                    placements.getX(i), placements.getY(i));
+            branches.add(branch);
+        }
+    }
+
+    /**
+     * Allocates the shared state for a board size, once per size.
+     *
+     * @param rows    the number of rows
+     * @param columns the number of columns
+     */
+    private void prepare(int rows, int columns) {
+        if (root != null && root.getRows() == rows && root.getColumns() == columns) {
+            return;
+        }
+        this.rows = rows;
+        this.columns = columns;
+        root = new Bitboard(rows, columns);
+        keys = new ZobristKeys(rows, columns);
+    }
+
+    /**
+     * Computes for every piece the largest change of the column parity balance
+     * that one placement can make.
+     *
+     * @return the ranges indexed by piece ordinal
+     */
+    private static int[] parityRanges() {
+        PieceType[] types = PieceType.values();
+        int[] ranges = new int[types.length];
+        for (PieceType type : types) {
+            for (int rotation = 0; rotation < type.getRotationCount(); rotation++) {
+                int balance = 0;
+                for (int column : type.getCellColumns(rotation)) {
+                    balance += (column & 1) == 0 ? 1 : -1;
+                }
+                ranges[type.ordinal()] = Math.max(ranges[type.ordinal()], Math.abs(balance));
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * The search below one first-level placement, with its own scratch state.
+     */
+    private final class Branch implements Callable<Void> {
+
+        final Bitboard[] boards = new Bitboard[piecesNeeded + 1];
+        final PlacementList[] placements = new PlacementList[piecesNeeded];
+        final int[] moves = new int[piecesNeeded];
+        final int[] pieces = new int[piecesNeeded];
+        final int[] lines = new int[piecesNeeded];
+        final int[] clearedRows = new int[rows];
+        boolean firstHold;
+        int firstMove;
+        int height;
+        long nodes;
+        List<Placement> solution;
+
+        /**
+         * Allocates the scratch boards and move lists for every depth.
+         */
+        Branch() {
+            for (int depth = 0; depth <= piecesNeeded; depth++) {
+                boards[depth] = new Bitboard(rows, columns);
+                if (depth < piecesNeeded) {
+                    placements[depth] = new PlacementList();
+                }
+            }
+        }
+
+        @Override
+        public Void call() {
+            int piece = rootPiece;
+            int held = rootHeld;
+            int queueIndex = 0;
+            if (firstHold) {
+                held = rootPiece;
+                if (rootHeld >= 0) {
+                    piece = rootHeld;
+                } else {
+                    piece = queue[0];
+                    queueIndex = 1;
+                }
+            }
+            int limit = play(0, root, piece, firstMove, height);
+            if (limit < 0) {
+                return null;
+            }
+            int next = queueIndex < queue.length ? queue[queueIndex] : -1;
+            if (search(1, next, held, queueIndex + 1, limit)) {
+                solution = buildSolution();
+                solved = true;
+            }
+            return null;
+        }
+
+        /**
+         * Searches for a perfect clear from the board at a depth.
+         *
+         * @param depth      the number of pieces placed so far
+         * @param current    the ordinal of the piece to place, or -1 if none is known
+         * @param held       the ordinal of the held piece, or -1 if none
+         * @param queueIndex the number of preview pieces consumed
+         * @param limit      the number of bottom rows still to clear
+         * @return true if a solution was found below this node
+         */
+        private boolean search(int depth, int current, int held, int queueIndex, int limit) {
+            if (limit == 0) {
+                return true;
+            }
+            if (depth == piecesNeeded || current < 0 || solved) {
+                return false;
+            }
+            nodes++;
+            Bitboard board = boards[depth];
+            if (!coverable(board, limit, current, held, queueIndex)) {
+                return false;
+            }
+            long key = keys.hashRows(board, rows - limit, rows) ^ keys.hashState(current, held, queueIndex);
+            if (!searched.offer(key, 1)) {
+                return false;
+            }
+            int next = queueIndex < queue.length ? queue[queueIndex] : -1;
+            if (tryPiece(depth, current, false, held, next, queueIndex + 1, limit)) {
+                return true;
+            }
+            if (held >= 0 && held != current) {
+                return tryPiece(depth, held, true, current, next, queueIndex + 1, limit);
+            }
+            if (held < 0 && next >= 0) {
+                int after = queueIndex + 1 < queue.length ? queue[queueIndex + 1] : -1;
+                return tryPiece(depth, next, true, current, after, queueIndex + 2, limit);
+            }
+            return false;
+        }
+
+        /**
+         * Tries every placement of one piece from spawn.
+         *
+         * @param depth      the number of pieces placed so far
+         * @param piece      the ordinal of the piece to place
+         * @param hold       whether the piece comes from a hold
+         * @param held       the held piece after the placement
+         * @param next       the piece to place after this one, or -1
+         * @param queueIndex the number of preview pieces consumed after this one
+         * @param limit      the number of bottom rows still to clear
+         * @return true if a solution was found
+         */
+        private boolean tryPiece(int depth, int piece, boolean hold, int held, int next, int queueIndex,
+                                 int limit) {
+            Bitboard board = boards[depth];
+            PlacementList list = placements[depth];
+            int count = list.generate(board, PieceType.fromOrdinal(piece), 0, PieceType.SPAWN_X, PieceType.SPAWN_Y);
+            for (int i = 0; i < count; i++) {
+                int move = PackedMove.pack(hold, list.getTurns(i), list.getRotation(i), list.getX(i), list.getY(i));
+                int nextLimit = play(depth, board, piece, move, limit);
+                if (nextLimit >= 0 && search(depth + 1, next, held, queueIndex, nextLimit)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Plays a move onto the board of the next depth if it stays within the
+         * target rows.
+         *
+         * @param depth the depth the move is played at
+         * @param from  the board before the move
+         * @param piece the ordinal of the placed piece
+         * @param move  the packed move
+         * @param limit the number of bottom rows still to clear
+         * @return the rows still to clear after the move, or -1 if the piece
+         * reaches above the target rows
+         */
+        private int play(int depth, Bitboard from, int piece, int move, int limit) {
+            PieceType pieceType = PieceType.fromOrdinal(piece);
+            int rotation = PackedMove.rotation(move);
+            int y = PackedMove.y(move);
+            if (y + pieceType.getMinRow(rotation) < rows - limit) {
+                return -1;
+            }
+            Bitboard next = boards[depth + 1];
+            next.copyFrom(from);
+            next.place(pieceType.getRowMasks(rotation), PackedMove.x(move), y);
+            int cleared = next.clearFullRows(clearedRows);
+            moves[depth] = move;
+            pieces[depth] = piece;
+            lines[depth] = cleared;
+            return limit - cleared;
+        }
+
+        /**
+         * Checks the region and column parity conditions of a board.
+         *
+         * @param board      the board to check
+         * @param limit      the number of bottom rows still to clear
+         * @param current    the ordinal of the current piece
+         * @param held       the ordinal of the held piece, or -1
+         * @param queueIndex the number of preview pieces consumed
+         * @return false if the empty cells certainly cannot be covered
+         */
+        private boolean coverable(Bitboard board, int limit, int current, int held, int queueIndex) {
+            long playfield = (1L << columns) - 1;
+            long fullColumns = playfield;
+            int balance = 0;
+            for (int row = rows - limit; row < rows; row++) {
+                long bits = board.getRowBits(row);
+                fullColumns &= bits;
+                long empty = ~bits & playfield;
+                balance += Long.bitCount(empty & EVEN_COLUMNS) - Long.bitCount(empty & ~EVEN_COLUMNS);
+            }
+            int capacity = PARITY_RANGE[current] + (held >= 0 ? PARITY_RANGE[held] : 0)
+                    + parityCapacity[Math.min(queueIndex, queue.length)];
+            if (Math.abs(balance) > capacity) {
+                return false;
+            }
+            long open = ~fullColumns & playfield;
+            while (open != 0) {
+                long low = open & -open;
+                long region = open & ~(open + low);
+                open &= ~region;
+                int emptyCells = 0;
+                for (int row = rows - limit; row < rows; row++) {
+                    emptyCells += Long.bitCount(~board.getRowBits(row) & region);
+                }
+                if (emptyCells % CELLS_PER_PIECE != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Converts the moves on the current path into placements.
+         *
+         * @return the placements in play order
+         */
+        private List<Placement> buildSolution() {
+            List<Placement> result = new ArrayList<>();
+            for (int depth = 0; depth < piecesNeeded; depth++) {
+                int move = moves[depth];
+                boolean hold = PackedMove.isHold(move);
+                int x = PackedMove.x(move);
+                int fromX = depth == 0 && !hold ? startX : PieceType.SPAWN_X;
+                result.add(new Placement(PieceType.fromOrdinal(pieces[depth]), PackedMove.rotation(move), x,
+                        PackedMove.y(move), hold, PackedMove.turns(move), x - fromX, lines[depth], 0));
+                if (boards[depth + 1].findTopFilledRow() == rows) {
+                    break;
+                }
+            }
+            return Collections.unmodifiableList(result);
+        }
+    }
+}
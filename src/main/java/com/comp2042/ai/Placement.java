@@ -0,0 +1,303 @@
+package com.comp2042.ai;
+
+import com.comp2042.engine.GameEngine;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.LockResult;
+import com.comp2042.view.DownData;
+import com.comp2042.view.EventSource;
+import com.comp2042.view.EventType;
+import com.comp2042.view.InputEventListener;
+import com.comp2042.view.MoveEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable final position of a piece chosen by the AI, together with the
+ * inputs that bring the piece there.
+ * <p>
+ * The inputs are relative to the position the piece had when the placement was
+ * searched: an optional hold, a number of counterclockwise rotations in place,
+ * a horizontal shift, then a hard drop. After a hold the rotations and the
+ * shift apply to the swapped-in piece, which starts at the spawn position.
+ * Placements found by {@link MoveGenerator} instead carry an explicit move
+ * sequence, which may mix soft drops, shifts and rotations to reach tucks
+ * and spins.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Describes the final rotation, column and row of a piece</li>
+ *   <li>Reports the evaluation score and the lines the placement clears</li>
+ *   <li>Produces the input sequence that reaches the placement</li>
+ *   <li>Plays the inputs on a {@link GameEngine} or an {@link InputEventListener}</li>
+ * </ul>
+ */
+public final class Placement {
+
+    private final PieceType pieceType;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final boolean hold;
+    private final int rotations;
+    private final int shift;
+    private final int linesCleared;
+    private final double score;
+    private final List<EventType> moves;
+
+    /**
+     * Constructs a placement.
+     *
+     * @param pieceType    the placed piece
+     * @param rotation     the final rotation index
+     * @param x            the final column offset
+     * @param y            the final row offset
+     * @param hold         whether the piece is swapped in by a hold first
+     * @param rotations    the number of rotate inputs from the search start
+     * @param shift        the column shift from the search start, negative to the left
+     * @param linesCleared the number of rows the placement completes
+     * @param score        the evaluation of the board after the placement
+     */
+    public Placement(PieceType pieceType, int rotation, int x, int y, boolean hold, int rotations, int shift,
+                     int linesCleared, double score) {
+        this.pieceType = pieceType;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.hold = hold;
+        this.rotations = rotations;
+        this.shift = shift;
+        this.linesCleared = linesCleared;
+        this.score = score;
+        this.moves = null;
+    }
+
+    /**
+     * Constructs a placement reached by an explicit move sequence.
+     *
+     * @param pieceType    the placed piece
+     * @param rotation     the final rotation index
+     * @param x            the final column offset
+     * @param y            the final row offset
+     * @param hold         whether the piece is swapped in by a hold first
+     * @param moves        the moves after the optional hold, ending with a hard drop
+     * @param linesCleared the number of rows the placement completes
+     * @param score        the evaluation of the board after the placement
+     */
+    public Placement(PieceType pieceType, int rotation, int x, int y, boolean hold, List<EventType> moves,
+                     int linesCleared, double score) {
+        this.pieceType = pieceType;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.hold = hold;
+        this.moves = List.copyOf(moves);
+        int rotateCount = 0;
+        int netShift = 0;
+        for (EventType move : moves) {
+            if (move == EventType.ROTATE) {
+                rotateCount++;
+            } else if (move == EventType.RIGHT) {
+                netShift++;
+            } else if (move == EventType.LEFT) {
+                netShift--;
+            }
+        }
+        this.rotations = rotateCount;
+        this.shift = netShift;
+        this.linesCleared = linesCleared;
+        this.score = score;
+    }
+
+    /**
+     * Gets the input sequence that moves the piece from the search start to
+     * this placement and locks it.
+     *
+     * @return the hold, rotate, shift and soft drop inputs followed by a hard drop
+     */
+    public List<EventType> getInputs() {
+        if (moves != null) {
+            List<EventType> inputs = new ArrayList<>(moves.size() + 1);
+            if (hold) {
+                inputs.add(EventType.HOLD);
+            }
+            inputs.addAll(moves);
+            return inputs;
+        }
+        List<EventType> inputs = new ArrayList<>(rotations + Math.abs(shift) + 2);
+        if (hold) {
+            inputs.add(EventType.HOLD);
+        }
+        for (int i = 0; i < rotations; i++) {
+            inputs.add(EventType.ROTATE);
+        }
+        EventType direction = shift < 0 ? EventType.LEFT : EventType.RIGHT;
+        for (int i = Math.abs(shift); i > 0; i--) {
+            inputs.add(direction);
+        }
+        inputs.add(EventType.HARD_DROP);
+        return inputs;
+    }
+
+    /**
+     * Plays the inputs of this placement on an engine.
+     *
+     * @param engine the game whose current piece this placement was searched for
+     * @return the lock outcome of the final hard drop, or null if the game is over
+     */
+    public LockResult applyTo(GameEngine engine) {
+        if (hold) {
+            engine.hold();
+        }
+        if (moves != null) {
+            for (EventType move : moves) {
+                switch (move) {
+                    case LEFT -> engine.moveLeft();
+                    case RIGHT -> engine.moveRight();
+                    case ROTATE -> engine.rotate();
+                    case DOWN -> engine.softDrop();
+                    case HARD_DROP -> {
+                        return engine.hardDrop();
+                    }
+                    default -> throw new IllegalStateException("Unexpected move: " + move);
+                }
+            }
+            return engine.hardDrop();
+        }
+        for (int i = 0; i < rotations; i++) {
+            engine.rotate();
+        }
+        for (int i = shift; i < 0; i++) {
+            engine.moveLeft();
+        }
+        for (int i = shift; i > 0; i--) {
+            engine.moveRight();
+        }
+        return engine.hardDrop();
+    }
+
+    /**
+     * Plays the inputs of this placement through an input listener, the same
+     * way keyboard input reaches the game.
+     *
+     * @param listener the listener driving the game
+     * @return the outcome of the final hard drop
+     */
+    public DownData playOn(InputEventListener listener) {
+        MoveEvent event = new MoveEvent(EventSource.USER);
+        if (hold) {
+            listener.onHoldEvent();
+        }
+        if (moves != null) {
+            for (EventType move : moves) {
+                switch (move) {
+                    case LEFT -> listener.onLeftEvent(event);
+                    case RIGHT -> listener.onRightEvent(event);
+                    case ROTATE -> listener.onRotateEvent(event);
+                    case DOWN -> listener.onDownEvent(event);
+                    case HARD_DROP -> {
+                        return listener.onHardDrop(listener.getCurrentBrick());
+                    }
+                    default -> throw new IllegalStateException("Unexpected move: " + move);
+                }
+            }
+            return listener.onHardDrop(listener.getCurrentBrick());
+        }
+        for (int i = 0; i < rotations; i++) {
+            listener.onRotateEvent(event);
+        }
+        for (int i = shift; i < 0; i++) {
+            listener.onLeftEvent(event);
+        }
+        for (int i = shift; i > 0; i--) {
+            listener.onRightEvent(event);
+        }
+        return listener.onHardDrop(listener.getCurrentBrick());
+    }
+
+    /**
+     * Gets the placed piece.
+     *
+     * @return the piece type
+     */
+    public PieceType getPieceType() {
+        return pieceType;
+    }
+
+    /**
+     * Gets the final rotation of the piece.
+     *
+     * @return the rotation index
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the final column offset of the piece.
+     *
+     * @return the horizontal position of the shape matrix
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the final row offset of the piece.
+     *
+     * @return the vertical position of the shape matrix
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Checks whether the placement starts with a hold.
+     *
+     * @return true if the placed piece is swapped in by a hold
+     */
+    public boolean isHold() {
+        return hold;
+    }
+
+    /**
+     * Gets the number of rotate inputs.
+     *
+     * @return the counterclockwise rotations from the search start
+     */
+    public int getRotations() {
+        return rotations;
+    }
+
+    /**
+     * Gets the horizontal shift.
+     *
+     * @return the column shift from the search start, negative to the left
+     */
+    public int getShift() {
+        return shift;
+    }
+
+    /**
+     * Gets the number of rows the placement completes.
+     *
+     * @return the lines cleared
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Gets the evaluation of the board after the placement.
+     *
+     * @return the heuristic score, higher is better
+     */
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return (hold ? "hold " : "") + pieceType + " r" + rotation + " @(" + x + "," + y + ") score=" + score;
+    }
+}
@@ -0,0 +1,145 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+
+import java.util.Arrays;
+
+/**
+ * Reusable list of the final placements a piece can reach.
+ * <p>
+ * {@link #generate(Bitboard, PieceType, int, int, int)} enumerates every
+ * placement reachable by rotating the piece in place, shifting it sideways and
+ * hard dropping it, which covers every rotation and column the piece can reach
+ * on an open stack. Placements are stored in parallel primitive arrays that
+ * only grow, so regenerating the list for every piece does not allocate.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Enumerates reachable rotations and columns of a piece</li>
+ *   <li>Finds the landing row of every candidate</li>
+ *   <li>Stores the rotation inputs, column and row of every placement</li>
+ * </ul>
+ */
+public final class PlacementList {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] rotations = new int[INITIAL_CAPACITY];
+    private int[] turns = new int[INITIAL_CAPACITY];
+    private int[] xs = new int[INITIAL_CAPACITY];
+    private int[] ys = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Replaces the contents of the list with the placements of a piece.
+     * <p>
+     * The piece first rotates counterclockwise at its start position, then
+     * shifts to each reachable column and drops. A drop starts just above the
+     * topmost filled row, since the rows above it cannot block the piece.
+     *
+     * @param board     the occupancy to place on
+     * @param pieceType the piece to place
+     * @param rotation  the rotation the piece starts in
+     * @param x         the column offset the piece starts at
+     * @param y         the row offset the piece starts at
+     * @return the number of placements, 0 if the piece is blocked at its start
+     */
+    public int generate(Bitboard board, PieceType pieceType, int rotation, int x, int y) {
+        size = 0;
+        int rotationCount = pieceType.getRotationCount();
+        int stackTop = board.findTopFilledRow();
+        for (int turn = 0; turn < rotationCount; turn++) {
+            int candidateRotation = (rotation + turn) % rotationCount;
+            long[] shapeRows = pieceType.getRowMasks(candidateRotation);
+            if (board.intersects(shapeRows, x, y)) {
+                break;
+            }
+            int freeFall = Math.max(y, stackTop - pieceType.getMaxRow(candidateRotation) - 1);
+            int left = x;
+            while (!board.intersects(shapeRows, left - 1, y)) {
+                left--;
+            }
+            for (int column = left; !board.intersects(shapeRows, column, y); column++) {
+                int landing = freeFall;
+                while (!board.intersects(shapeRows, column, landing + 1)) {
+                    landing++;
+                }
+                add(candidateRotation, turn, column, landing);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Appends a placement, growing the arrays if needed.
+     *
+     * @param rotation the final rotation index
+     * @param turn     the number of rotate inputs
+     * @param x        the final column offset
+     * @param y        the final row offset
+     */
+    private void add(int rotation, int turn, int x, int y) {
+        if (size == xs.length) {
+            int capacity = size * 2;
+            rotations = Arrays.copyOf(rotations, capacity);
+            turns = Arrays.copyOf(turns, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+        }
+        rotations[size] = rotation;
+        turns[size] = turn;
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+    }
+
+    /**
+     * Gets the number of placements.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the final rotation of a placement.
+     *
+     * @param index the placement index
+     * @return the rotation index
+     */
+    public int getRotation(int index) {
+        return rotations[index];
+    }
+
+    /**
+     * Gets the number of rotate inputs of a placement.
+     *
+     * @param index the placement index
+     * @return the counterclockwise rotations from the start rotation
+     */
+    public int getTurns(int index) {
+        return turns[index];
+    }
+
+    /**
+     * Gets the final column offset of a placement.
+     *
+     * @param index the placement index
+     * @return the horizontal position of the shape matrix
+     */
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    /**
+     * Gets the final row offset of a placement.
+     *
+     * @param index the placement index
+     * @return the vertical position of the shape matrix
+     */
+    public int getY(int index) {
+        return ys[index];
+    }
+}
@@ -0,0 +1,231 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+import com.comp2042.model.BitboardBoard;
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardMetric;
+import com.comp2042.model.BoardMetrics;
+
+/**
+ * Finds the best final placement of a piece with a one-piece heuristic search.
+ * <p>
+ * For the current piece the search enumerates the reachable placements with a
+ * {@link PlacementList}, or with a {@link MoveGenerator} when tucks and spins
+ * should be included. It places each candidate on a scratch {@link Bitboard},
+ * clears completed rows and scores the result with a {@link BoardEvaluator}.
+ * When searching a {@link Board}, candidates that clear no lines are instead
+ * scored from the board's incrementally maintained {@link BoardMetrics}, which
+ * costs time proportional to the piece rather than the board.
+ * <p>
+ * All scratch state is allocated once and reused, so evaluating candidates
+ * does not allocate; only the returned {@link Placement} is a new object. An
+ * instance is not thread-safe; give every thread its own search.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Copies the occupancy of any {@link Board} into a scratch bitboard</li>
+ *   <li>Scores every reachable placement of a piece</li>
+ *   <li>Returns the highest scoring placement</li>
+ * </ul>
+ */
+public final class PlacementSearch {
+
+    private final BoardEvaluator evaluator;
+    private final PlacementList placements = new PlacementList();
+    private final MoveGenerator moveGenerator;
+    private Bitboard root;
+    private Bitboard work;
+    private int[] clearedRows;
+    private final int[] metricValues = new int[BoardMetric.COUNT];
+    private BoardMetrics metrics;
+    private int lastLines;
+
+    /**
+     * Constructs a search with the default weights.
+     */
+    public PlacementSearch() {
+        this(EvaluationWeights.DEFAULT);
+    }
+
+    /**
+     * Constructs a search with the given weights.
+     *
+     * @param weights the weights of the board evaluation
+     */
+    public PlacementSearch(EvaluationWeights weights) {
+        this(weights, false);
+    }
+
+    /**
+     * Constructs a search that optionally considers every reachable placement.
+     * <p>
+     * With {@code allReachable} the candidates come from a {@link MoveGenerator},
+     * which adds tucks and spins reached with soft drops, and the returned
+     * placement carries its shortest move sequence.
+     *
+     * @param weights      the weights of the board evaluation
+     * @param allReachable whether to search every reachable placement instead of
+     *                     the hard-drop placements only
+     */
+    public PlacementSearch(EvaluationWeights weights, boolean allReachable) {
+        this.evaluator = new BoardEvaluator(weights);
+        this.moveGenerator = allReachable ? new MoveGenerator() : null;
+    }
+
+    /**
+     * Copies the occupancy of a board into a bitboard of the same size.
+     *
+     * @param board  the board to read
+     * @param target the bitboard receiving the occupancy
+     */
+    public static void loadOccupancy(Board board, Bitboard target) {
+        if (board instanceof BitboardBoard bitboardBoard) {
+            target.copyFrom(bitboardBoard.getBitboard());
+        } else {
+            target.loadFrom(board.getBoardMatrix());
+        }
+    }
+
+    /**
+     * Finds the best placement of the current piece of a board.
+     * <p>
+     * The search starts from the piece's current rotation and position, so the
+     * inputs of the returned placement can be played right away.
+     *
+     * @param board the board whose current piece is placed
+     * @return the best placement, or null if there is no piece or it is blocked
+     */
+    public Placement findBest(Board board) {
+        Brick brick = board.getCurrentBrick();
+        if (brick == null) {
+            return null;
+        }
+        int[][] matrix = board.getBoardMatrix();
+        ensureCapacity(matrix.length, matrix[0].length);
+        loadOccupancy(board, root);
+        metrics = board.getMetrics();
+        try {
+            return findBest(root, brick.getType(), board.getBrickRotation(), board.getBrickX(), board.getBrickY());
+        } finally {
+            metrics = null;
+        }
+    }
+
+    /**
+     * Finds the best placement of a piece on a bitboard.
+     *
+     * @param board     the occupancy to place on, left unchanged
+     * @param pieceType the piece to place
+     * @param rotation  the rotation the piece starts in
+     * @param x         the column offset the piece starts at
+     * @param y         the row offset the piece starts at
+     * @return the best placement, or null if the piece is blocked at its start
+     */
+    public Placement findBest(Bitboard board, PieceType pieceType, int rotation, int x, int y) {
+        ensureCapacity(board.getRows(), board.getColumns());
+        if (moveGenerator != null) {
+            return findBestReachable(board, pieceType, rotation, x, y);
+        }
+        int count = placements.generate(board, pieceType, rotation, x, y);
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        int bestLines = 0;
+        for (int i = 0; i < count; i++) {
+            double score = evaluate(board, pieceType, placements.getRotation(i), placements.getX(i),
+                    placements.getY(i));
+            if (score > bestScore) {
+                bestScore = score;
+                best = i;
+                bestLines = lastLines;
+            }
+        }
+        if (best < 0) {
+            return null;
+        }
+        return new Placement(pieceType, placements.getRotation(best), placements.getX(best), placements.getY(best),
+                false, placements.getTurns(best), placements.getX(best) - x, bestLines, bestScore);
+    }
+
+    /**
+     * Finds the best of every placement reachable with soft drops.
+     *
+     * @param board     the occupancy to place on, left unchanged
+     * @param pieceType the piece to place
+     * @param rotation  the rotation the piece starts in
+     * @param x         the column offset the piece starts at
+     * @param y         the row offset the piece starts at
+     * @return the best placement with its move sequence, or null if the piece
+     * is blocked at its start
+     */
+    private Placement findBestReachable(Bitboard board, PieceType pieceType, int rotation, int x, int y) {
+        int count = moveGenerator.generate(board, pieceType, rotation, x, y);
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        int bestLines = 0;
+        for (int i = 0; i < count; i++) {
+            double score = evaluate(board, pieceType, moveGenerator.getRotation(i), moveGenerator.getX(i),
+                    moveGenerator.getY(i));
+            if (score > bestScore) {
+                bestScore = score;
+                best = i;
+                bestLines = lastLines;
+            }
+        }
+        if (best < 0) {
+            return null;
+        }
+        return new Placement(pieceType, moveGenerator.getRotation(best), moveGenerator.getX(best),
+                moveGenerator.getY(best), false, moveGenerator.getPath(best), bestLines, bestScore);
+    }
+
+    /**
+     * Scores the board after a placement and remembers the lines it clears in
+     * {@code lastLines}.
+     * <p>
+     * The board's metrics are used when they are available and the placement
+     * clears no lines; otherwise the placement is played on a scratch copy.
+     *
+     * @param board     the occupancy to place on, left unchanged
+     * @param pieceType the placed piece
+     * @param rotation  the final rotation
+     * @param x         the final column offset
+     * @param y         the final row offset
+     * @return the evaluation of the resulting board
+     */
+    private double evaluate(Bitboard board, PieceType pieceType, int rotation, int x, int y) {
+        if (metrics != null && metrics.measurePlacement(pieceType, rotation, x, y, metricValues)) {
+            lastLines = 0;
+            return evaluator.evaluate(metricValues);
+        }
+        work.copyFrom(board);
+        work.place(pieceType.getRowMasks(rotation), x, y);
+        lastLines = work.clearFullRows(clearedRows);
+        return evaluator.evaluate(work, lastLines);
+    }
+
+    /**
+     * Gets the evaluator this search scores boards with.
+     *
+     * @return the board evaluator
+     */
+    public BoardEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    /**
+     * Allocates the scratch state for a board size, once per size.
+     *
+     * @param rows    the number of rows
+     * @param columns the number of columns
+     */
+    private void ensureCapacity(int rows, int columns) {
+        if (work != null && work.getRows() == rows && work.getColumns() == columns) {
+            return;
+        }
+        root = new Bitboard(rows, columns);
+        work = new Bitboard(rows, columns);
+        clearedRows = new int[rows];
+    }
+}
@@ -0,0 +1,148 @@
+package com.comp2042.ai;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Lock-free hash table that keeps the best value offered for each position key.
+ * <p>
+ * Keys and values live in two flat {@code long[]} arrays with open addressing
+ * and linear probing. A slot is claimed by a compare-and-set on its key and
+ * its value is raised with a compare-and-set loop, so any number of threads
+ * can offer values at the same time without locking. Since the result is the
+ * maximum of everything offered, it does not depend on thread scheduling.
+ * <p>
+ * Entries are never removed individually; {@link #clear()} empties the table
+ * and must not run concurrently with {@link #offer(long, long)}. When a probe
+ * sequence is full the offer is not recorded, and {@link #get(long)} then
+ * reports the key as absent.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Records the maximum value per key from many threads</li>
+ *   <li>Looks up the best value of a key</li>
+ *   <li>Clears all entries between search layers</li>
+ * </ul>
+ */
+public final class TranspositionTable {
+
+    /**
+     * Value reported for keys that are not in the table.
+     */
+    public static final long ABSENT = Long.MIN_VALUE;
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final long EMPTY = 0;
+    private static final long ZERO_KEY = 0x9E3779B97F4A7C15L;
+    private static final int MAX_PROBES = 32;
+
+    private final long[] keys;
+    private final long[] values;
+    private final int mask;
+
+    /**
+     * Constructs an empty table.
+     *
+     * @param minCapacity the smallest number of slots, rounded up to a power of two
+     */
+    public TranspositionTable(int minCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, minCapacity - 1)) << 1;
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        clear();
+    }
+
+    /**
+     * Offers a value for a key, keeping it if it beats the recorded value.
+     *
+     * @param key   the position key
+     * @param value the value to offer, compared as a signed long
+     * @return true if the value was recorded or the table had no room for the
+     * key, false if an equal or better value was already recorded
+     */
+    public boolean offer(long key, long value) {
+        long stored = key == EMPTY ? ZERO_KEY : key;
+        int slot = spread(stored);
+        for (int probe = 0; probe < MAX_PROBES; probe++, slot = (slot + 1) & mask) {
+            long current = (long) SLOTS.getVolatile(keys, slot);
+            if (current == EMPTY) {
+                if (SLOTS.compareAndSet(keys, slot, EMPTY, stored)) {
+                    return raise(slot, value);
+                }
+                current = (long) SLOTS.getVolatile(keys, slot);
+            }
+            if (current == stored) {
+                return raise(slot, value);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Raises the value of a slot to at least the given value.
+     *
+     * @param slot  the slot index
+     * @param value the offered value
+     * @return true if the offered value is now the recorded one
+     */
+    private boolean raise(int slot, long value) {
+        long current = (long) SLOTS.getVolatile(values, slot);
+        while (value > current) {
+            if (SLOTS.compareAndSet(values, slot, current, value)) {
+                return true;
+            }
+            current = (long) SLOTS.getVolatile(values, slot);
+        }
+        return false;
+    }
+
+    /**
+     * Gets the best value offered for a key.
+     *
+     * @param key the position key
+     * @return the recorded value, or {@link #ABSENT} if the key is not in the table
+     */
+    public long get(long key) {
+        long stored = key == EMPTY ? ZERO_KEY : key;
+        int slot = spread(stored);
+        for (int probe = 0; probe < MAX_PROBES; probe++, slot = (slot + 1) & mask) {
+            long current = (long) SLOTS.getVolatile(keys, slot);
+            if (current == stored) {
+                return (long) SLOTS.getVolatile(values, slot);
+            }
+            if (current == EMPTY) {
+                return ABSENT;
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, ABSENT);
+    }
+
+    /**
+     * Gets the number of slots.
+     *
+     * @return the table capacity
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Maps a key onto its first slot.
+     *
+     * @param key the stored key
+     * @return the slot index
+     */
+    private int spread(long key) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,133 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.logic.bricks.SplitMix64;
+import com.comp2042.model.Bitboard;
+
+/**
+ * Random 64-bit keys for Zobrist hashing of search positions.
+ * <p>
+ * The hash of a board is the XOR of the keys of its filled cells, so placing a
+ * piece updates it with one XOR per piece cell. A line clear only renumbers the
+ * rows above the lowest cleared row, so only those rows are rehashed; see
+ * {@link #hashRows(Bitboard, int, int)}. Keys for the current and held piece
+ * and for the preview position complete the hash of a search node.
+ * <p>
+ * The keys come from a fixed seed, so hashes are identical across runs and
+ * threads. Instances are immutable and may be shared.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Provides one key per board cell</li>
+ *   <li>Hashes whole boards and row ranges</li>
+ *   <li>Hashes piece placements</li>
+ *   <li>Provides keys for the piece state of a search node</li>
+ * </ul>
+ */
+public final class ZobristKeys {
+
+    private static final long SEED = 0x2042_5A0B_2157L;
+    private static final int PIECE_STATES = PieceType.values().length + 1;
+
+    private final int rows;
+    private final int columns;
+    private final long[] cellKeys;
+    private final long[] currentKeys;
+    private final long[] heldKeys;
+    private final long[] queueKeys;
+
+    /**
+     * Constructs the keys for a board size.
+     *
+     * @param rows    the number of rows
+     * @param columns the number of columns
+     */
+    public ZobristKeys(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        SplitMix64 random = new SplitMix64(SEED);
+        cellKeys = fill(random, rows * columns);
+        currentKeys = fill(random, PIECE_STATES);
+        heldKeys = fill(random, PIECE_STATES);
+        queueKeys = fill(random, Long.SIZE);
+    }
+
+    /**
+     * Creates an array of random keys.
+     *
+     * @param random the key source
+     * @param count  the number of keys
+     * @return the keys
+     */
+    private static long[] fill(SplitMix64 random, int count) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = random.nextLong();
+        }
+        return keys;
+    }
+
+    /**
+     * Hashes a whole board.
+     *
+     * @param board the board to hash
+     * @return the XOR of the keys of every filled cell
+     */
+    public long hash(Bitboard board) {
+        return hashRows(board, 0, rows);
+    }
+
+    /**
+     * Hashes a range of rows.
+     *
+     * @param board the board to hash
+     * @param from  the first row, inclusive
+     * @param to    the last row, exclusive
+     * @return the XOR of the keys of the filled cells in the range
+     */
+    public long hashRows(Bitboard board, int from, int to) {
+        long hash = 0;
+        for (int row = Math.max(0, from); row < to; row++) {
+            long bits = board.getRowBits(row);
+            int base = row * columns;
+            while (bits != 0) {
+                hash ^= cellKeys[base + Long.numberOfTrailingZeros(bits)];
+                bits &= bits - 1;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes the cells of a piece placement.
+     * <p>
+     * XOR this into the hash of a board to account for placing the piece.
+     *
+     * @param pieceType the placed piece
+     * @param rotation  the rotation index
+     * @param x         the column offset
+     * @param y         the row offset
+     * @return the XOR of the keys of the piece cells
+     */
+    public long hashPiece(PieceType pieceType, int rotation, int x, int y) {
+        int[] cellRows = pieceType.getCellRows(rotation);
+        int[] cellColumns = pieceType.getCellColumns(rotation);
+        long hash = 0;
+        for (int i = 0; i < cellRows.length; i++) {
+            hash ^= cellKeys[(y + cellRows[i]) * columns + x + cellColumns[i]];
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes the piece state of a search node.
+     *
+     * @param current    the ordinal of the piece to play next, or -1 if none
+     * @param held       the ordinal of the held piece, or -1 if none
+     * @param queueIndex the number of preview pieces consumed
+     * @return the combined key
+     */
+    public long hashState(int current, int held, int queueIndex) {
+        return currentKeys[current + 1] ^ heldKeys[held + 1] ^ queueKeys[queueIndex & (Long.SIZE - 1)];
+    }
+}
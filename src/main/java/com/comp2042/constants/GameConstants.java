@@ -52,6 +52,22 @@ public final class GameConstants {
 
     public static final double GHOST_STROKE_WIDTH = 1.5;
 
+    // Hint Ghost Setting
+
+    public static final double HINT_OPACITY = 0.8;
+
+    public static final double HINT_STROKE_WIDTH = 2.0;
+
+    public static final double HINT_DASH_LENGTH = 4.0;
+
+    // Garbage Rows
+
+    public static final int GARBAGE_COLOR_CODE = 8;
+
+    // Versus Mode
+
+    public static final int OPPONENT_BRICK_SIZE = 12;
+
     // Time Attack Mode
 
     public static final int CRITICAL_TIME_THRESHOLD_SECONDS = 30;
@@ -0,0 +1,189 @@
+package com.comp2042.controller;
+
+import com.comp2042.ai.BoardSnapshot;
+import com.comp2042.ai.OpeningBook;
+import com.comp2042.ai.Placement;
+import com.comp2042.ai.PlacementSearch;
+import com.comp2042.constants.GameConstants;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.model.ViewData;
+import com.comp2042.view.InputEventListener;
+import javafx.animation.AnimationTimer;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Lets the heuristic AI play the game at high speed for demos and visual
+ * stress tests.
+ * <p>
+ * The bot runs on an {@link AnimationTimer}, so it gets exactly one callback
+ * per display frame on the FX thread. In each frame it places as many pieces
+ * as its speed allows, within a fixed time budget that keeps the frame rate
+ * up. Every piece goes through the {@link InputEventListener}, the same path
+ * keyboard input takes. After the pieces of a frame have been played, a
+ * single frame callback is handed the new falling piece and redraws the view. The view is expected to defer its
+ * redraws while the bot is running, so it redraws at most once per frame
+ * however many pieces were placed.
+ * <p>
+ * During the first bag of a game the bot plays the moves of an
+ * {@link OpeningBook}, if one is given and knows the position.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Plays pieces chosen by a {@link PlacementSearch} through the listener</li>
+ *   <li>Plays book moves in the opening</li>
+ *   <li>Places up to a set number of pieces per display frame</li>
+ *   <li>Bounds the time spent per frame</li>
+ *   <li>Start, stop, pause and resume</li>
+ * </ul>
+ */
+public class BotAutoPlayer {
+
+    /**
+     * Default number of pieces placed per display frame.
+     */
+    public static final int DEFAULT_PIECES_PER_FRAME = 20;
+
+    private static final long FRAME_BUDGET_NANOS = 8_000_000L;
+
+    private final InputEventListener eventListener;
+
+    private final GameEngine engine;
+
+    private final OpeningBook openingBook;
+
+    private final BooleanSupplier isFinished;
+
+    private final Consumer<ViewData> onFrame;
+
+    private final int piecesPerFrame;
+
+    private final PlacementSearch search = new PlacementSearch();
+
+    private AnimationTimer timer;
+
+    private boolean isRunning;
+
+    /**
+     * Constructs a bot.
+     *
+     * @param eventListener  the listener the bot plays its moves through
+     * @param engine         the game the bot plans its placements for
+     * @param openingBook    the book consulted in the opening, or null
+     * @param isFinished     tells the bot to stop placing pieces, for example
+     *                       when the game is over
+     * @param onFrame        the callback run once per frame after the frame's
+     *                       pieces are played, with the piece now falling;
+     *                       usually a redraw
+     * @param piecesPerFrame the maximum number of pieces placed per frame
+     * @throws IllegalArgumentException if the piece count is not positive
+     */
+    public BotAutoPlayer(InputEventListener eventListener, GameEngine engine, OpeningBook openingBook,
+                         BooleanSupplier isFinished, Consumer<ViewData> onFrame, int piecesPerFrame) {
+        if (piecesPerFrame <= 0) {
+            throw new IllegalArgumentException("Pieces per frame must be positive: " + piecesPerFrame);
+        }
+        this.eventListener = eventListener;
+        this.engine = engine;
+        this.openingBook = openingBook;
+        this.isFinished = isFinished;
+        this.onFrame = onFrame;
+        this.piecesPerFrame = piecesPerFrame;
+    }
+
+    /**
+     * Starts playing, one batch of pieces per display frame.
+     * If the bot is already running it is restarted.
+     */
+    public void start() {
+        stop();
+
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                playFrame();
+            }
+        };
+        timer.start();
+        isRunning = true;
+    }
+
+    /**
+     * Stops playing and releases the frame timer.
+     */
+    public void stop() {
+        if (timer != null) {
+            timer.stop();
+            timer = null;
+        }
+        isRunning = false;
+    }
+
+    /**
+     * Pauses the bot. It can be resumed with resume().
+     */
+    public void pause() {
+        if (timer != null && isRunning) {
+            timer.stop();
+            isRunning = false;
+        }
+    }
+
+    /**
+     * Resumes a paused bot.
+     */
+    public void resume() {
+        if (timer != null && !isRunning) {
+            timer.start();
+            isRunning = true;
+        }
+    }
+
+    /**
+     * Plays the pieces of one frame and then runs the frame callback.
+     * <p>
+     * Stops early when the game is finished or the frame's time budget is
+     * spent.
+     */
+    void playFrame() {
+        long deadline = System.nanoTime() + FRAME_BUDGET_NANOS;
+        int played = 0;
+        while (played < piecesPerFrame && !isFinished.getAsBoolean() && System.nanoTime() < deadline) {
+            Placement placement = findBookMove();
+            if (placement == null) {
+                placement = search.findBest(engine.getBoard());
+            }
+            if (placement == null) {
+                eventListener.onHardDrop(eventListener.getCurrentBrick());
+            } else {
+                placement.playOn(eventListener);
+            }
+            played++;
+        }
+        onFrame.accept(eventListener.getCurrentBrick());
+    }
+
+    /**
+     * Looks the current position up in the opening book while the game is in
+     * its first bag.
+     *
+     * @return the book move, or null if there is none
+     */
+    private Placement findBookMove() {
+        if (openingBook == null || engine.getPiecesLocked() >= OpeningBook.BAG_SIZE) {
+            return null;
+        }
+        BoardSnapshot snapshot = BoardSnapshot.of(engine, GameConstants.NEXT_PIECE_PREVIEW_COUNT);
+        return snapshot == null ? null : openingBook.lookup(snapshot);
+    }
+
+    /**
+     * Checks if the bot is currently playing.
+     *
+     * @return true if the bot is running, false if stopped or paused
+     */
+    public boolean isRunning() {
+        return isRunning;
+    }
+}
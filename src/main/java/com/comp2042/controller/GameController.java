@@ -1,58 +1,92 @@
 package com.comp2042.controller;
 
-import com.comp2042.logic.bricks.Brick;
+import com.comp2042.ai.BoardSnapshot;
+import com.comp2042.ai.FinesseTracker;
+import com.comp2042.ai.EvaluationWeights;
+import com.comp2042.ai.HintService;
+import com.comp2042.ai.OpeningBook;
+import com.comp2042.ai.Placement;
+import com.comp2042.constants.GameConstants;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.engine.ReplayRecorder;
+import com.comp2042.engine.VersusMatch;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
 import com.comp2042.model.Board;
+import com.comp2042.model.BoardType;
 import com.comp2042.model.ClearRow;
 import com.comp2042.model.HighScoreManager;
 import com.comp2042.model.HighScoreManager.GameMode;
-import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.LockResult;
+import com.comp2042.model.ViewData;
 import com.comp2042.view.*;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.SimpleBooleanProperty;
+import javafx.application.Platform;
 import javafx.util.Duration;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * Central controller responsible for handling game logic, state transitions,
- * and communication between the model ({@link Board}) and the GUI layer
+ * Adapts the headless {@link GameEngine} to the JavaFX GUI layer
  * ({@link GuiController}).
  * <p>
- * This controller manages:
+ * The game rules live in the engine; this controller translates input events
+ * into engine actions and engine results into view updates. It manages:
  * <ul>
- *     <li>Piece movement and collision handling</li>
- *     <li>Row clearing and score updates</li>
- *     <li>Game mode behavior (Classic and Time Attack)</li>
- *     <li>Hold and preview piece systems</li>
- *     <li>Game-over conditions and leaderboard updates</li>
+ *     <li>Forwarding piece movement, drops and hold to the engine</li>
+ *     <li>Game mode behavior (Classic and Time Attack) and the countdown timer</li>
+ *     <li>Preview and hold piece display</li>
+ *     <li>Game-over display and leaderboard updates</li>
+ *     <li>Finesse analysis of the player's keys for every locked piece</li>
+ *     <li>Background best-move hint searches on immutable board snapshots</li>
+ *     <li>High-speed bot auto-play with one redraw per display frame</li>
+ *     <li>Versus mode against an AI opponent with garbage exchange</li>
+ *     <li>Opening book moves for hints, the bot and the AI opponent, if a book file is present</li>
+ *     <li>Replay recording of every game outside versus mode</li>
  * </ul>
  * It receives input events via {@link InputEventListener} and updates the
  * GUI based on the current game state.
  */
 public class GameController implements InputEventListener {
 
-    private final Board gameBoard = new SimpleBoard(25, 10);
+    private static final int TIME_ATTACK_SECONDS = 120;
+
+    private final GameEngine engine = new GameEngine(BoardType.MATRIX.create(25, 10));
+
+    private final Board gameBoard = engine.getBoard();
 
     private final GuiController guiController;
 
     private final HighScoreManager highScoreManager = new HighScoreManager();
 
-    private GameMode currentGameMode = GameMode.CLASSIC;
+    private final FinesseTracker finesseTracker = new FinesseTracker();
 
-    private Timeline timeAttackTimer;
+    private final OpeningBook openingBook = OpeningBook.openDefault();
 
-    private int timeRemaining = 120;
+    private final ReplayRecorder replayRecorder = ReplayRecorder.createDefault();
 
-    private boolean isTimeAttackMode = false;
+    private HintService hintService;
+
+    private boolean hintsEnabled;
 
-    private Brick heldBrick;
+    private long hintRequest;
 
-    private boolean canHold = true;
+    private BotAutoPlayer botPlayer;
 
-    private final BooleanProperty isGameOver = new SimpleBooleanProperty(false);
+    private VersusMatch versusMatch;
+
+    private VersusOpponent versusOpponent;
+
+    private boolean isVersusMode = false;
+
+    private GameMode currentGameMode = GameMode.CLASSIC;
+
+    private Timeline timeAttackTimer;
+
+    private boolean isTimeAttackMode = false;
 
     /**
      * Constructs a GameController with the specified GUI controller.
@@ -62,7 +96,9 @@ public class GameController implements InputEventListener {
      */
     public GameController(GuiController guiController) {
         this.guiController = guiController;
+        startRecording();
         gameBoard.createNewBrick();
+        startPiece();
         this.guiController.setEventListener(this);
         this.guiController.initGameView(gameBoard.getBoardMatrix(), gameBoard.getViewData());
         this.guiController.bindScore(gameBoard.getScore().scoreProperty());
@@ -72,16 +108,17 @@ public class GameController implements InputEventListener {
 
     /**
      * Sets up the timer for Time Attack mode.
-     * The timer counts down from 120 seconds and ends the game when time runs out.
+     * Every second the timer advances the engine's time limit, which ends the
+     * game when time runs out.
      */
     private void setupTimeAttackTimer() {
         timeAttackTimer = new Timeline(
                 new KeyFrame(Duration.seconds(1), _ -> {
-                    if (isTimeAttackMode && timeRemaining > 0) {
-                        timeRemaining--;
-                        guiController.updateTimer(timeRemaining);
+                    if (isTimeAttackMode && !engine.isGameOver()) {
+                        boolean timeUp = engine.elapse(1000);
+                        guiController.updateTimer(getTimeRemainingSeconds());
 
-                        if (timeRemaining <= 0) {
+                        if (timeUp) {
                             endTimeAttackGame();
                         }
                     }
@@ -90,13 +127,21 @@ public class GameController implements InputEventListener {
         timeAttackTimer.setCycleCount(Timeline.INDEFINITE);
     }
 
+    /**
+     * Gets the remaining Time Attack time in whole seconds, rounded up.
+     *
+     * @return the remaining seconds
+     */
+    private int getTimeRemainingSeconds() {
+        return (int) ((engine.getTimeRemainingMillis() + 999) / 1000);
+    }
+
     /**
      * Ends the Time Attack game when time runs out.
      * Stops the timer and triggers game over sequence.
      */
     private void endTimeAttackGame() {
         timeAttackTimer.stop();
-        isGameOver.set(true);
         handleGameOver();
         guiController.gameOver();
     }
@@ -104,9 +149,17 @@ public class GameController implements InputEventListener {
     /**
      * Handles the game over state.
      * Saves the score, updates high score, and displays game over screen.
+     * Versus matches end with the result instead and skip the leaderboard.
      */
     public void handleGameOver() {
-        if (isGameOver.getValue()) {
+        replayRecorder.finish();
+        if (isVersusMode) {
+            versusOpponent.stop();
+            String result = versusMatch.isPlayerWinner() ? "You Win" : "You Lose";
+            guiController.showGameOver(gameBoard.getScore().getScore(), "Versus AI (" + result + ")");
+            return;
+        }
+        if (engine.isGameOver()) {
             int finalScore = gameBoard.getScore().getScore();
 
             highScoreManager.addScore(currentGameMode, finalScore);
@@ -126,12 +179,12 @@ public class GameController implements InputEventListener {
     public void startClassicMode() {
         currentGameMode = GameMode.CLASSIC;
         isTimeAttackMode = false;
+        leaveVersusMode();
 
         if (timeAttackTimer != null) {
             timeAttackTimer.stop();
         }
 
-        timeRemaining = 120;
         createNewGame();
     }
 
@@ -142,11 +195,93 @@ public class GameController implements InputEventListener {
     public void startTimeAttackMode() {
         currentGameMode = GameMode.TIME_ATTACK;
         isTimeAttackMode = true;
-        timeRemaining = 120;
+        leaveVersusMode();
 
         createNewGame();
     }
 
+    /**
+     * Starts a new match against the AI opponent.
+     * <p>
+     * The opponent plays its own engine on the same piece sequence as the
+     * player, searching its moves on a background thread. Line clears on
+     * either side send garbage to the other. The match is played without a
+     * time limit and is not recorded on the leaderboard.
+     *
+     * @param difficulty the search time budget and move rate of the opponent
+     */
+    public void startVersusMode(VersusDifficulty difficulty) {
+        currentGameMode = GameMode.CLASSIC;
+        isTimeAttackMode = false;
+        isVersusMode = true;
+
+        if (timeAttackTimer != null) {
+            timeAttackTimer.stop();
+        }
+        if (versusMatch == null) {
+            GameEngine opponentEngine = new GameEngine(BoardType.BITBOARD.create(25, 10));
+            versusMatch = new VersusMatch(engine, opponentEngine, ThreadLocalRandom.current().nextLong());
+            versusOpponent = new VersusOpponent(versusMatch, guiController.getOpponentBoard(),
+                    this::onOpponentLocked, difficulty, openingBook);
+        }
+        versusOpponent.setDifficulty(difficulty);
+
+        createNewGame();
+    }
+
+    /**
+     * Stops the AI opponent when another mode is started.
+     */
+    private void leaveVersusMode() {
+        isVersusMode = false;
+        if (versusOpponent != null) {
+            versusOpponent.stop();
+        }
+    }
+
+    /**
+     * Updates the view after the AI opponent locked a piece and ends the
+     * match if the opponent topped out.
+     */
+    private void onOpponentLocked() {
+        updateVersusStatus();
+        if (versusMatch.isPlayerWinner() && !isBotPlaying()) {
+            handleGameOver();
+            guiController.gameOver();
+        }
+    }
+
+    /**
+     * Lets the versus match exchange garbage after a lock of the player's
+     * piece. Does nothing outside versus mode.
+     *
+     * @param lockResult the outcome of the player's lock
+     */
+    private void exchangeGarbage(LockResult lockResult) {
+        if (isVersusMode) {
+            versusMatch.playerLocked(lockResult);
+            updateVersusStatus();
+        }
+    }
+
+    /**
+     * Shows the garbage waiting for the player and the rows sent so far.
+     */
+    private void updateVersusStatus() {
+        guiController.updateVersusStatus(versusMatch.getPlayerIncoming(), versusMatch.getPlayerSent(),
+                versusMatch.getOpponentSent());
+    }
+
+    /**
+     * Checks whether the current game has ended, either because the player
+     * topped out or because the AI opponent lost the versus match.
+     *
+     * @return true if no more pieces should be played
+     */
+    private boolean isGameFinished() {
+        return engine.isGameOver() || isVersusMode && versusMatch.isOver();
+    }
+
     /**
      * Gets the current game mode.
      *
@@ -169,38 +304,224 @@ public class GameController implements InputEventListener {
 
     /**
      * Handles the down movement event for the current piece.
-     * Moves the piece down, handles collisions, clears completed rows, and spawns new pieces.
+     * User events are soft drops and score a point per row; timer events are
+     * gravity steps. Either may lock the piece, clear rows and spawn the next one.
      *
      * @param event the MoveEvent containing movement details
      * @return DownData containing cleared row information and updated view data
      */
     @Override
     public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = gameBoard.moveBrickDown();
+        int rotation = gameBoard.getBrickRotation();
+        int x = gameBoard.getBrickX();
+        int y = gameBoard.getBrickY();
+        LockResult lockResult;
+        if (event.getEventSource() == EventSource.USER) {
+            replayRecorder.record(EventType.DOWN);
+            lockResult = engine.softDrop();
+        } else {
+            replayRecorder.tick();
+            lockResult = engine.tick();
+        }
         ClearRow clearRow = null;
-        if (!canMove) {
-            gameBoard.mergeBrickToBackground();
-            clearRow = gameBoard.clearRows();
-            if (clearRow.getLinesRemoved() > 0) {
-                gameBoard.getScore().add(clearRow.getScoreBonus());
+        if (lockResult != null) {
+            cancelHint();
+            exchangeGarbage(lockResult);
+            scoreFinesse(rotation, x, y);
+            clearRow = onLocked(lockResult);
+        }
+        return new DownData(clearRow, gameBoard.getViewData());
+    }
+
+    /**
+     * Counts a key the player pressed towards the finesse of the current piece.
+     *
+     * @param input the input dispatched by the keyboard handler
+     */
+    public void recordInput(EventType input) {
+        finesseTracker.recordInput(input);
+    }
+
+    /**
+     * Turns background best-move hints on or off.
+     * <p>
+     * The hint service and its search thread are created the first time hints
+     * are turned on. Turning hints off cancels the search in flight and hides
+     * the hint.
+     *
+     * @param enabled true to show hints for every new piece
+     */
+    public void setHintsEnabled(boolean enabled) {
+        hintsEnabled = enabled;
+        if (enabled) {
+            if (hintService == null) {
+                hintService = new HintService(EvaluationWeights.DEFAULT, HintService.DEFAULT_HINT_COUNT, openingBook);
             }
+            requestHint();
+        } else {
+            cancelHint();
+        }
+    }
 
-            canHold = true;
-            guiController.setHoldEnabled(true);
+    /**
+     * Starts or stops high-speed bot auto-play.
+     * <p>
+     * While the bot plays, the view defers its redraws and the bot flushes
+     * them once per display frame. Hints are hidden and bot pieces are left
+     * out of the finesse counts. The bot stops by itself at game over.
+     *
+     * @param playing true to let the bot play
+     */
+    public void setBotPlaying(boolean playing) {
+        if (playing) {
+            cancelHint();
+            guiController.setRenderDeferred(true);
+            if (botPlayer == null) {
+                botPlayer = new BotAutoPlayer(this, engine, openingBook, this::isGameFinished, this::onBotFrame,
+                        BotAutoPlayer.DEFAULT_PIECES_PER_FRAME);
+            }
+            botPlayer.start();
+        } else {
+            if (botPlayer != null) {
+                botPlayer.stop();
+                botPlayer = null;
+            }
+            guiController.setRenderDeferred(false);
+            finesseTracker.startPiece(gameBoard);
+            requestHint();
+        }
+    }
 
-            if (gameBoard.createNewBrick()) {
-                isGameOver.set(true);
+    /**
+     * Redraws the view after a frame of bot play and stops the bot once the
+     * game is over.
+     *
+     * @param brick the piece falling after the frame's placements
+     */
+    private void onBotFrame(ViewData brick) {
+        guiController.refreshBrick(brick);
+        guiController.flushRender();
+        if (isGameFinished()) {
+            setBotPlaying(false);
+            guiController.onBotStopped();
+            if (!engine.isGameOver()) {
                 handleGameOver();
                 guiController.gameOver();
             }
+        }
+    }
 
-            guiController.refreshGameBackground(gameBoard.getBoardMatrix());
-        } else {
-            if (event.getEventSource() == EventSource.USER) {
-                javafx.application.Platform.runLater(() -> gameBoard.getScore().add(1));
+    /**
+     * Checks whether the bot is playing.
+     *
+     * @return true if bot auto-play is on
+     */
+    private boolean isBotPlaying() {
+        return botPlayer != null;
+    }
+
+    /**
+     * Restarts the piece stream from a fresh seed and starts recording the
+     * game that draws from it. A recording in progress is finished first, so
+     * an abandoned game is kept too. Must be called before the game's first
+     * piece spawns.
+     * <p>
+     * A replay can only reproduce a seeded piece stream, so the game is not
+     * recorded if the board's generator cannot be reseeded.
+     */
+    private void startRecording() {
+        replayRecorder.finish();
+        if (!(gameBoard.getBrickGenerator() instanceof RandomBrickGenerator generator)) {
+            System.err.println("Warning: game not recorded: "
+                    + gameBoard.getBrickGenerator().getClass().getSimpleName() + " cannot be reseeded");
+            return;
+        }
+        long seed = ThreadLocalRandom.current().nextLong();
+        generator.reseed(seed);
+        int[][] matrix = gameBoard.getBoardMatrix();
+        replayRecorder.start(seed, matrix.length, matrix[0].length);
+    }
+
+    /**
+     * Starts tracking a piece that just appeared: begins its finesse count and
+     * requests a hint for it.
+     */
+    private void startPiece() {
+        finesseTracker.startPiece(gameBoard);
+        requestHint();
+    }
+
+    /**
+     * Requests a best-move hint for the current piece, if hints are on.
+     * <p>
+     * Only an immutable snapshot of the game crosses to the search thread. The
+     * result is handed back to the FX thread, where it is dropped if the piece
+     * locked, was held or a newer request was made in the meantime.
+     */
+    private void requestHint() {
+        if (!hintsEnabled || isBotPlaying() || isGameFinished()) {
+            return;
+        }
+        BoardSnapshot snapshot = BoardSnapshot.of(engine, GameConstants.NEXT_PIECE_PREVIEW_COUNT);
+        if (snapshot == null) {
+            return;
+        }
+        long request = ++hintRequest;
+        hintService.request(snapshot, hints -> Platform.runLater(() -> {
+            if (request == hintRequest && !hints.isEmpty()) {
+                Placement best = hints.get(0);
+                guiController.showHint(best.getPieceType().getShape(best.getRotation()), best.getX(), best.getY());
             }
+        }));
+    }
+
+    /**
+     * Cancels the hint search in flight and hides the current hint.
+     */
+    private void cancelHint() {
+        hintRequest++;
+        if (hintService != null) {
+            hintService.cancel();
+        }
+        guiController.hideHint();
+    }
+
+    /**
+     * Scores the finesse of the piece that just locked, shows the counts and
+     * starts tracking the next piece.
+     *
+     * @param rotation the rotation the piece locked in
+     * @param x        the column offset the piece locked at
+     * @param y        the row offset the piece locked at
+     */
+    private void scoreFinesse(int rotation, int x, int y) {
+        if (!isBotPlaying()) {
+            finesseTracker.lockPiece(rotation, x, y);
+            guiController.updateFinesse(finesseTracker.getLastErrors(), finesseTracker.getGameErrors(),
+                    finesseTracker.getSessionErrors());
+        }
+        if (!engine.isGameOver()) {
+            startPiece();
         }
-        return new DownData(clearRow, gameBoard.getViewData());
+    }
+
+    /**
+     * Updates the view after the engine locked a piece. The game is also over
+     * when garbage received after the lock pushed the stack out of the board.
+     *
+     * @param lockResult the outcome of the lock
+     * @return a ClearRow describing the lock for the view
+     */
+    private ClearRow onLocked(LockResult lockResult) {
+        ClearRow clearRow = new ClearRow(lockResult.getLinesRemoved(), gameBoard.getBoardMatrix(), lockResult.getScoreBonus());
+        guiController.setHoldEnabled(true);
+
+        if (lockResult.isGameOver() || engine.isGameOver()) {
+            handleGameOver();
+            guiController.gameOver();
+        }
+        guiController.refreshGameBackground(gameBoard.getBoardMatrix());
+        return clearRow;
     }
 
     /**
@@ -211,7 +532,8 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
-        gameBoard.moveBrickLeft();
+        replayRecorder.record(EventType.LEFT);
+        engine.moveLeft();
         return gameBoard.getViewData();
     }
 
@@ -223,7 +545,8 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRightEvent(MoveEvent event) {
-        gameBoard.moveBrickRight();
+        replayRecorder.record(EventType.RIGHT);
+        engine.moveRight();
         return gameBoard.getViewData();
     }
 
@@ -235,13 +558,15 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
-        gameBoard.rotateLeftBrick();
+        replayRecorder.record(EventType.ROTATE);
+        engine.rotate();
         return gameBoard.getViewData();
     }
 
     /**
      * Creates a new game with fresh state.
-     * Resets the board, score, held piece, and timer based on game mode.
+     * Resets the board, score, held piece, and timer based on game mode, and
+     * starts recording the game outside versus mode.
      */
     @Override
     public void createNewGame() {
@@ -249,13 +574,23 @@ public class GameController implements InputEventListener {
             timeAttackTimer.stop();
         }
 
-        gameBoard.newGame();
+        engine.setTimeLimit(currentGameMode == GameMode.TIME_ATTACK ? TIME_ATTACK_SECONDS * 1000L : 0);
+        if (isVersusMode) {
+            replayRecorder.finish();
+            versusMatch.newMatch();
+            versusOpponent.start();
+            updateVersusStatus();
+        } else {
+            startRecording();
+            engine.newGame();
+        }
+        cancelHint();
+        finesseTracker.newGame();
+        startPiece();
+        guiController.updateFinesse(0, 0, finesseTracker.getSessionErrors());
         int highScore = highScoreManager.loadHighScore(currentGameMode);
         guiController.updateHighScoreLabel(highScore);
-        isGameOver.set(false);
 
-        heldBrick = null;
-        canHold = true;
         guiController.setHoldEnabled(true);
         guiController.updateHoldPieceDisplay(getHoldPiece());
 
@@ -263,11 +598,10 @@ public class GameController implements InputEventListener {
         guiController.refreshGameBackground(gameBoard.getBoardMatrix());
 
         if (currentGameMode == GameMode.TIME_ATTACK) {
-            timeRemaining = 120;
             isTimeAttackMode = true;
 
             guiController.showTimer();
-            guiController.updateTimer(timeRemaining);
+            guiController.updateTimer(getTimeRemainingSeconds());
             if (timeAttackTimer != null) {
                 timeAttackTimer.stop();
                 setupTimeAttackTimer();
@@ -280,35 +614,14 @@ public class GameController implements InputEventListener {
     }
 
     /**
-     * Checks if a piece position would result in a collision.
+     * Gets the landing row of the current piece from the board's heightmap.
      * Used for ghost piece calculation.
      *
-     * @param brick the ViewData containing piece position and shape
-     * @return true if the position would cause a collision, false otherwise
+     * @return the row offset at which the current piece would land
      */
     @Override
-    public boolean onGhostCheck(ViewData brick) {
-        int[][] matrix = gameBoard.getBoardMatrix();
-        int[][] brickData = brick.getBrickData();
-        int xPos = brick.getxPosition();
-        int yPos = brick.getyPosition();
-
-        for (int row = 0; row < brickData.length; row++) {
-            for (int column = 0; column < brickData[row].length; column++) {
-                if (brickData[row][column] == 0) continue;
-                int boardRow = yPos + row;
-                int boardColumn = xPos + column;
-
-                if (boardRow < 0 || boardRow >= matrix.length || boardColumn < 0 || boardColumn >= matrix[0].length)
-                    return true;
-
-                if (matrix[boardRow][boardColumn] != 0) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
+    public int getGhostRow() {
+        return gameBoard.getLandingRow();
     }
 
     /**
@@ -320,24 +633,18 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onHardDrop(ViewData brick) {
-        ClearRow clearRow = gameBoard.hardDropBrick();
-
-        int scoreBonus = clearRow.getScoreBonus();
-        if (scoreBonus > 0) {
-            javafx.application.Platform.runLater(() -> gameBoard.getScore().add(scoreBonus));
-        }
-
-        canHold = true;
-        guiController.setHoldEnabled(true);
-
-        boolean collision = gameBoard.createNewBrick();
-
-        if (collision) {
-            isGameOver.set(true);
-            handleGameOver();
-            guiController.gameOver();
+        int rotation = gameBoard.getBrickRotation();
+        int x = gameBoard.getBrickX();
+        int y = gameBoard.getLandingRow();
+        cancelHint();
+        replayRecorder.record(EventType.HARD_DROP);
+        LockResult lockResult = engine.hardDrop();
+        ClearRow clearRow = null;
+        if (lockResult != null) {
+            exchangeGarbage(lockResult);
+            scoreFinesse(rotation, x, y);
+            clearRow = onLocked(lockResult);
         }
-        guiController.refreshGameBackground(gameBoard.getBoardMatrix());
         return new DownData(clearRow, gameBoard.getViewData());
     }
 
@@ -359,12 +666,9 @@ public class GameController implements InputEventListener {
      */
     @Override
     public List<int[][]> getNextPieces(int count) {
-        List<Brick> nextBricks = gameBoard.getBrickGenerator().getNextBricks(count);
         List<int[][]> nextPiecesData = new ArrayList<>();
-
-        for (Brick brick : nextBricks) {
-            nextPiecesData.add(brick.getShapeMatrix().getFirst());
-
+        for (PieceType pieceType : engine.getNextPieces(count)) {
+            nextPiecesData.add(pieceType.getShape(0));
         }
         return nextPiecesData;
     }
@@ -377,34 +681,24 @@ public class GameController implements InputEventListener {
      */
     @Override
     public boolean onHoldEvent() {
-        if (!canHold || isGameOver.getValue()) {
+        replayRecorder.record(EventType.HOLD);
+        if (engine.isGameOver()) {
             return false;
         }
-
-        Brick boardCurrent = gameBoard.getCurrentBrick();
-
-        if (heldBrick == null) {
-            heldBrick = boardCurrent;
-            Brick nextBrick = gameBoard.getBrickGenerator().getBrick();
-            gameBoard.spawnBrick(nextBrick);
-            if (gameBoard.checkCollision()) {
-                isGameOver.set(true);
+        if (!engine.canHold()) {
+            return false;
+        }
+        cancelHint();
+        if (!engine.hold()) {
+            if (engine.isGameOver()) {
                 handleGameOver();
                 guiController.gameOver();
-                return false;
-            }
-        } else {
-            Brick temp = heldBrick;
-            heldBrick = boardCurrent;
-            gameBoard.spawnBrick(temp);
-
-            if (gameBoard.checkCollision()) {
-                gameBoard.spawnBrick(boardCurrent);
-                heldBrick = temp;
-                return false;
+            } else {
+                requestHint();
             }
+            return false;
         }
-        canHold = false;
+        startPiece();
         guiController.setHoldEnabled(false);
         guiController.updateHoldPieceDisplay(getHoldPiece());
         guiController.refreshBrick(gameBoard.getViewData());
@@ -418,26 +712,41 @@ public class GameController implements InputEventListener {
      */
     @Override
     public int[][] getHoldPiece() {
-        return heldBrick == null ? null : heldBrick.getShapeMatrix().getFirst();
+        PieceType heldPiece = engine.getHeldPiece();
+        return heldPiece == null ? null : heldPiece.getShape(0);
     }
 
     /**
      * Pauses the game.
-     * Pauses the Time Attack timer if in that mode.
+     * Pauses the Time Attack timer if in that mode, the bot if it is playing
+     * and the AI opponent in versus mode.
      */
     public void pauseGame() {
         if (timeAttackTimer != null && isTimeAttackMode) {
             timeAttackTimer.pause();
         }
+        if (versusOpponent != null && isVersusMode) {
+            versusOpponent.pause();
+        }
+        if (botPlayer != null) {
+            botPlayer.pause();
+        }
     }
 
     /**
      * Resumes the game.
-     * Resumes the Time Attack timer if in that mode.
+     * Resumes the Time Attack timer if in that mode, the bot if it is playing
+     * and the AI opponent in versus mode.
      */
     public void resumeGame() {
         if (timeAttackTimer != null && isTimeAttackMode) {
             timeAttackTimer.play();
         }
+        if (versusOpponent != null && isVersusMode) {
+            versusOpponent.resume();
+        }
+        if (botPlayer != null) {
+            botPlayer.resume();
+        }
     }
 }
@@ -1,6 +1,8 @@
 package com.comp2042.controller;
 
+import com.comp2042.model.ViewData;
 import com.comp2042.view.EventSource;
+import com.comp2042.view.EventType;
 import com.comp2042.view.InputEventListener;
 import com.comp2042.view.MoveEvent;
 import javafx.beans.property.BooleanProperty;
@@ -13,7 +15,14 @@ import javafx.scene.input.KeyEvent;
  * This class processes key press events and translates them into game actions
  * by delegating to the appropriate event listener methods. The handler respects
  * game state, preventing input when the game is paused or over (except for
- * pause and new game commands).
+ * pause and new game commands). The hint and bot toggles count as gameplay
+ * input, so a bot cannot be started behind the pause overlay. While the bot
+ * plays, only the pause, new game, hint and bot keys get through, so the
+ * player's moves cannot race the bot's placements.
+ * <p>
+ * Every gameplay key that is dispatched is also reported to an optional input
+ * recorder, before the action runs, so finesse analysis sees exactly the keys
+ * that reached the game.
  * <p>
  * <b>Supported Controls:</b>
  * <ul>
@@ -25,6 +34,8 @@ import javafx.scene.input.KeyEvent;
  *   <li>P - Pause/unpause game</li>
  *   <li>N - Start new game</li>
  *   <li>C/SHIFT - Hold piece</li>
+ *   <li>H - Toggle best-move hints</li>
+ *   <li>B - Toggle high-speed bot auto-play</li>
  * </ul>
  */
 public class GameInputHandler {
@@ -35,6 +46,8 @@ public class GameInputHandler {
 
     private final BooleanProperty isGameOver;
 
+    private final BooleanProperty isBotPlaying;
+
     private Runnable onPauseAction;
 
     private Runnable onNewGameAction;
@@ -43,23 +56,32 @@ public class GameInputHandler {
 
     private Runnable onHoldAction;
 
+    private Runnable onToggleHintsAction;
+
+    private Runnable onToggleBotAction;
+
     private MoveDownCallback onMoveDownAction;
 
     private RefreshBrickCallback onRefreshBrickAction;
 
+    private InputRecorder inputRecorder;
+
     /**
      * Constructs a GameInputHandler with the specified dependencies.
      *
      * @param eventListener the InputEventListener to process game events
      * @param isPaused      the BooleanProperty tracking pause state
      * @param isGameOver    the BooleanProperty tracking game over state
+     * @param isBotPlaying  the BooleanProperty tracking bot auto-play state
      */
     public GameInputHandler(InputEventListener eventListener,
                             BooleanProperty isPaused,
-                            BooleanProperty isGameOver) {
+                            BooleanProperty isGameOver,
+                            BooleanProperty isBotPlaying) {
         this.eventListener = eventListener;
         this.isPaused = isPaused;
         this.isGameOver = isGameOver;
+        this.isBotPlaying = isBotPlaying;
     }
 
     /**
@@ -98,6 +120,24 @@ public class GameInputHandler {
         this.onHoldAction = onHoldAction;
     }
 
+    /**
+     * Sets the callback for toggling best-move hints.
+     *
+     * @param onToggleHintsAction the Runnable to execute when hints are toggled
+     */
+    public void setOnToggleHintsAction(Runnable onToggleHintsAction) {
+        this.onToggleHintsAction = onToggleHintsAction;
+    }
+
+    /**
+     * Sets the callback for toggling bot auto-play.
+     *
+     * @param onToggleBotAction the Runnable to execute when auto-play is toggled
+     */
+    public void setOnToggleBotAction(Runnable onToggleBotAction) {
+        this.onToggleBotAction = onToggleBotAction;
+    }
+
     /**
      * Sets the callback for move down actions.
      *
@@ -116,6 +156,15 @@ public class GameInputHandler {
         this.onRefreshBrickAction = onRefreshBrickAction;
     }
 
+    /**
+     * Sets the recorder that is told about every dispatched gameplay key.
+     *
+     * @param inputRecorder the recorder, or null to stop recording
+     */
+    public void setInputRecorder(InputRecorder inputRecorder) {
+        this.inputRecorder = inputRecorder;
+    }
+
     /**
      * Handles a key press event.
      * Routes the key press to the appropriate game action based on the key code
@@ -150,6 +199,26 @@ public class GameInputHandler {
             return;
         }
 
+        if (code == KeyCode.H) {
+            if (onToggleHintsAction != null) {
+                onToggleHintsAction.run();
+            }
+            event.consume();
+            return;
+        }
+
+        if (code == KeyCode.B) {
+            if (onToggleBotAction != null) {
+                onToggleBotAction.run();
+            }
+            event.consume();
+            return;
+        }
+
+        if (isBotPlaying.getValue()) {
+            return;
+        }
+
         handleGameplayInput(event);
     }
 
@@ -163,23 +232,29 @@ public class GameInputHandler {
         KeyCode code = event.getCode();
 
         if (code == KeyCode.LEFT || code == KeyCode.A) {
+            record(EventType.LEFT);
             handleLeftMovement();
             event.consume();
         } else if (code == KeyCode.RIGHT || code == KeyCode.D) {
+            record(EventType.RIGHT);
             handleRightMovement();
             event.consume();
         } else if (code == KeyCode.UP || code == KeyCode.W) {
+            record(EventType.ROTATE);
             handleRotation();
             event.consume();
         } else if (code == KeyCode.DOWN || code == KeyCode.S) {
+            record(EventType.DOWN);
             handleSoftDrop();
             event.consume();
         } else if (code == KeyCode.SPACE) {
+            record(EventType.HARD_DROP);
             if (onHardDropAction != null) {
                 onHardDropAction.run();
             }
             event.consume();
         } else if (code == KeyCode.C || code == KeyCode.SHIFT) {
+            record(EventType.HOLD);
             if (onHoldAction != null) {
                 onHoldAction.run();
             }
@@ -187,6 +262,17 @@ public class GameInputHandler {
         }
     }
 
+    /**
+     * Reports a dispatched gameplay key to the input recorder, if any.
+     *
+     * @param input the input the key maps to
+     */
+    private void record(EventType input) {
+        if (inputRecorder != null) {
+            inputRecorder.record(input);
+        }
+    }
+
     /**
      * Handles left movement input.
      * Moves the current piece one cell to the left if possible.
@@ -258,6 +344,20 @@ public class GameInputHandler {
          *
          * @param viewData the ViewData containing updated piece information
          */
-        void refresh(com.comp2042.view.ViewData viewData);
+        void refresh(ViewData viewData);
+    }
+
+    /**
+     * Functional interface for input recorders.
+     * Used to observe the gameplay keys the handler dispatches.
+     */
+    @FunctionalInterface
+    public interface InputRecorder {
+        /**
+         * Called before a gameplay key is dispatched.
+         *
+         * @param input the input the key maps to
+         */
+        void record(EventType input);
     }
-}
\ No newline at end of file
+}
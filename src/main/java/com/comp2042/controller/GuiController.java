@@ -6,6 +6,7 @@ import com.comp2042.constants.UIConstants;
 import com.comp2042.model.HighScoreManager;
 import com.comp2042.model.HighScoreManager.GameMode;
 import com.comp2042.model.Theme;
+import com.comp2042.model.ViewData;
 import com.comp2042.view.*;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
@@ -15,6 +16,7 @@ import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.geometry.Insets;
 import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.effect.Reflection;
@@ -26,6 +28,7 @@ import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 
 import java.net.URL;
+import java.util.Arrays;
 import java.util.List;
 import java.util.ResourceBundle;
 
@@ -45,10 +48,15 @@ import java.util.ResourceBundle;
  *   <li>Coordinate with helper classes for rendering and state management</li>
  *   <li>Update displays based on game events</li>
  *   <li>Manage game modes (Classic and Time Attack)</li>
+ *   <li>Draw the optional best-move hint as a second ghost</li>
+ *   <li>Defer redraws to once per frame while a bot plays</li>
+ *   <li>Show the AI opponent's board next to the player's in versus mode</li>
  * </ul>
  */
 public class GuiController implements Initializable {
 
+    private static final int CELLS_PER_PIECE = 4;
+
     @FXML
     private StackPane gameBoard;
     @FXML
@@ -96,6 +104,18 @@ public class GuiController implements Initializable {
     @FXML
     private Label modeIndicatorLabel;
     @FXML
+    private Label finesseLabel;
+    @FXML
+    private VBox opponentPanel;
+    @FXML
+    private Label opponentLabel;
+    @FXML
+    private Canvas opponentCanvas;
+    @FXML
+    private Label versusStatusLabel;
+    @FXML
+    private Button versusDifficultyButton;
+    @FXML
     public Button leaderboardButton;
 
     private ViewManager viewManager;
@@ -116,16 +136,36 @@ public class GuiController implements Initializable {
 
     private final BooleanProperty isGameOver = new SimpleBooleanProperty();
 
+    private final BooleanProperty isBotPlaying = new SimpleBooleanProperty();
+
     private GameController gameController;
 
     private GameMode modeToStart = GameMode.CLASSIC;
 
+    private boolean versusToStart;
+
+    private VersusDifficulty versusDifficulty = VersusDifficulty.NORMAL;
+
+    private BoardCanvas opponentBoard;
+
     private Rectangle[][] displayMatrix;
 
+    private int[][] displayedColors;
+
+    private boolean renderDeferred;
+
+    private int[][] pendingBackground;
+
+    private ViewData pendingBrick;
+
     private Rectangle[][] rectangles;
 
     private Rectangle[][] ghostRectangles;
 
+    private Rectangle[] hintRectangles;
+
+    private boolean hintsEnabled;
+
     private Rectangle[][][] nextPieceRectangles;
 
     private Rectangle[][] holdPieceRectangles;
@@ -154,6 +194,7 @@ public class GuiController implements Initializable {
         pieceRenderer = new PieceRenderer();
         themeManager = new ThemeManager();
         leaderboardView = new LeaderboardView(leaderboardList);
+        opponentBoard = new BoardCanvas(opponentCanvas, GameConstants.OPPONENT_BRICK_SIZE);
 
         viewManager.showHome();
 
@@ -203,6 +244,15 @@ public class GuiController implements Initializable {
         }
     }
 
+    /**
+     * Gets the renderer of the AI opponent's board in versus mode.
+     *
+     * @return the opponent's board canvas
+     */
+    public BoardCanvas getOpponentBoard() {
+        return opponentBoard;
+    }
+
     /**
      * Sets the InputEventListener for game logic callbacks.
      * <p>
@@ -230,6 +280,10 @@ public class GuiController implements Initializable {
 
         gamePanel.getChildren().clear();
         displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        displayedColors = new int[boardMatrix.length][boardMatrix[0].length];
+        for (int[] row : displayedColors) {
+            Arrays.fill(row, -1);
+        }
 
         for (int row = GameConstants.INVISIBLE_ROWS; row < boardMatrix.length; row++) {
             for (int column = 0; column < boardMatrix[row].length; column++) {
@@ -253,6 +307,12 @@ public class GuiController implements Initializable {
         clip.setHeight(panelHeight);
         gamePanel.setClip(clip);
 
+        hintRectangles = new Rectangle[CELLS_PER_PIECE];
+        for (int cell = 0; cell < hintRectangles.length; cell++) {
+            hintRectangles[cell] = pieceRenderer.createHintBrick();
+            gamePanel.getChildren().add(hintRectangles[cell]);
+        }
+
         rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
         ghostRectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
 
@@ -284,7 +344,7 @@ public class GuiController implements Initializable {
         updateGhost(brick);
 
         gameTimeline = new GameTimeline(() -> {
-            if (!isGameOver.getValue() && !isPause.getValue()) {
+            if (!isGameOver.getValue() && !isPause.getValue() && !isBotPlaying.getValue()) {
                 moveDown(new MoveEvent(EventSource.THREAD));
             }
         });
@@ -298,9 +358,16 @@ public class GuiController implements Initializable {
      * rotation), updates the position of all piece blocks, updates the ghost piece
      * preview, and refreshes the next piece previews from the generator.
      *
+     * While rendering is deferred, only the latest brick is remembered and
+     * drawn by the next {@link #flushRender()}.
+     *
      * @param brick the ViewData containing updated information for the current piece
      */
     public void refreshBrick(ViewData brick) {
+        if (renderDeferred) {
+            pendingBrick = brick;
+            return;
+        }
         if (rectangles.length != brick.getBrickData().length ||
                 rectangles[0].length != brick.getBrickData()[0].length) {
             recreatePieceRectangles(brick);
@@ -398,14 +465,7 @@ public class GuiController implements Initializable {
      * @param brick the ViewData for the current piece
      */
     private void updateGhost(ViewData brick) {
-        int ghostY = brick.getyPosition();
-        while (true) {
-            ViewData temp = brick.copyWithPosition(brick.getxPosition(), ghostY + 1);
-            if (eventListener.onGhostCheck(temp)) {
-                break;
-            }
-            ghostY++;
-        }
+        int ghostY = eventListener.getGhostRow();
 
         for (int row = 0; row < ghostRectangles.length; row++) {
             for (int column = 0; column < ghostRectangles[row].length; column++) {
@@ -427,25 +487,163 @@ public class GuiController implements Initializable {
         }
     }
 
+    /**
+     * Shows the best-move hint as a second ghost.
+     * <p>
+     * Outlines the cells the hint search suggests for the current piece with
+     * dashed rectangles, next to the regular ghost of the landing position.
+     * Called on the FX thread once a background hint search has finished.
+     *
+     * @param shape the piece shape in the suggested rotation
+     * @param x     the suggested column offset
+     * @param y     the suggested row offset
+     */
+    public void showHint(int[][] shape, int x, int y) {
+        if (hintRectangles == null) {
+            return;
+        }
+        int cell = 0;
+        for (int row = 0; row < shape.length; row++) {
+            for (int column = 0; column < shape[row].length; column++) {
+                int displayRow = y + row - GameConstants.INVISIBLE_ROWS;
+                if (shape[row][column] != 0 && displayRow >= 0 && cell < hintRectangles.length) {
+                    Rectangle hint = hintRectangles[cell++];
+                    hint.setTranslateX((x + column) * GameConstants.BRICK_SIZE);
+                    hint.setTranslateY(displayRow * GameConstants.BRICK_SIZE);
+                    hint.setVisible(true);
+                }
+            }
+        }
+        while (cell < hintRectangles.length) {
+            hintRectangles[cell++].setVisible(false);
+        }
+    }
+
+    /**
+     * Hides the best-move hint.
+     */
+    public void hideHint() {
+        if (hintRectangles == null) {
+            return;
+        }
+        for (Rectangle hint : hintRectangles) {
+            hint.setVisible(false);
+        }
+    }
+
+    /**
+     * Toggles the best-move hint mode.
+     * <p>
+     * Tells the game controller to start or stop hint searches and briefly
+     * shows the new state on the board.
+     */
+    private void toggleHints() {
+        hintsEnabled = !hintsEnabled;
+        if (gameController != null) {
+            gameController.setHintsEnabled(hintsEnabled);
+        }
+        NotificationPanel notificationPanel = new NotificationPanel(hintsEnabled ? "Hints on" : "Hints off");
+        groupNotification.getChildren().add(notificationPanel);
+        notificationPanel.showScore(groupNotification.getChildren());
+        groupNotification.setVisible(true);
+    }
+
     /**
      * Refreshes the game background based on the board matrix.
      * <p>
      * Updates the display matrix rectangles to show locked pieces that have
-     * been placed on the board. Called after pieces are locked in place.
+     * been placed on the board. Called after pieces are locked in place. Only
+     * cells whose color changed since the last refresh are restyled. While
+     * rendering is deferred, only the latest board is remembered and drawn by
+     * the next {@link #flushRender()}.
      *
      * @param board the 2D array representing the current game board state
      */
     public void refreshGameBackground(int[][] board) {
+        if (renderDeferred) {
+            pendingBackground = board;
+            return;
+        }
         for (int row = GameConstants.INVISIBLE_ROWS; row < board.length; row++) {
             for (int column = 0; column < board[row].length; column++) {
-                pieceRenderer.applyBrickStyling(
-                        displayMatrix[row][column],
-                        board[row][column]
-                );
+                int color = board[row][column];
+                if (displayedColors[row][column] != color) {
+                    pieceRenderer.applyBrickStyling(displayMatrix[row][column], color);
+                    displayedColors[row][column] = color;
+                }
             }
         }
     }
 
+    /**
+     * Turns deferred rendering on or off.
+     * <p>
+     * While rendering is deferred, {@link #refreshBrick(ViewData)} and
+     * {@link #refreshGameBackground(int[][])} only remember their latest
+     * arguments, and the view is redrawn by {@link #flushRender()}. Turning
+     * deferral off redraws whatever is pending.
+     *
+     * @param deferred true to defer redraws until the next flush
+     */
+    public void setRenderDeferred(boolean deferred) {
+        renderDeferred = deferred;
+        if (!deferred) {
+            flushRender();
+        }
+    }
+
+    /**
+     * Draws the latest board and brick remembered while rendering is deferred.
+     * <p>
+     * Called once per display frame by the bot, however many pieces it placed.
+     */
+    public void flushRender() {
+        boolean deferred = renderDeferred;
+        renderDeferred = false;
+        if (pendingBackground != null) {
+            refreshGameBackground(pendingBackground);
+            pendingBackground = null;
+        }
+        if (pendingBrick != null) {
+            refreshBrick(pendingBrick);
+            pendingBrick = null;
+        }
+        renderDeferred = deferred;
+    }
+
+    /**
+     * Gets the brick remembered for the next {@link #flushRender()}.
+     *
+     * @return the pending brick, or null if none is waiting
+     */
+    ViewData getPendingBrick() {
+        return pendingBrick;
+    }
+
+    /**
+     * Toggles high-speed bot auto-play.
+     * <p>
+     * Tells the game controller to start or stop the bot and briefly shows the
+     * new state on the board.
+     */
+    private void toggleBotPlay() {
+        isBotPlaying.set(!isBotPlaying.get());
+        if (gameController != null) {
+            gameController.setBotPlaying(isBotPlaying.get());
+        }
+        NotificationPanel notificationPanel = new NotificationPanel(isBotPlaying.get() ? "Bot on" : "Bot off");
+        groupNotification.getChildren().add(notificationPanel);
+        notificationPanel.showScore(groupNotification.getChildren());
+        groupNotification.setVisible(true);
+    }
+
+    /**
+     * Records that bot auto-play ended on its own, for example at game over.
+     */
+    public void onBotStopped() {
+        isBotPlaying.set(false);
+    }
+
     /**
      * Handles key press events.
      * <p>
@@ -467,17 +665,25 @@ public class GuiController implements Initializable {
      * <p>
      * Sets up the GameInputHandler with references to the event listener and
      * game state properties, then configures all action callbacks for pause,
-     * new game, hard drop, hold, move down, and refresh operations.
+     * new game, hard drop, hold, hint and bot toggles, move down, and refresh
+     * operations, and forwards every dispatched gameplay key to the finesse analysis.
      */
     private void createInputHandler() {
-        inputHandler = new GameInputHandler(eventListener, isPause, isGameOver);
+        inputHandler = new GameInputHandler(eventListener, isPause, isGameOver, isBotPlaying);
 
         inputHandler.setOnPauseAction(() -> pauseGame(null));
         inputHandler.setOnNewGameAction(() -> newGame(null));
         inputHandler.setOnHardDropAction(this::hardDrop);
         inputHandler.setOnHoldAction(() -> holdPiece(null));
+        inputHandler.setOnToggleHintsAction(this::toggleHints);
+        inputHandler.setOnToggleBotAction(this::toggleBotPlay);
         inputHandler.setOnMoveDownAction(this::moveDown);
         inputHandler.setOnRefreshBrickAction(this::refreshBrick);
+        inputHandler.setInputRecorder(input -> {
+            if (gameController != null) {
+                gameController.recordInput(input);
+            }
+        });
     }
 
     /**
@@ -485,7 +691,8 @@ public class GuiController implements Initializable {
      * <p>
      * Handles the logic for moving a piece down, including checking for line clears,
      * displaying score notifications when lines are cleared, and refreshing the display.
-     * Returns early if the game is over, paused, or no timeline exists.
+     * Returns early if the game is over, paused, played by the bot, or no
+     * timeline exists.
      *
      * @param event the MoveEvent containing movement details and source information
      */
@@ -493,7 +700,7 @@ public class GuiController implements Initializable {
         if (gameTimeline == null) {
             return;
         }
-        if (isGameOver.getValue() || isPause.getValue()) {
+        if (isGameOver.getValue() || isPause.getValue() || isBotPlaying.getValue()) {
             return;
         }
         DownData downData = eventListener.onDownEvent(event);
@@ -600,7 +807,7 @@ public class GuiController implements Initializable {
      */
     private void setupHoldKeyBinding() {
         gamePanel.addEventHandler(KeyEvent.KEY_PRESSED, keyEvent -> {
-            if (isGameOver.getValue() || isPause.getValue()) return;
+            if (isGameOver.getValue() || isPause.getValue() || isBotPlaying.getValue()) return;
             if (keyEvent.getCode() == KeyCode.C || keyEvent.getCode() == KeyCode.SHIFT) {
                 holdPiece(null);
                 keyEvent.consume();
@@ -613,13 +820,14 @@ public class GuiController implements Initializable {
      * <p>
      * Swaps the current piece with the held piece, or stores the current piece
      * if no piece is currently held. Updates the hold display panel and refreshes
-     * the current piece display. Returns early if the game is over or paused.
+     * the current piece display. Returns early if the game is over, paused or
+     * played by the bot.
      *
      * @param actionEvent the ActionEvent from button click, or null if triggered by keyboard
      */
     @FXML
     public void holdPiece(ActionEvent actionEvent) {
-        if (isGameOver.getValue() || isPause.getValue()) return;
+        if (isGameOver.getValue() || isPause.getValue() || isBotPlaying.getValue()) return;
 
         if (eventListener != null) {
             boolean success = eventListener.onHoldEvent();
@@ -744,7 +952,7 @@ public class GuiController implements Initializable {
             speed = 300;
         }
         gameTimeline = new GameTimeline(() -> {
-            if (!isGameOver.getValue() && !isPause.getValue()) {
+            if (!isGameOver.getValue() && !isPause.getValue() && !isBotPlaying.getValue()) {
                 moveDown(new MoveEvent(EventSource.THREAD));
             }
         }, speed
@@ -883,6 +1091,7 @@ public class GuiController implements Initializable {
         if (pauseMenu != null) {
             pauseMenu.setVisible(false);
         }
+        hideOpponentPanel();
 
         viewManager.showHome();
     }
@@ -891,12 +1100,15 @@ public class GuiController implements Initializable {
      * Internal method to show How to Play screen.
      * <p>
      * Updates the start button text and styling based on the selected game mode
-     * (Classic or Time Attack) to provide clear indication of which mode will start.
+     * (Classic, Time Attack or Versus AI) to provide clear indication of which mode will start.
      */
     private void showHowToPlayInternal() {
 
         if (startGameButton != null) {
-            if (modeToStart == GameMode.TIME_ATTACK) {
+            if (versusToStart) {
+                startGameButton.setText("START VERSUS AI (" + versusDifficulty.getDisplayName().toUpperCase() + ")");
+                startGameButton.setStyle("-fx-background-color: #9b59b6; -fx-text-fill: white; -fx-font-size: 18px; -fx-padding: 12 25; -fx-font-weight: bold;");
+            } else if (modeToStart == GameMode.TIME_ATTACK) {
                 startGameButton.setText("START TIME ATTACK");
                 startGameButton.setStyle("-fx-background-color: #ff6b35; -fx-text-fill: white; -fx-font-size: 18px; -fx-padding: 12 25; -fx-font-weight: bold;");
             } else {
@@ -910,7 +1122,7 @@ public class GuiController implements Initializable {
      * Starts the game from the How to Play screen.
      * <p>
      * Stops any existing timeline, hides the how to play menu, shows the game board,
-     * starts the selected game mode (Classic or Time Attack), creates a new game
+     * starts the selected game mode (Classic, Time Attack or Versus AI), creates a new game
      * timeline with appropriate speed, and resets game state flags.
      *
      * @param actionEvent the ActionEvent from the start game button
@@ -931,12 +1143,20 @@ public class GuiController implements Initializable {
         if (leftSidebar != null) leftSidebar.setVisible(true);
         if (rightSidebar != null) rightSidebar.setVisible(true);
 
-        if (modeToStart == GameMode.TIME_ATTACK) {
+        if (versusToStart) {
+            if (gameController != null) {
+                showOpponentPanel();
+                gameController.startVersusMode(versusDifficulty);
+                updateModeIndicator("Versus AI");
+            }
+        } else if (modeToStart == GameMode.TIME_ATTACK) {
+            hideOpponentPanel();
             if (gameController != null) {
                 gameController.startTimeAttackMode();
                 updateModeIndicator("Time Attack");
             }
         } else {
+            hideOpponentPanel();
             if (gameController != null) {
                 gameController.startClassicMode();
                 updateModeIndicator("Classic");
@@ -949,7 +1169,7 @@ public class GuiController implements Initializable {
         }
 
         gameTimeline = new GameTimeline(() -> {
-            if (!isGameOver.getValue() && !isPause.getValue()) {
+            if (!isGameOver.getValue() && !isPause.getValue() && !isBotPlaying.getValue()) {
                 moveDown(new MoveEvent(EventSource.THREAD));
             }
         }, speed);
@@ -1096,6 +1316,7 @@ public class GuiController implements Initializable {
     @FXML
     public void showHowToPlayForClassic() {
         modeToStart = GameMode.CLASSIC;
+        versusToStart = false;
         showHowToPlayInternal();
         viewManager.showHowToPlay();
     }
@@ -1109,17 +1330,83 @@ public class GuiController implements Initializable {
     @FXML
     public void showHowToPlayForTimeAttack() {
         modeToStart = GameMode.TIME_ATTACK;
+        versusToStart = false;
+        showHowToPlayInternal();
+        viewManager.showHowToPlay();
+    }
+
+    /**
+     * Prepares to start a match against the AI opponent.
+     * <p>
+     * Sets the internal mode flag to Versus AI and displays the How to Play screen
+     * with Versus AI styling and the selected difficulty.
+     */
+    @FXML
+    public void showHowToPlayForVersus() {
+        modeToStart = GameMode.CLASSIC;
+        versusToStart = true;
         showHowToPlayInternal();
         viewManager.showHowToPlay();
     }
 
+    /**
+     * Selects the next AI opponent difficulty.
+     * <p>
+     * Cycles through the difficulties and shows the selection on the home menu
+     * button.
+     */
+    @FXML
+    public void cycleVersusDifficulty() {
+        versusDifficulty = versusDifficulty.next();
+        if (versusDifficultyButton != null) {
+            versusDifficultyButton.setText("AI: " + versusDifficulty.getDisplayName().toUpperCase());
+        }
+    }
+
+    /**
+     * Shows the AI opponent's board next to the player's.
+     */
+    private void showOpponentPanel() {
+        if (opponentPanel != null) {
+            opponentLabel.setText("AI (" + versusDifficulty.getDisplayName() + ")");
+            updateVersusStatus(0, 0, 0);
+            opponentPanel.setVisible(true);
+        }
+    }
+
+    /**
+     * Hides the AI opponent's board.
+     */
+    private void hideOpponentPanel() {
+        if (opponentPanel != null) {
+            opponentPanel.setVisible(false);
+        }
+    }
+
+    /**
+     * Updates the versus status display.
+     * <p>
+     * Shows the garbage rows waiting to be inserted into the player's board
+     * and the rows each side has sent this match.
+     *
+     * @param incoming the garbage rows waiting for the player
+     * @param sent     the garbage rows the player has sent
+     * @param received the garbage rows the AI opponent has sent
+     */
+    public void updateVersusStatus(int incoming, int sent, int received) {
+        if (versusStatusLabel != null) {
+            versusStatusLabel.setText(String.format("Incoming: %d%nSent: %d%nReceived: %d", incoming, sent, received));
+            versusStatusLabel.setTextFill(incoming > 0 ? Color.web("#ff6b35") : Color.web("#52b49b"));
+        }
+    }
+
     /**
      * Updates the mode indicator label.
      * <p>
      * Sets the text and color of the mode indicator based on the current game mode.
-     * Time Attack mode displays in orange, Classic mode in teal.
+     * Time Attack mode displays in orange, Versus AI in purple, Classic mode in teal.
      *
-     * @param mode the mode name ("Classic" or "Time Attack")
+     * @param mode the mode name ("Classic", "Time Attack" or "Versus AI")
      */
     private void updateModeIndicator(String mode) {
         if (modeIndicatorLabel != null) {
@@ -1127,6 +1414,8 @@ public class GuiController implements Initializable {
 
             if (mode.equals("Time Attack")) {
                 modeIndicatorLabel.setTextFill(javafx.scene.paint.Color.web("#ff6b35"));
+            } else if (mode.equals("Versus AI")) {
+                modeIndicatorLabel.setTextFill(javafx.scene.paint.Color.web("#9b59b6"));
             } else {
                 modeIndicatorLabel.setTextFill(javafx.scene.paint.Color.web("#52b49b"));
             }
@@ -1158,6 +1447,23 @@ public class GuiController implements Initializable {
         }
     }
 
+    /**
+     * Updates the finesse display.
+     * <p>
+     * Shows the finesse errors of the current game with those of the last
+     * piece in parentheses, followed by the session total.
+     *
+     * @param pieceErrors   the finesse errors of the last locked piece
+     * @param gameErrors    the finesse errors of the current game
+     * @param sessionErrors the finesse errors since the application started
+     */
+    public void updateFinesse(int pieceErrors, int gameErrors, int sessionErrors) {
+        if (finesseLabel != null) {
+            finesseLabel.setText(String.format("Finesse: %d (+%d) | Session: %d",
+                    gameErrors, pieceErrors, sessionErrors));
+        }
+    }
+
     /**
      * Shows the timer label.
      * <p>
@@ -0,0 +1,85 @@
+package com.comp2042.controller;
+
+/**
+ * Enum representing the strength of the AI opponent in versus mode.
+ * <p>
+ * A difficulty is a time budget and a move rate. The budget bounds how long
+ * the opponent's beam search may widen its beam for one piece; the delay
+ * sets how long the opponent waits between two placements.
+ * <p>Available difficulties:
+ * <ul>
+ *   <li>EASY - 2 ms per search, one piece every 1.5 seconds</li>
+ *   <li>NORMAL - 10 ms per search, one piece every 0.8 seconds</li>
+ *   <li>HARD - 40 ms per search, one piece every 0.35 seconds</li>
+ * </ul>
+ */
+public enum VersusDifficulty {
+    /**
+     * Short searches at a relaxed pace
+     */
+    EASY("Easy", 2, 1500),
+
+    /**
+     * Moderate searches at a steady pace
+     */
+    NORMAL("Normal", 10, 800),
+
+    /**
+     * Long searches at a fast pace
+     */
+    HARD("Hard", 40, 350);
+
+    private final String displayName;
+    private final long searchBudgetMillis;
+    private final long moveDelayMillis;
+
+    /**
+     * Constructs a difficulty.
+     *
+     * @param displayName        the name shown in the menu
+     * @param searchBudgetMillis the search time budget per piece
+     * @param moveDelayMillis    the delay between two placements
+     */
+    VersusDifficulty(String displayName, long searchBudgetMillis, long moveDelayMillis) {
+        this.displayName = displayName;
+        this.searchBudgetMillis = searchBudgetMillis;
+        this.moveDelayMillis = moveDelayMillis;
+    }
+
+    /**
+     * Gets the name shown in the menu.
+     *
+     * @return the display name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Gets the search time budget per piece.
+     *
+     * @return the budget in milliseconds
+     */
+    public long getSearchBudgetMillis() {
+        return searchBudgetMillis;
+    }
+
+    /**
+     * Gets the delay between two placements.
+     *
+     * @return the delay in milliseconds
+     */
+    public long getMoveDelayMillis() {
+        return moveDelayMillis;
+    }
+
+    /**
+     * Gets the next difficulty, wrapping around after the last.
+     *
+     * @return the next difficulty
+     */
+    public VersusDifficulty next() {
+        VersusDifficulty[] values = values();
+        return values[(ordinal() + 1) % values.length];
+    }
+}
@@ -0,0 +1,256 @@
+package com.comp2042.controller;
+
+import com.comp2042.ai.BeamSearch;
+import com.comp2042.ai.BoardSnapshot;
+import com.comp2042.ai.OpeningBook;
+import com.comp2042.ai.Placement;
+import com.comp2042.constants.GameConstants;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.engine.VersusMatch;
+import com.comp2042.model.Board;
+import com.comp2042.model.LockResult;
+import com.comp2042.view.BoardCanvas;
+import javafx.animation.AnimationTimer;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays the AI side of a versus match.
+ * <p>
+ * The opponent owns its own {@link GameEngine}, which the {@link VersusMatch}
+ * starts on the same piece sequence as the player's. Its moves are searched
+ * by a time-budgeted {@link BeamSearch} on a single daemon thread, working on
+ * an immutable {@link BoardSnapshot}. The FX thread never waits for a search:
+ * an {@link AnimationTimer} checks once per frame whether the search is done,
+ * applies the move to the engine, lets the match exchange garbage and waits
+ * for the difficulty's move delay before starting the next search. The
+ * opponent's board changes only on the FX thread, when one of its pieces
+ * locks, so a snapshot is still current when its move is applied. Positions
+ * known to the {@link OpeningBook} are played from the book without a search.
+ * <p>
+ * The board is drawn onto a {@link BoardCanvas}, and only in frames in which
+ * it changed.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Searches moves off the FX thread within the difficulty's time budget</li>
+ *   <li>Places pieces at the difficulty's move rate</li>
+ *   <li>Reports its locks to the match</li>
+ *   <li>Start, stop, pause and resume</li>
+ * </ul>
+ */
+public class VersusOpponent implements AutoCloseable {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final VersusMatch match;
+
+    private final GameEngine engine;
+
+    private final BoardCanvas boardCanvas;
+
+    private final Runnable onLock;
+
+    private final OpeningBook openingBook;
+
+    private final BeamSearch search = new BeamSearch();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "versus-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private VersusDifficulty difficulty;
+
+    private AnimationTimer timer;
+
+    private boolean isRunning;
+
+    private Future<Placement> pending;
+
+    private long nextMoveNanos;
+
+    private boolean dirty;
+
+    /**
+     * Constructs an opponent.
+     *
+     * @param match       the match the opponent plays in, whose opponent
+     *                    engine it controls
+     * @param boardCanvas the renderer of the opponent's board
+     * @param onLock      the Runnable executed on the FX thread after each of
+     *                    the opponent's locks
+     * @param difficulty  the initial difficulty
+     * @param openingBook the book consulted before searching, or null
+     */
+    public VersusOpponent(VersusMatch match, BoardCanvas boardCanvas, Runnable onLock, VersusDifficulty difficulty,
+                          OpeningBook openingBook) {
+        this.match = match;
+        this.engine = match.getOpponent();
+        this.boardCanvas = boardCanvas;
+        this.onLock = onLock;
+        this.difficulty = difficulty;
+        this.openingBook = openingBook;
+        int[][] matrix = engine.getBoard().getBoardMatrix();
+        boardCanvas.fitBoard(matrix.length, matrix[0].length);
+    }
+
+    /**
+     * Sets the difficulty. It applies from the next search on.
+     *
+     * @param difficulty the new difficulty
+     */
+    public void setDifficulty(VersusDifficulty difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    /**
+     * Starts playing a freshly started match.
+     * If the opponent is already running it is restarted.
+     */
+    public void start() {
+        stop();
+        nextMoveNanos = System.nanoTime() + difficulty.getMoveDelayMillis() * NANOS_PER_MILLI;
+        dirty = true;
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                playFrame(now);
+            }
+        };
+        timer.start();
+        isRunning = true;
+    }
+
+    /**
+     * Stops playing, cancels the search in flight and releases the frame timer.
+     */
+    public void stop() {
+        if (timer != null) {
+            timer.stop();
+            timer = null;
+        }
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+        isRunning = false;
+    }
+
+    /**
+     * Pauses the opponent. It can be resumed with resume().
+     * A search in flight finishes, but its move waits for the resume.
+     */
+    public void pause() {
+        if (timer != null && isRunning) {
+            timer.stop();
+            isRunning = false;
+        }
+    }
+
+    /**
+     * Resumes a paused opponent.
+     */
+    public void resume() {
+        if (timer != null && !isRunning) {
+            timer.start();
+            isRunning = true;
+        }
+    }
+
+    /**
+     * Advances the opponent by one display frame.
+     * <p>
+     * Applies a finished search, starts the next one when the move delay has
+     * passed and redraws the board if it changed. The lock callback runs
+     * after the redraw, so the board is up to date when the callback ends the
+     * match.
+     *
+     * @param now the frame timestamp in nanoseconds
+     */
+    private void playFrame(long now) {
+        boolean locked = pending != null && pending.isDone() && applyMove(now);
+        if (pending == null && !match.isOver() && now >= nextMoveNanos) {
+            startSearch();
+        }
+        if (dirty) {
+            Board board = engine.getBoard();
+            boardCanvas.draw(board.getBoardMatrix(), engine.isGameOver() ? null : board.getViewData());
+            dirty = false;
+        }
+        if (locked) {
+            onLock.run();
+        }
+    }
+
+    /**
+     * Submits a book lookup and, on a miss, a search for the current piece to
+     * the search thread.
+     */
+    private void startSearch() {
+        BoardSnapshot snapshot = BoardSnapshot.of(engine, GameConstants.NEXT_PIECE_PREVIEW_COUNT);
+        if (snapshot == null) {
+            return;
+        }
+        long budgetNanos = difficulty.getSearchBudgetMillis() * NANOS_PER_MILLI;
+        pending = executor.submit(() -> {
+            Placement bookMove = openingBook == null ? null : openingBook.lookup(snapshot);
+            if (bookMove != null) {
+                return bookMove;
+            }
+            return search.findBest(snapshot.copyBoard(), snapshot.getPieceType(), snapshot.getRotation(),
+                    snapshot.getX(), snapshot.getY(), snapshot.getHeldPiece(), snapshot.canHold(),
+                    snapshot.getPreview(), budgetNanos);
+        });
+    }
+
+    /**
+     * Applies the move of the finished search and reports the lock to the
+     * match. A piece the search found no move for is hard dropped where it is.
+     *
+     * @param now the frame timestamp in nanoseconds
+     * @return true if a piece was placed, false if the match was already over
+     */
+    private boolean applyMove(long now) {
+        Placement placement;
+        try {
+            placement = pending.get();
+        } catch (InterruptedException | ExecutionException e) {
+            placement = null;
+        } finally {
+            pending = null;
+        }
+        if (match.isOver()) {
+            return false;
+        }
+        LockResult lockResult = placement == null ? engine.hardDrop() : placement.applyTo(engine);
+        if (lockResult != null) {
+            match.opponentLocked(lockResult);
+        }
+        nextMoveNanos = now + difficulty.getMoveDelayMillis() * NANOS_PER_MILLI;
+        dirty = true;
+        return true;
+    }
+
+    /**
+     * Checks if the opponent is currently playing.
+     *
+     * @return true if the opponent is running, false if stopped or paused
+     */
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    /**
+     * Stops playing and shuts the search thread down.
+     */
+    @Override
+    public void close() {
+        stop();
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,180 @@
+package com.comp2042.engine;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Board;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.LockResult;
+import com.comp2042.model.ViewData;
+import com.comp2042.view.DownData;
+import com.comp2042.view.EventSource;
+import com.comp2042.view.InputEventListener;
+import com.comp2042.view.MoveEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drives a {@link GameEngine} through the {@link InputEventListener}
+ * interface without a user interface, for replay playback and tests.
+ * <p>
+ * Every event maps to the same engine action the GUI's game controller
+ * performs for it, so a game played through this listener follows the same
+ * rules as one played on screen.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Forwards movement, drops and hold to the engine</li>
+ *   <li>Answers the view queries from the engine's state</li>
+ * </ul>
+ */
+public final class EngineEventListener implements InputEventListener {
+
+    private final GameEngine engine;
+    private final Board board;
+
+    /**
+     * Constructs a listener for an engine.
+     *
+     * @param engine the engine to drive
+     */
+    public EngineEventListener(GameEngine engine) {
+        this.engine = engine;
+        this.board = engine.getBoard();
+    }
+
+    /**
+     * Soft drops the piece for user events and steps gravity for timer events.
+     *
+     * @param event the MoveEvent containing movement details
+     * @return the lock outcome, if the piece locked, and the view data
+     */
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        LockResult lockResult = event.getEventSource() == EventSource.USER ? engine.softDrop() : engine.tick();
+        return new DownData(toClearRow(lockResult), board.getViewData());
+    }
+
+    /**
+     * Moves the piece one column to the left.
+     *
+     * @param event the MoveEvent containing movement details
+     * @return the view data after the move
+     */
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        engine.moveLeft();
+        return board.getViewData();
+    }
+
+    /**
+     * Moves the piece one column to the right.
+     *
+     * @param event the MoveEvent containing movement details
+     * @return the view data after the move
+     */
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        engine.moveRight();
+        return board.getViewData();
+    }
+
+    /**
+     * Rotates the piece.
+     *
+     * @param event the MoveEvent containing movement details
+     * @return the view data after the rotation
+     */
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        engine.rotate();
+        return board.getViewData();
+    }
+
+    /**
+     * Starts a new game on the engine.
+     */
+    @Override
+    public void createNewGame() {
+        engine.newGame();
+    }
+
+    /**
+     * Gets the landing row of the current piece.
+     *
+     * @return the row offset at which the piece would land
+     */
+    @Override
+    public int getGhostRow() {
+        return board.getLandingRow();
+    }
+
+    /**
+     * Hard drops the current piece.
+     *
+     * @param brick the ViewData of the piece to drop
+     * @return the lock outcome and the view data
+     */
+    @Override
+    public DownData onHardDrop(ViewData brick) {
+        return new DownData(toClearRow(engine.hardDrop()), board.getViewData());
+    }
+
+    /**
+     * Gets the current piece view data.
+     *
+     * @return ViewData for the current piece
+     */
+    @Override
+    public ViewData getCurrentBrick() {
+        return board.getViewData();
+    }
+
+    /**
+     * Gets the shapes of the upcoming pieces.
+     *
+     * @param count the number of upcoming pieces to retrieve
+     * @return the spawn shapes of the upcoming pieces
+     */
+    @Override
+    public List<int[][]> getNextPieces(int count) {
+        List<int[][]> shapes = new ArrayList<>();
+        for (PieceType pieceType : engine.getNextPieces(count)) {
+            shapes.add(pieceType.getShape(0));
+        }
+        return shapes;
+    }
+
+    /**
+     * Holds the current piece.
+     *
+     * @return true if the hold was successful
+     */
+    @Override
+    public boolean onHoldEvent() {
+        return engine.hold();
+    }
+
+    /**
+     * Gets the shape of the held piece.
+     *
+     * @return the spawn shape of the held piece, or null if none is held
+     */
+    @Override
+    public int[][] getHoldPiece() {
+        PieceType heldPiece = engine.getHeldPiece();
+        return heldPiece == null ? null : heldPiece.getShape(0);
+    }
+
+    /**
+     * Describes a lock for the view.
+     *
+     * @param lockResult the outcome of a lock, or null if the piece did not lock
+     * @return the cleared rows of the lock, or null if the piece did not lock
+     */
+    private ClearRow toClearRow(LockResult lockResult) {
+        if (lockResult == null) {
+            return null;
+        }
+        return new ClearRow(lockResult.getLinesRemoved(), board.getBoardMatrix(), lockResult.getScoreBonus());
+    }
+}
@@ -0,0 +1,392 @@
+package com.comp2042.engine;
+
+import com.comp2042.constants.AnimationConfig;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Board;
+import com.comp2042.model.LockResult;
+import com.comp2042.model.Score;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the rules of a single Tetris game without any dependency on JavaFX.
+ * <p>
+ * The engine owns a {@link Board} (which holds the piece queue and the score)
+ * and adds the rules that used to live in the JavaFX controller: soft and hard
+ * drop scoring, hold, game over detection and an optional time limit. Time is
+ * never read from a system clock; callers advance it explicitly with
+ * {@link #advance(long)}, or step gravity directly with {@link #tick()}, so a
+ * game can be simulated as fast as the board allows and replayed exactly.
+ * <p>
+ * Actions that may lock the current piece return the {@link LockResult} of the
+ * lock, or {@code null} when the piece only moved.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Moves, rotates and drops the current piece</li>
+ *   <li>Applies gravity from an explicit clock</li>
+ *   <li>Scores soft drops, hard drops and line clears</li>
+ *   <li>Holds and swaps pieces once per lock</li>
+ *   <li>Receives garbage rows from an opponent</li>
+ *   <li>Ends the game on a blocked spawn or an expired time limit</li>
+ * </ul>
+ */
+public final class GameEngine {
+
+    /**
+     * Default time between two gravity steps, in milliseconds.
+     */
+    public static final long DEFAULT_GRAVITY_INTERVAL_MILLIS = AnimationConfig.DEFAULT_GAME_TICK_DELAY_MS;
+
+    private final Board board;
+    private final long gravityIntervalMillis;
+    private long gravityClockMillis;
+    private long timeLimitMillis;
+    private long timeRemainingMillis;
+    private Brick heldBrick;
+    private boolean canHold = true;
+    private boolean gameOver;
+    private int piecesLocked;
+    private int linesCleared;
+
+    /**
+     * Constructs an engine on top of a board with the default gravity interval.
+     *
+     * @param board the board to play on
+     */
+    public GameEngine(Board board) {
+        this(board, DEFAULT_GRAVITY_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Constructs an engine on top of a board.
+     *
+     * @param board                 the board to play on
+     * @param gravityIntervalMillis the time between two gravity steps, in milliseconds
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    public GameEngine(Board board, long gravityIntervalMillis) {
+        if (gravityIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Gravity interval must be positive: " + gravityIntervalMillis);
+        }
+        this.board = board;
+        this.gravityIntervalMillis = gravityIntervalMillis;
+    }
+
+    /**
+     * Starts a new game.
+     * <p>
+     * Resets the board, score, hold slot and clocks, and restarts the time
+     * limit if one is set.
+     */
+    public void newGame() {
+        board.newGame();
+        heldBrick = null;
+        canHold = true;
+        gameOver = false;
+        piecesLocked = 0;
+        linesCleared = 0;
+        gravityClockMillis = 0;
+        timeRemainingMillis = timeLimitMillis;
+    }
+
+    /**
+     * Sets the time limit of the game and restarts its countdown.
+     *
+     * @param timeLimitMillis the time limit in milliseconds, or 0 for no limit
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public void setTimeLimit(long timeLimitMillis) {
+        if (timeLimitMillis < 0) {
+            throw new IllegalArgumentException("Time limit must not be negative: " + timeLimitMillis);
+        }
+        this.timeLimitMillis = timeLimitMillis;
+        this.timeRemainingMillis = timeLimitMillis;
+    }
+
+    /**
+     * Moves the current piece one column to the left.
+     *
+     * @return true if the piece moved
+     */
+    public boolean moveLeft() {
+        return !gameOver && board.moveBrickLeft();
+    }
+
+    /**
+     * Moves the current piece one column to the right.
+     *
+     * @return true if the piece moved
+     */
+    public boolean moveRight() {
+        return !gameOver && board.moveBrickRight();
+    }
+
+    /**
+     * Rotates the current piece counterclockwise.
+     *
+     * @return true if the piece rotated
+     */
+    public boolean rotate() {
+        return !gameOver && board.rotateLeftBrick();
+    }
+
+    /**
+     * Moves the current piece down one row on player request, scoring one point
+     * if it moved and locking it otherwise.
+     *
+     * @return the lock outcome, or null if the piece moved or the game is over
+     */
+    public LockResult softDrop() {
+        return fall(true);
+    }
+
+    /**
+     * Applies one gravity step: the current piece falls one row, or locks if it
+     * cannot.
+     *
+     * @return the lock outcome, or null if the piece moved or the game is over
+     */
+    public LockResult tick() {
+        return fall(false);
+    }
+
+    /**
+     * Moves the current piece down one row or locks it.
+     *
+     * @param playerInitiated whether the move earns a soft drop point
+     * @return the lock outcome, or null if the piece moved or the game is over
+     */
+    private LockResult fall(boolean playerInitiated) {
+        if (gameOver) {
+            return null;
+        }
+        if (board.moveBrickDown()) {
+            if (playerInitiated) {
+                board.getScore().add(1);
+            }
+            return null;
+        }
+        return applyLock(board.lockBrick());
+    }
+
+    /**
+     * Drops the current piece to its landing row and locks it.
+     *
+     * @return the lock outcome, whose score bonus includes the drop distance,
+     * or null if the game is over
+     */
+    public LockResult hardDrop() {
+        if (gameOver) {
+            return null;
+        }
+        return applyLock(board.hardDropAndLock());
+    }
+
+    /**
+     * Applies the score and state changes that follow a lock.
+     *
+     * @param lockResult the outcome reported by the board
+     * @return the same outcome
+     */
+    private LockResult applyLock(LockResult lockResult) {
+        board.getScore().add(lockResult.getScoreBonus());
+        piecesLocked++;
+        linesCleared += lockResult.getLinesRemoved();
+        canHold = true;
+        if (lockResult.isGameOver()) {
+            gameOver = true;
+        }
+        return lockResult;
+    }
+
+    /**
+     * Swaps the current piece with the held piece, or stores it and spawns the
+     * next piece if nothing is held.
+     * <p>
+     * Hold is available once per locked piece. A swap whose incoming piece does
+     * not fit is undone; storing a piece when the next piece does not fit ends
+     * the game.
+     *
+     * @return true if the hold was performed
+     */
+    public boolean hold() {
+        if (!canHold || gameOver) {
+            return false;
+        }
+        Brick current = board.getCurrentBrick();
+        if (heldBrick == null) {
+            heldBrick = current;
+            board.spawnBrick(board.getBrickGenerator().getBrick());
+            if (board.checkCollision()) {
+                gameOver = true;
+                return false;
+            }
+        } else {
+            Brick swapped = heldBrick;
+            heldBrick = current;
+            board.spawnBrick(swapped);
+            if (board.checkCollision()) {
+                board.spawnBrick(current);
+                heldBrick = swapped;
+                return false;
+            }
+        }
+        canHold = false;
+        return true;
+    }
+
+    /**
+     * Pushes garbage rows in at the bottom of the board.
+     * <p>
+     * The game ends when filled cells are pushed off the top of the board or
+     * the current piece no longer fits where it is.
+     *
+     * @param count      the number of garbage rows, at most the board height
+     * @param holeColumn the column left empty in every garbage row
+     * @return true if the game is over
+     */
+    public boolean receiveGarbage(int count, int holeColumn) {
+        if (gameOver || count == 0) {
+            return gameOver;
+        }
+        boolean overflow = board.addGarbageRows(count, holeColumn);
+        if (overflow || board.checkCollision()) {
+            gameOver = true;
+        }
+        return gameOver;
+    }
+
+    /**
+     * Advances the game clock, applying every gravity step that falls due and
+     * counting down the time limit.
+     *
+     * @param elapsedMillis the time that passed since the last call, in milliseconds
+     * @return the number of lines cleared by gravity locks during this call
+     */
+    public int advance(long elapsedMillis) {
+        if (gameOver) {
+            return 0;
+        }
+        elapse(elapsedMillis);
+        gravityClockMillis += elapsedMillis;
+        int lines = 0;
+        while (!gameOver && gravityClockMillis >= gravityIntervalMillis) {
+            gravityClockMillis -= gravityIntervalMillis;
+            LockResult lockResult = tick();
+            if (lockResult != null) {
+                lines += lockResult.getLinesRemoved();
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Counts down the time limit without applying gravity.
+     * <p>
+     * Used by front ends that drive gravity with their own timer. The game ends
+     * when the remaining time reaches zero; without a time limit this does
+     * nothing.
+     *
+     * @param elapsedMillis the time that passed, in milliseconds
+     * @return true if the game is over
+     */
+    public boolean elapse(long elapsedMillis) {
+        if (timeLimitMillis > 0 && !gameOver) {
+            timeRemainingMillis = Math.max(0, timeRemainingMillis - elapsedMillis);
+            if (timeRemainingMillis == 0) {
+                gameOver = true;
+            }
+        }
+        return gameOver;
+    }
+
+    /**
+     * Gets the upcoming pieces without removing them from the queue.
+     *
+     * @param count the number of pieces to preview
+     * @return the next pieces in spawn order
+     */
+    public List<PieceType> getNextPieces(int count) {
+        List<Brick> bricks = board.getBrickGenerator().getNextBricks(count);
+        List<PieceType> pieces = new ArrayList<>(bricks.size());
+        for (Brick brick : bricks) {
+            pieces.add(brick.getType());
+        }
+        return pieces;
+    }
+
+    /**
+     * Gets the board this engine plays on.
+     *
+     * @return the live board
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the score of the current game.
+     *
+     * @return the live score
+     */
+    public Score getScore() {
+        return board.getScore();
+    }
+
+    /**
+     * Gets the held piece.
+     *
+     * @return the held piece, or null if the hold slot is empty
+     */
+    public PieceType getHeldPiece() {
+        return heldBrick == null ? null : heldBrick.getType();
+    }
+
+    /**
+     * Checks whether hold can be used for the current piece.
+     *
+     * @return true if hold is available
+     */
+    public boolean canHold() {
+        return canHold && !gameOver;
+    }
+
+    /**
+     * Checks whether the game has ended.
+     *
+     * @return true if the game is over
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Gets the number of pieces locked since the game started.
+     *
+     * @return the locked piece count
+     */
+    public int getPiecesLocked() {
+        return piecesLocked;
+    }
+
+    /**
+     * Gets the number of lines cleared since the game started.
+     *
+     * @return the cleared line count
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Gets the time left before the time limit expires.
+     *
+     * @return the remaining time in milliseconds, or 0 when there is no limit
+     */
+    public long getTimeRemainingMillis() {
+        return timeRemainingMillis;
+    }
+}
@@ -0,0 +1,334 @@
+package com.comp2042.engine;
+
+import com.comp2042.model.BoardType;
+import com.comp2042.view.EventSource;
+import com.comp2042.view.EventType;
+import com.comp2042.view.InputEventListener;
+import com.comp2042.view.MoveEvent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.BufferUnderflowException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A recorded game: the seed of its piece generator and every input event in
+ * order, stored in a compact binary form.
+ * <p>
+ * Time is measured in gravity ticks. An event is stamped with the number of
+ * gravity steps that happened before it in its game, so gravity itself is not
+ * stored: playing an event first plays the gravity steps up to its tick.
+ * Because the engine is deterministic, the seed and the events reproduce the
+ * game exactly.
+ * <p>
+ * The format is big-endian:
+ * <pre>
+ * int    magic "TRPL"
+ * byte   version
+ * byte   rows
+ * byte   columns
+ * long   seed of the piece generator
+ * varint event count
+ * varint event[count]   (tick - previous tick) &lt;&lt; 3 | EventType ordinal
+ * varint end            (last tick - previous tick) &lt;&lt; 3 | 7
+ * </pre>
+ * Varints store 7 bits per byte, low bits first, with the high bit set on
+ * every byte but the last. Most events fall within a tick of the previous
+ * one and take a single byte, so a whole game fits in a few kilobytes.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Encodes and decodes the replay format</li>
+ *   <li>Reads and writes replay files</li>
+ *   <li>Plays a game back through an {@link InputEventListener}</li>
+ * </ul>
+ */
+public final class Replay {
+
+    /**
+     * File name extension of replay files.
+     */
+    public static final String FILE_EXTENSION = ".rpl";
+
+    static final int MAGIC = 0x5452504C;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = Integer.BYTES + 3 + Long.BYTES;
+    static final int TYPE_BITS = 3;
+    static final int END_CODE = (1 << TYPE_BITS) - 1;
+
+    private static final EventType[] EVENT_TYPES = EventType.values();
+
+    private final int rows;
+    private final int columns;
+    private final long seed;
+    private final int[] ticks;
+    private final byte[] types;
+    private final int endTick;
+    private final byte[] encoded;
+
+    /**
+     * Constructs a replay from decoded parts.
+     *
+     * @param rows    the number of board rows
+     * @param columns the number of board columns
+     * @param seed    the seed of the piece generator
+     * @param ticks   the tick of every event
+     * @param types   the EventType ordinal of every event
+     * @param endTick the tick the game ended on
+     * @param encoded the encoded form
+     */
+    private Replay(int rows, int columns, long seed, int[] ticks, byte[] types, int endTick, byte[] encoded) {
+        this.rows = rows;
+        this.columns = columns;
+        this.seed = seed;
+        this.ticks = ticks;
+        this.types = types;
+        this.endTick = endTick;
+        this.encoded = encoded;
+    }
+
+    /**
+     * Decodes a replay.
+     *
+     * @param data the encoded replay
+     * @return the replay
+     * @throws IllegalArgumentException if the data is not a valid replay
+     */
+    public static Replay decode(byte[] data) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+                throw new IllegalArgumentException("Not a replay");
+            }
+            int rows = buffer.get() & 0xFF;
+            int columns = buffer.get() & 0xFF;
+            long seed = buffer.getLong();
+            int count = readVarint(buffer);
+            if (count < 0 || count > buffer.remaining()) {
+                throw new IllegalArgumentException("Invalid event count: " + count);
+            }
+            int[] ticks = new int[count];
+            byte[] types = new byte[count];
+            int tick = 0;
+            for (int i = 0; i < count; i++) {
+                int value = readVarint(buffer);
+                if ((value & END_CODE) >= EVENT_TYPES.length) {
+                    throw new IllegalArgumentException("Invalid event code at event " + i);
+                }
+                tick += value >>> TYPE_BITS;
+                ticks[i] = tick;
+                types[i] = (byte) (value & END_CODE);
+            }
+            int end = readVarint(buffer);
+            if ((end & END_CODE) != END_CODE || buffer.hasRemaining()) {
+                throw new IllegalArgumentException("Invalid end of replay");
+            }
+            return new Replay(rows, columns, seed, ticks, types, tick + (end >>> TYPE_BITS), data.clone());
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated replay", e);
+        }
+    }
+
+    /**
+     * Encodes a recording into replay data.
+     *
+     * @param rows        the number of board rows
+     * @param columns     the number of board columns
+     * @param seed        the seed of the piece generator
+     * @param events      the encoded events
+     * @param eventsBytes the number of bytes of encoded events
+     * @param eventCount  the number of events
+     * @param endDelta    the ticks from the last event to the end of the game
+     * @return the encoded replay
+     */
+    static byte[] encode(int rows, int columns, long seed, byte[] events, int eventsBytes, int eventCount,
+                         int endDelta) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + 2 * 5 + eventsBytes);
+        buffer.putInt(MAGIC).put((byte) VERSION).put((byte) rows).put((byte) columns).putLong(seed);
+        writeVarint(buffer, eventCount);
+        buffer.put(events, 0, eventsBytes);
+        writeVarint(buffer, endDelta << TYPE_BITS | END_CODE);
+        byte[] data = new byte[buffer.position()];
+        buffer.flip().get(data);
+        return data;
+    }
+
+    /**
+     * Writes an unsigned varint.
+     *
+     * @param buffer the buffer to write to
+     * @param value  the value, treated as unsigned
+     */
+    private static void writeVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned varint.
+     *
+     * @param buffer the buffer to read from
+     * @return the value
+     * @throws IllegalArgumentException if the varint is longer than an int
+     */
+    private static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint too long");
+    }
+
+    /**
+     * Reads a replay file.
+     *
+     * @param file the file to read
+     * @return the replay
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid replay
+     */
+    public static Replay read(Path file) throws IOException {
+        return decode(Files.readAllBytes(file));
+    }
+
+    /**
+     * Writes this replay to a file, replacing an existing one.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        Files.write(file, encoded);
+    }
+
+    /**
+     * Plays this replay through a listener whose game was just started with
+     * this replay's seed, like a player would: gravity steps as timer events
+     * and inputs as user events.
+     *
+     * @param listener the listener driving the game
+     */
+    public void playOn(InputEventListener listener) {
+        MoveEvent user = new MoveEvent(EventSource.USER);
+        MoveEvent gravity = new MoveEvent(EventSource.THREAD);
+        int tick = 0;
+        for (int i = 0; i < types.length; i++) {
+            for (; tick < ticks[i]; tick++) {
+                listener.onDownEvent(gravity);
+            }
+            switch (EVENT_TYPES[types[i]]) {
+                case DOWN -> listener.onDownEvent(user);
+                case LEFT -> listener.onLeftEvent(user);
+                case RIGHT -> listener.onRightEvent(user);
+                case ROTATE -> listener.onRotateEvent(user);
+                case HARD_DROP -> listener.onHardDrop(listener.getCurrentBrick());
+                case HOLD -> listener.onHoldEvent();
+            }
+        }
+        for (; tick < endTick; tick++) {
+            listener.onDownEvent(gravity);
+        }
+    }
+
+    /**
+     * Gets the number of board rows of the game.
+     *
+     * @return the row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of board columns of the game.
+     *
+     * @return the column count
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the seed the game's piece generator started from.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of recorded input events, gravity not included.
+     *
+     * @return the event count
+     */
+    public int getEventCount() {
+        return types.length;
+    }
+
+    /**
+     * Gets the type of an event.
+     *
+     * @param index the event index
+     * @return the event type
+     */
+    public EventType getEventType(int index) {
+        return EVENT_TYPES[types[index]];
+    }
+
+    /**
+     * Gets the tick of an event.
+     *
+     * @param index the event index
+     * @return the number of gravity steps before the event
+     */
+    public int getTick(int index) {
+        return ticks[index];
+    }
+
+    /**
+     * Gets the tick the game ended on.
+     *
+     * @return the number of gravity steps in the game
+     */
+    public int getEndTick() {
+        return endTick;
+    }
+
+    /**
+     * Gets the encoded size of this replay.
+     *
+     * @return the size in bytes
+     */
+    public int getEncodedSize() {
+        return encoded.length;
+    }
+
+    /**
+     * Plays replay files headlessly and prints the result of every game.
+     *
+     * @param args the replay files
+     * @throws IOException if a file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        for (String arg : args) {
+            Replay replay = read(Path.of(arg));
+            GameEngine engine = new GameEngine(BoardType.MATRIX.create(replay.getRows(), replay.getColumns(),
+                    replay.getSeed()));
+            engine.newGame();
+            replay.playOn(new EngineEventListener(engine));
+            System.out.printf("%s: %d bytes, %d events, %d ticks, score %d, lines %d, pieces %d%s%n", arg,
+                    replay.getEncodedSize(), replay.getEventCount(), replay.getEndTick(),
+                    engine.getScore().getScore(), engine.getLinesCleared(), engine.getPiecesLocked(),
+                    engine.isGameOver() ? ", game over" : "");
+        }
+    }
+}
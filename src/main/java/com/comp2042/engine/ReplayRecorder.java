@@ -0,0 +1,202 @@
+package com.comp2042.engine;
+
+import com.comp2042.view.EventType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Records the input events of a game into a {@link Replay}.
+ * <p>
+ * Recording sits on the input path, so it does as little as possible: an
+ * event is appended as a varint to a preallocated byte buffer and a gravity
+ * step only increments a counter. The buffer grows only for games longer than
+ * its capacity. Finishing a game encodes the buffer into a replay and, when a
+ * directory is set, hands the file write to a background thread so the
+ * calling thread never waits for the disk.
+ * <p>
+ * Recording methods must be called from one thread, the thread that drives
+ * the game.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Appends input events with their gravity tick to a primitive buffer</li>
+ *   <li>Builds a replay at the end of a game</li>
+ *   <li>Writes replay files on a background thread</li>
+ * </ul>
+ */
+public final class ReplayRecorder implements AutoCloseable {
+
+    /**
+     * Default capacity of the event buffer in bytes, enough for a long game.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /**
+     * System property naming the directory {@link #createDefault()} writes
+     * replays to.
+     */
+    public static final String DIRECTORY_PROPERTY = "tetris.replayDirectory";
+
+    /**
+     * Directory {@link #createDefault()} writes replays to when the property
+     * is not set, relative to the working directory.
+     */
+    public static final String DEFAULT_DIRECTORY = "replays";
+
+    private final Path directory;
+    private ExecutorService writer;
+    private byte[] events;
+    private int length;
+    private int eventCount;
+    private int tick;
+    private int lastTick;
+    private int rows;
+    private int columns;
+    private long seed;
+    private boolean recording;
+
+    /**
+     * Constructs a recorder.
+     *
+     * @param directory the directory finished games are written to, or null
+     *                  to keep replays in memory only
+     * @param capacity  the initial capacity of the event buffer in bytes
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public ReplayRecorder(Path directory, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.directory = directory;
+        this.events = new byte[capacity];
+    }
+
+    /**
+     * Creates a recorder that writes replays to the directory named by the
+     * {@value #DIRECTORY_PROPERTY} system property, or to
+     * {@value #DEFAULT_DIRECTORY}.
+     *
+     * @return the recorder
+     */
+    public static ReplayRecorder createDefault() {
+        return new ReplayRecorder(Path.of(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY)),
+                DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Starts recording a game, dropping a recording in progress.
+     *
+     * @param seed    the seed the game's piece generator starts from
+     * @param rows    the number of board rows
+     * @param columns the number of board columns
+     */
+    public void start(long seed, int rows, int columns) {
+        this.seed = seed;
+        this.rows = rows;
+        this.columns = columns;
+        length = 0;
+        eventCount = 0;
+        tick = 0;
+        lastTick = 0;
+        recording = true;
+    }
+
+    /**
+     * Records an input event at the current tick. Does nothing when not
+     * recording.
+     *
+     * @param type the input event
+     */
+    public void record(EventType type) {
+        if (!recording) {
+            return;
+        }
+        if (length + 5 > events.length) {
+            events = Arrays.copyOf(events, events.length * 2);
+        }
+        int value = (tick - lastTick) << Replay.TYPE_BITS | type.ordinal();
+        while ((value & ~0x7F) != 0) {
+            events[length++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        events[length++] = (byte) value;
+        lastTick = tick;
+        eventCount++;
+    }
+
+    /**
+     * Records a gravity step. Does nothing when not recording.
+     */
+    public void tick() {
+        if (recording) {
+            tick++;
+        }
+    }
+
+    /**
+     * Stops recording and builds the replay of the game. If a directory is
+     * set and the game had any input, the replay file is written on a
+     * background thread; a failed write is reported on the error stream.
+     *
+     * @return the replay, or null if no game was being recorded
+     */
+    public Replay finish() {
+        if (!recording) {
+            return null;
+        }
+        recording = false;
+        Replay replay = Replay.decode(Replay.encode(rows, columns, seed, events, length, eventCount, tick - lastTick));
+        if (directory != null && eventCount > 0) {
+            if (writer == null) {
+                writer = Executors.newSingleThreadExecutor(task -> {
+                    Thread thread = new Thread(task, "replay-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            Path file = directory.resolve(String.format(Locale.ROOT, "replay-%d-%016x%s",
+                    System.currentTimeMillis(), seed, Replay.FILE_EXTENSION));
+            writer.execute(() -> {
+                try {
+                    Files.createDirectories(directory);
+                    replay.write(file);
+                } catch (IOException e) {
+                    System.err.println("Warning: replay " + file + " not saved: " + e.getMessage());
+                }
+            });
+        }
+        return replay;
+    }
+
+    /**
+     * Stops recording without building a replay.
+     */
+    public void discard() {
+        recording = false;
+    }
+
+    /**
+     * Checks whether a game is being recorded.
+     *
+     * @return true between {@link #start} and {@link #finish()} or {@link #discard()}
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Stops the background writer after the pending writes.
+     */
+    @Override
+    public void close() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+}
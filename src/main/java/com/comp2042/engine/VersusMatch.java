@@ -0,0 +1,229 @@
+package com.comp2042.engine;
+
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.SplitMix64;
+import com.comp2042.model.LockResult;
+
+/**
+ * Runs the rules that connect two games played against each other.
+ * <p>
+ * Both engines start every match with the same piece sequence. Line clears
+ * attack the other board: a double sends one garbage row, a triple two and a
+ * Tetris four. Garbage does not arrive at once. It waits until the receiver
+ * locks a piece without clearing lines, so a player is never hit in the
+ * middle of a placement. A player who clears lines while garbage is waiting
+ * first cancels the waiting rows with the attack, and only the rest is sent
+ * on. Each batch of garbage rows shares one hole column, drawn from a seeded
+ * generator, so a match is reproducible. The match ends when either game is
+ * over.
+ * <p>
+ * Like {@link GameEngine}, a match has no dependency on JavaFX or on a clock.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Starts both games on the same piece sequence</li>
+ *   <li>Turns line clears into garbage and cancels incoming garbage</li>
+ *   <li>Inserts waiting garbage after a lock without line clears</li>
+ *   <li>Reports the attack totals and the winner</li>
+ * </ul>
+ */
+public final class VersusMatch {
+
+    private static final int[] GARBAGE_BY_LINES = {0, 0, 1, 2, 4};
+
+    private final GameEngine player;
+    private final GameEngine opponent;
+    private final long seed;
+    private final SplitMix64 holes;
+    private final int rows;
+    private final int columns;
+    private int playerIncoming;
+    private int opponentIncoming;
+    private int playerSent;
+    private int opponentSent;
+
+    /**
+     * Constructs a match between two games on boards of the same size.
+     *
+     * @param player   the human player's game
+     * @param opponent the opponent's game
+     * @param seed     the seed of the garbage hole columns
+     * @throws IllegalArgumentException if the boards differ in size or either
+     *                                  board does not draw from a
+     *                                  {@link RandomBrickGenerator}
+     */
+    public VersusMatch(GameEngine player, GameEngine opponent, long seed) {
+        int[][] playerMatrix = player.getBoard().getBoardMatrix();
+        int[][] opponentMatrix = opponent.getBoard().getBoardMatrix();
+        if (playerMatrix.length != opponentMatrix.length || playerMatrix[0].length != opponentMatrix[0].length) {
+            throw new IllegalArgumentException("Boards differ in size");
+        }
+        if (!(player.getBoard().getBrickGenerator() instanceof RandomBrickGenerator)
+                || !(opponent.getBoard().getBrickGenerator() instanceof RandomBrickGenerator)) {
+            throw new IllegalArgumentException("Both boards must draw from a RandomBrickGenerator");
+        }
+        this.player = player;
+        this.opponent = opponent;
+        this.seed = seed;
+        this.holes = new SplitMix64(seed);
+        this.rows = playerMatrix.length;
+        this.columns = playerMatrix[0].length;
+    }
+
+    /**
+     * Starts a new match.
+     * <p>
+     * Copies the state of the player's piece generator to the opponent's, so
+     * both games see the same pieces, and starts both games.
+     */
+    public void newMatch() {
+        BrickGenerator source = player.getBoard().getBrickGenerator();
+        BrickGenerator target = opponent.getBoard().getBrickGenerator();
+        ((RandomBrickGenerator) target).restore(((RandomBrickGenerator) source).snapshot());
+        player.newGame();
+        opponent.newGame();
+        holes.setState(seed);
+        playerIncoming = 0;
+        opponentIncoming = 0;
+        playerSent = 0;
+        opponentSent = 0;
+    }
+
+    /**
+     * Gets the number of garbage rows a line clear sends.
+     *
+     * @param lines the number of lines cleared at once
+     * @return the garbage rows sent to the other board
+     */
+    public static int garbageFor(int lines) {
+        return GARBAGE_BY_LINES[Math.min(lines, GARBAGE_BY_LINES.length - 1)];
+    }
+
+    /**
+     * Applies the consequences of a lock in the player's game.
+     *
+     * @param lockResult the outcome of the lock
+     * @return the garbage rows sent to the opponent
+     */
+    public int playerLocked(LockResult lockResult) {
+        int sent = exchange(lockResult, true);
+        playerSent += sent;
+        return sent;
+    }
+
+    /**
+     * Applies the consequences of a lock in the opponent's game.
+     *
+     * @param lockResult the outcome of the lock
+     * @return the garbage rows sent to the player
+     */
+    public int opponentLocked(LockResult lockResult) {
+        int sent = exchange(lockResult, false);
+        opponentSent += sent;
+        return sent;
+    }
+
+    /**
+     * Cancels, sends or receives garbage after a lock on one side.
+     *
+     * @param lockResult the outcome of the lock
+     * @param byPlayer   whether the lock happened in the player's game
+     * @return the garbage rows sent to the other side
+     */
+    private int exchange(LockResult lockResult, boolean byPlayer) {
+        int incoming = byPlayer ? playerIncoming : opponentIncoming;
+        int lines = lockResult.getLinesRemoved();
+        int sent = 0;
+        if (lines > 0) {
+            int attack = garbageFor(lines);
+            int cancelled = Math.min(attack, incoming);
+            incoming -= cancelled;
+            sent = attack - cancelled;
+        } else if (incoming > 0) {
+            GameEngine target = byPlayer ? player : opponent;
+            target.receiveGarbage(Math.min(incoming, rows), holes.nextInt(columns));
+            incoming = 0;
+        }
+        if (byPlayer) {
+            playerIncoming = incoming;
+            opponentIncoming += sent;
+        } else {
+            opponentIncoming = incoming;
+            playerIncoming += sent;
+        }
+        return sent;
+    }
+
+    /**
+     * Checks whether the match is over.
+     *
+     * @return true if either game is over
+     */
+    public boolean isOver() {
+        return player.isGameOver() || opponent.isGameOver();
+    }
+
+    /**
+     * Checks whether the player won the match.
+     *
+     * @return true if the opponent's game is over and the player's is not
+     */
+    public boolean isPlayerWinner() {
+        return opponent.isGameOver() && !player.isGameOver();
+    }
+
+    /**
+     * Gets the human player's game.
+     *
+     * @return the player's engine
+     */
+    public GameEngine getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the opponent's game.
+     *
+     * @return the opponent's engine
+     */
+    public GameEngine getOpponent() {
+        return opponent;
+    }
+
+    /**
+     * Gets the garbage rows waiting to be inserted into the player's board.
+     *
+     * @return the waiting row count
+     */
+    public int getPlayerIncoming() {
+        return playerIncoming;
+    }
+
+    /**
+     * Gets the garbage rows waiting to be inserted into the opponent's board.
+     *
+     * @return the waiting row count
+     */
+    public int getOpponentIncoming() {
+        return opponentIncoming;
+    }
+
+    /**
+     * Gets the garbage rows the player has sent this match.
+     *
+     * @return the row count
+     */
+    public int getPlayerSent() {
+        return playerSent;
+    }
+
+    /**
+     * Gets the garbage rows the opponent has sent this match.
+     *
+     * @return the row count
+     */
+    public int getOpponentSent() {
+        return opponentSent;
+    }
+}
@@ -34,4 +34,14 @@ public interface Brick {
      * rotation state. Index 0 contains the default orientation.
      */
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Retrieves the entry of this piece in the shared piece table.
+     * <p>
+     * The piece table holds precomputed, read-only shapes and bitmasks for
+     * every rotation, so hot paths can read them without copying.
+     *
+     * @return the PieceType of this brick, never null
+     */
+    PieceType getType();
 }
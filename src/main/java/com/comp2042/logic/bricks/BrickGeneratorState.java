@@ -0,0 +1,186 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Immutable snapshot of the complete state of a {@link RandomBrickGenerator}.
+ * <p>
+ * The state is a handful of primitives: the PRNG state, and the remaining bag
+ * and the preview queue packed as {@link PieceType} ordinals, four bits per
+ * piece with the first piece in the lowest bits. Restoring a snapshot makes the
+ * generator produce exactly the same pieces again, so replays and lockstep
+ * simulations only need to store these values instead of every piece.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Holds the PRNG state</li>
+ *   <li>Holds the bag and the preview queue in packed form</li>
+ *   <li>Packs and unpacks piece sequences</li>
+ *   <li>Reads single pieces of the bag and the queue</li>
+ * </ul>
+ */
+public final class BrickGeneratorState {
+
+    /**
+     * Number of bits used per packed piece.
+     */
+    public static final int BITS_PER_PIECE = 4;
+
+    /**
+     * Largest number of pieces a packed sequence can hold.
+     */
+    public static final int MAX_PACKED_PIECES = Long.SIZE / BITS_PER_PIECE;
+
+    private static final long PIECE_MASK = (1L << BITS_PER_PIECE) - 1;
+
+    private final long rngState;
+    private final long bag;
+    private final int bagSize;
+    private final long queue;
+    private final int queueSize;
+
+    /**
+     * Constructs a snapshot from its primitive parts.
+     *
+     * @param rngState  the PRNG state
+     * @param bag       the packed pieces left in the bag
+     * @param bagSize   the number of pieces left in the bag
+     * @param queue     the packed preview queue
+     * @param queueSize the number of pieces in the preview queue
+     * @throws IllegalArgumentException if a size is out of range
+     */
+    public BrickGeneratorState(long rngState, long bag, int bagSize, long queue, int queueSize) {
+        if (bagSize < 0 || bagSize > MAX_PACKED_PIECES || queueSize < 0 || queueSize > MAX_PACKED_PIECES) {
+            throw new IllegalArgumentException("Invalid sizes: bag=" + bagSize + " queue=" + queueSize);
+        }
+        this.rngState = rngState;
+        this.bag = bag;
+        this.bagSize = bagSize;
+        this.queue = queue;
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * Packs a piece into a sequence at the given position.
+     *
+     * @param packed    the sequence so far
+     * @param index     the position of the piece, starting at zero
+     * @param pieceType the piece to store
+     * @return the updated sequence
+     */
+    static long pack(long packed, int index, PieceType pieceType) {
+        return packed | ((long) pieceType.ordinal() << (index * BITS_PER_PIECE));
+    }
+
+    /**
+     * Reads a piece from a packed sequence.
+     *
+     * @param packed the packed sequence
+     * @param index  the position of the piece, starting at zero
+     * @return the piece at that position
+     */
+    static PieceType unpack(long packed, int index) {
+        return PieceType.fromOrdinal((int) ((packed >>> (index * BITS_PER_PIECE)) & PIECE_MASK));
+    }
+
+    /**
+     * Gets the PRNG state.
+     *
+     * @return the SplitMix64 state
+     */
+    public long getRngState() {
+        return rngState;
+    }
+
+    /**
+     * Gets the packed pieces left in the current bag.
+     *
+     * @return the packed bag, next piece in the lowest bits
+     */
+    public long getBag() {
+        return bag;
+    }
+
+    /**
+     * Gets the number of pieces left in the current bag.
+     *
+     * @return the bag size
+     */
+    public int getBagSize() {
+        return bagSize;
+    }
+
+    /**
+     * Gets a piece left in the current bag.
+     *
+     * @param index the position in the bag, starting at zero
+     * @return the piece at that position
+     * @throws IndexOutOfBoundsException if the index is not below {@link #getBagSize()}
+     */
+    public PieceType getBagPiece(int index) {
+        return unpack(bag, checkIndex(index, bagSize));
+    }
+
+    /**
+     * Gets a piece of the preview queue.
+     *
+     * @param index the position in the queue, 0 being the next piece
+     * @return the piece at that position
+     * @throws IndexOutOfBoundsException if the index is not below {@link #getQueueSize()}
+     */
+    public PieceType getQueuePiece(int index) {
+        return unpack(queue, checkIndex(index, queueSize));
+    }
+
+    /**
+     * Checks an index against a size.
+     *
+     * @param index the index
+     * @param size  the number of valid indices
+     * @return the index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private static int checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range for size " + size);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the packed preview queue.
+     *
+     * @return the packed queue, next piece in the lowest bits
+     */
+    public long getQueue() {
+        return queue;
+    }
+
+    /**
+     * Gets the number of pieces in the preview queue.
+     *
+     * @return the queue size
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BrickGeneratorState other)) {
+            return false;
+        }
+        return rngState == other.rngState && bag == other.bag && bagSize == other.bagSize
+                && queue == other.queue && queueSize == other.queueSize;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(rngState);
+        result = 31 * result + Long.hashCode(bag);
+        result = 31 * result + bagSize;
+        result = 31 * result + Long.hashCode(queue);
+        return 31 * result + queueSize;
+    }
+}
@@ -55,4 +55,13 @@ final class IBrick implements Brick {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
 
+    /**
+     * Gets the piece type of the I-brick.
+     *
+     * @return {@link PieceType#I}
+     */
+    @Override
+    public PieceType getType() {
+        return PieceType.I;
+    }
 }
@@ -65,4 +65,14 @@ final class JBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    /**
+     * Gets the piece type of the J-brick.
+     *
+     * @return {@link PieceType#J}
+     */
+    @Override
+    public PieceType getType() {
+        return PieceType.J;
+    }
 }
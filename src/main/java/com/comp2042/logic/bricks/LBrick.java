@@ -64,4 +64,14 @@ final class LBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    /**
+     * Gets the piece type of the L-brick.
+     *
+     * @return {@link PieceType#L}
+     */
+    @Override
+    public PieceType getType() {
+        return PieceType.L;
+    }
 }
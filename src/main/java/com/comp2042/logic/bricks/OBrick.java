@@ -47,4 +47,13 @@ final class OBrick implements Brick {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
 
+    /**
+     * Gets the piece type of the O-brick.
+     *
+     * @return {@link PieceType#O}
+     */
+    @Override
+    public PieceType getType() {
+        return PieceType.O;
+    }
 }
@@ -0,0 +1,273 @@
+package com.comp2042.logic.bricks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Shared, precomputed table of the seven Tetris pieces.
+ * <p>
+ * Each constant owns the canonical {@link Brick} instance of its piece and
+ * precomputes, for every rotation, the shape matrix, the per-row bitmasks, the
+ * filled cell coordinates and the bounding box. The table is built once when
+ * the class is loaded, so collision and rotation code can read it directly
+ * without copying shape matrices.
+ * <p>
+ * The arrays returned by this enum are shared by every caller and must be
+ * treated as read-only.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Indexes shapes by piece and rotation</li>
+ *   <li>Provides row bitmasks for bitboard collision checks</li>
+ *   <li>Provides cell lists and bounding boxes for matrix collision checks</li>
+ *   <li>Provides column bottom profiles for heightmap drop queries</li>
+ *   <li>Defines the spawn offset of every piece</li>
+ * </ul>
+ *
+ * @see Brick
+ */
+public enum PieceType {
+    /**
+     * I-tetromino
+     */
+    I(IBrick::new),
+    /**
+     * J-tetromino
+     */
+    J(JBrick::new),
+    /**
+     * L-tetromino
+     */
+    L(LBrick::new),
+    /**
+     * O-tetromino
+     */
+    O(OBrick::new),
+    /**
+     * S-tetromino
+     */
+    S(SBrick::new),
+    /**
+     * T-tetromino
+     */
+    T(TBrick::new),
+    /**
+     * Z-tetromino
+     */
+    Z(ZBrick::new);
+
+    /**
+     * Column offset at which every piece spawns.
+     */
+    public static final int SPAWN_X = 4;
+
+    /**
+     * Row offset at which every piece spawns.
+     */
+    public static final int SPAWN_Y = 0;
+
+    private static final PieceType[] VALUES = values();
+
+    private final Brick brick;
+    private final int[][][] shapes;
+    private final long[][] rowMasks;
+    private final int[][] cellRows;
+    private final int[][] cellColumns;
+    private final int[] minRow;
+    private final int[] maxRow;
+    private final int[] minColumn;
+    private final int[] maxColumn;
+    private final int[][] columnBottoms;
+    private final int colorCode;
+
+    PieceType(Supplier<Brick> factory) {
+        brick = factory.get();
+        List<int[][]> rotations = brick.getShapeMatrix();
+        int count = rotations.size();
+        shapes = new int[count][][];
+        rowMasks = new long[count][];
+        cellRows = new int[count][];
+        cellColumns = new int[count][];
+        minRow = new int[count];
+        maxRow = new int[count];
+        minColumn = new int[count];
+        maxColumn = new int[count];
+        columnBottoms = new int[count][];
+        int color = 0;
+
+        for (int rotation = 0; rotation < count; rotation++) {
+            int[][] shape = rotations.get(rotation);
+            shapes[rotation] = shape;
+            rowMasks[rotation] = new long[shape.length];
+            int cells = 0;
+            for (int[] row : shape) {
+                for (int cell : row) {
+                    if (cell != 0) {
+                        cells++;
+                    }
+                }
+            }
+            cellRows[rotation] = new int[cells];
+            cellColumns[rotation] = new int[cells];
+            columnBottoms[rotation] = new int[shape[0].length];
+            Arrays.fill(columnBottoms[rotation], -1);
+            minRow[rotation] = Integer.MAX_VALUE;
+            minColumn[rotation] = Integer.MAX_VALUE;
+            maxRow[rotation] = Integer.MIN_VALUE;
+            maxColumn[rotation] = Integer.MIN_VALUE;
+
+            int index = 0;
+            for (int row = 0; row < shape.length; row++) {
+                for (int column = 0; column < shape[row].length; column++) {
+                    if (shape[row][column] == 0) {
+                        continue;
+                    }
+                    color = shape[row][column];
+                    rowMasks[rotation][row] |= 1L << column;
+                    cellRows[rotation][index] = row;
+                    cellColumns[rotation][index] = column;
+                    index++;
+                    minRow[rotation] = Math.min(minRow[rotation], row);
+                    maxRow[rotation] = Math.max(maxRow[rotation], row);
+                    minColumn[rotation] = Math.min(minColumn[rotation], column);
+                    maxColumn[rotation] = Math.max(maxColumn[rotation], column);
+                    columnBottoms[rotation][column] = Math.max(columnBottoms[rotation][column], row);
+                }
+            }
+        }
+        colorCode = color;
+    }
+
+    /**
+     * Gets the piece type with the given ordinal without allocating.
+     *
+     * @param ordinal the ordinal of the piece type
+     * @return the matching piece type
+     */
+    public static PieceType fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Gets the canonical brick instance of this piece.
+     *
+     * @return the shared Brick, never null
+     */
+    public Brick getBrick() {
+        return brick;
+    }
+
+    /**
+     * Gets the number of distinct rotations of this piece.
+     *
+     * @return the rotation count, at least one
+     */
+    public int getRotationCount() {
+        return shapes.length;
+    }
+
+    /**
+     * Gets the shared shape matrix of a rotation.
+     *
+     * @param rotation the rotation index
+     * @return the read-only shape matrix
+     */
+    public int[][] getShape(int rotation) {
+        return shapes[rotation];
+    }
+
+    /**
+     * Gets the shared row bitmasks of a rotation.
+     * <p>
+     * Bit {@code j} of entry {@code i} is set when shape cell (i, j) is filled.
+     *
+     * @param rotation the rotation index
+     * @return the read-only row masks
+     */
+    public long[] getRowMasks(int rotation) {
+        return rowMasks[rotation];
+    }
+
+    /**
+     * Gets the row of every filled cell of a rotation, relative to the shape origin.
+     *
+     * @param rotation the rotation index
+     * @return the read-only cell rows, parallel to {@link #getCellColumns(int)}
+     */
+    public int[] getCellRows(int rotation) {
+        return cellRows[rotation];
+    }
+
+    /**
+     * Gets the column of every filled cell of a rotation, relative to the shape origin.
+     *
+     * @param rotation the rotation index
+     * @return the read-only cell columns, parallel to {@link #getCellRows(int)}
+     */
+    public int[] getCellColumns(int rotation) {
+        return cellColumns[rotation];
+    }
+
+    /**
+     * Gets the topmost filled row of a rotation.
+     *
+     * @param rotation the rotation index
+     * @return the bounding box top, relative to the shape origin
+     */
+    public int getMinRow(int rotation) {
+        return minRow[rotation];
+    }
+
+    /**
+     * Gets the bottommost filled row of a rotation.
+     *
+     * @param rotation the rotation index
+     * @return the bounding box bottom, relative to the shape origin
+     */
+    public int getMaxRow(int rotation) {
+        return maxRow[rotation];
+    }
+
+    /**
+     * Gets the leftmost filled column of a rotation.
+     *
+     * @param rotation the rotation index
+     * @return the bounding box left edge, relative to the shape origin
+     */
+    public int getMinColumn(int rotation) {
+        return minColumn[rotation];
+    }
+
+    /**
+     * Gets the rightmost filled column of a rotation.
+     *
+     * @param rotation the rotation index
+     * @return the bounding box right edge, relative to the shape origin
+     */
+    public int getMaxColumn(int rotation) {
+        return maxColumn[rotation];
+    }
+
+    /**
+     * Gets the lowest filled row of every shape column of a rotation.
+     * <p>
+     * Together with a column heightmap this gives the landing row of the piece
+     * without testing one row at a time.
+     *
+     * @param rotation the rotation index
+     * @return the read-only bottom profile, -1 for columns without filled cells
+     */
+    public int[] getColumnBottoms(int rotation) {
+        return columnBottoms[rotation];
+    }
+
+    /**
+     * Gets the colour code used by every cell of this piece.
+     *
+     * @return the colour code (1-7)
+     */
+    public int getColorCode() {
+        return colorCode;
+    }
+}
@@ -1,6 +1,7 @@
 package com.comp2042.logic.bricks;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Generates Tetris pieces using the "bag" randomization system.
@@ -10,17 +11,25 @@ import java.util.*;
  * the bag is empty, a new shuffled bag is created. This ensures fair distribution
  * and prevents long droughts of specific pieces.
  * <p>
+ * Bags are shuffled with a Fisher-Yates shuffle driven by a seeded
+ * {@link SplitMix64}, so the same seed yields the same piece stream on every
+ * JVM. The complete generator state can be captured with {@link #snapshot()}
+ * and restored with {@link #restore(BrickGeneratorState)}.
+ * <p>
  * <b>Functionality:</b>
  * <ul>
  *   <li>Generates pieces using the bag randomization algorithm</li>
  *   <li>Maintains a queue for piece previews</li>
  *   <li>Ensures all seven piece types appear equally often</li>
  *   <li>Provides look-ahead capability for multiple upcoming pieces</li>
+ *   <li>Reproduces piece streams from a seed or a state snapshot</li>
  * </ul>
  */
 public class RandomBrickGenerator implements BrickGenerator {
 
-    private final List<Brick> brickList;
+    private final PieceType[] shuffleBuffer = PieceType.values();
+
+    private final SplitMix64 random;
 
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
 
@@ -29,21 +38,38 @@ public class RandomBrickGenerator implements BrickGenerator {
     private static final int PREVIEW_COUNT = 3;
 
     /**
-     * Constructs a RandomBrickGenerator with all seven Tetris piece types.
-     * <p>
-     * Initializes the brick list with I, J, L, O, S, T, and Z pieces, creates
-     * the first shuffled bag, and fills the preview queue.
+     * Constructs a RandomBrickGenerator with a random seed.
      */
     public RandomBrickGenerator() {
-        brickList = List.of(
-                new IBrick(),
-                new JBrick(),
-                new LBrick(),
-                new OBrick(),
-                new SBrick(),
-                new TBrick(),
-                new ZBrick()
-        );
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Constructs a RandomBrickGenerator whose piece stream is fully determined
+     * by a seed.
+     * <p>
+     * Creates the first shuffled bag of the shared I, J, L, O, S, T, and Z
+     * pieces from {@link PieceType} and fills the preview queue.
+     *
+     * @param seed the seed of the piece stream
+     */
+    public RandomBrickGenerator(long seed) {
+        random = new SplitMix64(seed);
+        refillBag();
+        ensureQueueSize();
+    }
+
+    /**
+     * Restarts the piece stream from a seed, discarding the current bag and
+     * preview queue. Afterwards the generator deals exactly the pieces a new
+     * generator constructed with the same seed would.
+     *
+     * @param seed the seed of the piece stream
+     */
+    public void reseed(long seed) {
+        random.setState(seed);
+        currentBag.clear();
+        nextBricks.clear();
         refillBag();
         ensureQueueSize();
     }
@@ -51,12 +77,24 @@ public class RandomBrickGenerator implements BrickGenerator {
     /**
      * Refills the bag with a new shuffled set of all seven piece types.
      * <p>
-     * Creates a shuffled copy of all pieces and adds them to the current bag.
+     * Shuffles the piece types, starting from their declaration order so the
+     * result only depends on the PRNG state, with a Fisher-Yates shuffle and
+     * adds their bricks to the current bag.
      */
     private void refillBag() {
-        List<Brick> shuffled = new ArrayList<>(brickList);
-        Collections.shuffle(shuffled);
-        currentBag.addAll(shuffled);
+        PieceType[] pieces = shuffleBuffer;
+        for (int i = 0; i < pieces.length; i++) {
+            pieces[i] = PieceType.fromOrdinal(i);
+        }
+        for (int i = pieces.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            PieceType swap = pieces[i];
+            pieces[i] = pieces[j];
+            pieces[j] = swap;
+        }
+        for (PieceType pieceType : pieces) {
+            currentBag.add(pieceType.getBrick());
+        }
     }
 
     /**
@@ -121,4 +159,55 @@ public class RandomBrickGenerator implements BrickGenerator {
         }
         return preview;
     }
+
+    /**
+     * Captures the complete state of this generator.
+     *
+     * @return a snapshot that reproduces the remaining piece stream when restored
+     */
+    public BrickGeneratorState snapshot() {
+        return new BrickGeneratorState(random.getState(), pack(currentBag), currentBag.size(),
+                pack(nextBricks), nextBricks.size());
+    }
+
+    /**
+     * Restores a state captured by {@link #snapshot()}, possibly from another
+     * generator instance.
+     *
+     * @param state the state to restore
+     */
+    public void restore(BrickGeneratorState state) {
+        random.setState(state.getRngState());
+        unpack(state.getBag(), state.getBagSize(), currentBag);
+        unpack(state.getQueue(), state.getQueueSize(), nextBricks);
+    }
+
+    /**
+     * Packs a sequence of bricks into piece ordinals.
+     *
+     * @param bricks the bricks in order
+     * @return the packed sequence
+     */
+    private static long pack(Deque<Brick> bricks) {
+        long packed = 0;
+        int index = 0;
+        for (Brick brick : bricks) {
+            packed = BrickGeneratorState.pack(packed, index++, brick.getType());
+        }
+        return packed;
+    }
+
+    /**
+     * Replaces the contents of a brick sequence with unpacked pieces.
+     *
+     * @param packed the packed sequence
+     * @param size   the number of pieces in the sequence
+     * @param target the sequence to fill
+     */
+    private static void unpack(long packed, int size, Deque<Brick> target) {
+        target.clear();
+        for (int i = 0; i < size; i++) {
+            target.add(BrickGeneratorState.unpack(packed, i).getBrick());
+        }
+    }
 }
@@ -54,4 +54,14 @@ final class SBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    /**
+     * Gets the piece type of the S-brick.
+     *
+     * @return {@link PieceType#S}
+     */
+    @Override
+    public PieceType getType() {
+        return PieceType.S;
+    }
 }
@@ -0,0 +1,121 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Small, fast and splittable pseudo-random number generator.
+ * <p>
+ * Implements the SplitMix64 algorithm: the whole state is a single
+ * {@code long} that advances by a fixed odd constant, and every output is a
+ * bijective mix of the new state. The sequence only depends on the seed and on
+ * 64-bit integer arithmetic, so identical seeds produce identical sequences on
+ * every JVM, and the state can be captured and restored as one primitive.
+ * <p>
+ * This class is not thread-safe; give every thread or simulation its own
+ * instance, for example through {@link #split()}.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Generates 64-bit, bounded integer and unit double values</li>
+ *   <li>Exposes its state for snapshot and restore</li>
+ *   <li>Splits off statistically independent generators</li>
+ * </ul>
+ */
+public final class SplitMix64 {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    /**
+     * Constructs a generator from a seed.
+     *
+     * @param seed the initial state
+     */
+    public SplitMix64(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Returns the next 64-bit value.
+     *
+     * @return a uniformly distributed long
+     */
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    /**
+     * Returns a value between zero (inclusive) and a bound (exclusive).
+     * <p>
+     * Uses rejection sampling on the upper 31 bits, so every value in the range
+     * is equally likely.
+     *
+     * @param bound the upper bound, must be positive
+     * @return a uniformly distributed int in {@code [0, bound)}
+     * @throws IllegalArgumentException if the bound is not positive
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive: " + bound);
+        }
+        int limit = Integer.MAX_VALUE - Integer.MAX_VALUE % bound;
+        int bits;
+        do {
+            bits = (int) (nextLong() >>> 33);
+        } while (bits >= limit);
+        return bits % bound;
+    }
+
+    /**
+     * Returns a value between zero (inclusive) and one (exclusive).
+     * <p>
+     * Uses the upper 53 bits, so every representable step in the range is
+     * equally likely.
+     *
+     * @return a uniformly distributed double in {@code [0, 1)}
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Creates a new generator whose sequence is independent of this one.
+     * <p>
+     * Advances this generator by one step.
+     *
+     * @return the new generator
+     */
+    public SplitMix64 split() {
+        return new SplitMix64(mix(nextLong()));
+    }
+
+    /**
+     * Gets the complete state of the generator.
+     *
+     * @return the state, suitable for {@link #setState(long)}
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Restores a state previously returned by {@link #getState()}.
+     *
+     * @param state the state to restore
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    /**
+     * Applies the SplitMix64 output finalizer.
+     *
+     * @param z the value to mix
+     * @return the mixed value
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
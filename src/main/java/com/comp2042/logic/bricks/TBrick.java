@@ -64,4 +64,14 @@ final class TBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    /**
+     * Gets the piece type of the T-brick.
+     *
+     * @return {@link PieceType#T}
+     */
+    @Override
+    public PieceType getType() {
+        return PieceType.T;
+    }
 }
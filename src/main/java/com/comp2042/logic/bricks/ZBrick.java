@@ -54,4 +54,14 @@ final class ZBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    /**
+     * Gets the piece type of the Z-brick.
+     *
+     * @return {@link PieceType#Z}
+     */
+    @Override
+    public PieceType getType() {
+        return PieceType.Z;
+    }
 }
@@ -0,0 +1,303 @@
+package com.comp2042.model;
+
+import java.util.Arrays;
+
+/**
+ * Stores board occupancy as one bitmask per row.
+ * <p>
+ * Each row is a {@code long} where bit {@code PADDING + column} is set when the
+ * cell is filled. The bits outside the playfield are permanently set and act as
+ * walls, so a horizontal out-of-bounds check is the same AND as a collision with
+ * a locked block, and a full row is simply a row equal to {@code -1L}.
+ * <p>
+ * Piece shapes are described as row masks (see {@link #toRowMasks(int[][])})
+ * where bit {@code j} represents shape column {@code j}. Collision, merge and
+ * full-row detection therefore cost one word-wide operation per shape row
+ * instead of one comparison per cell.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Detects collisions with walls, floor and locked blocks</li>
+ *   <li>Places shapes into the occupancy rows</li>
+ *   <li>Detects and removes completed rows in place</li>
+ *   <li>Inserts garbage rows at the bottom</li>
+ *   <li>Converts to and from the {@code int[][]} board representation</li>
+ * </ul>
+ */
+public final class Bitboard {
+
+    /**
+     * Number of wall bits to the left of column 0.
+     */
+    public static final int PADDING = 4;
+
+    /**
+     * Widest board that still leaves room for a 4-wide shape on either side.
+     */
+    public static final int MAX_COLUMNS = Long.SIZE - 2 * PADDING;
+
+    private static final int MAX_SHIFT = Long.SIZE - PADDING;
+
+    private final int rows;
+    private final int columns;
+    private final long wallMask;
+    private final long[] occupancy;
+
+    /**
+     * Constructs an empty bitboard with the specified dimensions.
+     *
+     * @param rows    the number of rows in the board
+     * @param columns the number of columns in the board, at most {@link #MAX_COLUMNS}
+     * @throws IllegalArgumentException if either dimension is out of range
+     */
+    public Bitboard(int rows, int columns) {
+        if (rows <= 0 || columns <= 0 || columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Unsupported board size: " + rows + "x" + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.wallMask = ~(((1L << columns) - 1) << PADDING);
+        this.occupancy = new long[rows];
+        clear();
+    }
+
+    /**
+     * Converts a shape matrix into per-row bitmasks.
+     * <p>
+     * Bit {@code j} of entry {@code i} is set when {@code shape[i][j]} is non-zero.
+     *
+     * @param shape the shape matrix, at most four columns wide
+     * @return the row masks of the shape, one entry per shape row
+     */
+    public static long[] toRowMasks(int[][] shape) {
+        long[] masks = new long[shape.length];
+        for (int row = 0; row < shape.length; row++) {
+            long mask = 0;
+            for (int column = 0; column < shape[row].length; column++) {
+                if (shape[row][column] != 0) {
+                    mask |= 1L << column;
+                }
+            }
+            masks[row] = mask;
+        }
+        return masks;
+    }
+
+    /**
+     * Checks if a shape placed at the given position overlaps a wall, the floor,
+     * the ceiling or a locked block.
+     *
+     * @param shapeRows the shape's row masks
+     * @param x         the shape's horizontal position on the board
+     * @param y         the shape's vertical position on the board
+     * @return true if the shape collides, false otherwise
+     */
+    public boolean intersects(long[] shapeRows, int x, int y) {
+        int shift = x + PADDING;
+        boolean shiftOutOfRange = shift < 0 || shift > MAX_SHIFT;
+        for (int i = 0; i < shapeRows.length; i++) {
+            long mask = shapeRows[i];
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + i;
+            if (shiftOutOfRange || row < 0 || row >= rows) {
+                return true;
+            }
+            if ((occupancy[row] & (mask << shift)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets the cells covered by a shape at the given position.
+     * <p>
+     * The caller is expected to have checked {@link #intersects(long[], int, int)}
+     * first; rows outside the board are ignored.
+     *
+     * @param shapeRows the shape's row masks
+     * @param x         the shape's horizontal position on the board
+     * @param y         the shape's vertical position on the board
+     */
+    public void place(long[] shapeRows, int x, int y) {
+        int shift = x + PADDING;
+        for (int i = 0; i < shapeRows.length; i++) {
+            int row = y + i;
+            if (shapeRows[i] != 0 && row >= 0 && row < rows) {
+                occupancy[row] |= shapeRows[i] << shift;
+            }
+        }
+    }
+
+    /**
+     * Checks whether every cell of a row is filled.
+     *
+     * @param row the row index
+     * @return true if the row is complete
+     */
+    public boolean isRowFull(int row) {
+        return occupancy[row] == -1L;
+    }
+
+    /**
+     * Removes all completed rows and shifts the remaining rows down in place.
+     * <p>
+     * The indices of the removed rows, measured before the shift, are written to
+     * {@code clearedRows} in ascending order.
+     *
+     * @param clearedRows the array receiving the removed row indices, must have
+     *                    room for every row of the board
+     * @return the number of rows removed
+     */
+    public int clearFullRows(int[] clearedRows) {
+        return clearFullRows(0, rows - 1, clearedRows);
+    }
+
+    /**
+     * Removes the completed rows within a range and shifts the rows above them
+     * down in place.
+     * <p>
+     * Only the rows of the range are checked, so after a lock the range can be
+     * limited to the rows the piece covers. Rows below the lowest removed row
+     * do not move. The indices of the removed rows, measured before the shift,
+     * are written to {@code clearedRows} in ascending order.
+     *
+     * @param fromRow     the first row that may be complete
+     * @param toRow       the last row that may be complete
+     * @param clearedRows the array receiving the removed row indices, must have
+     *                    room for every row of the range
+     * @return the number of rows removed
+     */
+    public int clearFullRows(int fromRow, int toRow, int[] clearedRows) {
+        int count = 0;
+        for (int row = Math.max(0, fromRow); row <= Math.min(rows - 1, toRow); row++) {
+            if (occupancy[row] == -1L) {
+                clearedRows[count++] = row;
+            }
+        }
+        if (count == 0) {
+            return 0;
+        }
+        int write = clearedRows[count - 1];
+        for (int read = write - 1; read >= 0; read--) {
+            if (occupancy[read] != -1L || read < clearedRows[0]) {
+                occupancy[write--] = occupancy[read];
+            }
+        }
+        while (write >= 0) {
+            occupancy[write--] = wallMask;
+        }
+        return count;
+    }
+
+    /**
+     * Shifts every row up and inserts rows that are full except for one column.
+     *
+     * @param count      the number of rows to insert at the bottom
+     * @param holeColumn the empty column of every inserted row
+     * @return true if any filled cell was pushed off the top of the board
+     */
+    public boolean insertBottomRows(int count, int holeColumn) {
+        boolean overflow = false;
+        for (int row = 0; row < count; row++) {
+            overflow |= occupancy[row] != wallMask;
+        }
+        System.arraycopy(occupancy, count, occupancy, 0, rows - count);
+        long garbage = -1L & ~(1L << (holeColumn + PADDING));
+        Arrays.fill(occupancy, rows - count, rows, garbage);
+        return overflow;
+    }
+
+    /**
+     * Empties the board.
+     */
+    public void clear() {
+        Arrays.fill(occupancy, wallMask);
+    }
+
+    /**
+     * Copies the occupancy of another bitboard of the same size into this one.
+     *
+     * @param other the bitboard to copy from
+     * @throws IllegalArgumentException if the dimensions differ
+     */
+    public void copyFrom(Bitboard other) {
+        if (other.rows != rows || other.columns != columns) {
+            throw new IllegalArgumentException("Board sizes differ");
+        }
+        System.arraycopy(other.occupancy, 0, occupancy, 0, rows);
+    }
+
+    /**
+     * Loads the occupancy from a board matrix, treating non-zero cells as filled.
+     *
+     * @param boardMatrix the board matrix with the same dimensions as this bitboard
+     */
+    public void loadFrom(int[][] boardMatrix) {
+        for (int row = 0; row < rows; row++) {
+            long mask = wallMask;
+            for (int column = 0; column < columns; column++) {
+                if (boardMatrix[row][column] != 0) {
+                    mask |= 1L << (column + PADDING);
+                }
+            }
+            occupancy[row] = mask;
+        }
+    }
+
+    /**
+     * Gets the filled cells of a row without the wall bits.
+     *
+     * @param row the row index
+     * @return a mask where bit {@code c} is set when column {@code c} is filled
+     */
+    public long getRowBits(int row) {
+        return (occupancy[row] & ~wallMask) >>> PADDING;
+    }
+
+    /**
+     * Finds the topmost row that holds a filled cell.
+     *
+     * @return the index of the topmost non-empty row, or the row count if the
+     * board is empty
+     */
+    public int findTopFilledRow() {
+        for (int row = 0; row < rows; row++) {
+            if (occupancy[row] != wallMask) {
+                return row;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Checks whether a single cell is filled.
+     *
+     * @param row    the row index
+     * @param column the column index
+     * @return true if the cell is filled
+     */
+    public boolean isOccupied(int row, int column) {
+        return (occupancy[row] & (1L << (column + PADDING))) != 0;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the board height in rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return the board width in columns
+     */
+    public int getColumns() {
+        return columns;
+    }
+}
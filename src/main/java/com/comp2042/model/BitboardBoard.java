@@ -0,0 +1,537 @@
+package com.comp2042.model;
+
+import com.comp2042.constants.GameConstants;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+import java.util.Arrays;
+
+/**
+ * Implements the game board on top of a {@link Bitboard}.
+ * <p>
+ * This board offers the same behaviour as {@link SimpleBoard} but keeps the
+ * occupancy as one bitmask per row, so collision checks, merges and full-row
+ * detection are word-wide operations. Cell colours are kept in a separate
+ * colour plane that is only written when a brick locks and is only read for
+ * rendering through {@link #getBoardMatrix()}.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Moves and rotates the current piece using bitmask collision checks</li>
+ *   <li>Merges locked pieces and clears completed rows in place</li>
+ *   <li>Maintains a colour plane for the view layer</li>
+ *   <li>Tracks player score and generates new pieces</li>
+ * </ul>
+ *
+ * @see BoardType
+ */
+public class BitboardBoard implements Board {
+
+    private final int rows;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final Bitboard occupancy;
+    private final RowRing colorPlane;
+    private final int[] clearedRows;
+    private final BoardProfile profile;
+    private final Score score;
+    private Brick currentBrick;
+    private int brickX;
+    private int brickY;
+
+    /**
+     * Constructs a BitboardBoard with the specified dimensions.
+     *
+     * @param rows    the number of rows in the board
+     * @param columns the number of columns in the board
+     */
+    public BitboardBoard(int rows, int columns) {
+        this(rows, columns, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a BitboardBoard with the specified dimensions that draws its pieces
+     * from the given generator.
+     *
+     * @param rows           the number of rows in the board
+     * @param columns        the number of columns in the board
+     * @param brickGenerator the source of pieces, for example a seeded generator
+     */
+    public BitboardBoard(int rows, int columns, BrickGenerator brickGenerator) {
+        this.rows = rows;
+        occupancy = new Bitboard(rows, columns);
+        colorPlane = new RowRing(rows, columns);
+        clearedRows = new int[rows];
+        profile = new BoardProfile(rows, columns);
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        score = new Score();
+    }
+
+    /**
+     * Moves the current brick down by one row.
+     *
+     * @return true if the move was successful, false if collision occurred
+     */
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(brickX, brickY + 1);
+    }
+
+    /**
+     * Moves the current brick left by one column.
+     *
+     * @return true if the move was successful, false if collision occurred
+     */
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(brickX - 1, brickY);
+    }
+
+    /**
+     * Moves the current brick right by one column.
+     *
+     * @return true if the move was successful, false if collision occurred
+     */
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(brickX + 1, brickY);
+    }
+
+    /**
+     * Moves the current brick to the given position if it does not collide.
+     *
+     * @param x the target column offset
+     * @param y the target row offset
+     * @return true if the brick was moved, false otherwise
+     */
+    private boolean tryMove(int x, int y) {
+        if (occupancy.intersects(currentShapeMasks(), x, y)) {
+            return false;
+        }
+        brickX = x;
+        brickY = y;
+        return true;
+    }
+
+    /**
+     * Rotates the current brick counterclockwise.
+     *
+     * @return true if the rotation was successful, false if collision occurred
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        int next = brickRotator.getNextPosition();
+        if (occupancy.intersects(brickRotator.getPieceType().getRowMasks(next), brickX, brickY)) {
+            return false;
+        }
+        brickRotator.setCurrentShape(next);
+        return true;
+    }
+
+    /**
+     * Creates and spawns a new brick at the top of the board.
+     *
+     * @return true if the new brick collides immediately (game over), false otherwise
+     */
+    @Override
+    public boolean createNewBrick() {
+        spawnBrick(brickGenerator.getBrick());
+        return checkCollision();
+    }
+
+    /**
+     * Spawns a specific brick at the default starting position.
+     *
+     * @param brick the brick to spawn
+     */
+    @Override
+    public void spawnBrick(Brick brick) {
+        setCurrentBrick(brick);
+        resetBrickPosition();
+    }
+
+    /**
+     * Resets the brick position to the default spawn location.
+     */
+    @Override
+    public void resetBrickPosition() {
+        brickX = PieceType.SPAWN_X;
+        brickY = PieceType.SPAWN_Y;
+    }
+
+    /**
+     * Gets the colour plane of the board.
+     * <p>
+     * The returned matrix is live and is updated in place when bricks lock or
+     * rows are cleared.
+     *
+     * @return the 2D array holding the colour code of every locked cell
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return colorPlane.view();
+    }
+
+    /**
+     * Gets the current view data for rendering.
+     *
+     * @return a ViewData object containing the current brick shape, position, and next piece
+     */
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(brickRotator.getCurrentShape(), brickX, brickY, brickGenerator.getNextBrick().getType().getShape(0));
+    }
+
+    /**
+     * Merges the current brick into the occupancy rows and the colour plane.
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        long[] shapeRows = currentShapeMasks();
+        int colorCode = brickRotator.getPieceType().getColorCode();
+        occupancy.place(shapeRows, brickX, brickY);
+        profile.onPiecePlaced(brickRotator.getPieceType(), brickRotator.getCurrentPosition(), brickX, brickY);
+        for (int i = 0; i < shapeRows.length; i++) {
+            int row = brickY + i;
+            if (row < 0 || row >= rows) {
+                continue;
+            }
+            long mask = shapeRows[i];
+            while (mask != 0) {
+                int column = brickX + Long.numberOfTrailingZeros(mask);
+                colorPlane.row(row)[column] = colorCode;
+                mask &= mask - 1;
+            }
+        }
+    }
+
+    /**
+     * Clears completed rows from the occupancy rows and the colour plane.
+     * <p>
+     * Occupancy rows are shifted in place; the colour plane is a {@link RowRing},
+     * so only the colour rows below the topmost cleared line are moved and the
+     * cleared rows are recycled as the new empty rows at the top of the board.
+     *
+     * @return a ClearRow object containing information about cleared rows and score bonus
+     */
+    @Override
+    public ClearRow clearRows() {
+        int count = removeFullRows(0, rows - 1);
+        return new ClearRow(count, colorPlane.view(), 50 * count * count);
+    }
+
+    /**
+     * Removes the completed rows within a range from the occupancy rows, the
+     * colour plane and the board profile.
+     *
+     * @param fromRow the first row that may be complete
+     * @param toRow   the last row that may be complete
+     * @return the number of rows removed
+     */
+    private int removeFullRows(int fromRow, int toRow) {
+        int count = occupancy.clearFullRows(fromRow, toRow, clearedRows);
+        if (count > 0) {
+            colorPlane.removeRows(clearedRows, count);
+            profile.onRowsCleared(clearedRows, count);
+        }
+        return count;
+    }
+
+    /**
+     * Removes the completed rows among the rows covered by the current brick,
+     * the only rows a lock can complete.
+     *
+     * @return the number of rows removed
+     */
+    private int removeRowsTouchedByBrick() {
+        PieceType pieceType = brickRotator.getPieceType();
+        int rotation = brickRotator.getCurrentPosition();
+        return removeFullRows(brickY + pieceType.getMinRow(rotation), brickY + pieceType.getMaxRow(rotation));
+    }
+
+    /**
+     * Gets the score manager for this board.
+     *
+     * @return the Score object tracking the player's score
+     */
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    /**
+     * Starts a new game by resetting the board and score.
+     */
+    @Override
+    public void newGame() {
+        occupancy.clear();
+        profile.reset();
+        colorPlane.clear();
+        score.reset();
+        createNewBrick();
+    }
+
+    /**
+     * Performs a hard drop of the current brick.
+     * <p>
+     * Drops the brick to its lowest possible position, locks it, clears any
+     * completed rows, and adds the drop distance to the score bonus.
+     *
+     * @return a ClearRow object containing cleared rows info and total score bonus
+     */
+    @Override
+    public ClearRow hardDropBrick() {
+        int dropDistance = dropToLandingRow();
+
+        mergeBrickToBackground();
+        int count = removeRowsTouchedByBrick();
+        return new ClearRow(count, colorPlane.view(), 50 * count * count + dropDistance);
+    }
+
+    /**
+     * Locks the current brick, clears completed rows and spawns the next brick.
+     *
+     * @return a LockResult with the cleared rows, the score bonus and whether
+     * the new brick collided immediately
+     */
+    @Override
+    public LockResult lockBrick() {
+        return lockAndSpawn(0);
+    }
+
+    /**
+     * Hard drops the current brick, then locks it, clears completed rows and
+     * spawns the next brick.
+     *
+     * @return a LockResult whose score bonus includes the drop distance
+     */
+    @Override
+    public LockResult hardDropAndLock() {
+        int dropDistance = dropToLandingRow();
+        return lockAndSpawn(dropDistance);
+    }
+
+    /**
+     * Runs the fused lock, clear and spawn pipeline.
+     *
+     * @param extraBonus score points to add on top of the line clear bonus
+     * @return the outcome of the lock
+     */
+    private LockResult lockAndSpawn(int extraBonus) {
+        mergeBrickToBackground();
+        int count = removeRowsTouchedByBrick();
+        boolean gameOver = createNewBrick();
+        return new LockResult(LockResult.copyRows(clearedRows, count), 50 * count * count + extraBonus, gameOver);
+    }
+
+    /**
+     * Creates an independent copy of the colour plane.
+     *
+     * @return a deep copy of the current board matrix
+     */
+    @Override
+    public int[][] snapshot() {
+        return MatrixOperations.copy(colorPlane.view());
+    }
+
+    /**
+     * Gets the brick generator used by this board.
+     *
+     * @return the BrickGenerator instance
+     */
+    @Override
+    public BrickGenerator getBrickGenerator() {
+        return brickGenerator;
+    }
+
+    /**
+     * Sets the current brick to a specific piece.
+     *
+     * @param brick the brick to set as current, or null to clear
+     */
+    @Override
+    public void setCurrentBrick(Brick brick) {
+        this.currentBrick = brick;
+        if (brick != null) {
+            brickRotator.setBrick(brick);
+        }
+    }
+
+    /**
+     * Gets the current brick being controlled.
+     *
+     * @return the current Brick, or null if none
+     */
+    @Override
+    public Brick getCurrentBrick() {
+        return currentBrick;
+    }
+
+    /**
+     * Gets the rotation index of the current brick.
+     *
+     * @return the index of the current rotation in the brick's rotation list
+     */
+    @Override
+    public int getBrickRotation() {
+        return brickRotator.getCurrentPosition();
+    }
+
+    /**
+     * Gets the column offset of the current brick.
+     *
+     * @return the horizontal position of the brick's shape matrix
+     */
+    @Override
+    public int getBrickX() {
+        return brickX;
+    }
+
+    /**
+     * Gets the row offset of the current brick.
+     *
+     * @return the vertical position of the brick's shape matrix
+     */
+    @Override
+    public int getBrickY() {
+        return brickY;
+    }
+
+    /**
+     * Checks if the current brick collides with the board.
+     *
+     * @return true if collision detected, false otherwise
+     */
+    @Override
+    public boolean checkCollision() {
+        return occupancy.intersects(currentShapeMasks(), brickX, brickY);
+    }
+
+    /**
+     * Moves the current brick straight down to its landing row.
+     *
+     * @return the number of rows the brick moved
+     */
+    private int dropToLandingRow() {
+        int landingRow = getLandingRow();
+        int dropDistance = landingRow - brickY;
+        brickY = landingRow;
+        return dropDistance;
+    }
+
+    /**
+     * Gets the row at which the current brick would land if hard dropped.
+     *
+     * @return the landing row offset of the current brick
+     */
+    @Override
+    public int getLandingRow() {
+        return landingRow(brickRotator.getPieceType(), brickRotator.getCurrentPosition(), brickX, brickY);
+    }
+
+    /**
+     * Finds the landing row of a piece from the heightmap, falling back to
+     * bitmask collision checks when the piece is under an overhang.
+     *
+     * @param pieceType the piece to drop
+     * @param rotation  the rotation index of the piece
+     * @param x         the piece's horizontal position
+     * @param y         the piece's starting vertical position
+     * @return the landing row offset
+     */
+    private int landingRow(PieceType pieceType, int rotation, int x, int y) {
+        int landing = profile.getSurfaceLandingRow(pieceType, rotation, x, y);
+        if (landing != BoardProfile.UNKNOWN) {
+            return landing;
+        }
+        long[] shapeRows = pieceType.getRowMasks(rotation);
+        landing = y;
+        while (!occupancy.intersects(shapeRows, x, landing + 1)) {
+            landing++;
+        }
+        return landing;
+    }
+
+    /**
+     * Gets how far a piece would fall if hard dropped from the spawn row.
+     *
+     * @param pieceType the piece to drop
+     * @param rotation  the rotation index of the piece
+     * @param x         the piece's horizontal position
+     * @return the number of rows the piece would fall, or -1 if the piece does
+     * not fit at the spawn row in that column
+     */
+    @Override
+    public int getDropDistance(PieceType pieceType, int rotation, int x) {
+        if (occupancy.intersects(pieceType.getRowMasks(rotation), x, PieceType.SPAWN_Y)) {
+            return -1;
+        }
+        return landingRow(pieceType, rotation, x, PieceType.SPAWN_Y) - PieceType.SPAWN_Y;
+    }
+
+    /**
+     * Gets the height of every column.
+     *
+     * @return a copy of the column heightmap, left to right
+     */
+    @Override
+    public int[] getColumnHeights() {
+        return profile.getColumnHeights();
+    }
+
+    /**
+     * Gets the incrementally maintained board metrics.
+     *
+     * @return the live metrics of the locked cells
+     */
+    @Override
+    public BoardMetrics getMetrics() {
+        return profile;
+    }
+
+    /**
+     * Pushes the stack up and inserts garbage rows at the bottom.
+     *
+     * @param count      the number of garbage rows to insert
+     * @param holeColumn the column left empty in every garbage row
+     * @return true if filled cells were pushed off the top of the board
+     * @throws IllegalArgumentException if the count or hole column is out of range
+     */
+    @Override
+    public boolean addGarbageRows(int count, int holeColumn) {
+        int columns = colorPlane.getColumns();
+        if (count < 0 || count > rows || holeColumn < 0 || holeColumn >= columns) {
+            throw new IllegalArgumentException("Invalid garbage: " + count + " rows, hole at " + holeColumn);
+        }
+        boolean overflow = occupancy.insertBottomRows(count, holeColumn);
+        colorPlane.insertBottomRows(count);
+        for (int row = rows - count; row < rows; row++) {
+            int[] cells = colorPlane.row(row);
+            Arrays.fill(cells, GameConstants.GARBAGE_COLOR_CODE);
+            cells[holeColumn] = 0;
+        }
+        profile.onRowsInserted(count, holeColumn);
+        return overflow;
+    }
+
+    /**
+     * Gets the occupancy bitboard backing this board.
+     *
+     * @return the live bitboard, never null
+     */
+    public Bitboard getBitboard() {
+        return occupancy;
+    }
+
+    /**
+     * Gets the row masks of the current brick in its current rotation.
+     *
+     * @return the shape row masks
+     */
+    private long[] currentShapeMasks() {
+        return brickRotator.getPieceType().getRowMasks(brickRotator.getCurrentPosition());
+    }
+}
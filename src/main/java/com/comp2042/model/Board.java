@@ -2,7 +2,7 @@ package com.comp2042.model;
 
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
-import com.comp2042.view.ViewData;
+import com.comp2042.logic.bricks.PieceType;
 
 public interface Board {
 
@@ -30,12 +30,34 @@ public interface Board {
 
     ClearRow hardDropBrick();
 
+    LockResult lockBrick();
+
+    LockResult hardDropAndLock();
+
+    int[][] snapshot();
+
+    int getLandingRow();
+
+    int getDropDistance(PieceType pieceType, int rotation, int x);
+
+    int[] getColumnHeights();
+
+    BoardMetrics getMetrics();
+
+    boolean addGarbageRows(int count, int holeColumn);
+
     BrickGenerator getBrickGenerator();
 
     void setCurrentBrick(Brick brick);
 
     Brick getCurrentBrick();
 
+    int getBrickRotation();
+
+    int getBrickX();
+
+    int getBrickY();
+
     void resetBrickPosition();
 
     boolean checkCollision();
@@ -0,0 +1,518 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.SplitMix64;
+
+import java.util.Arrays;
+
+/**
+ * Plays thousands of independent games at once, for bulk simulation.
+ * <p>
+ * All boards live in one {@code long[]} in a structure-of-arrays layout: word
+ * {@code row * size() + board} holds one row of one board, with the same wall
+ * padding as a {@link Bitboard}, so a full row is a word equal to {@code -1L}.
+ * Below the last row sit a few floor rows that are always full, so a falling
+ * piece needs no bounds check. The current pieces, their positions and the
+ * game statistics are stored the same way, one array per field with one
+ * entry per board.
+ * <p>
+ * A step advances every board in lockstep rather than one board after the
+ * other. Rotation and shifting take one turn or column per pass over the
+ * boards, the drop moves every falling piece down one row per pass, and
+ * merging, counting completed rows and compacting cleared boards each walk
+ * the rows once for all boards. Every pass reads the same rows of
+ * consecutive boards, which are adjacent words, so the memory accesses of a
+ * pass are sequential instead of one stride of {@code size() * 8} bytes per
+ * row and board.
+ * <p>
+ * The rules are those of {@link SimpleBoard} played through
+ * {@link SimpleBoard#hardDropAndLock()}: a piece spawns in rotation 0 at the
+ * spawn position, rotates counterclockwise without kicks, shifts one column
+ * at a time, drops to its landing row and locks; completed rows are removed,
+ * the next piece spawns and the game ends when it does not fit. A lock scores
+ * its drop distance plus 50 points per cleared line squared. Every board draws
+ * its pieces from its own {@link RandomBrickGenerator}, so a board plays
+ * exactly the game a {@link SimpleBoard} with the same seed would.
+ * <p>
+ * An instance is not thread-safe.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Stores many boards in contiguous row-major words</li>
+ *   <li>Moves, drops and merges one placement per board in lockstep passes</li>
+ *   <li>Finds and removes completed rows across all boards</li>
+ *   <li>Tracks the score, lines and pieces of every game</li>
+ * </ul>
+ */
+public final class BoardBatch {
+
+    private static final int SHAPE_ROWS = shapeRows();
+
+    private final int size;
+    private final int rows;
+    private final int columns;
+    private final long wallMask;
+    private final long[] occupancy;
+    private final long[] shapes;
+    private final int[] pieces;
+    private final int[] rotations;
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] scores;
+    private final int[] linesCleared;
+    private final int[] piecesLocked;
+    private final int[] fullRows;
+    private final int[] moving;
+    private final boolean[] gameOver;
+    private final RandomBrickGenerator[] generators;
+    private final SplitMix64 seeds = new SplitMix64(0);
+
+    /**
+     * Constructs a batch of boards. Call {@link #newGames(long)} before
+     * stepping.
+     *
+     * @param size    the number of boards
+     * @param rows    the number of rows of every board
+     * @param columns the number of columns of every board, at most
+     *                {@link Bitboard#MAX_COLUMNS}
+     * @throws IllegalArgumentException if a dimension is out of range
+     */
+    public BoardBatch(int size, int rows, int columns) {
+        if (size <= 0 || rows <= 0 || columns <= 0 || columns > Bitboard.MAX_COLUMNS) {
+            throw new IllegalArgumentException("Unsupported batch: " + size + " boards of " + rows + "x" + columns);
+        }
+        this.size = size;
+        this.rows = rows;
+        this.columns = columns;
+        this.wallMask = ~(((1L << columns) - 1) << Bitboard.PADDING);
+        this.occupancy = new long[(rows + SHAPE_ROWS) * size];
+        this.shapes = new long[SHAPE_ROWS * size];
+        this.pieces = new int[size];
+        this.rotations = new int[size];
+        this.xs = new int[size];
+        this.ys = new int[size];
+        this.scores = new int[size];
+        this.linesCleared = new int[size];
+        this.piecesLocked = new int[size];
+        this.fullRows = new int[size];
+        this.moving = new int[size];
+        this.gameOver = new boolean[size];
+        this.generators = new RandomBrickGenerator[size];
+        Arrays.fill(occupancy, 0, rows * size, wallMask);
+        Arrays.fill(occupancy, rows * size, occupancy.length, -1L);
+        Arrays.fill(gameOver, true);
+    }
+
+    /**
+     * Gets the largest number of row masks of any piece rotation.
+     *
+     * @return the row count of the tallest shape grid
+     */
+    private static int shapeRows() {
+        int shapeRows = 0;
+        for (PieceType pieceType : PieceType.values()) {
+            for (int rotation = 0; rotation < pieceType.getRotationCount(); rotation++) {
+                shapeRows = Math.max(shapeRows, pieceType.getRowMasks(rotation).length);
+            }
+        }
+        return shapeRows;
+    }
+
+    /**
+     * Starts a new game on every board, seeding the piece generators in board
+     * order from one seed.
+     *
+     * @param seed the seed of the board seeds
+     */
+    public void newGames(long seed) {
+        seeds.setState(seed);
+        Arrays.fill(occupancy, 0, rows * size, wallMask);
+        for (int board = 0; board < size; board++) {
+            startGame(board, seeds.nextLong());
+        }
+    }
+
+    /**
+     * Starts a new game on one board.
+     *
+     * @param board the board index
+     * @param seed  the seed of the board's piece generator
+     */
+    public void newGame(int board, long seed) {
+        for (int row = 0; row < rows; row++) {
+            occupancy[row * size + board] = wallMask;
+        }
+        startGame(board, seed);
+    }
+
+    /**
+     * Resets the statistics of a cleared board and spawns its first piece.
+     *
+     * @param board the board index
+     * @param seed  the seed of the board's piece generator
+     */
+    private void startGame(int board, long seed) {
+        generators[board] = new RandomBrickGenerator(seed);
+        scores[board] = 0;
+        linesCleared[board] = 0;
+        piecesLocked[board] = 0;
+        spawn(board);
+    }
+
+    /**
+     * Spawns the next piece of a board and ends its game if the piece does
+     * not fit.
+     *
+     * @param board the board index
+     */
+    private void spawn(int board) {
+        PieceType pieceType = generators[board].getBrick().getType();
+        pieces[board] = pieceType.ordinal();
+        gameOver[board] = intersects(board, pieceType.getRowMasks(0), PieceType.SPAWN_X, PieceType.SPAWN_Y);
+    }
+
+    /**
+     * Plays one placement on every board whose game is running.
+     * <p>
+     * The current piece of each board rotates to the requested rotation,
+     * shifts towards the requested column and hard drops. A rotation or shift
+     * that is blocked stops there, as it would for a player. Boards whose game
+     * is over are skipped.
+     *
+     * @param targetRotations the rotation of every board's placement
+     * @param targetXs        the column offset of every board's placement
+     * @return the number of boards whose game is still running
+     * @throws IllegalArgumentException if a running board's rotation is out of
+     *                                  range for its piece
+     */
+    public int placeAll(int[] targetRotations, int[] targetXs) {
+        int running = 0;
+        for (int board = 0; board < size; board++) {
+            if (gameOver[board]) {
+                continue;
+            }
+            if (targetRotations[board] < 0
+                    || targetRotations[board] >= PieceType.fromOrdinal(pieces[board]).getRotationCount()) {
+                throw new IllegalArgumentException("Invalid rotation " + targetRotations[board] + " on board " + board);
+            }
+            rotations[board] = 0;
+            xs[board] = PieceType.SPAWN_X;
+            ys[board] = PieceType.SPAWN_Y;
+            moving[running++] = board;
+        }
+        int count = running;
+        rotateAll(targetRotations, count);
+        shiftAll(targetXs, count);
+        dropAll(count);
+        mergeAll(count);
+        countFullRows();
+        removeFullRows();
+
+        running = 0;
+        for (int board = 0; board < size; board++) {
+            if (!gameOver[board]) {
+                spawn(board);
+                running += gameOver[board] ? 0 : 1;
+            }
+        }
+        return running;
+    }
+
+    /**
+     * Turns the pieces of the running boards one rotation per pass until
+     * each reaches its target rotation or is blocked.
+     *
+     * @param targetRotations the rotation of every board's placement
+     * @param count           the number of running boards at the start of
+     *                        {@link #moving}
+     */
+    private void rotateAll(int[] targetRotations, int count) {
+        int[] turning = fullRows;
+        int active = 0;
+        for (int i = 0; i < count; i++) {
+            turning[active] = moving[i];
+            active += targetRotations[moving[i]] != 0 ? 1 : 0;
+        }
+        while (active > 0) {
+            int kept = 0;
+            for (int i = 0; i < active; i++) {
+                int board = turning[i];
+                PieceType pieceType = PieceType.fromOrdinal(pieces[board]);
+                int next = (rotations[board] + 1) % pieceType.getRotationCount();
+                if (intersects(board, pieceType.getRowMasks(next), xs[board], ys[board])) {
+                    continue;
+                }
+                rotations[board] = next;
+                turning[kept] = board;
+                kept += next != targetRotations[board] ? 1 : 0;
+            }
+            active = kept;
+        }
+    }
+
+    /**
+     * Shifts the pieces of the running boards one column per pass until each
+     * reaches its target column or is blocked.
+     *
+     * @param targetXs the column offset of every board's placement
+     * @param count    the number of running boards at the start of
+     *                 {@link #moving}
+     */
+    private void shiftAll(int[] targetXs, int count) {
+        int[] shifting = fullRows;
+        int active = 0;
+        for (int i = 0; i < count; i++) {
+            shifting[active] = moving[i];
+            active += targetXs[moving[i]] != xs[moving[i]] ? 1 : 0;
+        }
+        while (active > 0) {
+            int kept = 0;
+            for (int i = 0; i < active; i++) {
+                int board = shifting[i];
+                int x = xs[board] + Integer.signum(targetXs[board] - xs[board]);
+                if (intersects(board, PieceType.fromOrdinal(pieces[board]).getRowMasks(rotations[board]), x,
+                        ys[board])) {
+                    continue;
+                }
+                xs[board] = x;
+                shifting[kept] = board;
+                kept += x != targetXs[board] ? 1 : 0;
+            }
+            active = kept;
+        }
+    }
+
+    /**
+     * Drops the pieces of the running boards together, one row per pass,
+     * until every piece has landed.
+     * <p>
+     * Each piece's row masks are first shifted to its column and stored in
+     * {@link #shapes}; a pass then tests row {@code y + 1} of every falling
+     * board against those masks. The floor rows stop every piece without a
+     * bounds check.
+     *
+     * @param count the number of running boards at the start of {@link #moving}
+     */
+    private void dropAll(int count) {
+        int[] falling = fullRows;
+        for (int i = 0; i < count; i++) {
+            int board = moving[i];
+            long[] shapeRows = PieceType.fromOrdinal(pieces[board]).getRowMasks(rotations[board]);
+            int shift = xs[board] + Bitboard.PADDING;
+            for (int row = 0; row < SHAPE_ROWS; row++) {
+                shapes[row * size + board] = row < shapeRows.length ? shapeRows[row] << shift : 0;
+            }
+            falling[i] = board;
+        }
+        int active = count;
+        for (int y = PieceType.SPAWN_Y; active > 0; y++) {
+            int below = (y + 1) * size;
+            int kept = 0;
+            for (int i = 0; i < active; i++) {
+                int board = falling[i];
+                long hit = 0;
+                for (int row = 0; row < SHAPE_ROWS; row++) {
+                    hit |= occupancy[below + row * size + board] & shapes[row * size + board];
+                }
+                falling[kept] = board;
+                kept += hit == 0 ? 1 : 0;
+                ys[board] = hit == 0 ? y + 1 : ys[board];
+            }
+            active = kept;
+        }
+    }
+
+    /**
+     * Merges the landed pieces of the running boards and scores their drop
+     * distances.
+     *
+     * @param count the number of running boards at the start of {@link #moving}
+     */
+    private void mergeAll(int count) {
+        for (int row = 0; row < SHAPE_ROWS; row++) {
+            int shapeBase = row * size;
+            for (int i = 0; i < count; i++) {
+                int board = moving[i];
+                occupancy[(ys[board] + row) * size + board] |= shapes[shapeBase + board];
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            int board = moving[i];
+            scores[board] += ys[board] - PieceType.SPAWN_Y;
+            piecesLocked[board]++;
+        }
+    }
+
+    /**
+     * Counts the completed rows of every board in one pass over the rows.
+     */
+    private void countFullRows() {
+        Arrays.fill(fullRows, 0);
+        for (int row = 0; row < rows; row++) {
+            int base = row * size;
+            for (int board = 0; board < size; board++) {
+                fullRows[board] += occupancy[base + board] == -1L ? 1 : 0;
+            }
+        }
+    }
+
+    /**
+     * Removes the completed rows of every board that has any, compacting
+     * those boards together from the bottom row up, and scores the clears.
+     * Game-over boards never have completed rows, since their last piece did
+     * not lock.
+     */
+    private void removeFullRows() {
+        int[] clearing = moving;
+        int[] write = ys;
+        int count = 0;
+        for (int board = 0; board < size; board++) {
+            int lines = fullRows[board];
+            if (lines > 0) {
+                clearing[count++] = board;
+                write[board] = rows - 1;
+                linesCleared[board] += lines;
+                scores[board] += 50 * lines * lines;
+            }
+        }
+        if (count == 0) {
+            return;
+        }
+        for (int row = rows - 1; row >= 0; row--) {
+            int base = row * size;
+            for (int i = 0; i < count; i++) {
+                int board = clearing[i];
+                long bits = occupancy[base + board];
+                occupancy[write[board] * size + board] = bits;
+                write[board] -= bits != -1L ? 1 : 0;
+            }
+        }
+        for (int row = 0; row < rows; row++) {
+            int base = row * size;
+            for (int i = 0; i < count; i++) {
+                int board = clearing[i];
+                if (row <= write[board]) {
+                    occupancy[base + board] = wallMask;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if a shape at a position overlaps a wall, the floor, the ceiling
+     * or a locked block of one board, like {@link Bitboard#intersects}.
+     *
+     * @param board     the board index
+     * @param shapeRows the shape's row masks
+     * @param x         the shape's column offset
+     * @param y         the shape's row offset
+     * @return true if the shape collides
+     */
+    private boolean intersects(int board, long[] shapeRows, int x, int y) {
+        int shift = x + Bitboard.PADDING;
+        boolean shiftOutOfRange = shift < 0 || shift > Long.SIZE - Bitboard.PADDING;
+        for (int i = 0; i < shapeRows.length; i++) {
+            long mask = shapeRows[i];
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + i;
+            if (shiftOutOfRange || row < 0 || row >= rows) {
+                return true;
+            }
+            if ((occupancy[row * size + board] & (mask << shift)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the filled cells of one row of a board without the wall bits.
+     *
+     * @param board the board index
+     * @param row   the row index
+     * @return a mask where bit {@code c} is set when column {@code c} is filled
+     */
+    public long getRowBits(int board, int row) {
+        return (occupancy[row * size + board] & ~wallMask) >>> Bitboard.PADDING;
+    }
+
+    /**
+     * Gets the current piece of a board.
+     *
+     * @param board the board index
+     * @return the piece waiting at the spawn position
+     */
+    public PieceType getPieceType(int board) {
+        return PieceType.fromOrdinal(pieces[board]);
+    }
+
+    /**
+     * Checks whether a board's game is over.
+     *
+     * @param board the board index
+     * @return true if the game is over or was never started
+     */
+    public boolean isGameOver(int board) {
+        return gameOver[board];
+    }
+
+    /**
+     * Gets the score of a board's game.
+     *
+     * @param board the board index
+     * @return the score, drop distances included
+     */
+    public int getScore(int board) {
+        return scores[board];
+    }
+
+    /**
+     * Gets the lines cleared in a board's game.
+     *
+     * @param board the board index
+     * @return the line count
+     */
+    public int getLinesCleared(int board) {
+        return linesCleared[board];
+    }
+
+    /**
+     * Gets the pieces locked in a board's game.
+     *
+     * @param board the board index
+     * @return the piece count
+     */
+    public int getPiecesLocked(int board) {
+        return piecesLocked[board];
+    }
+
+    /**
+     * Gets the number of boards.
+     *
+     * @return the board count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of rows of every board.
+     *
+     * @return the row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns of every board.
+     *
+     * @return the column count
+     */
+    public int getColumns() {
+        return columns;
+    }
+}
@@ -0,0 +1,53 @@
+package com.comp2042.model;
+
+/**
+ * Enum representing the structural metrics a board keeps up to date as pieces
+ * lock and rows clear.
+ * <p>
+ * The ordinal of every metric is its index in the arrays filled by
+ * {@link BoardMetrics#getMetrics(int[])} and
+ * {@link BoardMetrics#measurePlacement}.
+ * <p>Available metrics:
+ * <ul>
+ *   <li>AGGREGATE_HEIGHT - sum of all column heights</li>
+ *   <li>HOLES - empty cells with a filled cell somewhere above them</li>
+ *   <li>BUMPINESS - sum of height differences between neighbouring columns</li>
+ *   <li>WELLS - summed depth of columns lower than both neighbours</li>
+ *   <li>ROW_TRANSITIONS - filled/empty changes along the non-empty rows</li>
+ *   <li>COLUMN_TRANSITIONS - filled/empty changes down the columns</li>
+ * </ul>
+ */
+public enum BoardMetric {
+    /**
+     * Sum of all column heights
+     */
+    AGGREGATE_HEIGHT,
+    /**
+     * Empty cells covered by a filled cell in the same column
+     */
+    HOLES,
+    /**
+     * Sum of absolute height differences between neighbouring columns
+     */
+    BUMPINESS,
+    /**
+     * Summed depth of columns lower than both neighbours, walls counting as
+     * full columns
+     */
+    WELLS,
+    /**
+     * Changes between filled and empty cells along every non-empty row, walls
+     * counting as filled
+     */
+    ROW_TRANSITIONS,
+    /**
+     * Changes between filled and empty cells down every column, the space
+     * above the board counting as empty and the floor as filled
+     */
+    COLUMN_TRANSITIONS;
+
+    /**
+     * Number of metrics, the length of every metric array.
+     */
+    public static final int COUNT = values().length;
+}
@@ -0,0 +1,56 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.bricks.PieceType;
+
+/**
+ * Read-only view of the {@link BoardMetric} values of a board's locked cells.
+ * <p>
+ * The values are maintained incrementally by the board, so reading them costs
+ * nothing, and the effect of a hypothetical placement can be measured in time
+ * proportional to the piece's cells instead of the board's.
+ *
+ * @see Board#getMetrics()
+ */
+public interface BoardMetrics {
+
+    /**
+     * Gets the current value of one metric.
+     *
+     * @param metric the metric to read
+     * @return the metric's value for the locked cells
+     */
+    int getMetric(BoardMetric metric);
+
+    /**
+     * Copies the current value of every metric.
+     *
+     * @param out the array receiving one value per {@link BoardMetric}
+     * @return the filled {@code out} array
+     */
+    int[] getMetrics(int[] out);
+
+    /**
+     * Gets the height of a single column.
+     *
+     * @param column the column index
+     * @return the column height, zero for an empty column
+     */
+    int getColumnHeight(int column);
+
+    /**
+     * Measures the metrics the board would have after a placement, without
+     * changing the board.
+     * <p>
+     * Placements that would complete a row are not measured, since their
+     * rows would shift; the caller evaluates those on a copy of the board.
+     *
+     * @param pieceType the piece to place
+     * @param rotation  the rotation index of the piece
+     * @param x         the piece's column offset
+     * @param y         the piece's row offset, where the piece rests
+     * @param out       the array receiving one value per {@link BoardMetric}
+     * @return true if the metrics were measured, false if the placement would
+     * complete a row or does not fit on the board
+     */
+    boolean measurePlacement(PieceType pieceType, int rotation, int x, int y, int[] out);
+}
@@ -0,0 +1,423 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.bricks.PieceType;
+
+import java.util.Arrays;
+
+/**
+ * Maintains per-row occupancy, a per-column heightmap and the
+ * {@link BoardMetric} values of a board.
+ * <p>
+ * Boards update the profile incrementally as pieces lock and rows clear, so
+ * full-row detection only has to look at the rows a piece touched, and the
+ * landing row of a piece that is above the stack is a single lookup per
+ * occupied shape column instead of a row-by-row collision search.
+ * <p>
+ * The metrics are kept as running sums of per-row and per-column terms. A
+ * locked piece only changes the terms of the rows it covers and of the
+ * columns it covers and their neighbours, so those terms are subtracted,
+ * the cells are set and the terms are added back, in time proportional to the
+ * piece. Clears and garbage shift every row and recompute the sums in one
+ * pass over the rows. Holes need no term of their own: they are the aggregate
+ * height minus the filled cells.
+ * <p>
+ * The height of a column is the number of rows between the bottom of the board
+ * and its topmost filled cell (inclusive), or zero for an empty column.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Tracks the filled cells of every row</li>
+ *   <li>Tracks the height of every column</li>
+ *   <li>Finds completed rows within a range of rows</li>
+ *   <li>Follows rows being cleared or inserted at the bottom</li>
+ *   <li>Computes landing rows from the heightmap</li>
+ *   <li>Maintains and measures the board metrics</li>
+ * </ul>
+ */
+public final class BoardProfile implements BoardMetrics {
+
+    /**
+     * Returned by {@link #getSurfaceLandingRow} when the heightmap cannot answer
+     * the query because the piece is already at or below a column's surface.
+     */
+    public static final int UNKNOWN = -1;
+
+    /**
+     * Maximum number of columns, leaving room for the two walls in a row word.
+     */
+    public static final int MAX_COLUMNS = Long.SIZE - 2;
+
+    private final int rows;
+    private final int columns;
+    private final long fullRow;
+    private final long[] rowBits;
+    private final int[] columnHeights;
+    private final int[] totals = new int[BoardMetric.COUNT];
+    private final long[] savedRows;
+    private final int[] savedHeights;
+    private final int[] savedTotals = new int[BoardMetric.COUNT];
+    private int filledCells;
+
+    /**
+     * Constructs an empty profile for a board of the specified dimensions.
+     *
+     * @param rows    the number of rows in the board
+     * @param columns the number of columns in the board, at most {@link #MAX_COLUMNS}
+     * @throws IllegalArgumentException if the board is wider than {@link #MAX_COLUMNS}
+     */
+    public BoardProfile(int rows, int columns) {
+        if (columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Too many columns: " + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        fullRow = (1L << columns) - 1;
+        rowBits = new long[rows];
+        columnHeights = new int[columns];
+        savedRows = new long[rows];
+        savedHeights = new int[columns];
+        reset();
+    }
+
+    /**
+     * Resets the profile to an empty board.
+     */
+    public void reset() {
+        Arrays.fill(rowBits, 0);
+        recomputeMetrics();
+    }
+
+    /**
+     * Records the cells of a piece that has just been locked.
+     *
+     * @param pieceType the locked piece
+     * @param rotation  the rotation index of the piece
+     * @param x         the piece's horizontal position on the board
+     * @param y         the piece's vertical position on the board
+     */
+    public void onPiecePlaced(PieceType pieceType, int rotation, int x, int y) {
+        int fromRow = Math.max(0, y + pieceType.getMinRow(rotation));
+        int toRow = Math.min(rows - 1, y + pieceType.getMaxRow(rotation));
+        int fromColumn = Math.max(0, x + pieceType.getMinColumn(rotation));
+        int toColumn = Math.min(columns - 1, x + pieceType.getMaxColumn(rotation));
+        if (fromRow > toRow || fromColumn > toColumn) {
+            return;
+        }
+        addTerms(fromRow, toRow, fromColumn, toColumn, -1);
+
+        int[] cellRows = pieceType.getCellRows(rotation);
+        int[] cellColumns = pieceType.getCellColumns(rotation);
+        for (int i = 0; i < cellRows.length; i++) {
+            int row = y + cellRows[i];
+            int column = x + cellColumns[i];
+            if (row < 0 || row >= rows || column < 0 || column >= columns) {
+                continue;
+            }
+            rowBits[row] |= 1L << column;
+            filledCells++;
+            int height = rows - row;
+            if (height > columnHeights[column]) {
+                totals[BoardMetric.AGGREGATE_HEIGHT.ordinal()] += height - columnHeights[column];
+                columnHeights[column] = height;
+            }
+        }
+
+        addTerms(fromRow, toRow, fromColumn, toColumn, 1);
+        totals[BoardMetric.HOLES.ordinal()] = totals[BoardMetric.AGGREGATE_HEIGHT.ordinal()] - filledCells;
+    }
+
+    /**
+     * Adds or subtracts the metric terms that depend on a block of rows and
+     * columns: the transitions of the rows and of the row boundaries around
+     * them, and the bumpiness and wells of the columns and their neighbours.
+     *
+     * @param fromRow    the first row
+     * @param toRow      the last row
+     * @param fromColumn the first column
+     * @param toColumn   the last column
+     * @param sign       1 to add the terms, -1 to subtract them
+     */
+    private void addTerms(int fromRow, int toRow, int fromColumn, int toColumn, int sign) {
+        int rowTransitions = 0;
+        for (int row = fromRow; row <= toRow; row++) {
+            rowTransitions += rowTransitions(rowBits[row]);
+        }
+        int columnTransitions = 0;
+        for (int boundary = fromRow - 1; boundary <= toRow; boundary++) {
+            columnTransitions += boundaryTransitions(boundary);
+        }
+        int bumpiness = 0;
+        for (int column = Math.max(1, fromColumn); column <= Math.min(columns - 1, toColumn + 1); column++) {
+            bumpiness += Math.abs(columnHeights[column] - columnHeights[column - 1]);
+        }
+        int wells = 0;
+        for (int column = Math.max(0, fromColumn - 1); column <= Math.min(columns - 1, toColumn + 1); column++) {
+            wells += wellDepth(column);
+        }
+        totals[BoardMetric.ROW_TRANSITIONS.ordinal()] += sign * rowTransitions;
+        totals[BoardMetric.COLUMN_TRANSITIONS.ordinal()] += sign * columnTransitions;
+        totals[BoardMetric.BUMPINESS.ordinal()] += sign * bumpiness;
+        totals[BoardMetric.WELLS.ordinal()] += sign * wells;
+    }
+
+    /**
+     * Counts the transitions along a row, with a filled wall on either side.
+     *
+     * @param bits the row's occupancy, bit {@code c} for column {@code c}
+     * @return the number of filled/empty changes, zero for an empty row
+     */
+    private int rowTransitions(long bits) {
+        if (bits == 0) {
+            return 0;
+        }
+        long walled = bits << 1 | 1L | 1L << (columns + 1);
+        return Long.bitCount((walled ^ walled >>> 1) & ((1L << (columns + 1)) - 1));
+    }
+
+    /**
+     * Counts the column transitions between a row and the row below it.
+     *
+     * @param boundary the upper row, -1 for the space above the board and
+     *                 {@code rows - 1} for the bottom row above the floor
+     * @return the number of columns that change between the two rows
+     */
+    private int boundaryTransitions(int boundary) {
+        long above = boundary < 0 ? 0 : rowBits[boundary];
+        long below = boundary + 1 < rows ? rowBits[boundary + 1] : fullRow;
+        return Long.bitCount(above ^ below);
+    }
+
+    /**
+     * Computes the well depth of a column, walls counting as full columns.
+     *
+     * @param column the column index
+     * @return how far the column is below its lower neighbour, or zero
+     */
+    private int wellDepth(int column) {
+        int left = column > 0 ? columnHeights[column - 1] : rows;
+        int right = column + 1 < columns ? columnHeights[column + 1] : rows;
+        return Math.max(0, Math.min(left, right) - columnHeights[column]);
+    }
+
+    /**
+     * Recomputes the heightmap and every metric from the row occupancy.
+     */
+    private void recomputeMetrics() {
+        Arrays.fill(columnHeights, 0);
+        filledCells = 0;
+        int aggregateHeight = 0;
+        long covered = 0;
+        for (int row = 0; row < rows; row++) {
+            long bits = rowBits[row];
+            filledCells += Long.bitCount(bits);
+            long fresh = bits & ~covered;
+            aggregateHeight += Long.bitCount(fresh) * (rows - row);
+            while (fresh != 0) {
+                columnHeights[Long.numberOfTrailingZeros(fresh)] = rows - row;
+                fresh &= fresh - 1;
+            }
+            covered |= bits;
+        }
+        Arrays.fill(totals, 0);
+        totals[BoardMetric.AGGREGATE_HEIGHT.ordinal()] = aggregateHeight;
+        totals[BoardMetric.HOLES.ordinal()] = aggregateHeight - filledCells;
+        addTerms(0, rows - 1, 0, columns - 1, 1);
+    }
+
+    /**
+     * Collects the completed rows within an inclusive range of rows.
+     *
+     * @param fromRow the first row to check, clamped to the board
+     * @param toRow   the last row to check, clamped to the board
+     * @param out     the array receiving the completed row indices in ascending order
+     * @return the number of completed rows found
+     */
+    public int collectFullRows(int fromRow, int toRow, int[] out) {
+        int count = 0;
+        for (int row = Math.max(0, fromRow); row <= Math.min(rows - 1, toRow); row++) {
+            if (rowBits[row] == fullRow) {
+                out[count++] = row;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Updates the profile after rows have been removed from the board.
+     * <p>
+     * The row occupancy is shifted like the board rows, and the heightmap and
+     * metrics are recomputed in one pass over the rows.
+     *
+     * @param clearedRows the removed row indices in ascending order
+     * @param count       the number of removed rows
+     */
+    public void onRowsCleared(int[] clearedRows, int count) {
+        if (count == 0) {
+            return;
+        }
+        int write = rows - 1;
+        int next = count - 1;
+        for (int read = rows - 1; read >= 0; read--) {
+            if (next >= 0 && clearedRows[next] == read) {
+                next--;
+            } else {
+                rowBits[write--] = rowBits[read];
+            }
+        }
+        while (write >= 0) {
+            rowBits[write--] = 0;
+        }
+        recomputeMetrics();
+    }
+
+    /**
+     * Updates the profile after garbage rows have been inserted at the bottom.
+     * <p>
+     * Every garbage row is full except for its hole column. Existing rows move
+     * up, and rows pushed off the top are dropped.
+     *
+     * @param count      the number of inserted rows
+     * @param holeColumn the empty column of the inserted rows
+     */
+    public void onRowsInserted(int count, int holeColumn) {
+        if (count == 0) {
+            return;
+        }
+        System.arraycopy(rowBits, count, rowBits, 0, rows - count);
+        Arrays.fill(rowBits, rows - count, rows, fullRow & ~(1L << holeColumn));
+        recomputeMetrics();
+    }
+
+    /**
+     * Computes where a piece would land if it fell straight down onto the stack.
+     * <p>
+     * The answer comes from the heightmap and is only valid while every cell of
+     * the piece is above the surface of its column; otherwise the piece may be
+     * tucked under an overhang and {@link #UNKNOWN} is returned so the caller can
+     * fall back to a collision search.
+     *
+     * @param pieceType the piece to drop
+     * @param rotation  the rotation index of the piece
+     * @param x         the piece's horizontal position on the board
+     * @param y         the piece's current vertical position on the board
+     * @return the landing row offset, or {@link #UNKNOWN}
+     */
+    public int getSurfaceLandingRow(PieceType pieceType, int rotation, int x, int y) {
+        int[] bottoms = pieceType.getColumnBottoms(rotation);
+        int landing = Integer.MAX_VALUE;
+        for (int j = 0; j < bottoms.length; j++) {
+            if (bottoms[j] < 0) {
+                continue;
+            }
+            int column = x + j;
+            if (column < 0 || column >= columns) {
+                return UNKNOWN;
+            }
+            int top = rows - columnHeights[column];
+            if (y + bottoms[j] >= top) {
+                return UNKNOWN;
+            }
+            landing = Math.min(landing, top - 1 - bottoms[j]);
+        }
+        return landing;
+    }
+
+    /**
+     * Measures the metrics after a placement by locking it, reading the
+     * metrics and restoring the touched rows, columns and sums.
+     *
+     * @param pieceType the piece to place
+     * @param rotation  the rotation index of the piece
+     * @param x         the piece's column offset
+     * @param y         the piece's row offset, where the piece rests
+     * @param out       the array receiving one value per {@link BoardMetric}
+     * @return true if the metrics were measured, false if the placement would
+     * complete a row or does not fit on the board
+     */
+    @Override
+    public boolean measurePlacement(PieceType pieceType, int rotation, int x, int y, int[] out) {
+        int[] cellRows = pieceType.getCellRows(rotation);
+        int[] cellColumns = pieceType.getCellColumns(rotation);
+        for (int i = 0; i < cellRows.length; i++) {
+            int row = y + cellRows[i];
+            int column = x + cellColumns[i];
+            if (row < 0 || row >= rows || column < 0 || column >= columns || (rowBits[row] >>> column & 1) != 0) {
+                return false;
+            }
+        }
+        int fromRow = y + pieceType.getMinRow(rotation);
+        int toRow = y + pieceType.getMaxRow(rotation);
+        int fromColumn = x + pieceType.getMinColumn(rotation);
+        int toColumn = x + pieceType.getMaxColumn(rotation);
+        System.arraycopy(rowBits, fromRow, savedRows, fromRow, toRow - fromRow + 1);
+        System.arraycopy(columnHeights, fromColumn, savedHeights, fromColumn, toColumn - fromColumn + 1);
+        System.arraycopy(totals, 0, savedTotals, 0, totals.length);
+        int savedFilledCells = filledCells;
+
+        onPiecePlaced(pieceType, rotation, x, y);
+        boolean completesRow = false;
+        for (int row = fromRow; row <= toRow; row++) {
+            completesRow |= rowBits[row] == fullRow;
+        }
+        getMetrics(out);
+
+        System.arraycopy(savedRows, fromRow, rowBits, fromRow, toRow - fromRow + 1);
+        System.arraycopy(savedHeights, fromColumn, columnHeights, fromColumn, toColumn - fromColumn + 1);
+        System.arraycopy(savedTotals, 0, totals, 0, totals.length);
+        filledCells = savedFilledCells;
+        return !completesRow;
+    }
+
+    /**
+     * Gets the current value of one metric.
+     *
+     * @param metric the metric to read
+     * @return the metric's value for the locked cells
+     */
+    @Override
+    public int getMetric(BoardMetric metric) {
+        return totals[metric.ordinal()];
+    }
+
+    /**
+     * Copies the current value of every metric.
+     *
+     * @param out the array receiving one value per {@link BoardMetric}
+     * @return the filled {@code out} array
+     */
+    @Override
+    public int[] getMetrics(int[] out) {
+        System.arraycopy(totals, 0, out, 0, totals.length);
+        return out;
+    }
+
+    /**
+     * Gets the number of filled cells in a row.
+     *
+     * @param row the row index
+     * @return the fill count of the row
+     */
+    public int getRowFill(int row) {
+        return Long.bitCount(rowBits[row]);
+    }
+
+    /**
+     * Gets the height of a single column.
+     *
+     * @param column the column index
+     * @return the column height, zero for an empty column
+     */
+    @Override
+    public int getColumnHeight(int column) {
+        return columnHeights[column];
+    }
+
+    /**
+     * Gets a copy of the column heightmap.
+     *
+     * @return the height of every column, left to right
+     */
+    public int[] getColumnHeights() {
+        return columnHeights.clone();
+    }
+}
@@ -0,0 +1,70 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+/**
+ * Enum representing the available board engines.
+ * <p>
+ * Every engine implements the {@link Board} interface, so callers can choose the
+ * storage that best fits their workload without changing any other code.
+ * <p>Available engines:
+ * <ul>
+ *   <li>MATRIX - {@link SimpleBoard}, one {@code int} per cell</li>
+ *   <li>BITBOARD - {@link BitboardBoard}, one bitmask per row plus a colour plane</li>
+ * </ul>
+ */
+public enum BoardType {
+    /**
+     * Cell matrix engine used by the original game
+     */
+    MATRIX {
+        @Override
+        public Board create(int rows, int columns, BrickGenerator brickGenerator) {
+            return new SimpleBoard(rows, columns, brickGenerator);
+        }
+    },
+
+    /**
+     * Bitmask-per-row engine for bots and simulations
+     */
+    BITBOARD {
+        @Override
+        public Board create(int rows, int columns, BrickGenerator brickGenerator) {
+            return new BitboardBoard(rows, columns, brickGenerator);
+        }
+    };
+
+    /**
+     * Creates a new board of this type with a randomly seeded piece generator.
+     *
+     * @param rows    the number of rows in the board
+     * @param columns the number of columns in the board
+     * @return a new, empty board
+     */
+    public Board create(int rows, int columns) {
+        return create(rows, columns, new RandomBrickGenerator());
+    }
+
+    /**
+     * Creates a new board of this type with a reproducible piece stream.
+     *
+     * @param rows    the number of rows in the board
+     * @param columns the number of columns in the board
+     * @param seed    the seed of the piece generator
+     * @return a new, empty board
+     */
+    public Board create(int rows, int columns, long seed) {
+        return create(rows, columns, new RandomBrickGenerator(seed));
+    }
+
+    /**
+     * Creates a new board of this type that draws its pieces from a generator.
+     *
+     * @param rows           the number of rows in the board
+     * @param columns        the number of columns in the board
+     * @param brickGenerator the source of pieces
+     * @return a new, empty board
+     */
+    public abstract Board create(int rows, int columns, BrickGenerator brickGenerator);
+}
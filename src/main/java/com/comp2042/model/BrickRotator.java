@@ -1,6 +1,9 @@
 package com.comp2042.model;
 
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceType;
+
+import java.util.Objects;
 
 /**
  * Manages the rotation state of Tetris pieces during gameplay.
@@ -10,6 +13,9 @@ import com.comp2042.logic.bricks.Brick;
  * cycling through a brick's available rotation states and ensures proper state
  * management when switching between different brick types.
  * <p>
+ * Shapes are read from the shared {@link PieceType} table, so querying the
+ * current or next rotation does not copy any matrices.
+ * <p>
  * <b>Functionality:</b>
  * <ul>
  *   <li>Tracks the current rotation state of the active brick</li>
@@ -22,7 +28,7 @@ import com.comp2042.logic.bricks.Brick;
  */
 public class BrickRotator {
 
-    private Brick brick;
+    private PieceType pieceType;
     private int currentShape = 0;
 
     /**
@@ -39,16 +45,28 @@ public class BrickRotator {
      * @see NextShapeInfo
      */
     public NextShapeInfo getNextShape() {
-        int nextShape = (currentShape + 1) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        requireBrick();
+        int nextShape = getNextPosition();
+        return new NextShapeInfo(pieceType.getShape(nextShape), nextShape);
+    }
+
+    /**
+     * Gets the rotation position that a rotation of the active brick would reach.
+     *
+     * @return the index of the next rotation in the brick's rotation list
+     * @throws IllegalStateException if no brick has been set via {@link #setBrick(Brick)}
+     */
+    public int getNextPosition() {
+        requireBrick();
+        return (currentShape + 1) % pieceType.getRotationCount();
     }
 
     /**
      * Retrieves the current rotation shape of the active brick.
      * <p>
      * Returns the shape matrix representing the brick's current orientation
-     * in the game. The returned matrix is the actual shape data from the brick's
-     * rotation list.
+     * in the game. The returned matrix is the shared, read-only shape data from
+     * the piece table and must not be modified.
      *
      * @return the 2D integer array representing the brick's current shape,
      * never null. The array structure uses non-zero values (1-7) for
@@ -56,7 +74,26 @@ public class BrickRotator {
      * @throws IllegalStateException if no brick has been set via {@link #setBrick(Brick)}
      */
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        requireBrick();
+        return pieceType.getShape(currentShape);
+    }
+
+    /**
+     * Gets the piece table entry of the active brick.
+     *
+     * @return the PieceType of the active brick
+     */
+    public PieceType getPieceType() {
+        return pieceType;
+    }
+
+    /**
+     * Gets the current rotation position of the active brick.
+     *
+     * @return the index of the current rotation in the brick's rotation list
+     */
+    public int getCurrentPosition() {
+        return currentShape;
     }
 
     /**
@@ -72,7 +109,8 @@ public class BrickRotator {
      * @throws IllegalStateException     if no brick has been set via {@link #setBrick(Brick)}
      */
     public void setCurrentShape(int currentShape) {
-        this.currentShape = currentShape;
+        requireBrick();
+        this.currentShape = Objects.checkIndex(currentShape, pieceType.getRotationCount());
     }
 
     /**
@@ -86,7 +124,18 @@ public class BrickRotator {
      * @throws NullPointerException if the brick parameter is null
      */
     public void setBrick(Brick brick) {
-        this.brick = brick;
+        this.pieceType = brick.getType();
         currentShape = 0;
     }
+
+    /**
+     * Checks that a brick has been set.
+     *
+     * @throws IllegalStateException if no brick has been set
+     */
+    private void requireBrick() {
+        if (pieceType == null) {
+            throw new IllegalStateException("No brick has been set");
+        }
+    }
 }
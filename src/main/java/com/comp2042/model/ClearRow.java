@@ -7,6 +7,9 @@ package com.comp2042.model;
  * rows from the game board, including the number of lines cleared, the
  * updated board state, and the score earned from the clear.
  * <p>
+ * Boards clear rows in place, so the board matrix handed to this class is not
+ * copied on construction; {@link #getNewMatrix()} takes a copy on demand.
+ * <p>
  * <b>Functionality:</b>
  * <ul>
  *   <li>Stores the number of lines removed</li>
@@ -24,7 +27,7 @@ public final class ClearRow {
      * Constructs a ClearRow with the specified clearing results.
      *
      * @param linesRemoved the number of lines that were cleared
-     * @param newMatrix    the updated board matrix after clearing lines
+     * @param newMatrix    the board matrix after clearing lines
      * @param scoreBonus   the score points earned from this clear
      */
     public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
@@ -45,7 +48,7 @@ public final class ClearRow {
     /**
      * Gets a copy of the updated board matrix after line clearing.
      * <p>
-     * Returns a defensive copy to preserve immutability.
+     * Returns a defensive copy of the board matrix taken at the time of the call.
      *
      * @return a copy of the board matrix with cleared lines removed, never null
      */
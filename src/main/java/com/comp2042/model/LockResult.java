@@ -0,0 +1,90 @@
+package com.comp2042.model;
+
+/**
+ * Represents the outcome of locking the current piece into the board.
+ * <p>
+ * This immutable class is returned by the fused lock, clear and spawn operation
+ * of a {@link Board}. Unlike {@link ClearRow} it carries no board matrix, so
+ * producing it never copies the board; callers that need an immutable copy of
+ * the board can request one explicitly through {@link Board#snapshot()}.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Stores the indices of the cleared rows</li>
+ *   <li>Stores the score bonus earned by the lock</li>
+ *   <li>Reports whether the next piece could not spawn</li>
+ * </ul>
+ */
+public final class LockResult {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private final int[] clearedRows;
+    private final int scoreBonus;
+    private final boolean gameOver;
+
+    /**
+     * Constructs a LockResult with the specified outcome.
+     *
+     * @param clearedRows the indices of the cleared rows, measured before the shift
+     * @param scoreBonus  the score points earned by this lock
+     * @param gameOver    true if the next piece collided immediately after spawning
+     */
+    public LockResult(int[] clearedRows, int scoreBonus, boolean gameOver) {
+        this.clearedRows = clearedRows.length == 0 ? NO_ROWS : clearedRows;
+        this.scoreBonus = scoreBonus;
+        this.gameOver = gameOver;
+    }
+
+    /**
+     * Creates the cleared row array for a lock from a scratch buffer.
+     *
+     * @param buffer the scratch buffer holding the cleared row indices
+     * @param count  the number of valid entries in the buffer
+     * @return an array of exactly {@code count} entries, shared when empty
+     */
+    static int[] copyRows(int[] buffer, int count) {
+        if (count == 0) {
+            return NO_ROWS;
+        }
+        int[] rows = new int[count];
+        System.arraycopy(buffer, 0, rows, 0, count);
+        return rows;
+    }
+
+    /**
+     * Gets the number of lines removed by this lock.
+     *
+     * @return the number of lines cleared, zero or positive
+     */
+    public int getLinesRemoved() {
+        return clearedRows.length;
+    }
+
+    /**
+     * Gets a copy of the cleared row indices.
+     *
+     * @return the indices of the cleared rows in ascending order, never null
+     */
+    public int[] getClearedRows() {
+        return clearedRows.clone();
+    }
+
+    /**
+     * Gets the score bonus earned by this lock.
+     *
+     * @return the score points awarded for the lock
+     */
+    public int getScoreBonus() {
+        return scoreBonus;
+    }
+
+    /**
+     * Checks whether the piece spawned after this lock collided immediately.
+     *
+     * @return true if the game is over, false otherwise
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+}
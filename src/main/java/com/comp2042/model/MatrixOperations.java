@@ -1,7 +1,10 @@
 package com.comp2042.model;
 
+import com.comp2042.logic.bricks.PieceType;
+
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -17,7 +20,7 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li>Detects collisions between pieces and the game board</li>
  *   <li>Merges piece matrices with the board matrix</li>
- *   <li>Identifies and removes completed rows</li>
+ *   <li>Identifies and removes completed rows, either by copy or in place</li>
  *   <li>Creates deep copies of matrices for immutability</li>
  * </ul>
  */
@@ -57,6 +60,34 @@ public class MatrixOperations {
         return false;
     }
 
+    /**
+     * Checks if a piece from the shared piece table intersects with the board or
+     * goes out of bounds.
+     * <p>
+     * Equivalent to {@link #intersect(int[][], int[][], int, int)} with the
+     * piece's shape matrix, but only visits the precomputed filled cells of the
+     * rotation and allocates nothing.
+     *
+     * @param boardMatrix  the game board matrix
+     * @param pieceType    the piece to test
+     * @param rotation     the rotation index of the piece
+     * @param columnoffset the piece's horizontal position on the board
+     * @param rowoffset    the piece's vertical position on the board
+     * @return true if the piece collides with the board or boundaries, false otherwise
+     */
+    public static boolean intersect(final int[][] boardMatrix, PieceType pieceType, int rotation, int columnoffset, int rowoffset) {
+        int[] cellRows = pieceType.getCellRows(rotation);
+        int[] cellColumns = pieceType.getCellColumns(rotation);
+        for (int i = 0; i < cellRows.length; i++) {
+            int boardrow = rowoffset + cellRows[i];
+            int boardcolumn = columnoffset + cellColumns[i];
+            if (isOutOfBound(boardMatrix, boardcolumn, boardrow) || boardMatrix[boardrow][boardcolumn] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks if a position is outside the board boundaries.
      *
@@ -114,6 +145,104 @@ public class MatrixOperations {
         return mergedmatrix;
     }
 
+    /**
+     * Writes a piece from the shared piece table into the board matrix in place.
+     * <p>
+     * Unlike {@link #merge(int[][], int[][], int, int)} no copy of the board is
+     * made; cells outside the board are ignored.
+     *
+     * @param boardMatrix  the game board matrix to modify
+     * @param pieceType    the piece to write
+     * @param rotation     the rotation index of the piece
+     * @param columnoffset the piece's horizontal position on the board
+     * @param rowoffset    the piece's vertical position on the board
+     */
+    public static void mergeInPlace(int[][] boardMatrix, PieceType pieceType, int rotation, int columnoffset, int rowoffset) {
+        int[] cellRows = pieceType.getCellRows(rotation);
+        int[] cellColumns = pieceType.getCellColumns(rotation);
+        int colorCode = pieceType.getColorCode();
+        for (int i = 0; i < cellRows.length; i++) {
+            int boardrow = rowoffset + cellRows[i];
+            int boardcolumn = columnoffset + cellColumns[i];
+            if (!isOutOfBound(boardMatrix, boardcolumn, boardrow)) {
+                boardMatrix[boardrow][boardcolumn] = colorCode;
+            }
+        }
+    }
+
+    /**
+     * Removes completed rows from the board matrix in place.
+     * <p>
+     * Remaining rows are shifted down by moving row references, and the arrays
+     * of the removed rows are zeroed and reused as the new empty rows at the
+     * top, so no board-sized allocation takes place. The indices of the removed
+     * rows, measured before the shift, are written to {@code clearedRows} in
+     * ascending order.
+     *
+     * @param boardMatrix the game board matrix to modify
+     * @param clearedRows the array receiving the removed row indices, must have
+     *                    room for every row of the board
+     * @return the number of rows removed
+     */
+    public static int clearFullRows(int[][] boardMatrix, int[] clearedRows) {
+        int count = 0;
+        for (int row = 0; row < boardMatrix.length; row++) {
+            if (isRowFull(boardMatrix[row])) {
+                clearedRows[count++] = row;
+            }
+        }
+        removeRows(boardMatrix, clearedRows, count);
+        return count;
+    }
+
+    /**
+     * Removes the given rows from the board matrix in place.
+     * <p>
+     * Remaining rows are shifted down by moving row references, and the removed
+     * row arrays are zeroed and reused as the new empty rows at the top.
+     *
+     * @param boardMatrix the game board matrix to modify
+     * @param rows        the indices of the rows to remove, in ascending order
+     * @param count       the number of valid entries in {@code rows}
+     */
+    public static void removeRows(int[][] boardMatrix, int[] rows, int count) {
+        if (count == 0) {
+            return;
+        }
+        int[][] recycled = new int[count][];
+        for (int i = 0; i < count; i++) {
+            recycled[i] = boardMatrix[rows[i]];
+        }
+        int write = boardMatrix.length - 1;
+        int next = count - 1;
+        for (int read = boardMatrix.length - 1; read >= 0; read--) {
+            if (next >= 0 && rows[next] == read) {
+                next--;
+            } else {
+                boardMatrix[write--] = boardMatrix[read];
+            }
+        }
+        for (int[] row : recycled) {
+            Arrays.fill(row, 0);
+            boardMatrix[write--] = row;
+        }
+    }
+
+    /**
+     * Checks whether every cell of a row is filled.
+     *
+     * @param row the board row to check
+     * @return true if the row contains no empty cell
+     */
+    private static boolean isRowFull(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Checks for and removes completed rows from the board matrix.
      * <p>
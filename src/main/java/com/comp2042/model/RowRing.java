@@ -0,0 +1,188 @@
+package com.comp2042.model;
+
+import java.util.Arrays;
+
+/**
+ * Stores the rows of a board matrix in a circular buffer of row arrays.
+ * <p>
+ * Logical row {@code r} (row 0 being the top of the board) lives in physical
+ * slot {@code (head + r) mod rows}. Moving the head renumbers every row at
+ * once, so:
+ * <ul>
+ *   <li>inserting {@code k} rows at the bottom only recycles the {@code k}
+ *       top row arrays and advances the head;</li>
+ *   <li>removing {@code k} rows compacts the rows below the topmost removed
+ *       row and moves the head back, leaving the rows above it untouched.</li>
+ * </ul>
+ * Row arrays are never reallocated; removed rows are zeroed and reused.
+ * <p>
+ * {@link #view()} exposes the rows as an ordinary {@code int[][]} in logical
+ * order. The view shares the row arrays with the ring, so cell writes through
+ * it are visible immediately; its row order is rebuilt lazily, only when it is
+ * requested after the head or the row order changed.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Maps logical rows onto circular physical storage</li>
+ *   <li>Removes completed rows without shifting the rows above them</li>
+ *   <li>Inserts rows at the bottom in time proportional to the inserted rows</li>
+ *   <li>Provides a lazily ordered {@code int[][]} view</li>
+ * </ul>
+ */
+public final class RowRing {
+
+    private final int rows;
+    private final int columns;
+    private final int[][] slots;
+    private final int[][] view;
+    private final int[][] recycled;
+    private int head;
+    private boolean viewStale;
+
+    /**
+     * Constructs an empty ring with the specified dimensions.
+     *
+     * @param rows    the number of rows in the board
+     * @param columns the number of columns in the board
+     */
+    public RowRing(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        slots = new int[rows][columns];
+        view = new int[rows][];
+        recycled = new int[rows][];
+        viewStale = true;
+    }
+
+    /**
+     * Maps a logical row onto its physical slot.
+     *
+     * @param row the logical row index
+     * @return the physical slot index
+     */
+    private int slot(int row) {
+        int slot = head + row;
+        return slot >= rows ? slot - rows : slot;
+    }
+
+    /**
+     * Gets the array backing a logical row.
+     *
+     * @param row the logical row index, 0 being the top row
+     * @return the live row array
+     */
+    public int[] row(int row) {
+        return slots[slot(row)];
+    }
+
+    /**
+     * Gets the board as a matrix in logical row order.
+     * <p>
+     * The returned matrix is reused between calls and shares its row arrays with
+     * the ring; it is only reordered after rows have been removed or inserted.
+     *
+     * @return the live board matrix
+     */
+    public int[][] view() {
+        if (viewStale) {
+            int tail = rows - head;
+            System.arraycopy(slots, head, view, 0, tail);
+            System.arraycopy(slots, 0, view, tail, head);
+            viewStale = false;
+        }
+        return view;
+    }
+
+    /**
+     * Empties every row and resets the head.
+     */
+    public void clear() {
+        for (int[] row : slots) {
+            Arrays.fill(row, 0);
+        }
+        head = 0;
+        viewStale = true;
+    }
+
+    /**
+     * Removes rows and lets the rows above them fall.
+     * <p>
+     * Only the rows from the topmost removed row down to the bottom are moved;
+     * the rows above it are renumbered by moving the head back.
+     *
+     * @param removedRows the logical indices of the rows to remove, in ascending order
+     * @param count       the number of valid entries in {@code removedRows}
+     */
+    public void removeRows(int[] removedRows, int count) {
+        if (count == 0) {
+            return;
+        }
+        int write = removedRows[0];
+        int next = 0;
+        for (int read = removedRows[0]; read < rows; read++) {
+            int[] row = slots[slot(read)];
+            if (next < count && removedRows[next] == read) {
+                recycled[next++] = row;
+            } else {
+                slots[slot(write++)] = row;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            Arrays.fill(recycled[i], 0);
+            slots[slot(write++)] = recycled[i];
+            recycled[i] = null;
+        }
+        head -= count;
+        if (head < 0) {
+            head += rows;
+        }
+        viewStale = true;
+    }
+
+    /**
+     * Pushes the board up and inserts empty rows at the bottom.
+     * <p>
+     * The top {@code count} rows leave the board and their arrays are zeroed and
+     * reused as the new bottom rows, which the caller then fills.
+     *
+     * @param count the number of rows to insert, at most the board height
+     * @return true if any filled cell was pushed off the top of the board
+     */
+    public boolean insertBottomRows(int count) {
+        boolean overflow = false;
+        for (int i = 0; i < count; i++) {
+            int[] row = slots[slot(i)];
+            for (int cell : row) {
+                if (cell != 0) {
+                    overflow = true;
+                    break;
+                }
+            }
+            Arrays.fill(row, 0);
+        }
+        head += count;
+        if (head >= rows) {
+            head -= rows;
+        }
+        viewStale = true;
+        return overflow;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the board height in rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return the board width in columns
+     */
+    public int getColumns() {
+        return columns;
+    }
+}
@@ -6,32 +6,40 @@ import javafx.beans.property.SimpleIntegerProperty;
 /**
  * Manages the player's score during gameplay.
  * <p>
- * This class provides an observable score property that can be bound to UI
- * components for automatic updates. It supports score increments, resets,
- * and direct access to the current score value.
+ * The score is kept in a plain {@code int}, so headless simulations can add
+ * points without going through the JavaFX property system. An observable
+ * property for UI binding is created on the first call to
+ * {@link #scoreProperty()} and is kept in sync from then on. The property lives
+ * in a nested holder class, so JavaFX classes are only loaded once a property
+ * is actually requested and the score works without JavaFX on the class path.
  * <p>
  * <b>Functionality:</b>
  * <ul>
- *   <li>Maintains current score as an observable property</li>
+ *   <li>Maintains the current score as a primitive value</li>
  *   <li>Supports score increments for game events</li>
  *   <li>Allows score reset for new games</li>
- *   <li>Enables UI binding through JavaFX properties</li>
+ *   <li>Enables UI binding through a lazily created JavaFX property</li>
  * </ul>
  */
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    private int value;
+    private PropertyHolder holder;
 
     /**
      * Gets the observable score property for UI binding.
      * <p>
-     * This property can be bound to JavaFX UI components to automatically
-     * update the displayed score when it changes.
+     * The property is created on first use; later score changes are written to
+     * it. Like any JavaFX property bound to the scene graph, it must then only
+     * be changed on the JavaFX application thread.
      *
      * @return the IntegerProperty representing the score, never null
      */
     public IntegerProperty scoreProperty() {
-        return score;
+        if (holder == null) {
+            holder = new PropertyHolder(value);
+        }
+        return holder.property;
     }
 
     /**
@@ -40,7 +48,7 @@ public final class Score {
      * @param i the number of points to add, can be negative to subtract
      */
     public void add(int i) {
-        score.setValue(score.getValue() + i);
+        set(value + i);
     }
 
     /**
@@ -49,7 +57,19 @@ public final class Score {
      * Typically called when starting a new game.
      */
     public void reset() {
-        score.setValue(0);
+        set(0);
+    }
+
+    /**
+     * Stores a new score value and publishes it to the property, if one exists.
+     *
+     * @param newValue the new score
+     */
+    private void set(int newValue) {
+        value = newValue;
+        if (holder != null) {
+            holder.property.set(newValue);
+        }
     }
 
     /**
@@ -58,7 +78,23 @@ public final class Score {
      * @return the current score
      */
     public int getScore() {
-        return score.get();
+        return value;
     }
 
+    /**
+     * Holds the lazily created JavaFX property of a score.
+     */
+    private static final class PropertyHolder {
+
+        private final IntegerProperty property;
+
+        /**
+         * Creates the property with an initial value.
+         *
+         * @param value the current score
+         */
+        PropertyHolder(int value) {
+            property = new SimpleIntegerProperty(value);
+        }
+    }
 }
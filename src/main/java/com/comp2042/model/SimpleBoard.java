@@ -1,11 +1,12 @@
 package com.comp2042.model;
 
+import com.comp2042.constants.GameConstants;
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.PieceType;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
-import com.comp2042.view.ViewData;
 
-import java.awt.*;
+import java.util.Arrays;
 
 /**
  * Implements the game board for Tetris gameplay.
@@ -15,6 +16,15 @@ import java.awt.*;
  * It coordinates between the brick generator, rotator, and matrix operations to
  * provide complete board functionality.
  * <p>
+ * Collision checks read the precomputed cells of the shared {@link PieceType}
+ * table and the piece position is kept in plain fields, so moving and rotating
+ * the current piece does not allocate. Row fill counts and column heights are
+ * maintained incrementally in a {@link BoardProfile}, so only the rows touched
+ * by a locked piece are checked for completion and hard drops usually resolve
+ * with one heightmap lookup. Rows live in a {@link RowRing}, so clearing rows
+ * only moves the rows below the topmost cleared row and garbage insertion only
+ * touches the inserted rows.
+ * <p>
  * <b>Functionality:</b>
  * <ul>
  *   <li>Manages the game board matrix and piece positions</li>
@@ -22,6 +32,7 @@ import java.awt.*;
  *   <li>Generates and spawns new pieces</li>
  *   <li>Merges locked pieces into the board</li>
  *   <li>Detects and clears completed rows</li>
+ *   <li>Inserts garbage rows at the bottom</li>
  *   <li>Tracks player score</li>
  * </ul>
  */
@@ -31,8 +42,11 @@ public class SimpleBoard implements Board {
     private final int height;
     private final BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
-    private int[][] boardMatrix;
-    private Point brickOffset;
+    private final RowRing rowRing;
+    private final int[] clearedRows;
+    private final BoardProfile profile;
+    private int brickX;
+    private int brickY;
     private final Score score;
     private Brick currentBrick;
 
@@ -43,10 +57,24 @@ public class SimpleBoard implements Board {
      * @param height the number of columns in the board
      */
     public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a SimpleBoard with the specified dimensions that draws its pieces
+     * from the given generator.
+     *
+     * @param width          the number of rows in the board
+     * @param height         the number of columns in the board
+     * @param brickGenerator the source of pieces, for example a seeded generator
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
         this.width = width;
         this.height = height;
-        boardMatrix = new int[width][height];
-        brickGenerator = new RandomBrickGenerator();
+        rowRing = new RowRing(width, height);
+        clearedRows = new int[width];
+        profile = new BoardProfile(width, height);
+        this.brickGenerator = brickGenerator;
         brickRotator = new BrickRotator();
         score = new Score();
     }
@@ -58,15 +86,7 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickDown() {
-        Point newoffset = new Point(brickOffset);
-        newoffset.translate(0, 1);
-        boolean conflict = MatrixOperations.intersect(boardMatrix, brickRotator.getCurrentShape(), (int) newoffset.getX(), (int) newoffset.getY());
-        if (conflict) {
-            return false;
-        } else {
-            brickOffset = newoffset;
-            return true;
-        }
+        return tryMove(brickX, brickY + 1);
     }
 
     /**
@@ -76,15 +96,7 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickLeft() {
-        Point newOffset = new Point(brickOffset);
-        newOffset.translate(-1, 0);
-        boolean conflict = MatrixOperations.intersect(boardMatrix, brickRotator.getCurrentShape(), (int) newOffset.getX(), (int) newOffset.getY());
-        if (conflict) {
-            return false;
-        } else {
-            brickOffset = newOffset;
-            return true;
-        }
+        return tryMove(brickX - 1, brickY);
     }
 
     /**
@@ -94,15 +106,35 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickRight() {
-        Point newOffset = new Point(brickOffset);
-        newOffset.translate(1, 0);
-        boolean conflict = MatrixOperations.intersect(boardMatrix, brickRotator.getCurrentShape(), (int) newOffset.getX(), (int) newOffset.getY());
-        if (conflict) {
+        return tryMove(brickX + 1, brickY);
+    }
+
+    /**
+     * Moves the current brick to the given position if it does not collide.
+     *
+     * @param x the target column offset
+     * @param y the target row offset
+     * @return true if the brick was moved, false otherwise
+     */
+    private boolean tryMove(int x, int y) {
+        if (intersectsAt(brickRotator.getCurrentPosition(), x, y)) {
             return false;
-        } else {
-            brickOffset = newOffset;
-            return true;
         }
+        brickX = x;
+        brickY = y;
+        return true;
+    }
+
+    /**
+     * Checks if the current brick would collide in a given rotation and position.
+     *
+     * @param rotation the rotation index to test
+     * @param x        the column offset to test
+     * @param y        the row offset to test
+     * @return true if the brick would collide, false otherwise
+     */
+    private boolean intersectsAt(int rotation, int x, int y) {
+        return MatrixOperations.intersect(rowRing.view(), brickRotator.getPieceType(), rotation, x, y);
     }
 
     /**
@@ -112,14 +144,12 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean rotateLeftBrick() {
-        NextShapeInfo nextrotationShape = brickRotator.getNextShape();
-        boolean conflict = MatrixOperations.intersect(boardMatrix, nextrotationShape.getShape(), (int) brickOffset.getX(), (int) brickOffset.getY());
-        if (conflict) {
+        int nextRotation = brickRotator.getNextPosition();
+        if (intersectsAt(nextRotation, brickX, brickY)) {
             return false;
-        } else {
-            brickRotator.setCurrentShape(nextrotationShape.getPosition());
-            return true;
         }
+        brickRotator.setCurrentShape(nextRotation);
+        return true;
     }
 
     /**
@@ -131,7 +161,7 @@ public class SimpleBoard implements Board {
     public boolean createNewBrick() {
         Brick newBrick = brickGenerator.getBrick();
         spawnBrick(newBrick);
-        return MatrixOperations.intersect(boardMatrix, brickRotator.getCurrentShape(), brickOffset.x, brickOffset.y);
+        return checkCollision();
     }
 
     /**
@@ -142,7 +172,7 @@ public class SimpleBoard implements Board {
     public void spawnBrick(Brick brick) {
         this.currentBrick = brick;
         brickRotator.setBrick(brick);
-        this.brickOffset = new Point(4, 0);
+        resetBrickPosition();
     }
 
     /**
@@ -150,17 +180,22 @@ public class SimpleBoard implements Board {
      */
     @Override
     public void resetBrickPosition() {
-        brickOffset = new Point(4, 0);
+        brickX = PieceType.SPAWN_X;
+        brickY = PieceType.SPAWN_Y;
     }
 
     /**
      * Gets the current board matrix.
+     * <p>
+     * The matrix is a live view of the row ring: cells are updated in place as
+     * bricks lock, and the row order is refreshed after rows are cleared or
+     * inserted.
      *
      * @return the 2D array representing the board state
      */
     @Override
     public int[][] getBoardMatrix() {
-        return boardMatrix;
+        return rowRing.view();
     }
 
     /**
@@ -170,29 +205,69 @@ public class SimpleBoard implements Board {
      */
     @Override
     public ViewData getViewData() {
-        return new ViewData(brickRotator.getCurrentShape(), brickOffset.x, brickOffset.y, brickGenerator.getNextBrick().getShapeMatrix().getFirst());
+        return new ViewData(brickRotator.getCurrentShape(), brickX, brickY, brickGenerator.getNextBrick().getType().getShape(0));
     }
 
     /**
-     * Merges the current brick into the board matrix.
+     * Merges the current brick into the board matrix in place.
      * <p>
      * Called when a brick is locked in place.
      */
     @Override
     public void mergeBrickToBackground() {
-        boardMatrix = MatrixOperations.merge(boardMatrix, brickRotator.getCurrentShape(), brickOffset.x, brickOffset.y);
+        PieceType pieceType = brickRotator.getPieceType();
+        int rotation = brickRotator.getCurrentPosition();
+        MatrixOperations.mergeInPlace(rowRing.view(), pieceType, rotation, brickX, brickY);
+        profile.onPiecePlaced(pieceType, rotation, brickX, brickY);
     }
 
     /**
-     * Checks for and clears any completed rows on the board.
+     * Checks for and clears any completed rows on the board in place.
      *
      * @return a ClearRow object containing information about cleared rows and score bonus
      */
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(boardMatrix);
-        boardMatrix = clearRow.getNewMatrix();
-        return clearRow;
+        int count = clearFullRowsBetween(0, width - 1);
+        return new ClearRow(count, rowRing.view(), scoreBonus(count));
+    }
+
+    /**
+     * Clears the completed rows within a range, using the row fill counts
+     * instead of scanning cells.
+     *
+     * @param fromRow the first row that may be complete
+     * @param toRow   the last row that may be complete
+     * @return the number of rows cleared
+     */
+    private int clearFullRowsBetween(int fromRow, int toRow) {
+        int count = profile.collectFullRows(fromRow, toRow, clearedRows);
+        if (count > 0) {
+            rowRing.removeRows(clearedRows, count);
+            profile.onRowsCleared(clearedRows, count);
+        }
+        return count;
+    }
+
+    /**
+     * Clears the completed rows among the rows covered by the current brick.
+     *
+     * @return the number of rows cleared
+     */
+    private int clearRowsTouchedByBrick() {
+        PieceType pieceType = brickRotator.getPieceType();
+        int rotation = brickRotator.getCurrentPosition();
+        return clearFullRowsBetween(brickY + pieceType.getMinRow(rotation), brickY + pieceType.getMaxRow(rotation));
+    }
+
+    /**
+     * Calculates the score bonus for a number of cleared lines.
+     *
+     * @param lines the number of lines cleared at once
+     * @return 50 × lines²
+     */
+    private static int scoreBonus(int lines) {
+        return 50 * lines * lines;
     }
 
     /**
@@ -210,7 +285,8 @@ public class SimpleBoard implements Board {
      */
     @Override
     public void newGame() {
-        boardMatrix = new int[width][height];
+        rowRing.clear();
+        profile.reset();
         score.reset();
         createNewBrick();
     }
@@ -225,17 +301,181 @@ public class SimpleBoard implements Board {
      * @return a ClearRow object containing cleared rows info and total score bonus
      */
     public ClearRow hardDropBrick() {
-        int dropDistance = 0;
-        while (!MatrixOperations.intersect(boardMatrix, brickRotator.getCurrentShape(), brickOffset.x, brickOffset.y + 1)) {
-            brickOffset.translate(0, 1);
-            dropDistance++;
+        int dropDistance = dropToLandingRow();
+        mergeBrickToBackground();
+        int count = clearRowsTouchedByBrick();
+        return new ClearRow(count, rowRing.view(), scoreBonus(count) + dropDistance);
+    }
+
+    /**
+     * Moves the current brick straight down to its landing row.
+     *
+     * @return the number of rows the brick moved
+     */
+    private int dropToLandingRow() {
+        int landingRow = getLandingRow();
+        int dropDistance = landingRow - brickY;
+        brickY = landingRow;
+        return dropDistance;
+    }
+
+    /**
+     * Gets the row at which the current brick would land if hard dropped.
+     * <p>
+     * While the brick is above the stack this is a single heightmap lookup;
+     * otherwise the brick may be under an overhang and the landing row is found
+     * by testing one row at a time.
+     *
+     * @return the landing row offset of the current brick
+     */
+    @Override
+    public int getLandingRow() {
+        return landingRow(brickRotator.getPieceType(), brickRotator.getCurrentPosition(), brickX, brickY);
+    }
+
+    /**
+     * Finds the landing row of a piece starting from a collision-free position.
+     *
+     * @param pieceType the piece to drop
+     * @param rotation  the rotation index of the piece
+     * @param x         the piece's horizontal position
+     * @param y         the piece's starting vertical position
+     * @return the landing row offset
+     */
+    private int landingRow(PieceType pieceType, int rotation, int x, int y) {
+        int landing = profile.getSurfaceLandingRow(pieceType, rotation, x, y);
+        if (landing != BoardProfile.UNKNOWN) {
+            return landing;
+        }
+        landing = y;
+        while (!MatrixOperations.intersect(rowRing.view(), pieceType, rotation, x, landing + 1)) {
+            landing++;
+        }
+        return landing;
+    }
+
+    /**
+     * Gets how far a piece would fall if hard dropped from the spawn row.
+     *
+     * @param pieceType the piece to drop
+     * @param rotation  the rotation index of the piece
+     * @param x         the piece's horizontal position
+     * @return the number of rows the piece would fall, or -1 if the piece does
+     * not fit at the spawn row in that column
+     */
+    @Override
+    public int getDropDistance(PieceType pieceType, int rotation, int x) {
+        if (MatrixOperations.intersect(rowRing.view(), pieceType, rotation, x, PieceType.SPAWN_Y)) {
+            return -1;
+        }
+        return landingRow(pieceType, rotation, x, PieceType.SPAWN_Y) - PieceType.SPAWN_Y;
+    }
+
+    /**
+     * Gets the height of every column.
+     *
+     * @return a copy of the column heightmap, left to right
+     */
+    @Override
+    public int[] getColumnHeights() {
+        return profile.getColumnHeights();
+    }
+
+    /**
+     * Pushes the stack up and inserts garbage rows at the bottom.
+     * <p>
+     * The rows are stored in a {@link RowRing}, so the insertion recycles the
+     * top row arrays instead of shifting every row. The current brick keeps its
+     * position; callers check {@link #checkCollision()} afterwards if needed.
+     *
+     * @param count      the number of garbage rows to insert
+     * @param holeColumn the column left empty in every garbage row
+     * @return true if filled cells were pushed off the top of the board
+     * @throws IllegalArgumentException if the count or hole column is out of range
+     */
+    @Override
+    public boolean addGarbageRows(int count, int holeColumn) {
+        if (count < 0 || count > width || holeColumn < 0 || holeColumn >= height) {
+            throw new IllegalArgumentException("Invalid garbage: " + count + " rows, hole at " + holeColumn);
+        }
+        boolean overflow = rowRing.insertBottomRows(count);
+        for (int row = width - count; row < width; row++) {
+            int[] cells = rowRing.row(row);
+            Arrays.fill(cells, GameConstants.GARBAGE_COLOR_CODE);
+            cells[holeColumn] = 0;
         }
+        profile.onRowsInserted(count, holeColumn);
+        return overflow;
+    }
 
+    /**
+     * Gets the incrementally maintained board metrics.
+     *
+     * @return the live metrics of the locked cells
+     */
+    @Override
+    public BoardMetrics getMetrics() {
+        return profile;
+    }
+
+    /**
+     * Gets the incrementally maintained row occupancy, heightmap and metrics.
+     *
+     * @return the live board profile
+     */
+    public BoardProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * Locks the current brick, clears completed rows and spawns the next brick.
+     * <p>
+     * All steps work on the board in place; the only allocation is the small
+     * result object.
+     *
+     * @return a LockResult with the cleared rows, the score bonus and whether
+     * the new brick collided immediately
+     */
+    @Override
+    public LockResult lockBrick() {
+        return lockAndSpawn(0);
+    }
+
+    /**
+     * Hard drops the current brick, then locks it, clears completed rows and
+     * spawns the next brick.
+     *
+     * @return a LockResult whose score bonus includes the drop distance
+     */
+    @Override
+    public LockResult hardDropAndLock() {
+        return lockAndSpawn(dropToLandingRow());
+    }
+
+    /**
+     * Runs the fused lock, clear and spawn pipeline.
+     *
+     * @param extraBonus score points to add on top of the line clear bonus
+     * @return the outcome of the lock
+     */
+    private LockResult lockAndSpawn(int extraBonus) {
         mergeBrickToBackground();
-        ClearRow clearRow = clearRows();
+        int count = clearRowsTouchedByBrick();
+        boolean gameOver = createNewBrick();
+        return new LockResult(LockResult.copyRows(clearedRows, count), scoreBonus(count) + extraBonus, gameOver);
+    }
 
-        int totalBonus = clearRow.getScoreBonus() + dropDistance;
-        return new ClearRow(clearRow.getLinesRemoved(), clearRow.getNewMatrix(), totalBonus);
+    /**
+     * Creates an independent copy of the board matrix.
+     * <p>
+     * {@link #getBoardMatrix()} returns the live matrix, which is modified in
+     * place by later locks; callers that need a stable copy use this method.
+     *
+     * @return a deep copy of the current board matrix
+     */
+    @Override
+    public int[][] snapshot() {
+        return MatrixOperations.copy(rowRing.view());
     }
 
     /**
@@ -271,6 +511,36 @@ public class SimpleBoard implements Board {
         return currentBrick;
     }
 
+    /**
+     * Gets the rotation index of the current brick.
+     *
+     * @return the index of the current rotation in the brick's rotation list
+     */
+    @Override
+    public int getBrickRotation() {
+        return brickRotator.getCurrentPosition();
+    }
+
+    /**
+     * Gets the column offset of the current brick.
+     *
+     * @return the horizontal position of the brick's shape matrix
+     */
+    @Override
+    public int getBrickX() {
+        return brickX;
+    }
+
+    /**
+     * Gets the row offset of the current brick.
+     *
+     * @return the vertical position of the brick's shape matrix
+     */
+    @Override
+    public int getBrickY() {
+        return brickY;
+    }
+
     /**
      * Checks if the current brick collides with the board.
      *
@@ -278,11 +548,6 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean checkCollision() {
-        return MatrixOperations.intersect(
-                boardMatrix,
-                brickRotator.getCurrentShape(),
-                brickOffset.x,
-                brickOffset.y
-        );
+        return intersectsAt(brickRotator.getCurrentPosition(), brickX, brickY);
     }
 }
@@ -5,7 +5,8 @@ import javafx.scene.paint.Paint;
 
 /**
  * Enum representing Tetris piece colors with their corresponding color codes.
- * Each Tetris piece type has a unique color identified by a numeric code (0-7).
+ * Each Tetris piece type has a unique color identified by a numeric code (0-7),
+ * and garbage rows use code 8.
  * <p>
  * <b>Color codes mapping:</b>
  * <ul>
@@ -17,6 +18,7 @@ import javafx.scene.paint.Paint;
  *   <li>5 - RED (Z-piece)</li>
  *   <li>6 - BEIGE (L-piece)</li>
  *   <li>7 - BROWN (J-piece)</li>
+ *   <li>8 - GRAY (garbage rows)</li>
  * </ul>
  */
 public enum TetrisColor {
@@ -58,7 +60,12 @@ public enum TetrisColor {
     /**
      * Brown color for J-piece
      */
-    BROWN(7, Color.BURLYWOOD);
+    BROWN(7, Color.BURLYWOOD),
+
+    /**
+     * Gray color for garbage rows
+     */
+    GRAY(8, Color.GRAY);
 
     /**
      * The numeric code representing this color
@@ -73,7 +80,7 @@ public enum TetrisColor {
     /**
      * Constructs a TetrisColor with the specified code and color.
      *
-     * @param code  the numeric identifier for this color (0-7)
+     * @param code  the numeric identifier for this color (0-8)
      * @param color the JavaFX Paint object representing this color
      */
     TetrisColor(int code, Paint color) {
@@ -86,7 +93,7 @@ public enum TetrisColor {
      * This method is useful for converting color codes stored in the game board
      * matrix into actual colors for rendering.
      *
-     * @param code the color code (0-7)
+     * @param code the color code (0-8)
      * @return the corresponding Paint color, or WHITE if the code is invalid
      */
     public static Paint getColorByCode(int code) {
@@ -1,6 +1,4 @@
-package com.comp2042.view;
-
-import com.comp2042.model.MatrixOperations;
+package com.comp2042.model;
 
 /**
  * Encapsulates rendering data for the current and next Tetris pieces.
@@ -0,0 +1,212 @@
+package com.comp2042.sim;
+
+import com.comp2042.engine.GameEngine;
+import com.comp2042.logic.bricks.SplitMix64;
+import com.comp2042.model.BoardType;
+
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays batches of complete headless games across all cores.
+ * <p>
+ * Every game gets its own board, piece generator and policy, all seeded from
+ * the batch seed and the game index, so a batch is reproducible and workers
+ * share no mutable state apart from writing their own slots of the result
+ * arrays. Games are split over a work-stealing {@link ForkJoinPool}; each leaf
+ * task records step latencies into its own {@link LatencyHistogram}, and the
+ * histograms are merged as the tasks join.
+ * <p>
+ * The class doubles as a command-line tool, usable as a macro-benchmark or a
+ * soak test:
+ * <pre>
+ * java -cp target/classes com.comp2042.sim.BatchSimulator --games 10000 --policy random
+ * </pre>
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Runs N seeded games in parallel</li>
+ *   <li>Drives each game through a pluggable {@link InputPolicy}</li>
+ *   <li>Caps the length of a game for soak runs</li>
+ *   <li>Aggregates throughput, lines, scores and step latencies</li>
+ * </ul>
+ */
+public final class BatchSimulator {
+
+    /**
+     * Number of board rows used by the game.
+     */
+    public static final int ROWS = 25;
+
+    /**
+     * Number of board columns used by the game.
+     */
+    public static final int COLUMNS = 10;
+
+    private static final int GAMES_PER_LEAF = 4;
+
+    private final BoardType boardType;
+    private final PolicyType policyType;
+    private final int maxPiecesPerGame;
+
+    /**
+     * Constructs a simulator.
+     *
+     * @param boardType        the board engine every game runs on
+     * @param policyType       the policy that plays every game
+     * @param maxPiecesPerGame the number of pieces after which a game is
+     *                         stopped even if it has not topped out
+     * @throws IllegalArgumentException if the piece cap is not positive
+     */
+    public BatchSimulator(BoardType boardType, PolicyType policyType, int maxPiecesPerGame) {
+        if (maxPiecesPerGame <= 0) {
+            throw new IllegalArgumentException("Piece cap must be positive: " + maxPiecesPerGame);
+        }
+        this.boardType = boardType;
+        this.policyType = policyType;
+        this.maxPiecesPerGame = maxPiecesPerGame;
+    }
+
+    /**
+     * Runs a batch of games.
+     *
+     * @param games   the number of games to play
+     * @param seed    the batch seed
+     * @param threads the number of worker threads
+     * @return the aggregated results
+     * @throws IllegalArgumentException if the game or thread count is not positive
+     */
+    public SimulationReport run(int games, long seed, int threads) {
+        if (games <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("Games and threads must be positive: " + games + ", " + threads);
+        }
+        int[] pieces = new int[games];
+        int[] lines = new int[games];
+        int[] scores = new int[games];
+        long start = System.nanoTime();
+        LatencyHistogram latency;
+        try (ForkJoinPool pool = new ForkJoinPool(threads)) {
+            latency = pool.invoke(new GameRange(0, games, seed, pieces, lines, scores));
+        }
+        long elapsed = System.nanoTime() - start;
+        return new SimulationReport(threads, elapsed, pieces, lines, scores, latency);
+    }
+
+    /**
+     * Plays one game and records its results.
+     *
+     * @param index   the game index
+     * @param seed    the batch seed
+     * @param pieces  receives the pieces locked per game
+     * @param lines   receives the lines cleared per game
+     * @param scores  receives the final score per game
+     * @param latency receives the latency of every piece step
+     */
+    private void playGame(int index, long seed, int[] pieces, int[] lines, int[] scores, LatencyHistogram latency) {
+        SplitMix64 seeds = new SplitMix64(seed + index);
+        GameEngine engine = new GameEngine(boardType.create(ROWS, COLUMNS, seeds.nextLong()));
+        InputPolicy policy = policyType.create(seeds.nextLong());
+        engine.newGame();
+        while (!engine.isGameOver() && engine.getPiecesLocked() < maxPiecesPerGame) {
+            int locked = engine.getPiecesLocked();
+            long stepStart = System.nanoTime();
+            policy.playPiece(engine);
+            if (engine.getPiecesLocked() == locked) {
+                engine.hardDrop();
+            }
+            latency.record(System.nanoTime() - stepStart);
+        }
+        pieces[index] = engine.getPiecesLocked();
+        lines[index] = engine.getLinesCleared();
+        scores[index] = engine.getScore().getScore();
+    }
+
+    /**
+     * Fork-join task that plays a range of games and returns their latencies.
+     */
+    private final class GameRange extends RecursiveTask<LatencyHistogram> {
+
+        private final int from;
+        private final int to;
+        private final long seed;
+        private final int[] pieces;
+        private final int[] lines;
+        private final int[] scores;
+
+        /**
+         * Constructs a task for the games in {@code [from, to)}.
+         *
+         * @param from   the first game index
+         * @param to     the end of the range, exclusive
+         * @param seed   the batch seed
+         * @param pieces receives the pieces locked per game
+         * @param lines  receives the lines cleared per game
+         * @param scores receives the final score per game
+         */
+        GameRange(int from, int to, long seed, int[] pieces, int[] lines, int[] scores) {
+            this.from = from;
+            this.to = to;
+            this.seed = seed;
+            this.pieces = pieces;
+            this.lines = lines;
+            this.scores = scores;
+        }
+
+        @Override
+        protected LatencyHistogram compute() {
+            if (to - from <= GAMES_PER_LEAF) {
+                LatencyHistogram latency = new LatencyHistogram();
+                for (int index = from; index < to; index++) {
+                    playGame(index, seed, pieces, lines, scores, latency);
+                }
+                return latency;
+            }
+            int middle = (from + to) >>> 1;
+            GameRange left = new GameRange(from, middle, seed, pieces, lines, scores);
+            left.fork();
+            LatencyHistogram latency = new GameRange(middle, to, seed, pieces, lines, scores).compute();
+            latency.merge(left.join());
+            return latency;
+        }
+    }
+
+    /**
+     * Runs a batch from the command line and prints the report.
+     * <p>
+     * Options: {@code --games N}, {@code --threads N}, {@code --seed N},
+     * {@code --policy heuristic|beam|mcts|random|scripted}, {@code --board matrix|bitboard} and
+     * {@code --max-pieces N}.
+     *
+     * @param args the command-line options
+     */
+    public static void main(String[] args) {
+        int games = 1000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 2042L;
+        PolicyType policy = PolicyType.HEURISTIC;
+        BoardType board = BoardType.MATRIX;
+        int maxPieces = 10_000;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--games" -> games = Integer.parseInt(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--policy" -> policy = PolicyType.valueOf(value.toUpperCase(Locale.ROOT));
+                case "--board" -> board = BoardType.valueOf(value.toUpperCase(Locale.ROOT));
+                case "--max-pieces" -> maxPieces = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+
+        SimulationReport report = new BatchSimulator(board, policy, maxPieces).run(games, seed, threads);
+        System.out.printf("policy: %s, board: %s, seed: %d%n", policy, board, seed);
+        System.out.print(report.format());
+    }
+}
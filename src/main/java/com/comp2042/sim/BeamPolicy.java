@@ -0,0 +1,52 @@
+package com.comp2042.sim;
+
+import com.comp2042.ai.BeamSearch;
+import com.comp2042.ai.Placement;
+import com.comp2042.engine.GameEngine;
+
+/**
+ * Plays every piece with the first move of a {@link BeamSearch} over the
+ * preview queue and the hold slot.
+ * <p>
+ * The batch simulator already runs one game per worker thread, so the policy
+ * searches on the calling thread.
+ */
+public final class BeamPolicy implements InputPolicy {
+
+    private final BeamSearch search;
+    private final int previewCount;
+
+    /**
+     * Constructs a beam policy with the default search settings.
+     */
+    public BeamPolicy() {
+        this(new BeamSearch(), BeamSearch.DEFAULT_DEPTH);
+    }
+
+    /**
+     * Constructs a beam policy around a search.
+     *
+     * @param search       the search to play with
+     * @param previewCount the number of upcoming pieces the search may see
+     */
+    public BeamPolicy(BeamSearch search, int previewCount) {
+        this.search = search;
+        this.previewCount = previewCount;
+    }
+
+    /**
+     * Plays the first move of the best line found by the search.
+     *
+     * @param engine the game to play
+     */
+    @Override
+    public void playPiece(GameEngine engine) {
+        Placement placement = search.findBest(engine.getBoard(), engine.getHeldPiece(), engine.canHold(),
+                engine.getNextPieces(previewCount), 0);
+        if (placement == null) {
+            engine.hardDrop();
+            return;
+        }
+        placement.applyTo(engine);
+    }
+}
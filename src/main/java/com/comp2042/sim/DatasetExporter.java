@@ -0,0 +1,234 @@
+package com.comp2042.sim;
+
+import com.comp2042.ai.BeamSearch;
+import com.comp2042.ai.Placement;
+import com.comp2042.ai.PlacementSearch;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.logic.bricks.SplitMix64;
+import com.comp2042.model.Bitboard;
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays headless games with a search policy and exports every decision as a
+ * training record.
+ * <p>
+ * The games are split over worker threads. Every worker owns a search and a
+ * {@link DatasetWriter} with its own shard file, {@code shard-00.tds},
+ * {@code shard-01.tds} and so on, so the workers share nothing and write in
+ * parallel. Game {@code i} goes to worker {@code i % threads} and its pieces
+ * are seeded from the export seed and {@code i}, so the games of an export do
+ * not depend on the thread count, only their split over the shards does.
+ * <p>
+ * The class doubles as a command-line tool:
+ * <pre>
+ * java -cp target/classes com.comp2042.sim.DatasetExporter --out data --games 10000 --policy beam
+ * </pre>
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Plays seeded games with the heuristic or beam search</li>
+ *   <li>Records the state before every placement and the placement chosen</li>
+ *   <li>Writes one shard per worker thread in parallel</li>
+ * </ul>
+ */
+public final class DatasetExporter {
+
+    /**
+     * File name extension of the shards.
+     */
+    public static final String SHARD_EXTENSION = ".tds";
+
+    private final PolicyType policyType;
+    private final int maxPiecesPerGame;
+
+    /**
+     * Constructs an exporter.
+     *
+     * @param policyType       the search that chooses the placements, either
+     *                         {@link PolicyType#HEURISTIC} or {@link PolicyType#BEAM}
+     * @param maxPiecesPerGame the number of pieces after which a game is
+     *                         stopped even if it has not topped out
+     * @throws IllegalArgumentException if the policy is not a placement search
+     *                                  or the piece cap is not positive
+     */
+    public DatasetExporter(PolicyType policyType, int maxPiecesPerGame) {
+        if (policyType != PolicyType.HEURISTIC && policyType != PolicyType.BEAM) {
+            throw new IllegalArgumentException("Unsupported export policy: " + policyType);
+        }
+        if (maxPiecesPerGame <= 0) {
+            throw new IllegalArgumentException("Piece cap must be positive: " + maxPiecesPerGame);
+        }
+        this.policyType = policyType;
+        this.maxPiecesPerGame = maxPiecesPerGame;
+    }
+
+    /**
+     * Gets the path of a shard.
+     *
+     * @param directory the export directory
+     * @param shard     the shard index
+     * @return the shard path
+     */
+    public static Path shardPath(Path directory, int shard) {
+        return directory.resolve(String.format(Locale.ROOT, "shard-%02d%s", shard, SHARD_EXTENSION));
+    }
+
+    /**
+     * Exports a batch of games, one shard per thread.
+     *
+     * @param directory the directory receiving the shards, created if missing
+     * @param games     the number of games to play
+     * @param seed      the export seed
+     * @param threads   the number of worker threads and shards
+     * @return the number of records written
+     * @throws IOException              if a shard cannot be written
+     * @throws IllegalArgumentException if the game or thread count is not positive
+     */
+    public long export(Path directory, int games, long seed, int threads) throws IOException {
+        if (games <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("Games and threads must be positive: " + games + ", " + threads);
+        }
+        Files.createDirectories(directory);
+        List<Future<Long>> shards = new ArrayList<>(threads);
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int shard = 0; shard < threads; shard++) {
+                int first = shard;
+                Path file = shardPath(directory, shard);
+                shards.add(executor.submit(() -> exportShard(file, first, threads, games, seed)));
+            }
+        }
+        long records = 0;
+        for (Future<Long> shard : shards) {
+            try {
+                records += shard.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Export interrupted", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException io) {
+                    throw io;
+                }
+                throw new IllegalStateException("Export failed", e.getCause());
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Plays every {@code step}-th game from {@code first} into one shard.
+     *
+     * @param file  the shard file
+     * @param first the first game index
+     * @param step  the distance between the shard's game indices
+     * @param games the number of games of the whole export
+     * @param seed  the export seed
+     * @return the number of records written
+     * @throws IOException if the shard cannot be written
+     */
+    private long exportShard(Path file, int first, int step, int games, long seed) throws IOException {
+        PlacementSearch heuristic = policyType == PolicyType.HEURISTIC ? new PlacementSearch() : null;
+        BeamSearch beam = policyType == PolicyType.BEAM ? new BeamSearch() : null;
+        Bitboard occupancy = new Bitboard(BatchSimulator.ROWS, BatchSimulator.COLUMNS);
+        try (DatasetWriter writer = new DatasetWriter(file, BatchSimulator.ROWS, BatchSimulator.COLUMNS,
+                TetrisEnv.PREVIEW_COUNT, DatasetWriter.DEFAULT_CHUNK_RECORDS)) {
+            for (int index = first; index < games; index += step) {
+                SplitMix64 seeds = new SplitMix64(seed + index);
+                GameEngine engine = new GameEngine(BoardType.BITBOARD.create(BatchSimulator.ROWS,
+                        BatchSimulator.COLUMNS, seeds.nextLong()));
+                engine.newGame();
+                writer.beginGame();
+                boolean toppedOut = playGame(engine, heuristic, beam, occupancy, writer);
+                writer.endGame(toppedOut);
+            }
+            return writer.getRecordCount();
+        }
+    }
+
+    /**
+     * Plays one game and stages a record per placement.
+     *
+     * @param engine    the running game
+     * @param heuristic the heuristic search, or null when the beam search plays
+     * @param beam      the beam search, or null when the heuristic search plays
+     * @param occupancy scratch bitboard receiving the state before each move
+     * @param writer    the shard writer
+     * @return true if the game ended by topping out
+     */
+    private boolean playGame(GameEngine engine, PlacementSearch heuristic, BeamSearch beam, Bitboard occupancy,
+                             DatasetWriter writer) {
+        while (!engine.isGameOver() && engine.getPiecesLocked() < maxPiecesPerGame) {
+            Board board = engine.getBoard();
+            PieceType pieceType = board.getCurrentBrick().getType();
+            PieceType heldPiece = engine.getHeldPiece();
+            boolean canHold = engine.canHold();
+            List<PieceType> preview = engine.getNextPieces(TetrisEnv.PREVIEW_COUNT);
+            PlacementSearch.loadOccupancy(board, occupancy);
+            Placement placement = heuristic != null ? heuristic.findBest(board)
+                    : beam.findBest(board, heldPiece, canHold, engine.getNextPieces(BeamSearch.DEFAULT_DEPTH), 0);
+            if (placement == null) {
+                return true;
+            }
+            int linesBefore = engine.getLinesCleared();
+            placement.applyTo(engine);
+            writer.add(occupancy, pieceType, heldPiece, canHold, preview, DatasetWriter.packPlacement(
+                    placement.isHold(), placement.getRotation(), placement.getX(), placement.getY()),
+                    engine.getLinesCleared() - linesBefore);
+        }
+        return engine.isGameOver();
+    }
+
+    /**
+     * Runs an export from the command line and prints its throughput.
+     * <p>
+     * Options: {@code --out DIR}, {@code --games N}, {@code --threads N},
+     * {@code --seed N}, {@code --policy heuristic|beam} and
+     * {@code --max-pieces N}.
+     *
+     * @param args the command-line options
+     * @throws IOException if a shard cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path out = Path.of("dataset");
+        int games = 1000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 2042L;
+        PolicyType policy = PolicyType.HEURISTIC;
+        int maxPieces = 10_000;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--out" -> out = Path.of(value);
+                case "--games" -> games = Integer.parseInt(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--policy" -> policy = PolicyType.valueOf(value.toUpperCase(Locale.ROOT));
+                case "--max-pieces" -> maxPieces = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+
+        long start = System.nanoTime();
+        long records = new DatasetExporter(policy, maxPieces).export(out, games, seed, threads);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(Locale.ROOT, "%d records from %d games in %.2f s (%.0f records/s) to %s%n",
+                records, games, seconds, records / seconds, out);
+    }
+}
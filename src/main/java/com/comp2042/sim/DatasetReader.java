@@ -0,0 +1,324 @@
+package com.comp2042.sim;
+
+import com.comp2042.logic.bricks.PieceType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads a dataset written by {@link DatasetWriter} through memory mapping.
+ * <p>
+ * Opening the file walks the chunk headers once and maps every chunk; records
+ * are then read straight from the mapped pages by their index across the
+ * whole file, so reading copies nothing and the operating system pages data
+ * in as it is touched. Mapped buffers stay valid after {@link #close()} until
+ * they are garbage collected, as with any {@link MappedByteBuffer}.
+ * <p>
+ * The accessors do not change shared buffer state, so a reader can be used by
+ * several threads at once.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Validates the header and indexes the chunks</li>
+ *   <li>Maps every chunk read-only</li>
+ *   <li>Reads the fields of any record by index</li>
+ * </ul>
+ */
+public final class DatasetReader implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final int rows;
+    private final int columns;
+    private final int previewCount;
+    private final int boardWords;
+    private final int[] widths;
+    private final long[] chunkStarts;
+    private final ByteBuffer[] chunks;
+    private final long recordCount;
+
+    /**
+     * Opens and maps a dataset file.
+     *
+     * @param file the file to read
+     * @throws IOException if the file cannot be read or is not a dataset
+     */
+    public DatasetReader(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long fileSize = channel.size();
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    Math.min(fileSize, DatasetWriter.HEADER_BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+            if (header.limit() < DatasetWriter.HEADER_BYTES || header.getInt(0) != DatasetWriter.MAGIC
+                    || header.getInt(4) != DatasetWriter.VERSION) {
+                throw new IOException("Not a dataset file: " + file);
+            }
+            rows = header.getShort(8);
+            columns = header.getShort(10);
+            previewCount = header.get(12);
+            boardWords = header.get(13);
+            widths = DatasetWriter.columnWidths(boardWords, previewCount);
+
+            List<ByteBuffer> mapped = new ArrayList<>();
+            long[] starts = new long[16];
+            long records = 0;
+            long offset = DatasetWriter.HEADER_BYTES;
+            while (offset < fileSize) {
+                if (fileSize - offset < DatasetWriter.CHUNK_HEADER_BYTES) {
+                    throw new IOException("Truncated chunk header at " + offset);
+                }
+                int count = channel.map(FileChannel.MapMode.READ_ONLY, offset, DatasetWriter.CHUNK_HEADER_BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN).getInt(0);
+                long length = chunkBytes(count);
+                if (count <= 0 || fileSize - offset - DatasetWriter.CHUNK_HEADER_BYTES < length) {
+                    throw new IOException("Truncated chunk at " + offset);
+                }
+                MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY,
+                        offset + DatasetWriter.CHUNK_HEADER_BYTES, length);
+                chunk.order(ByteOrder.LITTLE_ENDIAN);
+                if (mapped.size() == starts.length) {
+                    starts = Arrays.copyOf(starts, starts.length * 2);
+                }
+                starts[mapped.size()] = records;
+                mapped.add(chunk);
+                records += count;
+                offset += DatasetWriter.CHUNK_HEADER_BYTES + length;
+            }
+            chunkStarts = Arrays.copyOf(starts, mapped.size());
+            chunks = mapped.toArray(new ByteBuffer[0]);
+            recordCount = records;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the size of a chunk's columns, padding included.
+     *
+     * @param count the records in the chunk
+     * @return the chunk size in bytes, without the chunk header
+     */
+    private long chunkBytes(int count) {
+        long bytes = 0;
+        for (int width : widths) {
+            bytes += (long) width * count;
+        }
+        return (bytes + Long.BYTES - 1) & -Long.BYTES;
+    }
+
+    /**
+     * Finds the chunk holding a record.
+     *
+     * @param index the record index
+     * @return the chunk index
+     * @throws IndexOutOfBoundsException if the record does not exist
+     */
+    private int chunkOf(long index) {
+        if (index < 0 || index >= recordCount) {
+            throw new IndexOutOfBoundsException("Record " + index + " of " + recordCount);
+        }
+        int chunk = Arrays.binarySearch(chunkStarts, index);
+        return chunk >= 0 ? chunk : -chunk - 2;
+    }
+
+    /**
+     * Gets the byte offset of a record's field within its chunk.
+     *
+     * @param chunk  the chunk index
+     * @param index  the record index
+     * @param column the column index in file order
+     * @return the offset of the field's first byte
+     */
+    private int fieldOffset(int chunk, long index, int column) {
+        int count = (int) ((chunk + 1 < chunks.length ? chunkStarts[chunk + 1] : recordCount) - chunkStarts[chunk]);
+        int offset = 0;
+        for (int i = 0; i < column; i++) {
+            offset += widths[i] * count;
+        }
+        return offset + (int) (index - chunkStarts[chunk]) * widths[column];
+    }
+
+    /**
+     * Copies the packed occupancy of a record.
+     *
+     * @param index the record index
+     * @param out   receives {@link #getBoardWords()} longs, bit
+     *              {@code row * columns + column} set for a filled cell
+     */
+    public void readBoard(long index, long[] out) {
+        int chunk = chunkOf(index);
+        int offset = fieldOffset(chunk, index, 0);
+        for (int word = 0; word < boardWords; word++) {
+            out[word] = chunks[chunk].getLong(offset + word * Long.BYTES);
+        }
+    }
+
+    /**
+     * Checks whether a cell was filled in a record's board.
+     *
+     * @param index  the record index
+     * @param row    the row index
+     * @param column the column index
+     * @return true if the cell was filled before the move
+     */
+    public boolean isFilled(long index, int row, int column) {
+        int chunk = chunkOf(index);
+        int bit = row * columns + column;
+        long word = chunks[chunk].getLong(fieldOffset(chunk, index, 0) + bit / Long.SIZE * Long.BYTES);
+        return (word >>> bit & 1) != 0;
+    }
+
+    /**
+     * Gets the packed placement of a record, see
+     * {@link DatasetWriter#packPlacement}.
+     *
+     * @param index the record index
+     * @return the packed placement
+     */
+    public int getPlacement(long index) {
+        int chunk = chunkOf(index);
+        return chunks[chunk].getInt(fieldOffset(chunk, index, 1));
+    }
+
+    /**
+     * Gets the lines cleared from a record's decision to the end of its game.
+     *
+     * @param index the record index
+     * @return the line count, the decision's own clears included
+     */
+    public int getFutureLines(long index) {
+        int chunk = chunkOf(index);
+        return chunks[chunk].getInt(fieldOffset(chunk, index, 2));
+    }
+
+    /**
+     * Gets the pieces locked from a record's decision to the end of its game.
+     *
+     * @param index the record index
+     * @return the piece count, the decision's own piece included
+     */
+    public int getFuturePieces(long index) {
+        int chunk = chunkOf(index);
+        return chunks[chunk].getInt(fieldOffset(chunk, index, 3));
+    }
+
+    /**
+     * Gets the current piece of a record.
+     *
+     * @param index the record index
+     * @return the piece at the spawn position before the move
+     */
+    public PieceType getPieceType(long index) {
+        int chunk = chunkOf(index);
+        return PieceType.fromOrdinal(chunks[chunk].get(fieldOffset(chunk, index, 4)));
+    }
+
+    /**
+     * Gets the held piece of a record.
+     *
+     * @param index the record index
+     * @return the held piece, or null if the slot was empty
+     */
+    public PieceType getHeldPiece(long index) {
+        int chunk = chunkOf(index);
+        int held = chunks[chunk].get(fieldOffset(chunk, index, 5)) & (DatasetWriter.HOLD_AVAILABLE - 1);
+        return held == 0 ? null : PieceType.fromOrdinal(held - 1);
+    }
+
+    /**
+     * Checks whether hold was available in a record.
+     *
+     * @param index the record index
+     * @return true if the piece could be held
+     */
+    public boolean canHold(long index) {
+        int chunk = chunkOf(index);
+        return (chunks[chunk].get(fieldOffset(chunk, index, 5)) & DatasetWriter.HOLD_AVAILABLE) != 0;
+    }
+
+    /**
+     * Gets one preview piece of a record.
+     *
+     * @param index    the record index
+     * @param position the preview position, 0 for the next piece
+     * @return the preview piece
+     */
+    public PieceType getPreview(long index, int position) {
+        int chunk = chunkOf(index);
+        return PieceType.fromOrdinal(chunks[chunk].get(fieldOffset(chunk, index, 6) + position));
+    }
+
+    /**
+     * Checks whether a record's game ended by topping out.
+     *
+     * @param index the record index
+     * @return true if the game topped out rather than hitting the piece limit
+     */
+    public boolean isToppedOut(long index) {
+        int chunk = chunkOf(index);
+        return chunks[chunk].get(fieldOffset(chunk, index, 7)) != 0;
+    }
+
+    /**
+     * Gets the number of records.
+     *
+     * @return the record count
+     */
+    public long size() {
+        return recordCount;
+    }
+
+    /**
+     * Gets the number of rows of the recorded boards.
+     *
+     * @return the row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns of the recorded boards.
+     *
+     * @return the column count
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the number of preview pieces per record.
+     *
+     * @return the preview count
+     */
+    public int getPreviewCount() {
+        return previewCount;
+    }
+
+    /**
+     * Gets the number of longs a packed board takes.
+     *
+     * @return the board words per record
+     */
+    public int getBoardWords() {
+        return boardWords;
+    }
+
+    /**
+     * Closes the file. Mapped chunks stay readable until collected.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
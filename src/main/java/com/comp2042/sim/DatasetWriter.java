@@ -0,0 +1,392 @@
+package com.comp2042.sim;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streams training records to a binary columnar file.
+ * <p>
+ * A record describes one decision: the occupancy before the move, the current,
+ * held and preview pieces, the chosen placement and the outcome of the rest
+ * of the game from that decision on. The outcome is only known when the game
+ * ends, so the records of a game are staged in primitive arrays between
+ * {@link #beginGame()} and {@link #endGame(boolean)} and then appended to the
+ * current chunk. A full chunk is written with one gathering write through a
+ * {@link FileChannel}, straight from direct buffers, and the buffers are
+ * reused. No objects are created per record.
+ * <p>
+ * The file is little-endian. It starts with a header and continues with
+ * chunks of up to {@code chunkRecords} records, each stored column by column
+ * so that every column of a chunk is one contiguous array:
+ * <pre>
+ * header, 16 bytes:
+ *   int   magic "TDAT"
+ *   int   version
+ *   short rows
+ *   short columns
+ *   byte  preview count
+ *   byte  board words per record
+ *   short reserved
+ * chunk:
+ *   int   record count n
+ *   int   reserved
+ *   long  board[n * board words]   occupancy, bit row * columns + column
+ *   int   placement[n]             see {@link #packPlacement}
+ *   int   futureLines[n]           lines cleared from this decision to the end
+ *   int   futurePieces[n]          pieces locked from this decision to the end
+ *   byte  piece[n]                 current piece ordinal
+ *   byte  hold[n]                  held ordinal + 1 (0 when empty), bit 3 when hold is available
+ *   byte  preview[n * preview count]
+ *   byte  toppedOut[n]             1 when the game ended by topping out
+ *   padding to a multiple of 8 bytes
+ * </pre>
+ * Every column is aligned to its element size, so {@link DatasetReader} and
+ * out-of-process readers can map the file and view columns as typed arrays.
+ * <p>
+ * A writer is used by one thread. Parallel exports give every thread its own
+ * writer and file.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Stages the decisions of a game and derives their outcomes</li>
+ *   <li>Buffers records column by column in direct buffers</li>
+ *   <li>Writes full chunks with gathering channel writes</li>
+ *   <li>Defines the file format read by {@link DatasetReader}</li>
+ * </ul>
+ */
+public final class DatasetWriter implements AutoCloseable {
+
+    /**
+     * Default number of records per chunk.
+     */
+    public static final int DEFAULT_CHUNK_RECORDS = 1 << 16;
+
+    static final int MAGIC = 0x54444154;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int CHUNK_HEADER_BYTES = 8;
+    static final int HOLD_AVAILABLE = 8;
+
+    private static final int X_OFFSET = 16;
+
+    private final FileChannel channel;
+    private final int columns;
+    private final int rows;
+    private final int previewCount;
+    private final int boardWords;
+    private final int chunkRecords;
+    private final ByteBuffer chunkHeader;
+    private final ByteBuffer[] chunkColumns;
+    private final ByteBuffer padding = ByteBuffer.allocateDirect(Long.BYTES);
+    private int chunkSize;
+    private long recordCount;
+
+    private long[] gameBoards = new long[0];
+    private int[] gamePlacements = new int[0];
+    private int[] gameLines = new int[0];
+    private byte[] gamePieces = new byte[0];
+    private byte[] gameHolds = new byte[0];
+    private byte[] gamePreviews = new byte[0];
+    private int gameSize = -1;
+
+    /**
+     * Creates a dataset file, replacing an existing one.
+     *
+     * @param file         the file to write
+     * @param rows         the number of board rows
+     * @param columns      the number of board columns
+     * @param previewCount the number of preview pieces per record
+     * @param chunkRecords the number of records buffered per chunk
+     * @throws IOException              if the file cannot be created
+     * @throws IllegalArgumentException if a size is out of range
+     */
+    public DatasetWriter(Path file, int rows, int columns, int previewCount, int chunkRecords) throws IOException {
+        int boardWords = boardWords(rows, columns);
+        if (rows <= 0 || columns <= 0 || columns > Bitboard.MAX_COLUMNS || boardWords > Byte.MAX_VALUE
+                || previewCount < 0 || previewCount > Byte.MAX_VALUE || chunkRecords <= 0
+                || (long) chunkRecords * recordBytes(boardWords, previewCount) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Unsupported dataset layout");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.previewCount = previewCount;
+        this.boardWords = boardWords;
+        this.chunkRecords = chunkRecords;
+        this.chunkHeader = ByteBuffer.allocateDirect(CHUNK_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        int[] widths = columnWidths(boardWords, previewCount);
+        this.chunkColumns = new ByteBuffer[widths.length + 1];
+        for (int i = 0; i < widths.length; i++) {
+            chunkColumns[i] = ByteBuffer.allocateDirect(widths[i] * chunkRecords).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        chunkColumns[widths.length] = padding;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putShort((short) rows).putShort((short) columns)
+                .put((byte) previewCount).put((byte) boardWords).putShort((short) 0).flip();
+        writeFully(new ByteBuffer[]{header});
+    }
+
+    /**
+     * Gets the number of longs a packed board takes.
+     *
+     * @param rows    the number of board rows
+     * @param columns the number of board columns
+     * @return the board words per record
+     */
+    static int boardWords(int rows, int columns) {
+        return (rows * columns + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /**
+     * Gets the bytes per record of every column, in file order.
+     *
+     * @param boardWords   the board words per record
+     * @param previewCount the preview pieces per record
+     * @return the column widths in bytes
+     */
+    static int[] columnWidths(int boardWords, int previewCount) {
+        return new int[]{boardWords * Long.BYTES, Integer.BYTES, Integer.BYTES, Integer.BYTES, 1, 1, previewCount, 1};
+    }
+
+    /**
+     * Gets the bytes per record of all columns together.
+     *
+     * @param boardWords   the board words per record
+     * @param previewCount the preview pieces per record
+     * @return the record size in bytes
+     */
+    static int recordBytes(int boardWords, int previewCount) {
+        return Arrays.stream(columnWidths(boardWords, previewCount)).sum();
+    }
+
+    /**
+     * Packs a placement into a record value: bit 0 is the hold flag, bits 1-2
+     * the rotation, bits 3-10 the column offset plus 16 and bits 11 and up
+     * the row offset.
+     *
+     * @param hold     whether the piece was held first
+     * @param rotation the final rotation
+     * @param x        the final column offset
+     * @param y        the final row offset
+     * @return the packed placement
+     */
+    public static int packPlacement(boolean hold, int rotation, int x, int y) {
+        return (hold ? 1 : 0) | rotation << 1 | (x + X_OFFSET) << 3 | y << 11;
+    }
+
+    /**
+     * Gets the hold flag of a packed placement.
+     *
+     * @param placement the packed placement
+     * @return true if the piece was held first
+     */
+    public static boolean isHold(int placement) {
+        return (placement & 1) != 0;
+    }
+
+    /**
+     * Gets the rotation of a packed placement.
+     *
+     * @param placement the packed placement
+     * @return the final rotation
+     */
+    public static int rotation(int placement) {
+        return placement >>> 1 & 3;
+    }
+
+    /**
+     * Gets the column offset of a packed placement.
+     *
+     * @param placement the packed placement
+     * @return the final column offset
+     */
+    public static int x(int placement) {
+        return (placement >>> 3 & 0xFF) - X_OFFSET;
+    }
+
+    /**
+     * Gets the row offset of a packed placement.
+     *
+     * @param placement the packed placement
+     * @return the final row offset
+     */
+    public static int y(int placement) {
+        return placement >> 11;
+    }
+
+    /**
+     * Starts staging the decisions of a new game.
+     *
+     * @throws IllegalStateException if the previous game was not ended
+     */
+    public void beginGame() {
+        if (gameSize >= 0) {
+            throw new IllegalStateException("The previous game was not ended");
+        }
+        gameSize = 0;
+    }
+
+    /**
+     * Stages one decision of the current game.
+     *
+     * @param board        the occupancy before the move
+     * @param pieceType    the current piece
+     * @param heldPiece    the held piece, or null
+     * @param canHold      whether hold was available
+     * @param preview      the upcoming pieces; missing entries are written as 0
+     * @param placement    the chosen placement, see {@link #packPlacement}
+     * @param linesCleared the lines the move cleared
+     * @throws IllegalStateException if no game was begun
+     */
+    public void add(Bitboard board, PieceType pieceType, PieceType heldPiece, boolean canHold,
+                    List<PieceType> preview, int placement, int linesCleared) {
+        if (gameSize < 0) {
+            throw new IllegalStateException("No game was begun");
+        }
+        if (gameSize == gamePlacements.length) {
+            int capacity = Math.max(256, gameSize * 2);
+            gameBoards = Arrays.copyOf(gameBoards, capacity * boardWords);
+            gamePlacements = Arrays.copyOf(gamePlacements, capacity);
+            gameLines = Arrays.copyOf(gameLines, capacity);
+            gamePieces = Arrays.copyOf(gamePieces, capacity);
+            gameHolds = Arrays.copyOf(gameHolds, capacity);
+            gamePreviews = Arrays.copyOf(gamePreviews, capacity * previewCount);
+        }
+        int base = gameSize * boardWords;
+        Arrays.fill(gameBoards, base, base + boardWords, 0);
+        for (int row = 0; row < rows; row++) {
+            long bits = board.getRowBits(row);
+            int bit = row * columns;
+            gameBoards[base + bit / Long.SIZE] |= bits << bit;
+            if (bit % Long.SIZE + columns > Long.SIZE) {
+                gameBoards[base + bit / Long.SIZE + 1] |= bits >>> (Long.SIZE - bit % Long.SIZE);
+            }
+        }
+        gamePlacements[gameSize] = placement;
+        gameLines[gameSize] = linesCleared;
+        gamePieces[gameSize] = (byte) pieceType.ordinal();
+        int held = heldPiece == null ? 0 : heldPiece.ordinal() + 1;
+        gameHolds[gameSize] = (byte) (held | (canHold ? HOLD_AVAILABLE : 0));
+        for (int i = 0; i < previewCount; i++) {
+            gamePreviews[gameSize * previewCount + i] = (byte) (i < preview.size() ? preview.get(i).ordinal() : 0);
+        }
+        gameSize++;
+    }
+
+    /**
+     * Ends the current game and appends its decisions with their outcomes,
+     * writing chunks as they fill up.
+     *
+     * @param toppedOut whether the game ended by topping out rather than by
+     *                  a piece limit
+     * @throws IOException           if a chunk cannot be written
+     * @throws IllegalStateException if no game was begun
+     */
+    public void endGame(boolean toppedOut) throws IOException {
+        if (gameSize < 0) {
+            throw new IllegalStateException("No game was begun");
+        }
+        int futureLines = 0;
+        for (int i = gameSize - 1; i >= 0; i--) {
+            futureLines += gameLines[i];
+            gameLines[i] = futureLines;
+        }
+        for (int i = 0; i < gameSize; i++) {
+            int slot = chunkSize;
+            for (int word = 0; word < boardWords; word++) {
+                chunkColumns[0].putLong((slot * boardWords + word) * Long.BYTES, gameBoards[i * boardWords + word]);
+            }
+            chunkColumns[1].putInt(slot * Integer.BYTES, gamePlacements[i]);
+            chunkColumns[2].putInt(slot * Integer.BYTES, gameLines[i]);
+            chunkColumns[3].putInt(slot * Integer.BYTES, gameSize - i);
+            chunkColumns[4].put(slot, gamePieces[i]);
+            chunkColumns[5].put(slot, gameHolds[i]);
+            chunkColumns[6].put(slot * previewCount, gamePreviews, i * previewCount, previewCount);
+            chunkColumns[7].put(slot, (byte) (toppedOut ? 1 : 0));
+            if (++chunkSize == chunkRecords) {
+                flushChunk();
+            }
+        }
+        gameSize = -1;
+    }
+
+    /**
+     * Writes the buffered records as one chunk.
+     *
+     * @throws IOException if the chunk cannot be written
+     */
+    private void flushChunk() throws IOException {
+        if (chunkSize == 0) {
+            return;
+        }
+        chunkHeader.clear();
+        chunkHeader.putInt(chunkSize).putInt(0).flip();
+        int[] widths = columnWidths(boardWords, previewCount);
+        long bytes = 0;
+        for (int i = 0; i < widths.length; i++) {
+            chunkColumns[i].limit(widths[i] * chunkSize).position(0);
+            bytes += (long) widths[i] * chunkSize;
+        }
+        padding.limit((int) (-bytes & (Long.BYTES - 1))).position(0);
+        channel.write(chunkHeader);
+        writeFully(chunkColumns);
+        for (ByteBuffer column : chunkColumns) {
+            column.clear();
+        }
+        recordCount += chunkSize;
+        chunkSize = 0;
+    }
+
+    /**
+     * Writes buffers until nothing remains, since a channel may write less
+     * than asked.
+     *
+     * @param buffers the buffers to write
+     * @throws IOException if writing fails
+     */
+    private void writeFully(ByteBuffer[] buffers) throws IOException {
+        long remaining = 0;
+        for (ByteBuffer buffer : buffers) {
+            remaining += buffer.remaining();
+        }
+        while (remaining > 0) {
+            remaining -= channel.write(buffers);
+        }
+    }
+
+    /**
+     * Gets the number of records written or buffered so far, not counting a
+     * game that has not ended.
+     *
+     * @return the record count
+     */
+    public long getRecordCount() {
+        return recordCount + chunkSize;
+    }
+
+    /**
+     * Writes the buffered records and closes the file. A game that has not
+     * ended is dropped.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flushChunk();
+        } finally {
+            channel.close();
+        }
+    }
+}
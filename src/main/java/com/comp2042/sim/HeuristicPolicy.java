@@ -0,0 +1,48 @@
+package com.comp2042.sim;
+
+import com.comp2042.ai.EvaluationWeights;
+import com.comp2042.ai.Placement;
+import com.comp2042.ai.PlacementSearch;
+import com.comp2042.engine.GameEngine;
+
+/**
+ * Plays every piece at the placement chosen by a {@link PlacementSearch}.
+ * <p>
+ * The search keeps its scratch boards between pieces, so a whole game is played
+ * without allocating per candidate placement.
+ */
+public final class HeuristicPolicy implements InputPolicy {
+
+    private final PlacementSearch search;
+
+    /**
+     * Constructs a heuristic policy with the default weights.
+     */
+    public HeuristicPolicy() {
+        this(EvaluationWeights.DEFAULT);
+    }
+
+    /**
+     * Constructs a heuristic policy with the given weights.
+     *
+     * @param weights the weights of the board evaluation
+     */
+    public HeuristicPolicy(EvaluationWeights weights) {
+        search = new PlacementSearch(weights);
+    }
+
+    /**
+     * Moves the piece to the best placement and hard drops it.
+     *
+     * @param engine the game to play
+     */
+    @Override
+    public void playPiece(GameEngine engine) {
+        Placement placement = search.findBest(engine.getBoard());
+        if (placement == null) {
+            engine.hardDrop();
+            return;
+        }
+        placement.applyTo(engine);
+    }
+}
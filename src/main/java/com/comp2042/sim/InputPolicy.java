@@ -0,0 +1,23 @@
+package com.comp2042.sim;
+
+import com.comp2042.engine.GameEngine;
+
+/**
+ * Decides the inputs for one piece of a simulated game.
+ * <p>
+ * A policy drives the current piece of a {@link GameEngine} through the same
+ * actions a player has (move, rotate, hold, soft and hard drop) and should end
+ * with an action that locks the piece. Policies may keep state between pieces
+ * but are never shared between games, so they need not be thread-safe.
+ *
+ * @see PolicyType
+ */
+public interface InputPolicy {
+
+    /**
+     * Issues the inputs for the current piece.
+     *
+     * @param engine the game to play, never over when this is called
+     */
+    void playPiece(GameEngine engine);
+}
@@ -0,0 +1,141 @@
+package com.comp2042.sim;
+
+/**
+ * Fixed-size log-linear histogram of non-negative values such as step latencies
+ * in nanoseconds.
+ * <p>
+ * Values below 16 are counted exactly; larger values fall into one of eight
+ * sub-buckets per power of two, so every reported percentile is within 12.5%
+ * of the recorded value. Recording is a few arithmetic operations on a
+ * preallocated array and never allocates. Histograms are not thread-safe; each
+ * worker records into its own instance and the instances are merged at the end.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Records values with bounded relative error</li>
+ *   <li>Merges histograms from several workers</li>
+ *   <li>Reports percentiles, mean and maximum</li>
+ * </ul>
+ */
+public final class LatencyHistogram {
+
+    private static final int EXACT = 16;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int FIRST_LOG_BIT = 4;
+    private static final int BUCKETS = EXACT + (Long.SIZE - 1 - FIRST_LOG_BIT) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private long max;
+
+    /**
+     * Records a value.
+     *
+     * @param value the value to record, negative values are counted as zero
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts[indexOf(v)]++;
+        count++;
+        sum += v;
+        max = Math.max(max, v);
+    }
+
+    /**
+     * Adds all values recorded by another histogram to this one.
+     *
+     * @param other the histogram to merge
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Gets an upper bound of the value below which a fraction of the recorded
+     * values fall.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the upper bound of the bucket containing the percentile, never
+     * more than the maximum recorded value, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, upperBoundOf(i));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return the value count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return the mean, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return the exact maximum, or 0 if nothing was recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Maps a value to its bucket.
+     *
+     * @param value the non-negative value
+     * @return the bucket index
+     */
+    private static int indexOf(long value) {
+        if (value < EXACT) {
+            return (int) value;
+        }
+        int msb = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (msb - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return EXACT + (msb - FIRST_LOG_BIT) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Gets the largest value that maps to a bucket.
+     *
+     * @param index the bucket index
+     * @return the inclusive upper bound of the bucket
+     */
+    private static long upperBoundOf(int index) {
+        if (index < EXACT) {
+            return index;
+        }
+        int msb = (index - EXACT) / SUB_BUCKETS + FIRST_LOG_BIT;
+        int sub = (index - EXACT) % SUB_BUCKETS;
+        long width = 1L << (msb - SUB_BUCKET_BITS);
+        long lower = (long) (SUB_BUCKETS + sub) << (msb - SUB_BUCKET_BITS);
+        return lower + width - 1;
+    }
+}
@@ -0,0 +1,64 @@
+package com.comp2042.sim;
+
+import com.comp2042.ai.BagSampler;
+import com.comp2042.ai.MonteCarloSearch;
+import com.comp2042.ai.Placement;
+import com.comp2042.constants.GameConstants;
+import com.comp2042.engine.GameEngine;
+
+/**
+ * Plays every piece with the most visited move of a {@link MonteCarloSearch}.
+ * <p>
+ * The search sees the same preview as a player and runs a fixed number of
+ * iterations per piece, so games stay reproducible for a seed. The batch
+ * simulator already runs one game per worker thread, so the policy searches
+ * on the calling thread.
+ */
+public final class MonteCarloPolicy implements InputPolicy {
+
+    /**
+     * Default number of search iterations per piece.
+     */
+    public static final int DEFAULT_ITERATIONS = 200;
+
+    private final MonteCarloSearch search;
+    private final int iterations;
+
+    /**
+     * Constructs a Monte Carlo policy with the default search settings.
+     *
+     * @param seed the seed of the rollout randomness
+     */
+    public MonteCarloPolicy(long seed) {
+        this(new MonteCarloSearch(seed), DEFAULT_ITERATIONS);
+    }
+
+    /**
+     * Constructs a Monte Carlo policy around a search.
+     *
+     * @param search     the search to play with
+     * @param iterations the number of search iterations per piece
+     */
+    public MonteCarloPolicy(MonteCarloSearch search, int iterations) {
+        this.search = search;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Plays the most visited move of the search.
+     *
+     * @param engine the game to play
+     */
+    @Override
+    public void playPiece(GameEngine engine) {
+        BagSampler sampler = BagSampler.of(engine.getBoard().getBrickGenerator(),
+                GameConstants.NEXT_PIECE_PREVIEW_COUNT);
+        Placement placement = search.findBest(engine.getBoard(), engine.getHeldPiece(), engine.canHold(),
+                sampler, 0, iterations);
+        if (placement == null) {
+            engine.hardDrop();
+            return;
+        }
+        placement.applyTo(engine);
+    }
+}
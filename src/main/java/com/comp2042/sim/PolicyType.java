@@ -0,0 +1,75 @@
+package com.comp2042.sim;
+
+/**
+ * Enum representing the input policies available to the batch simulator.
+ * <p>
+ * Every game gets a fresh policy instance from {@link #create(long)}, so
+ * policies never share mutable state across threads.
+ * <p>Available policies:
+ * <ul>
+ *   <li>RANDOM - {@link RandomPolicy}, random rotation and column</li>
+ *   <li>SCRIPTED - {@link ScriptedPolicy} with the default script</li>
+ *   <li>HEURISTIC - {@link HeuristicPolicy} with the default weights</li>
+ *   <li>BEAM - {@link BeamPolicy} with the default beam width and depth</li>
+ *   <li>MCTS - {@link MonteCarloPolicy} with the default iteration budget</li>
+ * </ul>
+ */
+public enum PolicyType {
+    /**
+     * Random rotation and column for every piece
+     */
+    RANDOM {
+        @Override
+        public InputPolicy create(long seed) {
+            return new RandomPolicy(seed);
+        }
+    },
+
+    /**
+     * Fixed input script, independent of the seed
+     */
+    SCRIPTED {
+        @Override
+        public InputPolicy create(long seed) {
+            return new ScriptedPolicy(ScriptedPolicy.DEFAULT_SCRIPT);
+        }
+    },
+
+    /**
+     * Best placement by the heuristic board evaluation, independent of the seed
+     */
+    HEURISTIC {
+        @Override
+        public InputPolicy create(long seed) {
+            return new HeuristicPolicy();
+        }
+    },
+
+    /**
+     * First move of a beam search over the preview and hold, independent of the seed
+     */
+    BEAM {
+        @Override
+        public InputPolicy create(long seed) {
+            return new BeamPolicy();
+        }
+    },
+
+    /**
+     * Most visited move of a Monte Carlo tree search with seeded rollouts
+     */
+    MCTS {
+        @Override
+        public InputPolicy create(long seed) {
+            return new MonteCarloPolicy(seed);
+        }
+    };
+
+    /**
+     * Creates a new policy instance for one game.
+     *
+     * @param seed the seed for policies that make random decisions
+     * @return a new policy
+     */
+    public abstract InputPolicy create(long seed);
+}
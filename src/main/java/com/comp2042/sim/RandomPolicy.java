@@ -0,0 +1,47 @@
+package com.comp2042.sim;
+
+import com.comp2042.engine.GameEngine;
+import com.comp2042.logic.bricks.SplitMix64;
+
+/**
+ * Plays every piece with a random rotation and a random horizontal shift, then
+ * hard drops it.
+ * <p>
+ * Random play tops out quickly, which makes it a cheap soak test of spawning,
+ * locking and game over handling.
+ */
+public final class RandomPolicy implements InputPolicy {
+
+    private static final int MAX_SHIFT = 5;
+
+    private final SplitMix64 random;
+
+    /**
+     * Constructs a random policy with its own generator.
+     *
+     * @param seed the seed of the policy's decisions
+     */
+    public RandomPolicy(long seed) {
+        random = new SplitMix64(seed);
+    }
+
+    /**
+     * Rotates and shifts the piece at random and hard drops it.
+     *
+     * @param engine the game to play
+     */
+    @Override
+    public void playPiece(GameEngine engine) {
+        for (int rotations = random.nextInt(4); rotations > 0; rotations--) {
+            engine.rotate();
+        }
+        int shift = random.nextInt(2 * MAX_SHIFT + 1) - MAX_SHIFT;
+        for (; shift < 0; shift++) {
+            engine.moveLeft();
+        }
+        for (; shift > 0; shift--) {
+            engine.moveRight();
+        }
+        engine.hardDrop();
+    }
+}
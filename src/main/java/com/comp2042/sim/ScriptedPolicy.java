@@ -0,0 +1,69 @@
+package com.comp2042.sim;
+
+import com.comp2042.engine.GameEngine;
+
+/**
+ * Replays a fixed input script, one entry per piece, cycling through the script
+ * when it runs out.
+ * <p>
+ * Every entry is a string of input characters: {@code L} moves left, {@code R}
+ * moves right, {@code W} rotates, {@code S} soft drops, {@code H} holds and
+ * {@code D} hard drops. A piece that is still falling after its entry has been
+ * played is hard dropped.
+ */
+public final class ScriptedPolicy implements InputPolicy {
+
+    /**
+     * Script used when none is given: spreads pieces across the whole width.
+     */
+    public static final String[] DEFAULT_SCRIPT = {
+            "LLLL", "WLL", "", "WRR", "RRRR", "L", "WR", "HRR", "W", "WWLLL"
+    };
+
+    private final String[] script;
+    private int next;
+
+    /**
+     * Constructs a policy that plays the given script.
+     *
+     * @param script the inputs of every piece, in order
+     * @throws IllegalArgumentException if the script is empty or contains an
+     *                                  unknown input
+     */
+    public ScriptedPolicy(String... script) {
+        if (script.length == 0) {
+            throw new IllegalArgumentException("Script must not be empty");
+        }
+        for (String entry : script) {
+            if (!entry.matches("[LRWSHD]*")) {
+                throw new IllegalArgumentException("Unknown input in script entry: " + entry);
+            }
+        }
+        this.script = script.clone();
+    }
+
+    /**
+     * Plays the next script entry and hard drops the piece if it has not locked.
+     *
+     * @param engine the game to play
+     */
+    @Override
+    public void playPiece(GameEngine engine) {
+        String inputs = script[next];
+        next = (next + 1) % script.length;
+        int locked = engine.getPiecesLocked();
+        for (int i = 0; i < inputs.length() && engine.getPiecesLocked() == locked; i++) {
+            switch (inputs.charAt(i)) {
+                case 'L' -> engine.moveLeft();
+                case 'R' -> engine.moveRight();
+                case 'W' -> engine.rotate();
+                case 'S' -> engine.softDrop();
+                case 'H' -> engine.hold();
+                default -> engine.hardDrop();
+            }
+        }
+        if (engine.getPiecesLocked() == locked) {
+            engine.hardDrop();
+        }
+    }
+}
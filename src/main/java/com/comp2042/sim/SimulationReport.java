@@ -0,0 +1,193 @@
+package com.comp2042.sim;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Aggregated results of a batch of simulated games.
+ * <p>
+ * Holds the per-game piece counts, lines and scores, the wall-clock duration
+ * of the batch and the latency histogram of every piece step, and derives
+ * throughput figures and distributions from them.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Reports games and pieces per second</li>
+ *   <li>Reports lines per game and score percentiles</li>
+ *   <li>Reports step latency percentiles</li>
+ *   <li>Formats a human-readable summary</li>
+ * </ul>
+ */
+public final class SimulationReport {
+
+    private final int threads;
+    private final long elapsedNanos;
+    private final long totalPieces;
+    private final long totalLines;
+    private final int[] sortedScores;
+    private final int[] sortedLines;
+    private final LatencyHistogram stepLatency;
+
+    /**
+     * Constructs a report from the raw per-game results.
+     *
+     * @param threads      the number of worker threads used
+     * @param elapsedNanos the wall-clock duration of the batch
+     * @param pieces       the pieces locked in every game
+     * @param lines        the lines cleared in every game
+     * @param scores       the final score of every game
+     * @param stepLatency  the latency of every piece step, in nanoseconds
+     */
+    public SimulationReport(int threads, long elapsedNanos, int[] pieces, int[] lines, int[] scores,
+                            LatencyHistogram stepLatency) {
+        this.threads = threads;
+        this.elapsedNanos = elapsedNanos;
+        this.totalPieces = Arrays.stream(pieces).asLongStream().sum();
+        this.totalLines = Arrays.stream(lines).asLongStream().sum();
+        this.sortedScores = scores.clone();
+        this.sortedLines = lines.clone();
+        Arrays.sort(sortedScores);
+        Arrays.sort(sortedLines);
+        this.stepLatency = stepLatency;
+    }
+
+    /**
+     * Gets the number of simulated games.
+     *
+     * @return the game count
+     */
+    public int getGames() {
+        return sortedScores.length;
+    }
+
+    /**
+     * Gets the total number of pieces locked across all games.
+     *
+     * @return the piece count
+     */
+    public long getTotalPieces() {
+        return totalPieces;
+    }
+
+    /**
+     * Gets the total number of lines cleared across all games.
+     *
+     * @return the line count
+     */
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    /**
+     * Gets the wall-clock duration of the batch.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the game throughput.
+     *
+     * @return completed games per second
+     */
+    public double getGamesPerSecond() {
+        return perSecond(getGames());
+    }
+
+    /**
+     * Gets the piece throughput.
+     *
+     * @return locked pieces per second
+     */
+    public double getPiecesPerSecond() {
+        return perSecond(totalPieces);
+    }
+
+    /**
+     * Gets the mean number of lines cleared per game.
+     *
+     * @return the mean lines per game
+     */
+    public double getMeanLinesPerGame() {
+        return sortedLines.length == 0 ? 0 : (double) totalLines / sortedLines.length;
+    }
+
+    /**
+     * Gets a percentile of the final scores.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the nearest-rank score, or 0 if no game was played
+     */
+    public int getScorePercentile(double percentile) {
+        return nearestRank(sortedScores, percentile);
+    }
+
+    /**
+     * Gets a percentile of the lines cleared per game.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the nearest-rank line count, or 0 if no game was played
+     */
+    public int getLinesPercentile(double percentile) {
+        return nearestRank(sortedLines, percentile);
+    }
+
+    /**
+     * Gets the latency histogram of the piece steps.
+     *
+     * @return the merged histogram, in nanoseconds
+     */
+    public LatencyHistogram getStepLatency() {
+        return stepLatency;
+    }
+
+    /**
+     * Formats the report as a multi-line summary.
+     *
+     * @return the summary text
+     */
+    public String format() {
+        return String.format(Locale.ROOT,
+                "games:          %d on %d threads in %.3f s%n"
+                        + "throughput:     %.1f games/s, %.0f pieces/s%n"
+                        + "pieces:         %d (%.1f per game)%n"
+                        + "lines per game: mean %.2f, p50 %d, p90 %d, max %d%n"
+                        + "score:          min %d, p50 %d, p90 %d, p99 %d, max %d%n"
+                        + "step latency:   mean %.0f ns, p50 %d ns, p90 %d ns, p99 %d ns, p99.9 %d ns, max %d ns%n",
+                getGames(), threads, elapsedNanos / 1e9,
+                getGamesPerSecond(), getPiecesPerSecond(),
+                totalPieces, getGames() == 0 ? 0.0 : (double) totalPieces / getGames(),
+                getMeanLinesPerGame(), getLinesPercentile(50), getLinesPercentile(90), getLinesPercentile(100),
+                getScorePercentile(0), getScorePercentile(50), getScorePercentile(90), getScorePercentile(99),
+                getScorePercentile(100),
+                stepLatency.getMean(), stepLatency.getValueAtPercentile(50), stepLatency.getValueAtPercentile(90),
+                stepLatency.getValueAtPercentile(99), stepLatency.getValueAtPercentile(99.9), stepLatency.getMax());
+    }
+
+    /**
+     * Converts a count into a rate over the batch duration.
+     *
+     * @param count the number of events
+     * @return events per second
+     */
+    private double perSecond(long count) {
+        return elapsedNanos == 0 ? 0 : count * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Picks a nearest-rank percentile from sorted values.
+     *
+     * @param sorted     the values in ascending order
+     * @param percentile the percentile, between 0 and 100
+     * @return the value at that rank, or 0 for no values
+     */
+    private static int nearestRank(int[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.clamp(rank - 1, 0, sorted.length - 1)];
+    }
+}
@@ -0,0 +1,63 @@
+package com.comp2042.sim;
+
+/**
+ * Represents the outcome of one {@link TetrisEnv#step(int)}.
+ * <p>
+ * This immutable class carries the observation of the state after the step,
+ * the reward earned by it and whether the episode has ended. The observation
+ * array belongs to the result and is not touched by later steps.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Stores the observation after the step</li>
+ *   <li>Stores the reward of the step</li>
+ *   <li>Reports whether the episode is over</li>
+ * </ul>
+ */
+public final class StepResult {
+
+    private final int[] observation;
+    private final float reward;
+    private final boolean done;
+
+    /**
+     * Constructs a StepResult.
+     *
+     * @param observation the observation after the step, laid out as described
+     *                    in {@link TetrisEnv}
+     * @param reward      the reward earned by the step
+     * @param done        true if the episode ended with this step
+     */
+    public StepResult(int[] observation, float reward, boolean done) {
+        this.observation = observation;
+        this.reward = reward;
+        this.done = done;
+    }
+
+    /**
+     * Gets the observation of the state after the step.
+     *
+     * @return the observation, {@link TetrisEnv#OBSERVATION_SIZE} values
+     */
+    public int[] getObservation() {
+        return observation;
+    }
+
+    /**
+     * Gets the reward earned by the step.
+     *
+     * @return the score gained by the placement
+     */
+    public float getReward() {
+        return reward;
+    }
+
+    /**
+     * Checks whether the episode ended with this step.
+     *
+     * @return true if the game is over or the piece limit was reached
+     */
+    public boolean isDone() {
+        return done;
+    }
+}
@@ -0,0 +1,317 @@
+package com.comp2042.sim;
+
+import com.comp2042.ai.PlacementList;
+import com.comp2042.ai.PlacementSearch;
+import com.comp2042.constants.GameConstants;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardType;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Exposes a headless game as a reinforcement-learning environment with a
+ * reset/step interface.
+ * <p>
+ * An action is a final placement rather than a key press: an optional hold,
+ * a rotation and the board column of the piece's leftmost cell, played as
+ * rotations, shifts and a hard drop from the spawn position. Action
+ * {@code a} encodes {@code hold * ROTATIONS * COLUMNS + rotation * COLUMNS +
+ * column}, see {@link #encodeAction}. The legal actions of a state are the
+ * hard-drop placements a {@link PlacementList} finds for the current piece,
+ * and for the piece hold would bring in while hold is available.
+ * <p>
+ * An observation is a flat array of {@link #OBSERVATION_SIZE} ints:
+ * <pre>
+ * [0, ROWS)                       occupancy of every row, bit c for column c
+ * ROWS                            current piece ordinal
+ * ROWS + 1                        held piece ordinal + 1, 0 when the slot is empty
+ * ROWS + 2                        1 when hold is available
+ * ROWS + 3 ... + PREVIEW_COUNT    preview piece ordinals in spawn order
+ * then ACTION_COUNT values        1 for every legal action, the action mask
+ * </pre>
+ * The reward of a step is the score the placement earned, line clears and
+ * drop bonus included. An episode ends when the game is over, when the piece
+ * limit is reached or when no action is legal.
+ * <p>
+ * The environment keeps the current observation in a buffer it owns, so
+ * {@link VectorEnv} can step many environments without allocating per step.
+ * An instance is not thread-safe.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Starts seeded episodes</li>
+ *   <li>Plays placement actions and reports score rewards</li>
+ *   <li>Builds action masks from the legal placement set</li>
+ *   <li>Writes observations into caller-provided primitive buffers</li>
+ * </ul>
+ */
+public final class TetrisEnv {
+
+    /**
+     * Number of board rows.
+     */
+    public static final int ROWS = BatchSimulator.ROWS;
+
+    /**
+     * Number of board columns.
+     */
+    public static final int COLUMNS = BatchSimulator.COLUMNS;
+
+    /**
+     * Largest rotation count of any piece.
+     */
+    public static final int ROTATIONS = 4;
+
+    /**
+     * Number of preview pieces in an observation, as in the game.
+     */
+    public static final int PREVIEW_COUNT = GameConstants.NEXT_PIECE_PREVIEW_COUNT;
+
+    /**
+     * Number of actions: hold or not, times every rotation and column.
+     */
+    public static final int ACTION_COUNT = 2 * ROTATIONS * COLUMNS;
+
+    /**
+     * Index of the current piece in an observation.
+     */
+    public static final int PIECE_INDEX = ROWS;
+
+    /**
+     * Index of the first action mask value in an observation.
+     */
+    public static final int MASK_INDEX = ROWS + 3 + PREVIEW_COUNT;
+
+    /**
+     * Number of ints in an observation.
+     */
+    public static final int OBSERVATION_SIZE = MASK_INDEX + ACTION_COUNT;
+
+    private final BoardType boardType;
+    private final int maxPieces;
+    private final Bitboard occupancy = new Bitboard(ROWS, COLUMNS);
+    private final PlacementList placements = new PlacementList();
+    private final int[] observation = new int[OBSERVATION_SIZE];
+    private GameEngine engine;
+    private boolean done;
+
+    /**
+     * Constructs an environment. Call {@link #reset(long)} before stepping.
+     *
+     * @param boardType the board engine the episodes run on
+     * @param maxPieces the number of pieces after which an episode ends even
+     *                  if the game is not over
+     * @throws IllegalArgumentException if the piece limit is not positive
+     */
+    public TetrisEnv(BoardType boardType, int maxPieces) {
+        if (maxPieces <= 0) {
+            throw new IllegalArgumentException("Piece limit must be positive: " + maxPieces);
+        }
+        this.boardType = boardType;
+        this.maxPieces = maxPieces;
+    }
+
+    /**
+     * Encodes a placement as an action.
+     *
+     * @param hold     whether the piece is held first and the incoming piece placed
+     * @param rotation the final rotation index
+     * @param column   the board column of the placed piece's leftmost cell
+     * @return the action index
+     * @throws IllegalArgumentException if the rotation or column is out of range
+     */
+    public static int encodeAction(boolean hold, int rotation, int column) {
+        if (rotation < 0 || rotation >= ROTATIONS || column < 0 || column >= COLUMNS) {
+            throw new IllegalArgumentException("Invalid placement: rotation " + rotation + ", column " + column);
+        }
+        return (hold ? ROTATIONS * COLUMNS : 0) + rotation * COLUMNS + column;
+    }
+
+    /**
+     * Starts a new episode.
+     *
+     * @param seed the seed of the piece sequence
+     * @return a copy of the first observation
+     */
+    public int[] reset(long seed) {
+        restart(seed);
+        return observation.clone();
+    }
+
+    /**
+     * Plays an action.
+     *
+     * @param action the action index, legal in the current state
+     * @return the observation after the step with its reward and done flag
+     * @throws IllegalStateException    if no episode is running
+     * @throws IllegalArgumentException if the action is not legal
+     */
+    public StepResult step(int action) {
+        float reward = advance(action);
+        return new StepResult(observation.clone(), reward, done);
+    }
+
+    /**
+     * Starts a new episode without copying the observation.
+     *
+     * @param seed the seed of the piece sequence
+     */
+    void restart(long seed) {
+        engine = new GameEngine(boardType.create(ROWS, COLUMNS, seed));
+        engine.newGame();
+        done = engine.isGameOver();
+        refresh();
+    }
+
+    /**
+     * Plays an action without copying the observation.
+     *
+     * @param action the action index, legal in the current state
+     * @return the reward of the step
+     * @throws IllegalStateException    if no episode is running
+     * @throws IllegalArgumentException if the action is not legal
+     */
+    float advance(int action) {
+        if (engine == null || done) {
+            throw new IllegalStateException("No episode is running; call reset first");
+        }
+        if (action < 0 || action >= ACTION_COUNT || observation[MASK_INDEX + action] == 0) {
+            throw new IllegalArgumentException("Illegal action: " + action);
+        }
+        int scoreBefore = engine.getScore().getScore();
+        if (action >= ROTATIONS * COLUMNS && !engine.hold()) {
+            throw new IllegalStateException("Hold failed for legal action " + action);
+        }
+        Board board = engine.getBoard();
+        PieceType pieceType = board.getCurrentBrick().getType();
+        int rotation = action % (ROTATIONS * COLUMNS) / COLUMNS;
+        int x = action % COLUMNS - pieceType.getMinColumn(rotation);
+        int rotationCount = pieceType.getRotationCount();
+        for (int turns = (rotation - board.getBrickRotation() + rotationCount) % rotationCount; turns > 0; turns--) {
+            engine.rotate();
+        }
+        int shift = x - board.getBrickX();
+        for (int i = shift; i < 0; i++) {
+            engine.moveLeft();
+        }
+        for (int i = shift; i > 0; i--) {
+            engine.moveRight();
+        }
+        if (board.getBrickRotation() != rotation || board.getBrickX() != x) {
+            throw new IllegalStateException("Legal action " + action + " could not be reached");
+        }
+        engine.hardDrop();
+        done = engine.isGameOver() || engine.getPiecesLocked() >= maxPieces;
+        refresh();
+        return engine.getScore().getScore() - scoreBefore;
+    }
+
+    /**
+     * Rewrites the observation buffer, action mask included, for the current
+     * state, and ends the episode if no action is legal.
+     */
+    private void refresh() {
+        Board board = engine.getBoard();
+        PlacementSearch.loadOccupancy(board, occupancy);
+        for (int row = 0; row < ROWS; row++) {
+            observation[row] = (int) occupancy.getRowBits(row);
+        }
+        PieceType heldPiece = engine.getHeldPiece();
+        observation[PIECE_INDEX] = board.getCurrentBrick().getType().ordinal();
+        observation[PIECE_INDEX + 1] = heldPiece == null ? 0 : heldPiece.ordinal() + 1;
+        observation[PIECE_INDEX + 2] = engine.canHold() ? 1 : 0;
+        List<PieceType> preview = engine.getNextPieces(PREVIEW_COUNT);
+        for (int i = 0; i < PREVIEW_COUNT; i++) {
+            observation[PIECE_INDEX + 3 + i] = i < preview.size() ? preview.get(i).ordinal() : 0;
+        }
+
+        Arrays.fill(observation, MASK_INDEX, OBSERVATION_SIZE, 0);
+        if (done) {
+            return;
+        }
+        int legal = markPlacements(board.getCurrentBrick().getType(), board.getBrickRotation(), board.getBrickX(),
+                board.getBrickY(), 0);
+        if (engine.canHold() && !preview.isEmpty()) {
+            PieceType incoming = heldPiece != null ? heldPiece : preview.get(0);
+            legal += markPlacements(incoming, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y, ROTATIONS * COLUMNS);
+        }
+        done = legal == 0;
+    }
+
+    /**
+     * Marks the hard-drop placements of a piece in the action mask.
+     *
+     * @param pieceType the piece to place
+     * @param rotation  the rotation the piece starts in
+     * @param x         the column offset the piece starts at
+     * @param y         the row offset the piece starts at
+     * @param base      the first action of the hold or no-hold half
+     * @return the number of placements marked
+     */
+    private int markPlacements(PieceType pieceType, int rotation, int x, int y, int base) {
+        int count = placements.generate(occupancy, pieceType, rotation, x, y);
+        for (int i = 0; i < count; i++) {
+            int placedRotation = placements.getRotation(i);
+            int column = placements.getX(i) + pieceType.getMinColumn(placedRotation);
+            observation[MASK_INDEX + base + placedRotation * COLUMNS + column] = 1;
+        }
+        return count;
+    }
+
+    /**
+     * Copies the current observation into an array.
+     *
+     * @param out    the array receiving the observation
+     * @param offset the index of the first value written
+     */
+    public void writeObservation(int[] out, int offset) {
+        System.arraycopy(observation, 0, out, offset, OBSERVATION_SIZE);
+    }
+
+    /**
+     * Copies the current observation into a buffer, which may be a view of a
+     * direct or memory-mapped byte buffer. The buffer's position is unchanged.
+     *
+     * @param out   the buffer receiving the observation
+     * @param index the index of the first value written
+     */
+    public void writeObservation(IntBuffer out, int index) {
+        out.put(index, observation, 0, OBSERVATION_SIZE);
+    }
+
+    /**
+     * Gets the legal actions of the current state.
+     *
+     * @return a new array with one flag per action
+     */
+    public boolean[] getActionMask() {
+        boolean[] mask = new boolean[ACTION_COUNT];
+        for (int action = 0; action < ACTION_COUNT; action++) {
+            mask[action] = observation[MASK_INDEX + action] != 0;
+        }
+        return mask;
+    }
+
+    /**
+     * Checks whether the current episode is over.
+     *
+     * @return true if the episode has ended or none was started
+     */
+    public boolean isDone() {
+        return engine == null || done;
+    }
+
+    /**
+     * Gets the game of the current episode, for inspection.
+     *
+     * @return the live engine, or null before the first reset
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+}
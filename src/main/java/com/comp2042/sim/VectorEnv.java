@@ -0,0 +1,165 @@
+package com.comp2042.sim;
+
+import com.comp2042.logic.bricks.SplitMix64;
+import com.comp2042.model.BoardType;
+
+import java.nio.IntBuffer;
+
+/**
+ * Steps a fixed number of independent {@link TetrisEnv} environments in one
+ * call, for training agents out of process.
+ * <p>
+ * Observations are written into a caller-provided {@code int[]} or
+ * {@link IntBuffer}, environment {@code i} at index
+ * {@code i * TetrisEnv.OBSERVATION_SIZE}, and rewards and done flags into
+ * caller-provided arrays. An {@link IntBuffer} view of a direct or
+ * memory-mapped byte buffer lets another process read the observations
+ * without copying. A step allocates only inside the game engines; nothing is
+ * allocated per observation.
+ * <p>
+ * An environment whose episode ends is reset right away with the next seed of
+ * the batch, and the observation written for it is the first of the new
+ * episode while its done flag reports the end of the old one. Episode seeds
+ * are drawn in order from a {@link SplitMix64} seeded by {@link #reset}, so a
+ * run is reproducible. An instance is not thread-safe.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Resets and steps N environments per call</li>
+ *   <li>Writes observations into primitive buffers</li>
+ *   <li>Restarts finished episodes automatically</li>
+ * </ul>
+ */
+public final class VectorEnv {
+
+    private final TetrisEnv[] envs;
+    private final SplitMix64 seeds = new SplitMix64(0);
+
+    /**
+     * Constructs a batch of environments. Call {@link #reset} before stepping.
+     *
+     * @param count     the number of environments
+     * @param boardType the board engine the episodes run on
+     * @param maxPieces the number of pieces after which an episode ends even
+     *                  if the game is not over
+     * @throws IllegalArgumentException if the count or piece limit is not positive
+     */
+    public VectorEnv(int count, BoardType boardType, int maxPieces) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Environment count must be positive: " + count);
+        }
+        envs = new TetrisEnv[count];
+        for (int i = 0; i < count; i++) {
+            envs[i] = new TetrisEnv(boardType, maxPieces);
+        }
+    }
+
+    /**
+     * Starts a new episode in every environment.
+     *
+     * @param seed         the seed of the batch's episode seeds
+     * @param observations receives {@code size() * OBSERVATION_SIZE} values
+     */
+    public void reset(long seed, int[] observations) {
+        restartAll(seed);
+        for (int i = 0; i < envs.length; i++) {
+            envs[i].writeObservation(observations, i * TetrisEnv.OBSERVATION_SIZE);
+        }
+    }
+
+    /**
+     * Starts a new episode in every environment.
+     *
+     * @param seed         the seed of the batch's episode seeds
+     * @param observations receives {@code size() * OBSERVATION_SIZE} values
+     *                     from index 0; its position is unchanged
+     */
+    public void reset(long seed, IntBuffer observations) {
+        restartAll(seed);
+        for (int i = 0; i < envs.length; i++) {
+            envs[i].writeObservation(observations, i * TetrisEnv.OBSERVATION_SIZE);
+        }
+    }
+
+    /**
+     * Plays one action in every environment.
+     *
+     * @param actions      one legal action per environment
+     * @param observations receives {@code size() * OBSERVATION_SIZE} values
+     * @param rewards      receives one reward per environment
+     * @param dones        receives one done flag per environment
+     * @throws IllegalArgumentException if an action is not legal
+     */
+    public void step(int[] actions, int[] observations, float[] rewards, boolean[] dones) {
+        stepAll(actions, rewards, dones);
+        for (int i = 0; i < envs.length; i++) {
+            envs[i].writeObservation(observations, i * TetrisEnv.OBSERVATION_SIZE);
+        }
+    }
+
+    /**
+     * Plays one action in every environment.
+     *
+     * @param actions      one legal action per environment
+     * @param observations receives {@code size() * OBSERVATION_SIZE} values
+     *                     from index 0; its position is unchanged
+     * @param rewards      receives one reward per environment
+     * @param dones        receives one done flag per environment
+     * @throws IllegalArgumentException if an action is not legal
+     */
+    public void step(int[] actions, IntBuffer observations, float[] rewards, boolean[] dones) {
+        stepAll(actions, rewards, dones);
+        for (int i = 0; i < envs.length; i++) {
+            envs[i].writeObservation(observations, i * TetrisEnv.OBSERVATION_SIZE);
+        }
+    }
+
+    /**
+     * Reseeds the episode seeds and restarts every environment.
+     *
+     * @param seed the seed of the batch's episode seeds
+     */
+    private void restartAll(long seed) {
+        seeds.setState(seed);
+        for (TetrisEnv env : envs) {
+            env.restart(seeds.nextLong());
+        }
+    }
+
+    /**
+     * Advances every environment and restarts the ones whose episode ended.
+     *
+     * @param actions one legal action per environment
+     * @param rewards receives one reward per environment
+     * @param dones   receives one done flag per environment
+     */
+    private void stepAll(int[] actions, float[] rewards, boolean[] dones) {
+        for (int i = 0; i < envs.length; i++) {
+            TetrisEnv env = envs[i];
+            rewards[i] = env.advance(actions[i]);
+            dones[i] = env.isDone();
+            if (dones[i]) {
+                env.restart(seeds.nextLong());
+            }
+        }
+    }
+
+    /**
+     * Gets the number of environments.
+     *
+     * @return the environment count
+     */
+    public int size() {
+        return envs.length;
+    }
+
+    /**
+     * Gets one environment, for inspection.
+     *
+     * @param index the environment index
+     * @return the environment
+     */
+    public TetrisEnv getEnv(int index) {
+        return envs[index];
+    }
+}
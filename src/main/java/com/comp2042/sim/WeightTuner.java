@@ -0,0 +1,557 @@
+package com.comp2042.sim;
+
+import com.comp2042.ai.BoardFeature;
+import com.comp2042.ai.EvaluationWeights;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.logic.bricks.SplitMix64;
+import com.comp2042.model.BoardType;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Evolves the {@link EvaluationWeights} of the heuristic bot with a genetic
+ * algorithm over massively parallel headless games.
+ * <p>
+ * Every generation, each candidate weight vector plays the same set of seeded
+ * games with a {@link HeuristicPolicy}. Playing the same pieces takes the luck
+ * of the draw out of the comparison. A candidate's fitness is its mean number
+ * of lines cleared, and games are capped at a piece limit so that good
+ * candidates do not play forever. The best quarter of the population survives
+ * unchanged. The rest is replaced by children of tournament-selected parents:
+ * a fitness-weighted average of the two vectors, with a few components
+ * mutated. Only the direction of a weight vector changes which placement
+ * wins, so every vector is normalised to unit length.
+ * <p>
+ * The (candidate, game) pairs of a generation are split over a work-stealing
+ * {@link ForkJoinPool}. Every game is seeded from the tuner seed, the
+ * generation and the game index, and every random choice of the algorithm
+ * comes from one seeded generator. A run therefore gives the same result on
+ * any number of threads. The whole state can be checkpointed to a text file
+ * and resumed from it.
+ * <p>
+ * The class doubles as a command-line tool:
+ * <pre>
+ * java -cp target/classes com.comp2042.sim.WeightTuner --generations 50 --checkpoint tuner.txt
+ * </pre>
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Plays population × games seeded games per generation on all cores</li>
+ *   <li>Keeps elites and breeds the rest by selection, crossover and mutation</li>
+ *   <li>Tracks the best weights found and the game throughput</li>
+ *   <li>Saves and restores the population through checkpoint files</li>
+ * </ul>
+ */
+public final class WeightTuner {
+
+    private static final double ELITE_FRACTION = 0.25;
+    private static final double MUTATION_RATE = 0.2;
+    private static final double MUTATION_STEP = 0.2;
+    private static final int GAMES_PER_LEAF = 2;
+    private static final String CHECKPOINT_HEADER = "weight-tuner 1";
+
+    private final BoardType boardType;
+    private final int gamesPerCandidate;
+    private final int maxPiecesPerGame;
+    private final long seed;
+    private final SplitMix64 random;
+    private double[][] population;
+    private final double[] fitness;
+    private int generation;
+    private double[] bestWeights;
+    private double bestFitness = Double.NEGATIVE_INFINITY;
+    private long lastElapsedNanos;
+    private int lastThreads;
+
+    /**
+     * Constructs a tuner with a fresh population.
+     * <p>
+     * The first candidate is {@link EvaluationWeights#DEFAULT}; the others are
+     * random directions.
+     *
+     * @param boardType         the board engine every game runs on
+     * @param populationSize    the number of candidate weight vectors
+     * @param gamesPerCandidate the number of games each candidate plays per
+     *                          generation
+     * @param maxPiecesPerGame  the number of pieces after which a game is
+     *                          stopped even if it has not topped out
+     * @param seed              the seed of the population and of every game
+     * @throws IllegalArgumentException if the population has fewer than two
+     *                                  candidates or a count is not positive
+     */
+    public WeightTuner(BoardType boardType, int populationSize, int gamesPerCandidate, int maxPiecesPerGame,
+                       long seed) {
+        this(boardType, gamesPerCandidate, maxPiecesPerGame, seed, seed, 0, new double[Math.max(populationSize, 0)][]);
+        population[0] = normalize(EvaluationWeights.DEFAULT.toArray());
+        for (int i = 1; i < populationSize; i++) {
+            double[] weights = new double[BoardFeature.COUNT];
+            for (int feature = 0; feature < weights.length; feature++) {
+                weights[feature] = random.nextDouble() * 2 - 1;
+            }
+            population[i] = normalize(weights);
+        }
+    }
+
+    /**
+     * Constructs a tuner around an existing population.
+     *
+     * @param boardType         the board engine every game runs on
+     * @param gamesPerCandidate the number of games each candidate plays per
+     *                          generation
+     * @param maxPiecesPerGame  the number of pieces after which a game is stopped
+     * @param seed              the seed of every game
+     * @param randomState       the state of the generator driving the algorithm
+     * @param generation        the number of generations already played
+     * @param population        the candidate weight vectors, taken over
+     * @throws IllegalArgumentException if the population has fewer than two
+     *                                  candidates or a count is not positive
+     */
+    private WeightTuner(BoardType boardType, int gamesPerCandidate, int maxPiecesPerGame, long seed,
+                        long randomState, int generation, double[][] population) {
+        if (population.length < 2) {
+            throw new IllegalArgumentException("Population needs at least two candidates: " + population.length);
+        }
+        if (gamesPerCandidate <= 0 || maxPiecesPerGame <= 0) {
+            throw new IllegalArgumentException("Games and piece cap must be positive: "
+                    + gamesPerCandidate + ", " + maxPiecesPerGame);
+        }
+        this.boardType = boardType;
+        this.gamesPerCandidate = gamesPerCandidate;
+        this.maxPiecesPerGame = maxPiecesPerGame;
+        this.seed = seed;
+        this.random = new SplitMix64(randomState);
+        this.generation = generation;
+        this.population = population;
+        this.fitness = new double[population.length];
+    }
+
+    /**
+     * Plays one generation and breeds the next population.
+     *
+     * @param pool the pool the games are played on
+     * @return the best fitness of the generation, in mean lines per game
+     */
+    public double runGeneration(ForkJoinPool pool) {
+        int games = population.length * gamesPerCandidate;
+        int[] lines = new int[games];
+        long start = System.nanoTime();
+        pool.invoke(new GameRange(0, games, generationSeed(), lines));
+        lastElapsedNanos = System.nanoTime() - start;
+        lastThreads = pool.getParallelism();
+
+        Arrays.fill(fitness, 0);
+        for (int i = 0; i < games; i++) {
+            fitness[i / gamesPerCandidate] += lines[i];
+        }
+        Integer[] ranking = new Integer[population.length];
+        for (int i = 0; i < ranking.length; i++) {
+            fitness[i] /= gamesPerCandidate;
+            ranking[i] = i;
+        }
+        Arrays.sort(ranking, (a, b) -> Double.compare(fitness[b], fitness[a]));
+        double generationBest = fitness[ranking[0]];
+        if (generationBest > bestFitness) {
+            bestFitness = generationBest;
+            bestWeights = population[ranking[0]].clone();
+        }
+
+        double[][] next = new double[population.length][];
+        int elites = Math.max(1, (int) (population.length * ELITE_FRACTION));
+        for (int i = 0; i < elites; i++) {
+            next[i] = population[ranking[i]];
+        }
+        for (int i = elites; i < next.length; i++) {
+            next[i] = breed(select(), select());
+        }
+        population = next;
+        generation++;
+        return generationBest;
+    }
+
+    /**
+     * Picks a parent by a tournament among a random tenth of the population.
+     *
+     * @return the index of the fittest candidate of the tournament
+     */
+    private int select() {
+        int rounds = Math.max(2, population.length / 10);
+        int winner = random.nextInt(population.length);
+        for (int i = 1; i < rounds; i++) {
+            int challenger = random.nextInt(population.length);
+            if (fitness[challenger] > fitness[winner]) {
+                winner = challenger;
+            }
+        }
+        return winner;
+    }
+
+    /**
+     * Creates a child from two parents.
+     * <p>
+     * The child is the average of the parents weighted by their fitness. Each
+     * component is then mutated with a small probability, and the result is
+     * normalised.
+     *
+     * @param first  the index of the first parent
+     * @param second the index of the second parent
+     * @return the child's weight vector
+     */
+    private double[] breed(int first, int second) {
+        double firstShare = fitness[first];
+        double secondShare = fitness[second];
+        if (firstShare + secondShare <= 0) {
+            firstShare = 1;
+            secondShare = 1;
+        }
+        double[] child = new double[BoardFeature.COUNT];
+        for (int feature = 0; feature < child.length; feature++) {
+            child[feature] = firstShare * population[first][feature] + secondShare * population[second][feature];
+            if (random.nextDouble() < MUTATION_RATE) {
+                child[feature] += (random.nextDouble() * 2 - 1) * MUTATION_STEP * (firstShare + secondShare);
+            }
+        }
+        return normalize(child);
+    }
+
+    /**
+     * Scales a weight vector to unit length.
+     *
+     * @param weights the vector, modified in place
+     * @return the normalised vector, or the unchanged vector if it is all zero
+     */
+    private static double[] normalize(double[] weights) {
+        double length = 0;
+        for (double weight : weights) {
+            length += weight * weight;
+        }
+        length = Math.sqrt(length);
+        if (length > 0) {
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] /= length;
+            }
+        }
+        return weights;
+    }
+
+    /**
+     * Derives the base seed of the games of the current generation.
+     *
+     * @return the seed shared by all candidates of this generation
+     */
+    private long generationSeed() {
+        return new SplitMix64(seed + generation).nextLong();
+    }
+
+    /**
+     * Plays one game and records the lines it cleared.
+     *
+     * @param policy   the policy of the candidate playing the game
+     * @param gameSeed the seed of the game
+     * @return the lines cleared before the game topped out or hit the cap
+     */
+    private int playGame(HeuristicPolicy policy, long gameSeed) {
+        GameEngine engine = new GameEngine(boardType.create(BatchSimulator.ROWS, BatchSimulator.COLUMNS, gameSeed));
+        engine.newGame();
+        while (!engine.isGameOver() && engine.getPiecesLocked() < maxPiecesPerGame) {
+            int locked = engine.getPiecesLocked();
+            policy.playPiece(engine);
+            if (engine.getPiecesLocked() == locked) {
+                engine.hardDrop();
+            }
+        }
+        return engine.getLinesCleared();
+    }
+
+    /**
+     * Writes the population and the algorithm state to a checkpoint file.
+     * <p>
+     * The file is written next to the target and then moved over it, so an
+     * interrupted run never leaves a half-written checkpoint behind.
+     *
+     * @param file the checkpoint file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path temporary = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            writer.write(CHECKPOINT_HEADER);
+            writer.newLine();
+            writer.write("generation " + generation);
+            writer.newLine();
+            writer.write("seed " + seed);
+            writer.newLine();
+            writer.write("random " + random.getState());
+            writer.newLine();
+            if (bestWeights != null) {
+                writer.write("best " + bestFitness + " " + join(bestWeights));
+                writer.newLine();
+            }
+            for (double[] candidate : population) {
+                writer.write("candidate " + join(candidate));
+                writer.newLine();
+            }
+        }
+        Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Restores a tuner from a checkpoint file.
+     *
+     * @param file              the checkpoint file
+     * @param boardType         the board engine every game runs on
+     * @param gamesPerCandidate the number of games each candidate plays per
+     *                          generation
+     * @param maxPiecesPerGame  the number of pieces after which a game is stopped
+     * @return the tuner, ready to play the next generation
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid checkpoint
+     */
+    public static WeightTuner load(Path file, BoardType boardType, int gamesPerCandidate, int maxPiecesPerGame)
+            throws IOException {
+        int generation = -1;
+        Long seed = null;
+        Long randomState = null;
+        double[] best = null;
+        double bestFitness = Double.NEGATIVE_INFINITY;
+        double[][] candidates = new double[0][];
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (!CHECKPOINT_HEADER.equals(reader.readLine())) {
+                throw new IllegalArgumentException("Not a weight tuner checkpoint: " + file);
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.trim().split("\\s+");
+                switch (fields[0]) {
+                    case "generation" -> generation = Integer.parseInt(fields[1]);
+                    case "seed" -> seed = Long.parseLong(fields[1]);
+                    case "random" -> randomState = Long.parseLong(fields[1]);
+                    case "best" -> {
+                        bestFitness = Double.parseDouble(fields[1]);
+                        best = parseWeights(fields, 2);
+                    }
+                    case "candidate" -> {
+                        candidates = Arrays.copyOf(candidates, candidates.length + 1);
+                        candidates[candidates.length - 1] = parseWeights(fields, 1);
+                    }
+                    default -> throw new IllegalArgumentException("Unknown checkpoint entry: " + line);
+                }
+            }
+        }
+        if (generation < 0 || seed == null || randomState == null) {
+            throw new IllegalArgumentException("Incomplete checkpoint: " + file);
+        }
+        WeightTuner tuner = new WeightTuner(boardType, gamesPerCandidate, maxPiecesPerGame, seed, randomState,
+                generation, candidates);
+        tuner.bestWeights = best;
+        tuner.bestFitness = bestFitness;
+        return tuner;
+    }
+
+    /**
+     * Parses the weights at the end of a checkpoint entry.
+     *
+     * @param fields the whitespace-separated fields of the entry
+     * @param from   the index of the first weight
+     * @return one weight per {@link BoardFeature}
+     * @throws IllegalArgumentException if the entry has the wrong number of weights
+     */
+    private static double[] parseWeights(String[] fields, int from) {
+        if (fields.length - from != BoardFeature.COUNT) {
+            throw new IllegalArgumentException("Expected " + BoardFeature.COUNT + " weights in: "
+                    + String.join(" ", fields));
+        }
+        double[] weights = new double[BoardFeature.COUNT];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = Double.parseDouble(fields[from + i]);
+        }
+        return weights;
+    }
+
+    /**
+     * Formats weights for a checkpoint entry.
+     *
+     * @param weights the weights
+     * @return the weights separated by spaces, in a form that parses back exactly
+     */
+    private static String join(double[] weights) {
+        StringBuilder builder = new StringBuilder();
+        for (double weight : weights) {
+            if (!builder.isEmpty()) {
+                builder.append(' ');
+            }
+            builder.append(weight);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Gets the number of generations played so far.
+     *
+     * @return the generation count
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Gets the candidates of the population that plays next.
+     *
+     * @return the candidate weight vectors
+     */
+    public EvaluationWeights[] getPopulation() {
+        EvaluationWeights[] candidates = new EvaluationWeights[population.length];
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = new EvaluationWeights(population[i]);
+        }
+        return candidates;
+    }
+
+    /**
+     * Gets the best weights found so far.
+     *
+     * @return the weights with the highest generation fitness, or
+     * {@link EvaluationWeights#DEFAULT} before the first generation
+     */
+    public EvaluationWeights getBestWeights() {
+        return bestWeights == null ? EvaluationWeights.DEFAULT : new EvaluationWeights(bestWeights);
+    }
+
+    /**
+     * Gets the fitness of the best weights found so far.
+     *
+     * @return the mean lines per game, or negative infinity before the first
+     * generation
+     */
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * Gets the game throughput of the last generation per worker thread.
+     *
+     * @return games per second per thread, 0 before the first generation
+     */
+    public double getLastGamesPerSecondPerThread() {
+        if (lastElapsedNanos == 0) {
+            return 0;
+        }
+        return population.length * (double) gamesPerCandidate * 1e9 / lastElapsedNanos / lastThreads;
+    }
+
+    /**
+     * Fork-join task that plays a range of (candidate, game) pairs.
+     * <p>
+     * Pair {@code i} is game {@code i % gamesPerCandidate} of candidate
+     * {@code i / gamesPerCandidate}.
+     */
+    private final class GameRange extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final long gameSeed;
+        private final int[] lines;
+
+        /**
+         * Constructs a task for the pairs in {@code [from, to)}.
+         *
+         * @param from     the first pair index
+         * @param to       the end of the range, exclusive
+         * @param gameSeed the base seed of the generation's games
+         * @param lines    receives the lines cleared per pair
+         */
+        GameRange(int from, int to, long gameSeed, int[] lines) {
+            this.from = from;
+            this.to = to;
+            this.gameSeed = gameSeed;
+            this.lines = lines;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GAMES_PER_LEAF) {
+                HeuristicPolicy policy = null;
+                int policyCandidate = -1;
+                for (int index = from; index < to; index++) {
+                    int candidate = index / gamesPerCandidate;
+                    if (candidate != policyCandidate) {
+                        policy = new HeuristicPolicy(new EvaluationWeights(population[candidate]));
+                        policyCandidate = candidate;
+                    }
+                    lines[index] = playGame(policy, gameSeed + index % gamesPerCandidate);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new GameRange(from, middle, gameSeed, lines), new GameRange(middle, to, gameSeed, lines));
+        }
+    }
+
+    /**
+     * Runs the tuner from the command line, printing every generation.
+     * <p>
+     * Options: {@code --population N}, {@code --games N},
+     * {@code --generations N}, {@code --max-pieces N}, {@code --threads N},
+     * {@code --seed N}, {@code --board matrix|bitboard} and
+     * {@code --checkpoint FILE}. With a checkpoint file, an existing file is
+     * resumed and the file is rewritten after every generation.
+     *
+     * @param args the command-line options
+     * @throws IOException if the checkpoint cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        int populationSize = 50;
+        int games = 100;
+        int generations = 20;
+        int maxPieces = 500;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 2042L;
+        BoardType board = BoardType.BITBOARD;
+        Path checkpoint = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--population" -> populationSize = Integer.parseInt(value);
+                case "--games" -> games = Integer.parseInt(value);
+                case "--generations" -> generations = Integer.parseInt(value);
+                case "--max-pieces" -> maxPieces = Integer.parseInt(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--board" -> board = BoardType.valueOf(value.toUpperCase(Locale.ROOT));
+                case "--checkpoint" -> checkpoint = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+
+        WeightTuner tuner = checkpoint != null && Files.exists(checkpoint)
+                ? load(checkpoint, board, games, maxPieces)
+                : new WeightTuner(board, populationSize, games, maxPieces, seed);
+        try (ForkJoinPool pool = new ForkJoinPool(threads)) {
+            for (int i = 0; i < generations; i++) {
+                double best = tuner.runGeneration(pool);
+                System.out.printf(Locale.ROOT,
+                        "generation %d: best %.1f lines/game, %.1f games/s/thread, best so far %.1f %s%n",
+                        tuner.getGeneration(), best, tuner.getLastGamesPerSecondPerThread(),
+                        tuner.getBestFitness(), tuner.getBestWeights());
+                if (checkpoint != null) {
+                    tuner.save(checkpoint);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.comp2042.view;
+
+import com.comp2042.constants.GameConstants;
+import com.comp2042.model.ViewData;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * Draws a whole board onto a single {@link Canvas}.
+ * <p>
+ * The player's board keeps one Rectangle node per cell and restyles the
+ * cells that change. A second board on screen does not need that: a canvas
+ * is one node, and a redraw is a handful of fill calls into its command
+ * buffer, with no scene graph work. This makes it the cheap choice for the
+ * opponent's board in versus mode, which changes many times per second.
+ * <p>
+ * <b>Functionality:</b>
+ * <ul>
+ *   <li>Draws the visible rows of a board matrix</li>
+ *   <li>Draws the falling piece on top of the board</li>
+ *   <li>Uses the same colours as the player's board</li>
+ * </ul>
+ */
+public class BoardCanvas {
+
+    private static final Color BACKGROUND = Color.rgb(0, 0, 0, 0.6);
+
+    private static final Color GRID = Color.rgb(255, 255, 255, 0.06);
+
+    private final Canvas canvas;
+
+    private final PieceRenderer pieceRenderer = new PieceRenderer();
+
+    private final int cellSize;
+
+    /**
+     * Constructs a renderer that draws onto a canvas.
+     *
+     * @param canvas   the canvas to draw on
+     * @param cellSize the size of one cell in pixels
+     */
+    public BoardCanvas(Canvas canvas, int cellSize) {
+        this.canvas = canvas;
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Resizes the canvas to fit the visible rows of a board.
+     *
+     * @param rows    the number of board rows, hidden rows included
+     * @param columns the number of board columns
+     */
+    public void fitBoard(int rows, int columns) {
+        canvas.setWidth(columns * cellSize);
+        canvas.setHeight((rows - GameConstants.INVISIBLE_ROWS) * cellSize);
+    }
+
+    /**
+     * Redraws the board and the falling piece.
+     *
+     * @param matrix the board matrix of colour codes
+     * @param brick  the falling piece, or null to draw the board only
+     */
+    public void draw(int[][] matrix, ViewData brick) {
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.setFill(BACKGROUND);
+        graphics.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        graphics.setStroke(GRID);
+        for (int row = GameConstants.INVISIBLE_ROWS; row < matrix.length; row++) {
+            for (int column = 0; column < matrix[row].length; column++) {
+                if (matrix[row][column] != 0) {
+                    fillCell(graphics, row, column, matrix[row][column]);
+                } else {
+                    graphics.strokeRect(column * cellSize, (row - GameConstants.INVISIBLE_ROWS) * cellSize,
+                            cellSize, cellSize);
+                }
+            }
+        }
+        if (brick != null) {
+            int[][] shape = brick.getBrickData();
+            for (int row = 0; row < shape.length; row++) {
+                for (int column = 0; column < shape[row].length; column++) {
+                    int boardRow = brick.getyPosition() + row;
+                    if (shape[row][column] != 0 && boardRow >= GameConstants.INVISIBLE_ROWS) {
+                        fillCell(graphics, boardRow, brick.getxPosition() + column, shape[row][column]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills one board cell.
+     *
+     * @param graphics  the graphics context of the canvas
+     * @param row       the board row, hidden rows included
+     * @param column    the board column
+     * @param colorCode the colour code of the cell
+     */
+    private void fillCell(GraphicsContext graphics, int row, int column, int colorCode) {
+        graphics.setFill(pieceRenderer.getFillColor(colorCode));
+        graphics.fillRect(column * cellSize + 1, (row - GameConstants.INVISIBLE_ROWS) * cellSize + 1,
+                cellSize - 2, cellSize - 2);
+    }
+}
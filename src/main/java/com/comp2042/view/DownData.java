@@ -1,6 +1,7 @@
 package com.comp2042.view;
 
 import com.comp2042.model.ClearRow;
+import com.comp2042.model.ViewData;
 
 /**
  * Encapsulates the result of a downward piece movement operation.
@@ -4,7 +4,7 @@ package com.comp2042.view;
  * Represents the type of movement or action for a Tetris piece.
  * <p>
  * This enum defines all possible piece movements in the game, including
- * directional movements and rotation. Each event type corresponds to a
+ * directional movements, rotation, hard drops and hold. Each event type corresponds to a
  * specific transformation of the current piece's position or orientation.
  * <p>
  * <b>Functionality:</b>
@@ -30,5 +30,13 @@ public enum EventType {
     /**
      * Rotate piece counterclockwise
      */
-    ROTATE
+    ROTATE,
+    /**
+     * Drop piece to its landing row and lock it
+     */
+    HARD_DROP,
+    /**
+     * Swap the piece with the held piece
+     */
+    HOLD
 }
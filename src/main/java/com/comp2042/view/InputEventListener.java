@@ -1,5 +1,7 @@
 package com.comp2042.view;
 
+import com.comp2042.model.ViewData;
+
 import java.util.List;
 
 /**
@@ -14,7 +16,7 @@ import java.util.List;
  *   <li>Processes piece movement and rotation events</li>
  *   <li>Handles game state changes (new game, hold piece)</li>
  *   <li>Provides game data for UI rendering</li>
- *   <li>Supports collision detection and preview features</li>
+ *   <li>Supports ghost piece and preview features</li>
  * </ul>
  */
 public interface InputEventListener {
@@ -59,14 +61,13 @@ public interface InputEventListener {
     void createNewGame();
 
     /**
-     * Checks if a piece would collide at a given position.
+     * Gets the row at which the current piece would land if hard dropped.
      * <p>
-     * Used for ghost piece calculation to show where the piece would land.
+     * Used for ghost piece placement without probing one row at a time.
      *
-     * @param brick the ViewData containing piece position to check
-     * @return true if collision would occur, false otherwise
+     * @return the landing row offset of the current piece
      */
-    boolean onGhostCheck(ViewData brick);
+    int getGhostRow();
 
     /**
      * Performs a hard drop of the specified piece.
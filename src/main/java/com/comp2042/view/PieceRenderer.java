@@ -106,6 +106,21 @@ public class PieceRenderer {
         return ghost;
     }
 
+    /**
+     * Creates a hint ghost Rectangle with a dashed outline.
+     * Hint ghosts show where the hint search suggests placing the current piece.
+     *
+     * @return a styled Rectangle for hint ghost display
+     */
+    public Rectangle createHintBrick() {
+        Rectangle hint = createGhostBrick();
+        hint.setStroke(Color.GOLD);
+        hint.setStrokeWidth(GameConstants.HINT_STROKE_WIDTH);
+        hint.setOpacity(GameConstants.HINT_OPACITY);
+        hint.getStrokeDashArray().setAll(GameConstants.HINT_DASH_LENGTH, GameConstants.HINT_DASH_LENGTH);
+        return hint;
+    }
+
     /**
      * Renders a piece on a preview panel (next piece or hold piece).
      * <p>
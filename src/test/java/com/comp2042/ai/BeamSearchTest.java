@@ -0,0 +1,127 @@
+package com.comp2042.ai;
+
+import com.comp2042.engine.GameEngine;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeamSearchTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    @Test
+    void testFindBest_SameMovesOnAnyThreadCount() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<String> sequential = playGame(new BeamSearch(EvaluationWeights.DEFAULT, 16, 3, null), 40);
+            List<String> parallel = playGame(new BeamSearch(EvaluationWeights.DEFAULT, 16, 3, pool), 40);
+            assertEquals(sequential, parallel);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testFindBest_DepthOneMatchesPlacementSearch() {
+        GameEngine engine = new GameEngine(BoardType.BITBOARD.create(ROWS, COLUMNS, 5L));
+        engine.newGame();
+        BeamSearch beam = new BeamSearch(EvaluationWeights.DEFAULT, 1, 1, null);
+        PlacementSearch greedy = new PlacementSearch();
+        for (int piece = 0; piece < 60; piece++) {
+            Board board = engine.getBoard();
+            Placement expected = greedy.findBest(board);
+            Placement actual = beam.findBest(board, null, false, engine.getNextPieces(3), 0);
+            assertEquals(expected.getRotation(), actual.getRotation());
+            assertEquals(expected.getX(), actual.getX());
+            assertEquals(expected.getY(), actual.getY());
+            actual.applyTo(engine);
+        }
+    }
+
+    @Test
+    void testFindBest_HoldsForWellFillingPiece() {
+        GameEngine engine = new GameEngine(BoardType.MATRIX.create(ROWS, COLUMNS, 3L));
+        engine.newGame();
+        Board board = engine.getBoard();
+        board.addGarbageRows(4, 0);
+        board.spawnBrick(PieceType.I.getBrick());
+        engine.hold();
+        board.spawnBrick(PieceType.S.getBrick());
+        BeamSearch search = new BeamSearch(EvaluationWeights.DEFAULT, 8, 1, null);
+
+        Placement placement = search.findBest(board, engine.getHeldPiece(), true,
+                List.of(PieceType.O, PieceType.T), 0);
+
+        assertTrue(placement.isHold());
+        assertEquals(PieceType.I, placement.getPieceType());
+        assertEquals(4, placement.getLinesCleared());
+    }
+
+    @Test
+    void testFindBest_TimeBudgetWidensBeam() {
+        GameEngine engine = new GameEngine(BoardType.BITBOARD.create(ROWS, COLUMNS, 8L));
+        engine.newGame();
+        BeamSearch search = new BeamSearch(EvaluationWeights.DEFAULT, 1, 2, null);
+
+        Placement placement = search.findBest(engine.getBoard(), null, true, engine.getNextPieces(3), 200_000_000L);
+
+        assertNotNull(placement);
+        assertTrue(search.getLastBeamWidth() > 1);
+    }
+
+    @Test
+    void testZobristKeys_IncrementalHashMatchesFullHash() {
+        ZobristKeys keys = new ZobristKeys(ROWS, COLUMNS);
+        Bitboard board = new Bitboard(ROWS, COLUMNS);
+        board.insertBottomRows(3, 4);
+        long hash = keys.hash(board);
+        long[] shape = PieceType.I.getRowMasks(1);
+
+        board.place(shape, 3, ROWS - 4);
+        hash ^= keys.hashPiece(PieceType.I, 1, 3, ROWS - 4);
+        assertEquals(keys.hash(board), hash);
+
+        int top = board.findTopFilledRow();
+        hash ^= keys.hashRows(board, top, ROWS);
+        assertEquals(3, board.clearFullRows(new int[ROWS]));
+        hash ^= keys.hashRows(board, top, ROWS);
+        assertEquals(keys.hash(board), hash);
+    }
+
+    @Test
+    void testTranspositionTable_KeepsMaximumAcrossThreads() {
+        TranspositionTable table = new TranspositionTable(1024);
+        IntStream.range(0, 4000).parallel().forEach(i -> table.offer(i % 100, i));
+
+        for (int key = 0; key < 100; key++) {
+            assertEquals(3900 + key, table.get(key));
+        }
+        assertEquals(TranspositionTable.ABSENT, table.get(12345));
+        assertFalse(table.offer(5, 0));
+        table.clear();
+        assertEquals(TranspositionTable.ABSENT, table.get(5));
+    }
+
+    private static List<String> playGame(BeamSearch search, int pieces) {
+        GameEngine engine = new GameEngine(BoardType.BITBOARD.create(ROWS, COLUMNS, 21L));
+        engine.newGame();
+        List<String> moves = new ArrayList<>();
+        for (int i = 0; i < pieces && !engine.isGameOver(); i++) {
+            Placement placement = search.findBest(engine.getBoard(), engine.getHeldPiece(), engine.canHold(),
+                    engine.getNextPieces(3), 0);
+            moves.add(placement.toString());
+            placement.applyTo(engine);
+        }
+        return moves;
+    }
+}
@@ -0,0 +1,86 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.model.Bitboard;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.view.EventType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FinesseTrackerTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    @Test
+    void testCountMoves_OpenBoardIsTurnsPlusShifts() {
+        Bitboard board = new Bitboard(ROWS, COLUMNS);
+        MoveGenerator generator = new MoveGenerator();
+        PlacementList placements = new PlacementList();
+
+        for (PieceType piece : PieceType.values()) {
+            int count = placements.generate(board, piece, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y);
+            for (int i = 0; i < count; i++) {
+                assertEquals(placements.getTurns(i) + Math.abs(placements.getX(i) - PieceType.SPAWN_X),
+                        generator.countMoves(board, piece, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y,
+                                placements.getRotation(i), placements.getX(i), placements.getY(i)), piece.name());
+            }
+        }
+    }
+
+    @Test
+    void testCountMoves_TuckCostsOnlyItsShifts() {
+        Bitboard board = new Bitboard(ROWS, COLUMNS);
+        long floor = ((1L << COLUMNS) - 1) & ~0b1111L;
+        board.place(new long[]{0b11, floor, floor}, 0, ROWS - 3);
+        MoveGenerator generator = new MoveGenerator();
+        int x = -PieceType.O.getMinColumn(0);
+        int y = ROWS - 1 - PieceType.O.getMaxRow(0);
+
+        assertEquals(PieceType.SPAWN_X - x,
+                generator.countMoves(board, PieceType.O, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y, 0, x, y));
+        assertEquals(-1, generator.countMoves(board, PieceType.O, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y,
+                0, x, ROWS - 3 - PieceType.O.getMaxRow(0) + 1));
+    }
+
+    @Test
+    void testLockPiece_ExtraKeysAreErrors() {
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS, new RandomBrickGenerator(5L));
+        board.createNewBrick();
+        FinesseTracker tracker = new FinesseTracker();
+        tracker.startPiece(board);
+
+        tracker.recordInput(EventType.LEFT);
+        tracker.recordInput(EventType.RIGHT);
+        tracker.recordInput(EventType.LEFT);
+        tracker.recordInput(EventType.DOWN);
+        tracker.recordInput(EventType.HARD_DROP);
+        board.moveBrickLeft();
+        int errors = tracker.lockPiece(board.getBrickRotation(), board.getBrickX(), board.getLandingRow());
+
+        assertEquals(2, errors);
+        assertEquals(3, tracker.getLastInputs());
+        assertEquals(1, tracker.getLastOptimal());
+    }
+
+    @Test
+    void testNewGame_KeepsSessionTotals() {
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS, new RandomBrickGenerator(5L));
+        board.createNewBrick();
+        FinesseTracker tracker = new FinesseTracker();
+        tracker.startPiece(board);
+        tracker.recordInput(EventType.ROTATE);
+        tracker.lockPiece(board.getBrickRotation(), board.getBrickX(), board.getLandingRow());
+
+        tracker.newGame();
+        tracker.startPiece(board);
+        tracker.lockPiece(board.getBrickRotation(), board.getBrickX(), board.getLandingRow());
+
+        assertEquals(1, tracker.getGamePieces());
+        assertEquals(0, tracker.getGameErrors());
+        assertEquals(2, tracker.getSessionPieces());
+        assertEquals(1, tracker.getSessionErrors());
+    }
+}
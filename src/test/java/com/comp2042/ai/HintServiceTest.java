@@ -0,0 +1,102 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HintServiceTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    @Test
+    void testFindHints_BestHintFillsTheWell() {
+        Bitboard board = new Bitboard(ROWS, COLUMNS);
+        board.insertBottomRows(4, 9);
+        BoardSnapshot snapshot = snapshot(board, PieceType.I, List.of(PieceType.O));
+
+        try (HintService service = new HintService()) {
+            List<Placement> hints = service.findHints(snapshot);
+
+            assertEquals(HintService.DEFAULT_HINT_COUNT, hints.size());
+            assertEquals(4, hints.get(0).getLinesCleared());
+            Set<String> cells = new HashSet<>();
+            for (Placement hint : hints) {
+                assertTrue(cells.add(cellsOf(hint)), "duplicate hint " + hint);
+                assertTrue(hint.getScore() <= hints.get(0).getScore());
+            }
+        }
+    }
+
+    @Test
+    void testFindHints_GivesUpWhenInterrupted() {
+        BoardSnapshot snapshot = snapshot(new Bitboard(ROWS, COLUMNS), PieceType.T, List.of(PieceType.S));
+
+        try (HintService service = new HintService()) {
+            Thread.currentThread().interrupt();
+            try {
+                assertNull(service.findHints(snapshot));
+            } finally {
+                Thread.interrupted();
+            }
+        }
+    }
+
+    @Test
+    void testRequest_DeliversOnSearchThread() throws InterruptedException {
+        BoardSnapshot snapshot = snapshot(new Bitboard(ROWS, COLUMNS), PieceType.L, List.of(PieceType.J));
+        CountDownLatch delivered = new CountDownLatch(1);
+        AtomicReference<String> thread = new AtomicReference<>();
+        AtomicReference<List<Placement>> result = new AtomicReference<>();
+
+        try (HintService service = new HintService()) {
+            service.request(snapshot, hints -> {
+                thread.set(Thread.currentThread().getName());
+                result.set(hints);
+                delivered.countDown();
+            });
+
+            assertTrue(delivered.await(10, TimeUnit.SECONDS));
+            assertEquals("hint-search", thread.get());
+            assertEquals(service.findHints(snapshot).get(0).toString(), result.get().get(0).toString());
+        }
+    }
+
+    @Test
+    void testSnapshot_IsIndependentOfTheSourceBoard() {
+        Bitboard board = new Bitboard(ROWS, COLUMNS);
+        BoardSnapshot snapshot = snapshot(board, PieceType.O, List.of(PieceType.Z));
+
+        board.insertBottomRows(3, 0);
+        Bitboard copy = snapshot.copyBoard();
+        copy.insertBottomRows(1, 0);
+
+        assertEquals(ROWS, snapshot.copyBoard().findTopFilledRow());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPreview().add(PieceType.I));
+    }
+
+    private static BoardSnapshot snapshot(Bitboard board, PieceType piece, List<PieceType> preview) {
+        return new BoardSnapshot(board, piece, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y, null, true, preview);
+    }
+
+    private static String cellsOf(Placement placement) {
+        PieceType piece = placement.getPieceType();
+        int[] rows = piece.getCellRows(placement.getRotation());
+        int[] columns = piece.getCellColumns(placement.getRotation());
+        Set<Integer> cells = new TreeSet<>();
+        for (int i = 0; i < rows.length; i++) {
+            cells.add((placement.getY() + rows[i]) * COLUMNS + placement.getX() + columns[i]);
+        }
+        return cells.toString();
+    }
+}
@@ -0,0 +1,129 @@
+package com.comp2042.ai;
+
+import com.comp2042.engine.GameEngine;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.logic.bricks.SplitMix64;
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloSearchTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final int PIECE_COUNT = PieceType.values().length;
+
+    @Test
+    void testBagSampler_FollowsQueueThenBagThenFullBags() {
+        List<PieceType> queue = List.of(PieceType.T, PieceType.I);
+        List<PieceType> bag = List.of(PieceType.O, PieceType.S, PieceType.Z);
+        BagSampler sampler = new BagSampler(queue, bag);
+        SplitMix64 random = new SplitMix64(11L);
+        int[] sequence = new int[2 + 3 + 4 * PIECE_COUNT];
+
+        for (int sample = 0; sample < 50; sample++) {
+            sampler.fill(random, sequence);
+            assertEquals(PieceType.T.ordinal(), sequence[0]);
+            assertEquals(PieceType.I.ordinal(), sequence[1]);
+            assertEquals(EnumSet.copyOf(bag), piecesBetween(sequence, 2, 5));
+            for (int start = 5; start < sequence.length; start += PIECE_COUNT) {
+                assertEquals(EnumSet.allOf(PieceType.class), piecesBetween(sequence, start, start + PIECE_COUNT));
+            }
+        }
+        assertEquals(2, sampler.getKnownCount());
+    }
+
+    @Test
+    void testBagSampler_OnlyKnowsVisiblePreview() {
+        GameEngine engine = new GameEngine(BoardType.BITBOARD.create(ROWS, COLUMNS, 21L));
+        engine.newGame();
+        BagSampler sampler = BagSampler.of(engine.getBoard().getBrickGenerator(), 3);
+        int[] sequence = new int[8];
+
+        sampler.fill(new SplitMix64(1L), sequence);
+
+        assertEquals(3, sampler.getKnownCount());
+        List<PieceType> preview = engine.getNextPieces(3);
+        for (int i = 0; i < preview.size(); i++) {
+            assertEquals(preview.get(i).ordinal(), sequence[i]);
+        }
+    }
+
+    @Test
+    void testFindBest_RunsExactIterationBudget() {
+        GameEngine engine = new GameEngine(BoardType.BITBOARD.create(ROWS, COLUMNS, 4L));
+        engine.newGame();
+        MonteCarloSearch search = new MonteCarloSearch(9L);
+
+        Placement placement = search.findBest(engine.getBoard(), null, true,
+                BagSampler.of(engine.getBoard().getBrickGenerator(), 3), 0, 150);
+
+        assertNotNull(placement);
+        assertEquals(150, search.getLastIterations());
+        assertTrue(search.getLastPlacements() >= 150);
+    }
+
+    @Test
+    void testFindBest_ReproducibleForSeedAndWorkerCount() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            List<String> first = playGame(new MonteCarloSearch(EvaluationWeights.DEFAULT, 4,
+                    MonteCarloSearch.DEFAULT_EXPLORATION, MonteCarloSearch.DEFAULT_RANDOM_MOVE_RATE, pool, 5L), 15);
+            List<String> second = playGame(new MonteCarloSearch(EvaluationWeights.DEFAULT, 4,
+                    MonteCarloSearch.DEFAULT_EXPLORATION, MonteCarloSearch.DEFAULT_RANDOM_MOVE_RATE, pool, 5L), 15);
+            assertEquals(first, second);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testFindBest_HoldsForWellFillingPiece() {
+        GameEngine engine = new GameEngine(BoardType.MATRIX.create(ROWS, COLUMNS, 3L));
+        engine.newGame();
+        Board board = engine.getBoard();
+        board.addGarbageRows(4, 0);
+        board.spawnBrick(PieceType.I.getBrick());
+        engine.hold();
+        board.spawnBrick(PieceType.S.getBrick());
+        MonteCarloSearch search = new MonteCarloSearch(2L);
+
+        Placement placement = search.findBest(board, engine.getHeldPiece(), true,
+                new BagSampler(List.of(PieceType.O, PieceType.T), List.of()), 0, 2000);
+
+        assertTrue(placement.isHold());
+        assertEquals(PieceType.I, placement.getPieceType());
+        assertEquals(4, placement.getLinesCleared());
+    }
+
+    private static Set<PieceType> piecesBetween(int[] sequence, int from, int to) {
+        Set<PieceType> pieces = EnumSet.noneOf(PieceType.class);
+        for (int i = from; i < to; i++) {
+            assertTrue(pieces.add(PieceType.fromOrdinal(sequence[i])), "repeated piece in a bag");
+        }
+        return pieces;
+    }
+
+    private static List<String> playGame(MonteCarloSearch search, int pieces) {
+        GameEngine engine = new GameEngine(BoardType.BITBOARD.create(ROWS, COLUMNS, 12L));
+        engine.newGame();
+        List<String> moves = new ArrayList<>();
+        for (int i = 0; i < pieces && !engine.isGameOver(); i++) {
+            Board board = engine.getBoard();
+            Placement placement = search.findBest(board, engine.getHeldPiece(), engine.canHold(),
+                    BagSampler.of(board.getBrickGenerator(), 3), 0, 120);
+            moves.add(placement.getPieceType() + "@" + placement.getRotation() + "," + placement.getX()
+                    + "," + placement.getY() + (placement.isHold() ? "H" : ""));
+            placement.applyTo(engine);
+        }
+        return moves;
+    }
+}
@@ -0,0 +1,139 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+import com.comp2042.view.EventType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveGeneratorTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    @Test
+    void testGenerate_OpenBoardMatchesHardDropPlacements() {
+        Bitboard board = new Bitboard(ROWS, COLUMNS);
+        board.insertBottomRows(3, 4);
+        MoveGenerator generator = new MoveGenerator();
+        PlacementList placements = new PlacementList();
+
+        for (PieceType piece : PieceType.values()) {
+            int count = generator.generate(board, piece, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y);
+            Set<String> reachable = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                reachable.add(generator.getRotation(i) + "," + generator.getX(i) + "," + generator.getY(i));
+                assertFalse(generator.needsSoftDrop(i));
+            }
+            Set<String> dropped = new HashSet<>();
+            int dropCount = placements.generate(board, piece, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y);
+            for (int i = 0; i < dropCount; i++) {
+                dropped.add(placements.getRotation(i) + "," + placements.getX(i) + "," + placements.getY(i));
+                assertEquals(placements.getTurns(i) + Math.abs(placements.getX(i) - PieceType.SPAWN_X) + 1,
+                        generator.getPathLength(indexOf(generator, placements.getRotation(i), placements.getX(i),
+                                placements.getY(i))));
+            }
+            assertEquals(dropped, reachable, piece.name());
+        }
+    }
+
+    @Test
+    void testGenerate_FindsTuckUnderOverhang() {
+        Bitboard board = new Bitboard(ROWS, COLUMNS);
+        long[] roof = {(1L << 6) - 1};
+        board.place(roof, 0, ROWS - 3);
+        MoveGenerator generator = new MoveGenerator();
+
+        int count = generator.generate(board, PieceType.O, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y);
+
+        int tucked = -1;
+        for (int i = 0; i < count; i++) {
+            int left = generator.getX(i) + PieceType.O.getMinColumn(0);
+            if (generator.getY(i) + PieceType.O.getMaxRow(0) == ROWS - 1 && left == 0) {
+                tucked = i;
+            }
+        }
+        assertTrue(tucked >= 0);
+        assertTrue(generator.needsSoftDrop(tucked));
+        assertEquals(generator.getPathLength(tucked), generator.getPath(tucked).size());
+        assertArrayEquals(new int[]{generator.getRotation(tucked), generator.getX(tucked), generator.getY(tucked)},
+                replay(board, PieceType.O, generator.getPath(tucked)));
+    }
+
+    @Test
+    void testGenerate_EveryPathReplaysToItsLockPosition() {
+        Bitboard board = new Bitboard(ROWS, COLUMNS);
+        board.place(new long[]{0b1110_0111}, 1, ROWS - 4);
+        board.insertBottomRows(2, 2);
+        MoveGenerator generator = new MoveGenerator();
+
+        for (PieceType piece : PieceType.values()) {
+            int count = generator.generate(board, piece, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y);
+            for (int i = 0; i < count; i++) {
+                assertArrayEquals(new int[]{generator.getRotation(i), generator.getX(i), generator.getY(i)},
+                        replay(board, piece, generator.getPath(i)), piece.name());
+            }
+        }
+    }
+
+    @Test
+    void testFindBest_ReachableSearchTucksIntoCave() {
+        Bitboard board = new Bitboard(ROWS, COLUMNS);
+        long floor = ((1L << COLUMNS) - 1) & ~0b1111L;
+        board.place(new long[]{0b11, floor, floor}, 0, ROWS - 3);
+        PlacementSearch search = new PlacementSearch(EvaluationWeights.DEFAULT, true);
+
+        Placement placement = search.findBest(board, PieceType.O, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y);
+
+        assertNotNull(placement);
+        assertEquals(0, placement.getX() + PieceType.O.getMinColumn(0));
+        assertEquals(ROWS - 1, placement.getY() + PieceType.O.getMaxRow(0));
+        assertTrue(placement.getInputs().contains(EventType.DOWN));
+    }
+
+    private static int indexOf(MoveGenerator generator, int rotation, int x, int y) {
+        for (int i = 0; i < generator.size(); i++) {
+            if (generator.getRotation(i) == rotation && generator.getX(i) == x && generator.getY(i) == y) {
+                return i;
+            }
+        }
+        return fail("missing lock position " + rotation + "," + x + "," + y);
+    }
+
+    /**
+     * Plays a path with the board's movement rules and returns the final
+     * rotation, column and row.
+     */
+    private static int[] replay(Bitboard board, PieceType piece, List<EventType> path) {
+        int rotation = 0;
+        int x = PieceType.SPAWN_X;
+        int y = PieceType.SPAWN_Y;
+        for (EventType input : path) {
+            int nextRotation = rotation;
+            int nextX = x;
+            int nextY = y;
+            switch (input) {
+                case LEFT -> nextX--;
+                case RIGHT -> nextX++;
+                case DOWN -> nextY++;
+                case ROTATE -> nextRotation = (rotation + 1) % piece.getRotationCount();
+                case HARD_DROP -> {
+                    while (!board.intersects(piece.getRowMasks(rotation), x, nextY + 1)) {
+                        nextY++;
+                    }
+                }
+                default -> fail("unexpected input " + input);
+            }
+            assertFalse(board.intersects(piece.getRowMasks(nextRotation), nextX, nextY), "blocked " + input);
+            rotation = nextRotation;
+            x = nextX;
+            y = nextY;
+        }
+        return new int[]{rotation, x, y};
+    }
+}
@@ -0,0 +1,111 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpeningBookTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final int PERMUTATIONS = 12;
+
+    @TempDir
+    static Path directory;
+
+    private static OpeningBookBuilder builder;
+    private static OpeningBook book;
+
+    @BeforeAll
+    static void buildBook() throws IOException {
+        builder = new OpeningBookBuilder(ROWS, COLUMNS, new BeamSearch(), 0);
+        builder.addPermutations(0, PERMUTATIONS);
+        Path file = directory.resolve("book.bin");
+        builder.write(file);
+        book = OpeningBook.open(file);
+    }
+
+    @Test
+    void testPermutation_RanksEveryOrderOnce() {
+        assertArrayEquals(PieceType.values(), OpeningBookBuilder.permutation(0));
+        PieceType[] last = OpeningBookBuilder.permutation(OpeningBookBuilder.PERMUTATIONS - 1);
+        for (int i = 0; i < last.length; i++) {
+            assertEquals(PieceType.values()[last.length - 1 - i], last[i]);
+        }
+        PieceType[] middle = OpeningBookBuilder.permutation(2042);
+        assertEquals(EnumSet.allOf(PieceType.class), EnumSet.copyOf(Arrays.asList(middle)));
+        assertThrows(IllegalArgumentException.class, () -> OpeningBookBuilder.permutation(-1));
+    }
+
+    @Test
+    void testOpen_MapsEveryRecordedPosition() {
+        assertEquals(builder.size(), book.size());
+        assertEquals(ROWS, book.getRows());
+        assertEquals(COLUMNS, book.getColumns());
+        assertTrue(book.size() > PERMUTATIONS);
+    }
+
+    @Test
+    void testLookup_ReturnsTheSearchedMove() {
+        PieceType[] bag = OpeningBookBuilder.permutation(5);
+        List<PieceType> preview = Arrays.asList(bag).subList(1, 4);
+        Bitboard empty = new Bitboard(ROWS, COLUMNS);
+
+        Placement bookMove = book.lookup(empty, bag[0], null, true, preview);
+        Placement searched = new BeamSearch().findBest(empty, bag[0], 0, PieceType.SPAWN_X, PieceType.SPAWN_Y,
+                null, true, preview, 0);
+
+        assertNotNull(bookMove);
+        assertEquals(searched.getPieceType(), bookMove.getPieceType());
+        assertEquals(searched.isHold(), bookMove.isHold());
+        assertEquals(searched.getRotation(), bookMove.getRotation());
+        assertEquals(searched.getX(), bookMove.getX());
+        assertEquals(searched.getY(), bookMove.getY());
+        assertEquals(searched.getShift(), bookMove.getShift());
+    }
+
+    @Test
+    void testLookup_FallsBackToShorterPreview() {
+        PieceType[] bag = OpeningBookBuilder.permutation(0);
+        Bitboard empty = new Bitboard(ROWS, COLUMNS);
+        List<PieceType> known = Arrays.asList(bag).subList(1, 4);
+
+        Placement exact = book.lookup(empty, bag[0], null, true, known);
+        Placement longer = book.lookup(empty, bag[0], null, true,
+                List.of(bag[1], bag[2], bag[3], PieceType.I, PieceType.O));
+
+        assertNotNull(exact);
+        assertNotNull(longer);
+        assertEquals(exact.getX(), longer.getX());
+        assertEquals(exact.getRotation(), longer.getRotation());
+    }
+
+    @Test
+    void testLookup_MissesUnknownPositions() {
+        Bitboard board = new Bitboard(ROWS, COLUMNS);
+        board.insertBottomRows(3, 4);
+
+        assertNull(book.lookup(board, PieceType.T, null, true, List.of(PieceType.I, PieceType.O, PieceType.S)));
+        assertNull(book.lookup(new Bitboard(ROWS, COLUMNS), PieceType.Z, null, true,
+                List.of(PieceType.Z, PieceType.Z, PieceType.Z)));
+        assertNull(book.lookup(new Bitboard(20, COLUMNS), PieceType.I, null, true, List.of()));
+    }
+
+    @Test
+    void testOpen_RejectsOtherFiles() throws IOException {
+        Path notABook = directory.resolve("weights.txt");
+        Files.writeString(notABook, "weight-tuner 1\ngeneration 0\n");
+        assertThrows(IllegalArgumentException.class, () -> OpeningBook.open(notABook));
+    }
+}
@@ -0,0 +1,132 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.model.Bitboard;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerfectClearSolverTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    @Test
+    void testSolve_WellTakesOneI() {
+        Bitboard board = new Bitboard(ROWS, COLUMNS);
+        board.insertBottomRows(4, 9);
+        PerfectClearSolver solver = new PerfectClearSolver();
+
+        List<Placement> solution = solve(solver, board, PieceType.I, null, List.of(PieceType.O), 3);
+
+        assertNotNull(solution);
+        assertEquals(1, solution.size());
+        assertEquals(4, solution.get(0).getLinesCleared());
+        assertClears(board, PieceType.I, null, List.of(PieceType.O), solution);
+    }
+
+    @Test
+    void testSolve_OpeningWithFiveOs() {
+        Bitboard board = new Bitboard(ROWS, COLUMNS);
+        List<PieceType> queue = Collections.nCopies(4, PieceType.O);
+        PerfectClearSolver solver = new PerfectClearSolver();
+
+        List<Placement> solution = solve(solver, board, PieceType.O, null, queue, 5);
+
+        assertNotNull(solution);
+        assertEquals(5, solution.size());
+        assertClears(board, PieceType.O, null, queue, solution);
+    }
+
+    @Test
+    void testSolve_ImpossibleWithOnlySPieces() {
+        Bitboard board = new Bitboard(ROWS, COLUMNS);
+        PerfectClearSolver solver = new PerfectClearSolver();
+
+        assertNull(solve(solver, board, PieceType.S, null, Collections.nCopies(6, PieceType.S), 7));
+    }
+
+    @Test
+    void testSolve_UsesHoldToReachSolution() {
+        Bitboard board = new Bitboard(ROWS, COLUMNS);
+        board.insertBottomRows(4, 9);
+        PerfectClearSolver solver = new PerfectClearSolver();
+
+        List<Placement> solution = solve(solver, board, PieceType.Z, PieceType.I, List.of(PieceType.O), 1);
+
+        assertNotNull(solution);
+        assertTrue(solution.get(0).isHold());
+        assertClears(board, PieceType.Z, PieceType.I, List.of(PieceType.O), solution);
+    }
+
+    @Test
+    void testSolve_ParallelAgreesWithSequential() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        int solvable = 0;
+        try {
+            for (long seed = 1; seed <= 4; seed++) {
+                RandomBrickGenerator generator = new RandomBrickGenerator(seed);
+                List<PieceType> pieces = new ArrayList<>();
+                for (int i = 0; i < 11; i++) {
+                    pieces.add(generator.getBrick().getType());
+                }
+                PieceType first = pieces.get(0);
+                List<PieceType> queue = pieces.subList(1, pieces.size());
+                Bitboard board = new Bitboard(ROWS, COLUMNS);
+                board.insertBottomRows(2, (int) seed);
+
+                List<Placement> sequential = solve(new PerfectClearSolver(), board, first, null, queue, 8);
+                List<Placement> parallel = solve(new PerfectClearSolver(pool), board, first, null, queue, 8);
+
+                assertEquals(sequential == null, parallel == null, "seed " + seed);
+                if (sequential != null) {
+                    solvable++;
+                    assertClears(board, first, null, queue, sequential);
+                    assertClears(board, first, null, queue, parallel);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(solvable > 0);
+    }
+
+    private static List<Placement> solve(PerfectClearSolver solver, Bitboard board, PieceType piece,
+                                         PieceType held, List<PieceType> queue, int maxPieces) {
+        return solver.solve(board, piece, 0, PieceType.SPAWN_X, PieceType.SPAWN_Y, held, true, queue, maxPieces);
+    }
+
+    /**
+     * Replays a solution under the hold rules and checks that every piece is
+     * hard dropped and the board ends up empty.
+     */
+    private static void assertClears(Bitboard start, PieceType piece, PieceType held, List<PieceType> queue,
+                                     List<Placement> solution) {
+        Bitboard board = new Bitboard(ROWS, COLUMNS);
+        board.copyFrom(start);
+        int[] clearedRows = new int[ROWS];
+        int queueIndex = 0;
+        PieceType current = piece;
+        for (Placement placement : solution) {
+            if (placement.isHold()) {
+                PieceType swapped = held;
+                held = current;
+                current = swapped != null ? swapped : queue.get(queueIndex++);
+            }
+            assertEquals(current, placement.getPieceType());
+            long[] masks = current.getRowMasks(placement.getRotation());
+            assertFalse(board.intersects(masks, placement.getX(), placement.getY()));
+            assertTrue(board.intersects(masks, placement.getX(), placement.getY() + 1));
+            board.place(masks, placement.getX(), placement.getY());
+            assertEquals(placement.getLinesCleared(), board.clearFullRows(clearedRows));
+            current = queueIndex < queue.size() ? queue.get(queueIndex++) : null;
+        }
+        assertEquals(ROWS, board.findTopFilledRow());
+    }
+}
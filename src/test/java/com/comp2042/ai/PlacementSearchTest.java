@@ -0,0 +1,113 @@
+package com.comp2042.ai;
+
+import com.comp2042.engine.GameEngine;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.Bitboard;
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardType;
+import com.comp2042.model.LockResult;
+import com.comp2042.view.EventType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlacementSearchTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    private final PlacementSearch search = new PlacementSearch();
+
+    @Test
+    void testFindBest_FillsWellWithVerticalI() {
+        for (BoardType boardType : BoardType.values()) {
+            GameEngine engine = new GameEngine(boardType.create(ROWS, COLUMNS, 1L));
+            engine.newGame();
+            Board board = engine.getBoard();
+            board.addGarbageRows(4, COLUMNS - 1);
+            board.spawnBrick(PieceType.I.getBrick());
+
+            Placement placement = search.findBest(board);
+
+            assertEquals(4, placement.getLinesCleared(), boardType.name());
+            LockResult lockResult = placement.applyTo(engine);
+            assertEquals(4, lockResult.getLinesRemoved(), boardType.name());
+            assertArrayEquals(new int[COLUMNS], board.getColumnHeights(), boardType.name());
+        }
+    }
+
+    @Test
+    void testFindBest_PlacementMatchesEngineLock() {
+        GameEngine engine = new GameEngine(BoardType.BITBOARD.create(ROWS, COLUMNS, 9L));
+        engine.newGame();
+        Board board = engine.getBoard();
+        for (int piece = 0; piece < 50; piece++) {
+            Placement placement = search.findBest(board);
+            int startRotation = board.getBrickRotation();
+            int startX = board.getBrickX();
+
+            List<EventType> inputs = placement.getInputs();
+            assertEquals(EventType.HARD_DROP, inputs.get(inputs.size() - 1));
+            assertEquals(placement.getRotations() + Math.abs(placement.getShift()) + 1, inputs.size());
+
+            PieceType pieceType = placement.getPieceType();
+            assertEquals(placement.getX(), startX + placement.getShift());
+            assertEquals(placement.getY(), board.getDropDistance(pieceType, placement.getRotation(), placement.getX()));
+            assertEquals(0, startRotation);
+
+            LockResult lockResult = placement.applyTo(engine);
+            assertEquals(placement.getLinesCleared(), lockResult.getLinesRemoved());
+            assertFalse(engine.isGameOver());
+        }
+    }
+
+    @Test
+    void testFindBest_MetricsScoringMatchesBitboardScoring() {
+        for (BoardType boardType : BoardType.values()) {
+            GameEngine engine = new GameEngine(boardType.create(ROWS, COLUMNS, 21L));
+            engine.newGame();
+            Board board = engine.getBoard();
+            Bitboard occupancy = new Bitboard(ROWS, COLUMNS);
+            for (int piece = 0; piece < 60 && !engine.isGameOver(); piece++) {
+                occupancy.loadFrom(board.getBoardMatrix());
+                Placement expected = search.findBest(occupancy, board.getCurrentBrick().getType(),
+                        board.getBrickRotation(), board.getBrickX(), board.getBrickY());
+
+                Placement placement = search.findBest(board);
+
+                assertEquals(expected.getRotation(), placement.getRotation(), boardType.name());
+                assertEquals(expected.getX(), placement.getX(), boardType.name());
+                assertEquals(expected.getScore(), placement.getScore(), boardType.name());
+                assertEquals(expected.getLinesCleared(), placement.getLinesCleared(), boardType.name());
+                placement.applyTo(engine);
+            }
+        }
+    }
+
+    @Test
+    void testComputeFeatures_CountsHeightHolesBumpinessAndWells() {
+        int[][] matrix = new int[4][4];
+        matrix[1][0] = 1;
+        matrix[3][0] = 1;
+        matrix[2][1] = 1;
+        matrix[3][3] = 1;
+        Bitboard bitboard = new Bitboard(4, 4);
+        bitboard.loadFrom(matrix);
+
+        int[] features = new BoardEvaluator(EvaluationWeights.DEFAULT).computeFeatures(bitboard, 2, new int[BoardFeature.COUNT]);
+
+        assertEquals(3 + 2 + 0 + 1, features[BoardFeature.AGGREGATE_HEIGHT.ordinal()]);
+        assertEquals(2, features[BoardFeature.HOLES.ordinal()]);
+        assertEquals(1 + 2 + 1, features[BoardFeature.BUMPINESS.ordinal()]);
+        assertEquals(2, features[BoardFeature.LINES_CLEARED.ordinal()]);
+        assertEquals(1, features[BoardFeature.WELLS.ordinal()]);
+    }
+
+    @Test
+    void testEvaluationWeights_RejectsWrongLength() {
+        assertThrows(IllegalArgumentException.class, () -> new EvaluationWeights(1, 2));
+        assertEquals(EvaluationWeights.DEFAULT, new EvaluationWeights(EvaluationWeights.DEFAULT.toArray()));
+    }
+}
@@ -0,0 +1,34 @@
+package com.comp2042.controller;
+
+import com.comp2042.engine.EngineEventListener;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.model.BoardType;
+import com.comp2042.model.ViewData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotAutoPlayerTest {
+
+    @Test
+    void testPlayFrame_UpdatesPendingBrickAfterEveryPlacement() {
+        GameEngine engine = new GameEngine(BoardType.MATRIX.create(25, 10, 5L));
+        engine.newGame();
+        EngineEventListener listener = new EngineEventListener(engine);
+        GuiController view = new GuiController();
+        view.setRenderDeferred(true);
+        BotAutoPlayer bot = new BotAutoPlayer(listener, engine, null, engine::isGameOver, view::refreshBrick, 1);
+
+        for (int frame = 1; frame <= 10; frame++) {
+            bot.playFrame();
+
+            assertEquals(frame, engine.getPiecesLocked());
+            ViewData pending = view.getPendingBrick();
+            ViewData current = engine.getBoard().getViewData();
+            assertNotNull(pending);
+            assertArrayEquals(current.getBrickData(), pending.getBrickData());
+            assertEquals(current.getxPosition(), pending.getxPosition());
+            assertEquals(current.getyPosition(), pending.getyPosition());
+        }
+    }
+}
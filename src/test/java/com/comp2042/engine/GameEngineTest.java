@@ -0,0 +1,111 @@
+package com.comp2042.engine;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.model.BoardType;
+import com.comp2042.model.LockResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineTest {
+
+    private static final long GRAVITY_MILLIS = 100;
+
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine(BoardType.MATRIX.create(25, 10), GRAVITY_MILLIS);
+        engine.newGame();
+    }
+
+    @Test
+    void testAdvance_AppliesGravityFromExplicitClock() {
+        engine.advance(GRAVITY_MILLIS - 1);
+        assertEquals(PieceType.SPAWN_Y, engine.getBoard().getViewData().getyPosition());
+
+        engine.advance(1);
+        assertEquals(PieceType.SPAWN_Y + 1, engine.getBoard().getViewData().getyPosition());
+
+        engine.advance(3 * GRAVITY_MILLIS);
+        assertEquals(PieceType.SPAWN_Y + 4, engine.getBoard().getViewData().getyPosition());
+        assertEquals(0, engine.getScore().getScore());
+    }
+
+    @Test
+    void testSoftDrop_ScoresOnePointPerRow() {
+        assertNull(engine.softDrop());
+        assertNull(engine.softDrop());
+        assertEquals(2, engine.getScore().getScore());
+    }
+
+    @Test
+    void testHardDrop_LocksAndReenablesHold() {
+        assertTrue(engine.hold());
+        assertFalse(engine.canHold());
+
+        LockResult lockResult = engine.hardDrop();
+
+        assertNotNull(lockResult);
+        assertTrue(lockResult.getScoreBonus() > 0);
+        assertEquals(lockResult.getScoreBonus(), engine.getScore().getScore());
+        assertTrue(engine.canHold());
+    }
+
+    @Test
+    void testHold_SwapsWithHeldPiece() {
+        PieceType first = engine.getBoard().getCurrentBrick().getType();
+        PieceType next = engine.getNextPieces(1).get(0);
+
+        assertTrue(engine.hold());
+        assertEquals(first, engine.getHeldPiece());
+        assertEquals(next, engine.getBoard().getCurrentBrick().getType());
+        assertFalse(engine.hold());
+
+        engine.hardDrop();
+        PieceType current = engine.getBoard().getCurrentBrick().getType();
+        assertTrue(engine.hold());
+        assertEquals(first, engine.getBoard().getCurrentBrick().getType());
+        assertEquals(current, engine.getHeldPiece());
+    }
+
+    @Test
+    void testTimeLimit_EndsGame() {
+        engine.setTimeLimit(1000);
+        engine.newGame();
+
+        assertFalse(engine.elapse(999));
+        assertTrue(engine.elapse(1));
+        assertTrue(engine.isGameOver());
+        assertNull(engine.tick());
+        assertEquals(0, engine.advance(GRAVITY_MILLIS));
+    }
+
+    @Test
+    void testAdvance_RunsUntilToppedOut() {
+        for (int frame = 0; frame < 100_000 && !engine.isGameOver(); frame++) {
+            engine.advance(GRAVITY_MILLIS);
+        }
+        assertTrue(engine.isGameOver());
+        assertFalse(engine.hold());
+    }
+
+    @Test
+    void testSeededEngines_PlayIdenticalGames() {
+        GameEngine first = new GameEngine(BoardType.MATRIX.create(25, 10, 99L), GRAVITY_MILLIS);
+        GameEngine second = new GameEngine(BoardType.BITBOARD.create(25, 10, 99L), GRAVITY_MILLIS);
+        first.newGame();
+        second.newGame();
+
+        for (int piece = 0; piece < 40 && !first.isGameOver(); piece++) {
+            if (piece % 2 == 0) {
+                assertEquals(first.moveLeft(), second.moveLeft());
+            }
+            first.hardDrop();
+            second.hardDrop();
+            assertEquals(first.getScore().getScore(), second.getScore().getScore());
+            assertArrayEquals(first.getBoard().getBoardMatrix(), second.getBoard().getBoardMatrix());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.comp2042.engine;
+
+import com.comp2042.ai.Placement;
+import com.comp2042.ai.PlacementSearch;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.model.BoardType;
+import com.comp2042.view.EventSource;
+import com.comp2042.view.EventType;
+import com.comp2042.view.MoveEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayTest {
+
+    private static GameEngine replay(Replay replay) {
+        GameEngine engine = new GameEngine(BoardType.BITBOARD.create(replay.getRows(), replay.getColumns(),
+                replay.getSeed()));
+        engine.newGame();
+        replay.playOn(new EngineEventListener(engine));
+        return engine;
+    }
+
+    private static void assertSameGame(GameEngine expected, GameEngine actual) {
+        assertArrayEquals(expected.getBoard().getBoardMatrix(), actual.getBoard().getBoardMatrix());
+        assertEquals(expected.getScore().getScore(), actual.getScore().getScore());
+        assertEquals(expected.getLinesCleared(), actual.getLinesCleared());
+        assertEquals(expected.getPiecesLocked(), actual.getPiecesLocked());
+        assertEquals(expected.getHeldPiece(), actual.getHeldPiece());
+        assertEquals(expected.isGameOver(), actual.isGameOver());
+    }
+
+    @Test
+    void testPlayOn_RandomInputAndGravityReproduceTheGame(@TempDir Path directory) throws IOException {
+        EventType[] types = EventType.values();
+        GameEngine engine = new GameEngine(BoardType.MATRIX.create(25, 10, 1L));
+        ((RandomBrickGenerator) engine.getBoard().getBrickGenerator()).reseed(77L);
+        engine.newGame();
+        EngineEventListener listener = new EngineEventListener(engine);
+        ReplayRecorder recorder = new ReplayRecorder(null, 4);
+        recorder.start(77L, 25, 10);
+
+        Random random = new Random(3);
+        MoveEvent user = new MoveEvent(EventSource.USER);
+        for (int step = 0; step < 5000 && !engine.isGameOver(); step++) {
+            if (random.nextInt(3) == 0) {
+                recorder.tick();
+                listener.onDownEvent(new MoveEvent(EventSource.THREAD));
+                continue;
+            }
+            EventType type = types[random.nextInt(types.length)];
+            if (type == EventType.HARD_DROP && random.nextInt(4) != 0) {
+                type = EventType.DOWN;
+            }
+            recorder.record(type);
+            switch (type) {
+                case DOWN -> listener.onDownEvent(user);
+                case LEFT -> listener.onLeftEvent(user);
+                case RIGHT -> listener.onRightEvent(user);
+                case ROTATE -> listener.onRotateEvent(user);
+                case HARD_DROP -> listener.onHardDrop(listener.getCurrentBrick());
+                case HOLD -> listener.onHoldEvent();
+            }
+        }
+        recorder.tick();
+        recorder.tick();
+        Replay recorded = recorder.finish();
+
+        assertNull(recorder.finish(), "Nothing left to finish");
+        assertTrue(engine.getPiecesLocked() > 5, "Pieces " + engine.getPiecesLocked());
+        assertEquals(77L, recorded.getSeed());
+        assertSameGame(engine, replay(recorded));
+
+        Path file = directory.resolve("game" + Replay.FILE_EXTENSION);
+        recorded.write(file);
+        Replay loaded = Replay.read(file);
+        assertEquals(recorded.getEventCount(), loaded.getEventCount());
+        assertEquals(recorded.getEndTick(), loaded.getEndTick());
+        for (int i = 0; i < loaded.getEventCount(); i++) {
+            assertEquals(recorded.getEventType(i), loaded.getEventType(i));
+            assertEquals(recorded.getTick(i), loaded.getTick(i));
+        }
+        assertSameGame(engine, replay(loaded));
+    }
+
+    @Test
+    void testFinish_BotGameFitsInAFewKilobytes() {
+        GameEngine engine = new GameEngine(BoardType.BITBOARD.create(25, 10, 5L));
+        engine.newGame();
+        EngineEventListener listener = new EngineEventListener(engine);
+        ReplayRecorder recorder = new ReplayRecorder(null, ReplayRecorder.DEFAULT_CAPACITY);
+        recorder.start(5L, 25, 10);
+        PlacementSearch search = new PlacementSearch();
+        for (int piece = 0; piece < 500 && !engine.isGameOver(); piece++) {
+            Placement placement = search.findBest(engine.getBoard());
+            for (int i = 0; i < placement.getRotations(); i++) {
+                recorder.record(EventType.ROTATE);
+                listener.onRotateEvent(new MoveEvent(EventSource.USER));
+            }
+            for (int i = placement.getShift(); i < 0; i++) {
+                recorder.record(EventType.LEFT);
+                listener.onLeftEvent(new MoveEvent(EventSource.USER));
+            }
+            for (int i = placement.getShift(); i > 0; i--) {
+                recorder.record(EventType.RIGHT);
+                listener.onRightEvent(new MoveEvent(EventSource.USER));
+            }
+            recorder.tick();
+            listener.onDownEvent(new MoveEvent(EventSource.THREAD));
+            recorder.record(EventType.HARD_DROP);
+            listener.onHardDrop(listener.getCurrentBrick());
+        }
+        Replay recorded = recorder.finish();
+
+        assertTrue(recorded.getEncodedSize() < 8 * 1024, "Encoded size " + recorded.getEncodedSize());
+        assertSameGame(engine, replay(recorded));
+    }
+
+    @Test
+    void testDecode_RejectsDamagedData() {
+        ReplayRecorder recorder = new ReplayRecorder(null, 16);
+        recorder.start(9L, 25, 10);
+        recorder.record(EventType.LEFT);
+        recorder.tick();
+        recorder.record(EventType.HARD_DROP);
+        byte[] data = Replay.encode(25, 10, 9L, new byte[]{(byte) EventType.LEFT.ordinal()}, 1, 1, 0);
+
+        Replay replay = Replay.decode(data);
+        assertEquals(1, replay.getEventCount());
+        assertEquals(EventType.LEFT, replay.getEventType(0));
+        assertEquals(2, recorder.finish().getEventCount());
+        assertThrows(IllegalArgumentException.class, () -> Replay.decode(Arrays.copyOf(data, data.length - 1)));
+        byte[] badMagic = data.clone();
+        badMagic[0] = 0;
+        assertThrows(IllegalArgumentException.class, () -> Replay.decode(badMagic));
+    }
+}
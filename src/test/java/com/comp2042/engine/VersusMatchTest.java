@@ -0,0 +1,119 @@
+package com.comp2042.engine;
+
+import com.comp2042.model.BoardType;
+import com.comp2042.model.LockResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersusMatchTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    private GameEngine player;
+    private GameEngine opponent;
+    private VersusMatch match;
+
+    @BeforeEach
+    void setUp() {
+        player = new GameEngine(BoardType.MATRIX.create(ROWS, COLUMNS, 7L));
+        opponent = new GameEngine(BoardType.BITBOARD.create(ROWS, COLUMNS, 99L));
+        match = new VersusMatch(player, opponent, 3L);
+        match.newMatch();
+    }
+
+    @Test
+    void testNewMatch_BothGamesSeeTheSamePieces() {
+        assertEquals(player.getBoard().getCurrentBrick().getType(), opponent.getBoard().getCurrentBrick().getType());
+        assertEquals(player.getNextPieces(5), opponent.getNextPieces(5));
+
+        player.hardDrop();
+        opponent.hardDrop();
+        assertEquals(player.getBoard().getCurrentBrick().getType(), opponent.getBoard().getCurrentBrick().getType());
+    }
+
+    @Test
+    void testGarbageFor_FollowsLineClearTable() {
+        assertEquals(0, VersusMatch.garbageFor(0));
+        assertEquals(0, VersusMatch.garbageFor(1));
+        assertEquals(1, VersusMatch.garbageFor(2));
+        assertEquals(2, VersusMatch.garbageFor(3));
+        assertEquals(4, VersusMatch.garbageFor(4));
+    }
+
+    @Test
+    void testTetris_InsertsGarbageOnReceiversNextQuietLock() {
+        assertEquals(4, match.playerLocked(clear(4)));
+        assertEquals(4, match.getOpponentIncoming());
+        assertEquals(0, countFilledRows(opponent));
+
+        match.opponentLocked(clear(0));
+        assertEquals(0, match.getOpponentIncoming());
+        assertEquals(4, countFilledRows(opponent));
+        assertEquals(4, match.getPlayerSent());
+        assertFalse(match.isOver());
+    }
+
+    @Test
+    void testLineClear_CancelsIncomingGarbageFirst() {
+        match.opponentLocked(clear(4));
+        assertEquals(4, match.getPlayerIncoming());
+
+        assertEquals(0, match.playerLocked(clear(3)));
+        assertEquals(2, match.getPlayerIncoming());
+        assertEquals(0, match.getOpponentIncoming());
+
+        assertEquals(2, match.playerLocked(clear(4)));
+        assertEquals(0, match.getPlayerIncoming());
+        assertEquals(2, match.getOpponentIncoming());
+        assertEquals(0, countFilledRows(player));
+    }
+
+    @Test
+    void testGarbageOverflow_EndsMatchWithPlayerAsWinner() {
+        for (int i = 0; i < 6; i++) {
+            match.playerLocked(clear(4));
+        }
+        match.opponentLocked(clear(0));
+
+        assertTrue(opponent.isGameOver());
+        assertTrue(match.isOver());
+        assertTrue(match.isPlayerWinner());
+    }
+
+    /**
+     * Builds the result of a lock that cleared the bottom rows.
+     *
+     * @param lines the number of rows cleared
+     * @return the lock result
+     */
+    private static LockResult clear(int lines) {
+        int[] rows = new int[lines];
+        for (int i = 0; i < lines; i++) {
+            rows[i] = ROWS - 1 - i;
+        }
+        return new LockResult(rows, 0, false);
+    }
+
+    /**
+     * Counts the board rows with at least one filled cell, ignoring the
+     * current piece.
+     *
+     * @param engine the game
+     * @return the filled row count
+     */
+    private static int countFilledRows(GameEngine engine) {
+        int filled = 0;
+        for (int[] row : engine.getBoard().getBoardMatrix()) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    filled++;
+                    break;
+                }
+            }
+        }
+        return filled;
+    }
+}
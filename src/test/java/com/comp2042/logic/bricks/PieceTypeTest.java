@@ -0,0 +1,60 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PieceTypeTest {
+
+    @Test
+    void testShapes_MatchBrickShapeMatrices() {
+        for (PieceType type : PieceType.values()) {
+            List<int[][]> expected = type.getBrick().getShapeMatrix();
+            assertEquals(expected.size(), type.getRotationCount());
+            for (int rotation = 0; rotation < expected.size(); rotation++) {
+                assertArrayEquals(expected.get(rotation), type.getShape(rotation));
+            }
+        }
+    }
+
+    @Test
+    void testBrickType_RoundTrips() {
+        for (PieceType type : PieceType.values()) {
+            assertSame(type, type.getBrick().getType());
+            assertSame(type, PieceType.fromOrdinal(type.ordinal()));
+        }
+    }
+
+    @Test
+    void testCellsMasksAndBounds_AreConsistent() {
+        for (PieceType type : PieceType.values()) {
+            for (int rotation = 0; rotation < type.getRotationCount(); rotation++) {
+                int[][] shape = type.getShape(rotation);
+                int[] rows = type.getCellRows(rotation);
+                int[] columns = type.getCellColumns(rotation);
+                assertEquals(4, rows.length);
+
+                long[] masks = type.getRowMasks(rotation);
+                for (int i = 0; i < rows.length; i++) {
+                    assertEquals(type.getColorCode(), shape[rows[i]][columns[i]]);
+                    assertNotEquals(0, masks[rows[i]] & (1L << columns[i]));
+                    assertTrue(rows[i] >= type.getMinRow(rotation) && rows[i] <= type.getMaxRow(rotation));
+                    assertTrue(columns[i] >= type.getMinColumn(rotation) && columns[i] <= type.getMaxColumn(rotation));
+                }
+                int maskCells = 0;
+                for (long mask : masks) {
+                    maskCells += Long.bitCount(mask);
+                }
+                assertEquals(4, maskCells);
+            }
+        }
+    }
+
+    @Test
+    void testShapeAccess_DoesNotCopy() {
+        assertSame(PieceType.T.getShape(1), PieceType.T.getShape(1));
+        assertSame(PieceType.T.getShape(0), PieceType.T.getBrick().getType().getShape(0));
+    }
+}
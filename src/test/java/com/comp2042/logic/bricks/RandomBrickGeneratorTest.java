@@ -231,4 +231,45 @@ class RandomBrickGeneratorTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    private static String sequence(RandomBrickGenerator generator, int count) {
+        StringBuilder pieces = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            pieces.append(generator.getBrick().getType());
+        }
+        return pieces.toString();
+    }
+
+    @Test
+    void testSeededGenerator_IsReproducible() {
+        assertEquals(sequence(new RandomBrickGenerator(42), 70), sequence(new RandomBrickGenerator(42), 70));
+        assertNotEquals(sequence(new RandomBrickGenerator(42), 70), sequence(new RandomBrickGenerator(43), 70));
+    }
+
+    @Test
+    void testSeededGenerator_MatchesGoldenSequence() {
+        assertEquals("LSIOJZTTSZILOJIJSLTOZ", sequence(new RandomBrickGenerator(42), 21));
+    }
+
+    @Test
+    void testSplitMix64_MatchesReferenceOutput() {
+        SplitMix64 random = new SplitMix64(0);
+        assertEquals(0xE220A8397B1DCDAFL, random.nextLong());
+        assertEquals(0x6E789E6AA1B965F4L, random.nextLong());
+    }
+
+    @Test
+    void testSnapshotRestore_ReproducesStream() {
+        RandomBrickGenerator seeded = new RandomBrickGenerator(7);
+        sequence(seeded, 10);
+        BrickGeneratorState state = seeded.snapshot();
+        String expected = sequence(seeded, 50);
+
+        seeded.restore(state);
+        assertEquals(expected, sequence(seeded, 50));
+
+        generator.restore(state);
+        assertEquals(state, generator.snapshot());
+        assertEquals(expected, sequence(generator, 50));
+    }
+}
@@ -0,0 +1,212 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitboardTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    private static int[][] randomBoard(Random random, double density) {
+        int[][] board = new int[ROWS][COLUMNS];
+        for (int row = ROWS / 2; row < ROWS; row++) {
+            for (int column = 0; column < COLUMNS; column++) {
+                if (random.nextDouble() < density) {
+                    board[row][column] = 1 + random.nextInt(7);
+                }
+            }
+        }
+        return board;
+    }
+
+    @Test
+    void testIntersect_MatchesMatrixOperations() {
+        Random random = new Random(42);
+        RandomBrickGenerator generator = new RandomBrickGenerator();
+        Bitboard bitboard = new Bitboard(ROWS, COLUMNS);
+
+        for (int i = 0; i < 200; i++) {
+            int[][] board = randomBoard(random, 0.5);
+            bitboard.loadFrom(board);
+            for (int[][] shape : generator.getBrick().getShapeMatrix()) {
+                long[] masks = Bitboard.toRowMasks(shape);
+                for (int x = -4; x <= COLUMNS + 1; x++) {
+                    for (int y = -2; y <= ROWS; y++) {
+                        assertEquals(MatrixOperations.intersect(board, shape, x, y), bitboard.intersects(masks, x, y),
+                                "Mismatch at x=" + x + " y=" + y);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testClearFullRows_MatchesCheckRemoving() {
+        Random random = new Random(7);
+        Bitboard bitboard = new Bitboard(ROWS, COLUMNS);
+        int[] cleared = new int[ROWS];
+
+        for (int i = 0; i < 100; i++) {
+            int[][] board = randomBoard(random, 0.9);
+            bitboard.loadFrom(board);
+            ClearRow expected = MatrixOperations.checkRemoving(board);
+
+            int count = bitboard.clearFullRows(cleared);
+
+            assertEquals(expected.getLinesRemoved(), count);
+            int[][] expectedMatrix = expected.getNewMatrix();
+            for (int row = 0; row < ROWS; row++) {
+                for (int column = 0; column < COLUMNS; column++) {
+                    assertEquals(expectedMatrix[row][column] != 0, bitboard.isOccupied(row, column));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testClearFullRows_RangeKeepsRowsOutsideIt() {
+        int[][] board = new int[ROWS][COLUMNS];
+        for (int row : new int[]{ROWS - 6, ROWS - 4, ROWS - 3, ROWS - 1}) {
+            Arrays.fill(board[row], 1);
+        }
+        board[ROWS - 5][0] = 1;
+        board[ROWS - 2][COLUMNS - 1] = 1;
+        Bitboard bitboard = new Bitboard(ROWS, COLUMNS);
+        bitboard.loadFrom(board);
+        int[] cleared = new int[ROWS];
+
+        int count = bitboard.clearFullRows(ROWS - 5, ROWS - 2, cleared);
+
+        assertEquals(2, count);
+        assertArrayEquals(new int[]{ROWS - 4, ROWS - 3}, Arrays.copyOf(cleared, count));
+        assertTrue(bitboard.isRowFull(ROWS - 1));
+        assertTrue(bitboard.isOccupied(ROWS - 2, COLUMNS - 1));
+        assertTrue(bitboard.isOccupied(ROWS - 3, 0));
+        assertTrue(bitboard.isRowFull(ROWS - 4));
+        assertEquals(ROWS - 4, bitboard.findTopFilledRow());
+    }
+
+    @Test
+    void testBitboardBoard_MatchesSimpleBoard() {
+        SimpleBoard simple = new SimpleBoard(ROWS, COLUMNS);
+        BitboardBoard bitboard = new BitboardBoard(ROWS, COLUMNS);
+        simple.newGame();
+        bitboard.newGame();
+        RandomBrickGenerator generator = new RandomBrickGenerator();
+        Random random = new Random(3);
+
+        for (int piece = 0; piece < 300; piece++) {
+            Brick brick = generator.getBrick();
+            simple.spawnBrick(brick);
+            bitboard.spawnBrick(brick);
+            if (simple.checkCollision()) {
+                assertTrue(bitboard.checkCollision());
+                break;
+            }
+            for (int step = 0; step < 6; step++) {
+                switch (random.nextInt(3)) {
+                    case 0 -> assertEquals(simple.moveBrickLeft(), bitboard.moveBrickLeft());
+                    case 1 -> assertEquals(simple.moveBrickRight(), bitboard.moveBrickRight());
+                    default -> assertEquals(simple.rotateLeftBrick(), bitboard.rotateLeftBrick());
+                }
+            }
+            ClearRow expected = simple.hardDropBrick();
+            ClearRow actual = bitboard.hardDropBrick();
+            assertEquals(expected.getLinesRemoved(), actual.getLinesRemoved());
+            assertEquals(expected.getScoreBonus(), actual.getScoreBonus());
+            assertArrayEquals(simple.getBoardMatrix(), bitboard.getBoardMatrix());
+            assertArrayEquals(scanHeights(simple.getBoardMatrix()), simple.getColumnHeights());
+            assertArrayEquals(scanHeights(bitboard.getBoardMatrix()), bitboard.getColumnHeights());
+        }
+    }
+
+    @Test
+    void testLandingRow_MatchesStepwiseDrop() {
+        SimpleBoard simple = new SimpleBoard(ROWS, COLUMNS);
+        simple.newGame();
+        RandomBrickGenerator generator = new RandomBrickGenerator();
+        Random random = new Random(11);
+
+        for (int piece = 0; piece < 300; piece++) {
+            simple.spawnBrick(generator.getBrick());
+            if (simple.checkCollision()) {
+                break;
+            }
+            for (int step = 0; step < 4; step++) {
+                switch (random.nextInt(3)) {
+                    case 0 -> simple.moveBrickLeft();
+                    case 1 -> simple.moveBrickRight();
+                    default -> simple.rotateLeftBrick();
+                }
+            }
+            ViewData view = simple.getViewData();
+            int expected = view.getyPosition();
+            while (!MatrixOperations.intersect(simple.getBoardMatrix(), view.getBrickData(),
+                    view.getxPosition(), expected + 1)) {
+                expected++;
+            }
+            assertEquals(expected, simple.getLandingRow());
+            simple.hardDropAndLock();
+        }
+    }
+
+    @Test
+    void testAddGarbageRows_BoardsAgree() {
+        SimpleBoard simple = new SimpleBoard(ROWS, COLUMNS);
+        BitboardBoard bitboard = new BitboardBoard(ROWS, COLUMNS);
+        simple.newGame();
+        bitboard.newGame();
+        RandomBrickGenerator generator = new RandomBrickGenerator();
+        Random random = new Random(19);
+
+        for (int piece = 0; piece < 200; piece++) {
+            if (piece % 3 == 0) {
+                int count = 1 + random.nextInt(2);
+                int hole = random.nextInt(COLUMNS);
+                assertEquals(simple.addGarbageRows(count, hole), bitboard.addGarbageRows(count, hole));
+            }
+            Brick brick = generator.getBrick();
+            simple.spawnBrick(brick);
+            bitboard.spawnBrick(brick);
+            if (simple.checkCollision()) {
+                assertTrue(bitboard.checkCollision());
+                break;
+            }
+            for (int step = random.nextInt(6); step > 0; step--) {
+                assertEquals(simple.moveBrickLeft(), bitboard.moveBrickLeft());
+            }
+            assertEquals(simple.getLandingRow(), bitboard.getLandingRow());
+            ClearRow expected = simple.hardDropBrick();
+            ClearRow actual = bitboard.hardDropBrick();
+            assertEquals(expected.getLinesRemoved(), actual.getLinesRemoved());
+            assertArrayEquals(simple.getBoardMatrix(), bitboard.getBoardMatrix());
+            assertArrayEquals(scanHeights(simple.getBoardMatrix()), simple.getColumnHeights());
+            assertArrayEquals(scanHeights(bitboard.getBoardMatrix()), bitboard.getColumnHeights());
+        }
+    }
+
+    private static int[] scanHeights(int[][] board) {
+        int[] heights = new int[board[0].length];
+        for (int column = 0; column < heights.length; column++) {
+            for (int row = 0; row < board.length; row++) {
+                if (board[row][column] != 0) {
+                    heights[column] = board.length - row;
+                    break;
+                }
+            }
+        }
+        return heights;
+    }
+
+    @Test
+    void testConstructor_RejectsTooWideBoard() {
+        assertThrows(IllegalArgumentException.class, () -> new Bitboard(10, Bitboard.MAX_COLUMNS + 1));
+    }
+}
@@ -0,0 +1,121 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.SplitMix64;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardBatchTest {
+
+    private static void randomPlacements(BoardBatch batch, Random random, int[] rotations, int[] xs) {
+        for (int board = 0; board < batch.size(); board++) {
+            rotations[board] = random.nextInt(batch.getPieceType(board).getRotationCount());
+            xs[board] = random.nextInt(batch.getColumns() + 4) - 2;
+        }
+    }
+
+    private static void assertSameBoard(SimpleBoard expected, BoardBatch batch, int board, String message) {
+        int[][] matrix = expected.getBoardMatrix();
+        for (int row = 0; row < batch.getRows(); row++) {
+            long bits = 0;
+            for (int column = 0; column < batch.getColumns(); column++) {
+                bits |= matrix[row][column] != 0 ? 1L << column : 0;
+            }
+            assertEquals(bits, batch.getRowBits(board, row), message + ", row " + row);
+        }
+    }
+
+    private static int playAgainstSimpleBoards(int rows, int columns, int size, int steps) {
+        BoardBatch batch = new BoardBatch(size, rows, columns);
+        SimpleBoard[] boards = new SimpleBoard[size];
+        int[] scores = new int[size];
+        for (int board = 0; board < size; board++) {
+            batch.newGame(board, 100 + board);
+            boards[board] = new SimpleBoard(rows, columns, new RandomBrickGenerator(100 + board));
+            boards[board].newGame();
+        }
+        Random random = new Random(8);
+        int[] rotations = new int[size];
+        int[] xs = new int[size];
+        boolean[] finished = new boolean[size];
+        int lines = 0;
+
+        for (int step = 0; step < steps; step++) {
+            randomPlacements(batch, random, rotations, xs);
+            int running = batch.placeAll(rotations, xs);
+
+            int expectedRunning = 0;
+            for (int board = 0; board < size; board++) {
+                if (finished[board]) {
+                    continue;
+                }
+                SimpleBoard simple = boards[board];
+                String message = "Board " + board + ", step " + step;
+                for (int turn = 0; turn < rotations[board]; turn++) {
+                    if (!simple.rotateLeftBrick()) {
+                        break;
+                    }
+                }
+                for (int shift = xs[board] - simple.getBrickX(); shift != 0; shift -= Integer.signum(shift)) {
+                    if (!(shift < 0 ? simple.moveBrickLeft() : simple.moveBrickRight())) {
+                        break;
+                    }
+                }
+                LockResult lockResult = simple.hardDropAndLock();
+                scores[board] += lockResult.getScoreBonus();
+                lines += lockResult.getLinesRemoved();
+                finished[board] = lockResult.isGameOver();
+
+                assertSameBoard(simple, batch, board, message);
+                assertEquals(scores[board], batch.getScore(board), message);
+                assertEquals(lockResult.isGameOver(), batch.isGameOver(board), message);
+                assertEquals(simple.getCurrentBrick().getType(), batch.getPieceType(board), message);
+                expectedRunning += finished[board] ? 0 : 1;
+            }
+            assertEquals(expectedRunning, running, "Step " + step);
+        }
+        int batchLines = 0;
+        for (int board = 0; board < size; board++) {
+            batchLines += batch.getLinesCleared(board);
+        }
+        assertEquals(lines, batchLines);
+        return lines;
+    }
+
+    @Test
+    void testPlaceAll_MatchesSimpleBoard() {
+        playAgainstSimpleBoards(25, 10, 48, 300);
+        assertTrue(playAgainstSimpleBoards(12, 8, 64, 200) > 0, "Narrow boards clear lines");
+    }
+
+    @Test
+    void testNewGames_SeedsBoardsInOrder() {
+        int size = 16;
+        BoardBatch seeded = new BoardBatch(size, 25, 10);
+        BoardBatch manual = new BoardBatch(size, 25, 10);
+        seeded.newGames(3L);
+        SplitMix64 seeds = new SplitMix64(3L);
+        for (int board = 0; board < size; board++) {
+            manual.newGame(board, seeds.nextLong());
+        }
+        Random random = new Random(2);
+        int[] rotations = new int[size];
+        int[] xs = new int[size];
+
+        for (int step = 0; step < 100; step++) {
+            randomPlacements(seeded, random, rotations, xs);
+            assertEquals(manual.placeAll(rotations, xs), seeded.placeAll(rotations, xs));
+        }
+
+        for (int board = 0; board < size; board++) {
+            assertEquals(manual.getScore(board), seeded.getScore(board));
+            for (int row = 0; row < 25; row++) {
+                assertEquals(manual.getRowBits(board, row), seeded.getRowBits(board, row));
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new BoardBatch(1, 25, Bitboard.MAX_COLUMNS + 1));
+    }
+}
@@ -0,0 +1,145 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardProfileTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    private static int[] recompute(int[][] matrix) {
+        int rows = matrix.length;
+        int columns = matrix[0].length;
+        int[] heights = new int[columns];
+        int filled = 0;
+        int rowTransitions = 0;
+        int columnTransitions = 0;
+        for (int row = 0; row < rows; row++) {
+            boolean empty = true;
+            for (int column = 0; column < columns; column++) {
+                boolean cell = matrix[row][column] != 0;
+                if (cell) {
+                    empty = false;
+                    filled++;
+                    heights[column] = Math.max(heights[column], rows - row);
+                }
+                boolean above = row > 0 && matrix[row - 1][column] != 0;
+                columnTransitions += above != cell ? 1 : 0;
+                if (row == rows - 1 && !cell) {
+                    columnTransitions++;
+                }
+            }
+            if (!empty) {
+                boolean previous = true;
+                for (int column = 0; column <= columns; column++) {
+                    boolean cell = column == columns || matrix[row][column] != 0;
+                    rowTransitions += previous != cell ? 1 : 0;
+                    previous = cell;
+                }
+            }
+        }
+        int aggregateHeight = 0;
+        int bumpiness = 0;
+        int wells = 0;
+        for (int column = 0; column < columns; column++) {
+            aggregateHeight += heights[column];
+            if (column > 0) {
+                bumpiness += Math.abs(heights[column] - heights[column - 1]);
+            }
+            int left = column > 0 ? heights[column - 1] : rows;
+            int right = column + 1 < columns ? heights[column + 1] : rows;
+            wells += Math.max(0, Math.min(left, right) - heights[column]);
+        }
+        int[] metrics = new int[BoardMetric.COUNT];
+        metrics[BoardMetric.AGGREGATE_HEIGHT.ordinal()] = aggregateHeight;
+        metrics[BoardMetric.HOLES.ordinal()] = aggregateHeight - filled;
+        metrics[BoardMetric.BUMPINESS.ordinal()] = bumpiness;
+        metrics[BoardMetric.WELLS.ordinal()] = wells;
+        metrics[BoardMetric.ROW_TRANSITIONS.ordinal()] = rowTransitions;
+        metrics[BoardMetric.COLUMN_TRANSITIONS.ordinal()] = columnTransitions;
+        return metrics;
+    }
+
+    private static void playRandomly(Board board, long seed) {
+        Random random = new Random(seed);
+        board.newGame();
+        int[] measured = new int[BoardMetric.COUNT];
+        int[] actual = new int[BoardMetric.COUNT];
+        for (int piece = 0; piece < 400; piece++) {
+            if (random.nextInt(8) == 0) {
+                board.addGarbageRows(1 + random.nextInt(2), random.nextInt(COLUMNS));
+                assertArrayEquals(recompute(board.getBoardMatrix()), board.getMetrics().getMetrics(actual),
+                        "After garbage at piece " + piece);
+                if (board.checkCollision()) {
+                    board.newGame();
+                }
+            }
+            for (int turns = random.nextInt(4); turns > 0; turns--) {
+                board.rotateLeftBrick();
+            }
+            for (int shift = random.nextInt(COLUMNS) - COLUMNS / 2; shift != 0; shift -= Integer.signum(shift)) {
+                if (shift < 0 ? !board.moveBrickLeft() : !board.moveBrickRight()) {
+                    break;
+                }
+            }
+            PieceType pieceType = board.getCurrentBrick().getType();
+            boolean isMeasured = board.getMetrics().measurePlacement(pieceType, board.getBrickRotation(),
+                    board.getBrickX(), board.getLandingRow(), measured);
+
+            LockResult result = board.hardDropAndLock();
+
+            assertArrayEquals(recompute(board.getBoardMatrix()), board.getMetrics().getMetrics(actual),
+                    "After piece " + piece);
+            assertEquals(result.getLinesRemoved() == 0, isMeasured, "Measurability of piece " + piece);
+            if (isMeasured) {
+                assertArrayEquals(actual, measured, "Measured placement of piece " + piece);
+            }
+            if (result.isGameOver()) {
+                board.newGame();
+                assertEquals(0, board.getMetrics().getMetric(BoardMetric.AGGREGATE_HEIGHT));
+            }
+        }
+    }
+
+    @Test
+    void testSimpleBoardMetrics_MatchFullRecomputation() {
+        playRandomly(new SimpleBoard(ROWS, COLUMNS, new RandomBrickGenerator(11L)), 3L);
+    }
+
+    @Test
+    void testBitboardBoardMetrics_MatchFullRecomputation() {
+        playRandomly(new BitboardBoard(ROWS, COLUMNS, new RandomBrickGenerator(12L)), 4L);
+    }
+
+    @Test
+    void testMeasurePlacement_LeavesProfileUnchanged() {
+        BoardProfile profile = new BoardProfile(ROWS, COLUMNS);
+        profile.onPiecePlaced(PieceType.O, 0, 0, ROWS - 2);
+        int[] before = profile.getMetrics(new int[BoardMetric.COUNT]);
+        int[] heights = profile.getColumnHeights();
+
+        assertTrue(profile.measurePlacement(PieceType.I, 0, 3, ROWS - 2, new int[BoardMetric.COUNT]));
+        assertFalse(profile.measurePlacement(PieceType.O, 0, 0, ROWS - 2, new int[BoardMetric.COUNT]),
+                "Overlapping placement");
+
+        assertArrayEquals(before, profile.getMetrics(new int[BoardMetric.COUNT]));
+        assertArrayEquals(heights, profile.getColumnHeights());
+        assertEquals(2, profile.getRowFill(ROWS - 1));
+    }
+
+    @Test
+    void testEmptyBoard_CountsOnlyFloorTransitions() {
+        BoardProfile profile = new BoardProfile(ROWS, COLUMNS);
+        int[] metrics = profile.getMetrics(new int[BoardMetric.COUNT]);
+        int[] expected = new int[BoardMetric.COUNT];
+        expected[BoardMetric.COLUMN_TRANSITIONS.ordinal()] = COLUMNS;
+        assertArrayEquals(expected, metrics, Arrays.toString(metrics));
+    }
+}
@@ -315,6 +315,37 @@ class MatrixOperationsTest {
         assertEquals(2, copy[0].length);
     }
 
+    @Test
+    void testClearFullRows_InPlaceMatchesCheckRemoving() {
+        int[][] board = {
+                {0, 1, 0},
+                {1, 1, 1},
+                {2, 0, 2},
+                {3, 3, 3}
+        };
+        ClearRow expected = MatrixOperations.checkRemoving(board);
+        int[] cleared = new int[board.length];
+
+        int count = MatrixOperations.clearFullRows(board, cleared);
+
+        assertEquals(expected.getLinesRemoved(), count);
+        assertEquals(1, cleared[0]);
+        assertEquals(3, cleared[1]);
+        assertArrayEquals(expected.getNewMatrix(), board);
+    }
+
+    @Test
+    void testClearFullRows_NoFullRowsLeavesBoardUntouched() {
+        int[][] board = {
+                {0, 1},
+                {1, 0}
+        };
+        int[] firstRow = board[0];
+
+        assertEquals(0, MatrixOperations.clearFullRows(board, new int[2]));
+        assertSame(firstRow, board[0]);
+    }
+
     static Stream<Object[]> intersectScenarios() {
         return Stream.of(
                 new Object[]{
@@ -0,0 +1,77 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowRingTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    private static void fillRandom(RowRing ring, int[][] matrix, Random random) {
+        for (int row = 0; row < ROWS; row++) {
+            for (int column = 0; column < COLUMNS; column++) {
+                int value = random.nextInt(3) == 0 ? 0 : 1 + random.nextInt(7);
+                ring.row(row)[column] = value;
+                matrix[row][column] = value;
+            }
+        }
+    }
+
+    @Test
+    void testRemoveRows_MatchesMatrixOperations() {
+        Random random = new Random(5);
+        RowRing ring = new RowRing(ROWS, COLUMNS);
+        int[][] expected = new int[ROWS][COLUMNS];
+        int[] removed = new int[ROWS];
+
+        for (int i = 0; i < 200; i++) {
+            fillRandom(ring, expected, random);
+            int count = 0;
+            for (int row = 0; row < ROWS; row++) {
+                if (random.nextInt(6) == 0) {
+                    removed[count++] = row;
+                }
+            }
+
+            ring.removeRows(removed, count);
+            MatrixOperations.removeRows(expected, removed, count);
+
+            assertArrayEquals(expected, ring.view());
+        }
+    }
+
+    @Test
+    void testInsertBottomRows_ShiftsRowsUp() {
+        RowRing ring = new RowRing(ROWS, COLUMNS);
+        ring.row(ROWS - 1)[3] = 5;
+
+        assertFalse(ring.insertBottomRows(2));
+
+        assertEquals(5, ring.view()[ROWS - 3][3]);
+        assertArrayEquals(new int[COLUMNS], ring.view()[ROWS - 1]);
+    }
+
+    @Test
+    void testInsertBottomRows_ReportsOverflow() {
+        RowRing ring = new RowRing(ROWS, COLUMNS);
+        ring.row(1)[0] = 1;
+
+        assertTrue(ring.insertBottomRows(2));
+        assertArrayEquals(new int[ROWS][COLUMNS], ring.view());
+    }
+
+    @Test
+    void testView_IsStableBetweenReorders() {
+        RowRing ring = new RowRing(ROWS, COLUMNS);
+        int[][] view = ring.view();
+        ring.insertBottomRows(3);
+
+        assertSame(view, ring.view());
+        ring.view()[0][0] = 4;
+        assertEquals(4, ring.row(0)[0]);
+    }
+}
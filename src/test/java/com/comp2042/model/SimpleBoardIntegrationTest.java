@@ -1,8 +1,10 @@
 package com.comp2042.model;
 
-import com.comp2042.view.ViewData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class SimpleBoardIntegrationTest {
@@ -84,4 +86,38 @@ class SimpleBoardIntegrationTest {
         score.add(-20);
         assertEquals(30, score.getScore());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testLockBrick_SpawnsNextBrickAndKeepsBoardInPlace() {
+        int[][] liveMatrix = board.getBoardMatrix();
+
+        LockResult result = board.hardDropAndLock();
+
+        assertSame(liveMatrix, board.getBoardMatrix());
+        assertEquals(0, result.getLinesRemoved());
+        assertTrue(result.getScoreBonus() > 0);
+        assertFalse(result.isGameOver());
+        assertNotNull(board.getCurrentBrick());
+    }
+
+    @Test
+    void testSnapshot_IsIndependentCopy() {
+        board.hardDropAndLock();
+        int[][] snapshot = board.snapshot();
+        int[][] expected = MatrixOperations.copy(snapshot);
+
+        assertArrayEquals(board.getBoardMatrix(), snapshot);
+        for (int i = 0; i < 3; i++) {
+            board.hardDropAndLock();
+        }
+
+        int[][] liveMatrix = board.getBoardMatrix();
+        assertFalse(Arrays.deepEquals(liveMatrix, expected), "Locks should change the board");
+        assertArrayEquals(expected, snapshot);
+        for (int[] liveRow : liveMatrix) {
+            for (int[] snapshotRow : snapshot) {
+                assertNotSame(liveRow, snapshotRow);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.comp2042.sim;
+
+import com.comp2042.model.BoardType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSimulatorTest {
+
+    @Test
+    void testRun_SameSeedGivesSameResultsOnAnyThreadCount() {
+        BatchSimulator simulator = new BatchSimulator(BoardType.BITBOARD, PolicyType.RANDOM, 200);
+
+        SimulationReport single = simulator.run(24, 7L, 1);
+        SimulationReport parallel = simulator.run(24, 7L, 3);
+
+        assertEquals(24, single.getGames());
+        assertEquals(single.getTotalPieces(), parallel.getTotalPieces());
+        assertEquals(single.getTotalLines(), parallel.getTotalLines());
+        for (double percentile : new double[]{0, 25, 50, 75, 100}) {
+            assertEquals(single.getScorePercentile(percentile), parallel.getScorePercentile(percentile));
+        }
+        assertEquals(single.getTotalPieces(), single.getStepLatency().getCount());
+    }
+
+    @Test
+    void testRun_BoardTypesPlayIdenticalGames() {
+        SimulationReport matrix = new BatchSimulator(BoardType.MATRIX, PolicyType.SCRIPTED, 200).run(8, 11L, 1);
+        SimulationReport bitboard = new BatchSimulator(BoardType.BITBOARD, PolicyType.SCRIPTED, 200).run(8, 11L, 1);
+
+        assertEquals(matrix.getTotalPieces(), bitboard.getTotalPieces());
+        assertEquals(matrix.getScorePercentile(50), bitboard.getScorePercentile(50));
+        assertEquals(matrix.getScorePercentile(100), bitboard.getScorePercentile(100));
+    }
+
+    @Test
+    void testLatencyHistogram_PercentilesAndMerge() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        for (int value = 1; value <= 10; value++) {
+            first.record(value);
+        }
+        second.record(1000);
+
+        first.merge(second);
+
+        assertEquals(11, first.getCount());
+        assertEquals(6, first.getValueAtPercentile(50));
+        assertEquals(10, first.getValueAtPercentile(90));
+        assertEquals(1000, first.getMax());
+        assertTrue(first.getValueAtPercentile(100) >= 896);
+        assertEquals(0, new LatencyHistogram().getValueAtPercentile(50));
+    }
+}
@@ -0,0 +1,125 @@
+package com.comp2042.sim;
+
+import com.comp2042.ai.Placement;
+import com.comp2042.ai.PlacementSearch;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.logic.bricks.SplitMix64;
+import com.comp2042.model.Bitboard;
+import com.comp2042.model.BoardType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatasetTest {
+
+    @Test
+    void testWriter_RecordsRoundTripAcrossChunks(@TempDir Path directory) throws IOException {
+        int rows = 12;
+        int columns = 7;
+        Path file = directory.resolve("records.tds");
+        Random random = new Random(4);
+        int[][][] matrices = new int[23][rows][columns];
+        Bitboard board = new Bitboard(rows, columns);
+        try (DatasetWriter writer = new DatasetWriter(file, rows, columns, 2, 5)) {
+            for (int game = 0; game < 2; game++) {
+                writer.beginGame();
+                for (int i = game * 11; i < (game + 1) * 11 + game; i++) {
+                    for (int[] row : matrices[i]) {
+                        for (int column = 0; column < columns; column++) {
+                            row[column] = random.nextInt(3) == 0 ? 1 : 0;
+                        }
+                    }
+                    board.loadFrom(matrices[i]);
+                    writer.add(board, PieceType.fromOrdinal(i % 7), i % 3 == 0 ? null : PieceType.fromOrdinal(i % 5),
+                            i % 2 == 0, List.of(PieceType.fromOrdinal((i + 1) % 7)),
+                            DatasetWriter.packPlacement(i % 2 == 1, i % 4, i % 9 - 2, i - 1), 1);
+                }
+                writer.endGame(game == 1);
+            }
+            assertEquals(23, writer.getRecordCount());
+        }
+
+        try (DatasetReader reader = new DatasetReader(file)) {
+            assertEquals(23, reader.size());
+            assertEquals(2, reader.getBoardWords());
+            assertEquals(2, reader.getPreviewCount());
+            for (int i = 0; i < 23; i++) {
+                for (int row = 0; row < rows; row++) {
+                    for (int column = 0; column < columns; column++) {
+                        assertEquals(matrices[i][row][column] != 0, reader.isFilled(i, row, column), "Record " + i);
+                    }
+                }
+                int placement = reader.getPlacement(i);
+                assertEquals(i % 2 == 1, DatasetWriter.isHold(placement));
+                assertEquals(i % 4, DatasetWriter.rotation(placement));
+                assertEquals(i % 9 - 2, DatasetWriter.x(placement));
+                assertEquals(i - 1, DatasetWriter.y(placement));
+                assertEquals(PieceType.fromOrdinal(i % 7), reader.getPieceType(i));
+                assertEquals(i % 3 == 0 ? null : PieceType.fromOrdinal(i % 5), reader.getHeldPiece(i));
+                assertEquals(i % 2 == 0, reader.canHold(i));
+                assertEquals(PieceType.fromOrdinal((i + 1) % 7), reader.getPreview(i, 0));
+                assertEquals(PieceType.fromOrdinal(0), reader.getPreview(i, 1), "Missing preview entry");
+                int remaining = i < 11 ? 11 - i : 23 - i;
+                assertEquals(remaining, reader.getFutureLines(i));
+                assertEquals(remaining, reader.getFuturePieces(i));
+                assertEquals(i >= 11, reader.isToppedOut(i));
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.getPlacement(23));
+        }
+    }
+
+    @Test
+    void testExport_ShardsReplayTheHeuristicGames(@TempDir Path directory) throws IOException {
+        int maxPieces = 40;
+        long records = new DatasetExporter(PolicyType.HEURISTIC, maxPieces).export(directory, 3, 11L, 2);
+
+        long total = 0;
+        for (int shard = 0; shard < 2; shard++) {
+            try (DatasetReader reader = new DatasetReader(DatasetExporter.shardPath(directory, shard))) {
+                total += reader.size();
+            }
+        }
+        assertEquals(records, total);
+
+        GameEngine engine = new GameEngine(BoardType.BITBOARD.create(BatchSimulator.ROWS, BatchSimulator.COLUMNS,
+                new SplitMix64(11L + 2).nextLong()));
+        engine.newGame();
+        PlacementSearch search = new PlacementSearch();
+        Bitboard expected = new Bitboard(BatchSimulator.ROWS, BatchSimulator.COLUMNS);
+        long[] board = new long[DatasetWriter.boardWords(BatchSimulator.ROWS, BatchSimulator.COLUMNS)];
+        try (DatasetReader reader = new DatasetReader(DatasetExporter.shardPath(directory, 0))) {
+            long first = reader.getFuturePieces(0);
+            assertTrue(first > 0 && first <= maxPieces);
+            for (long i = first; i < first + reader.getFuturePieces(first); i++) {
+                PlacementSearch.loadOccupancy(engine.getBoard(), expected);
+                reader.readBoard(i, board);
+                for (int row = 0; row < BatchSimulator.ROWS; row++) {
+                    int bit = row * BatchSimulator.COLUMNS;
+                    long bits = board[bit / Long.SIZE] >>> bit;
+                    if (bit % Long.SIZE + BatchSimulator.COLUMNS > Long.SIZE) {
+                        bits |= board[bit / Long.SIZE + 1] << -bit;
+                    }
+                    assertEquals(expected.getRowBits(row), bits & ((1L << BatchSimulator.COLUMNS) - 1), "Row " + row);
+                }
+                assertEquals(engine.getBoard().getCurrentBrick().getType(), reader.getPieceType(i));
+                assertEquals(engine.getNextPieces(1).get(0), reader.getPreview(i, 0));
+
+                Placement placement = search.findBest(engine.getBoard());
+                int packed = reader.getPlacement(i);
+                assertEquals(placement.getRotation(), DatasetWriter.rotation(packed));
+                assertEquals(placement.getX(), DatasetWriter.x(packed));
+                assertEquals(placement.getY(), DatasetWriter.y(packed));
+                placement.applyTo(engine);
+            }
+            assertEquals(engine.isGameOver(), reader.isToppedOut(first));
+            assertEquals(engine.getLinesCleared(), reader.getFutureLines(first));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.comp2042.sim;
+
+import com.comp2042.ai.PlacementList;
+import com.comp2042.logic.bricks.PieceType;
+import com.comp2042.logic.bricks.SplitMix64;
+import com.comp2042.model.Bitboard;
+import com.comp2042.model.BoardType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TetrisEnvTest {
+
+    private static int randomLegalAction(int[] observation, int offset, Random random) {
+        int count = 0;
+        int chosen = -1;
+        for (int action = 0; action < TetrisEnv.ACTION_COUNT; action++) {
+            if (observation[offset + TetrisEnv.MASK_INDEX + action] != 0 && random.nextInt(++count) == 0) {
+                chosen = action;
+            }
+        }
+        return chosen;
+    }
+
+    @Test
+    void testReset_MaskMatchesPlacementList() {
+        TetrisEnv env = new TetrisEnv(BoardType.BITBOARD, 100);
+        int[] observation = env.reset(3L);
+        PieceType pieceType = PieceType.fromOrdinal(observation[TetrisEnv.PIECE_INDEX]);
+        int placements = new PlacementList().generate(new Bitboard(TetrisEnv.ROWS, TetrisEnv.COLUMNS), pieceType, 0,
+                PieceType.SPAWN_X, PieceType.SPAWN_Y);
+
+        boolean[] mask = env.getActionMask();
+        int legal = 0;
+        for (int action = 0; action < TetrisEnv.ROTATIONS * TetrisEnv.COLUMNS; action++) {
+            legal += mask[action] ? 1 : 0;
+        }
+
+        assertEquals(placements, legal);
+        assertEquals(0, observation[TetrisEnv.PIECE_INDEX + 1]);
+        assertEquals(1, observation[TetrisEnv.PIECE_INDEX + 2]);
+        assertTrue(mask[TetrisEnv.encodeAction(true, 0, 0)], "Hold brings in the first preview piece");
+        assertThrows(IllegalArgumentException.class, () -> env.step(TetrisEnv.encodeAction(false, 0, 9)));
+    }
+
+    @Test
+    void testStep_RandomLegalActionsPlayWholeEpisodes() {
+        for (BoardType boardType : BoardType.values()) {
+            TetrisEnv env = new TetrisEnv(boardType, 150);
+            Random random = new Random(5);
+            int[] observation = env.reset(9L);
+            int episodes = 0;
+            for (int step = 0; step < 600; step++) {
+                int pieces = env.getEngine().getPiecesLocked();
+                StepResult result = env.step(randomLegalAction(observation, 0, random));
+                observation = result.getObservation();
+
+                assertEquals(pieces + 1, env.getEngine().getPiecesLocked(), boardType.name());
+                assertTrue(result.getReward() >= 0, boardType.name());
+                if (result.isDone()) {
+                    assertThrows(IllegalStateException.class, () -> env.step(0));
+                    observation = env.reset(step);
+                    episodes++;
+                }
+            }
+            assertTrue(episodes > 0, boardType.name());
+        }
+    }
+
+    @Test
+    void testVectorEnv_MatchesSingleEnvironmentsAndRestartsEpisodes() {
+        int count = 3;
+        VectorEnv vector = new VectorEnv(count, BoardType.BITBOARD, 20);
+        int[] observations = new int[count * TetrisEnv.OBSERVATION_SIZE];
+        IntBuffer mapped = ByteBuffer.allocateDirect(observations.length * Integer.BYTES).asIntBuffer();
+        float[] rewards = new float[count];
+        boolean[] dones = new boolean[count];
+        vector.reset(17L, observations);
+
+        SplitMix64 seeds = new SplitMix64(17L);
+        TetrisEnv[] singles = new TetrisEnv[count];
+        for (int i = 0; i < count; i++) {
+            singles[i] = new TetrisEnv(BoardType.BITBOARD, 20);
+            assertArrayEquals(singles[i].reset(seeds.nextLong()), Arrays.copyOfRange(observations,
+                    i * TetrisEnv.OBSERVATION_SIZE, (i + 1) * TetrisEnv.OBSERVATION_SIZE));
+        }
+
+        Random random = new Random(1);
+        int[] actions = new int[count];
+        for (int step = 0; step < 20; step++) {
+            for (int i = 0; i < count; i++) {
+                actions[i] = randomLegalAction(observations, i * TetrisEnv.OBSERVATION_SIZE, random);
+            }
+            vector.step(actions, observations, rewards, dones);
+            for (int i = 0; i < count; i++) {
+                StepResult result = singles[i].step(actions[i]);
+                assertEquals(result.getReward(), rewards[i]);
+                assertEquals(result.isDone(), dones[i]);
+                if (!dones[i]) {
+                    assertArrayEquals(result.getObservation(), Arrays.copyOfRange(observations,
+                            i * TetrisEnv.OBSERVATION_SIZE, (i + 1) * TetrisEnv.OBSERVATION_SIZE));
+                }
+            }
+        }
+
+        assertTrue(dones[0] && dones[1] && dones[2], "Every episode hits the piece limit on step 20");
+        for (int i = 0; i < count; i++) {
+            assertEquals(0, vector.getEnv(i).getEngine().getPiecesLocked(), "Restarted episode");
+            assertEquals(0, observations[i * TetrisEnv.OBSERVATION_SIZE + TetrisEnv.ROWS - 1], "Empty bottom row");
+        }
+
+        vector.reset(17L, mapped);
+        vector.reset(17L, observations);
+        int[] copied = new int[observations.length];
+        mapped.get(0, copied);
+        assertArrayEquals(observations, copied);
+    }
+}
@@ -0,0 +1,65 @@
+package com.comp2042.sim;
+
+import com.comp2042.ai.EvaluationWeights;
+import com.comp2042.model.BoardType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightTunerTest {
+
+    @Test
+    void testRunGeneration_SameSeedGivesSamePopulationOnAnyThreadCount() {
+        WeightTuner single = new WeightTuner(BoardType.BITBOARD, 6, 2, 60, 3L);
+        WeightTuner parallel = new WeightTuner(BoardType.BITBOARD, 6, 2, 60, 3L);
+
+        try (ForkJoinPool one = new ForkJoinPool(1); ForkJoinPool three = new ForkJoinPool(3)) {
+            for (int generation = 0; generation < 2; generation++) {
+                assertEquals(single.runGeneration(one), parallel.runGeneration(three));
+            }
+        }
+
+        assertEquals(2, single.getGeneration());
+        assertArrayEquals(single.getPopulation(), parallel.getPopulation());
+        assertEquals(single.getBestWeights(), parallel.getBestWeights());
+        assertTrue(single.getBestFitness() > 0);
+        assertTrue(single.getLastGamesPerSecondPerThread() > 0);
+    }
+
+    @Test
+    void testSave_ResumedTunerContinuesIdentically(@TempDir Path directory) throws IOException {
+        Path checkpoint = directory.resolve("tuner.txt");
+        WeightTuner original = new WeightTuner(BoardType.BITBOARD, 5, 2, 40, 9L);
+        try (ForkJoinPool pool = new ForkJoinPool(2)) {
+            original.runGeneration(pool);
+            original.save(checkpoint);
+            WeightTuner resumed = WeightTuner.load(checkpoint, BoardType.BITBOARD, 2, 40);
+
+            assertEquals(original.getGeneration(), resumed.getGeneration());
+            assertEquals(original.getBestFitness(), resumed.getBestFitness());
+            assertEquals(original.runGeneration(pool), resumed.runGeneration(pool));
+            assertArrayEquals(original.getPopulation(), resumed.getPopulation());
+        }
+    }
+
+    @Test
+    void testConstructor_SeedsPopulationWithDefaultDirection() {
+        WeightTuner tuner = new WeightTuner(BoardType.MATRIX, 4, 1, 10, 1L);
+
+        EvaluationWeights first = tuner.getPopulation()[0];
+        double[] expected = EvaluationWeights.DEFAULT.toArray();
+        double length = 0;
+        for (double weight : expected) {
+            length += weight * weight;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i] / Math.sqrt(length), first.toArray()[i], 1e-12);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new WeightTuner(BoardType.MATRIX, 1, 1, 10, 1L));
+    }
+}